@@ -0,0 +1,78 @@
+package com.hhplus.be.common.id;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * SnowflakeIdGenerator 경합 벤치마크
+ *
+ * 같은 생성기 인스턴스를 1/8 스레드가 공유할 때 처리량을 비교하고,
+ * 같은 비트 구성을 synchronized로 구현한 생성기를 기준선으로 둔다.
+ *
+ * 실행: ./gradlew jmh
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SnowflakeIdGeneratorBenchmark {
+
+    private final SnowflakeIdGenerator lockFree = new SnowflakeIdGenerator(1);
+    private final SynchronizedSnowflake synchronizedBaseline = new SynchronizedSnowflake(1);
+
+    @Benchmark
+    @Threads(1)
+    public long lockFree_1thread() {
+        return lockFree.nextId();
+    }
+
+    @Benchmark
+    @Threads(8)
+    public long lockFree_8threads() {
+        return lockFree.nextId();
+    }
+
+    @Benchmark
+    @Threads(1)
+    public long synchronized_1thread() {
+        return synchronizedBaseline.nextId();
+    }
+
+    @Benchmark
+    @Threads(8)
+    public long synchronized_8threads() {
+        return synchronizedBaseline.nextId();
+    }
+
+    /**
+     * 비교 기준: 같은 레이아웃, 모니터 락으로 상태 보호
+     */
+    static final class SynchronizedSnowflake {
+        private final long nodeBits;
+        private long lastMillis = -1;
+        private long sequence;
+
+        SynchronizedSnowflake(long nodeId) {
+            this.nodeBits = nodeId << SnowflakeIdGenerator.SEQUENCE_BITS;
+        }
+
+        synchronized long nextId() {
+            long now = System.currentTimeMillis() - SnowflakeIdGenerator.EPOCH_MILLIS;
+            if (now > lastMillis) {
+                lastMillis = now;
+                sequence = 0;
+            } else if (++sequence > (1L << SnowflakeIdGenerator.SEQUENCE_BITS) - 1) {
+                lastMillis++;
+                sequence = 0;
+            }
+            return (lastMillis << (SnowflakeIdGenerator.NODE_BITS + SnowflakeIdGenerator.SEQUENCE_BITS))
+                    | nodeBits | sequence;
+        }
+    }
+}
@@ -10,6 +10,9 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * 장바구니 Service
@@ -49,13 +52,7 @@ public class CartService {
 
         // 3. 전체 장바구니 조회하여 summary 계산
         List<CartItem> allItems = cartRepository.findByUserId(command.userId());
-        List<CartResult.CartItemInfo> itemInfos = allItems.stream()
-                .map(item -> {
-                    Product p = productRepository.findById(item.getProductId())
-                            .orElseThrow(() -> new ResourceNotFoundException("상품을 찾을 수 없습니다"));
-                    return CartResult.CartItemInfo.from(item, p);
-                })
-                .toList();
+        List<CartResult.CartItemInfo> itemInfos = toItemInfos(allItems);
 
         var addedItemInfo = itemInfos.stream()
                 .filter(info -> info.cartItemId().equals(savedItem.getId()))
@@ -77,15 +74,7 @@ public class CartService {
     public CartResult getCart(GetCartQuery query) {
         List<CartItem> cartItems = cartRepository.findByUserId(query.userId());
 
-        List<CartResult.CartItemInfo> itemInfos = cartItems.stream()
-                .map(item -> {
-                    Product product = productRepository.findById(item.getProductId())
-                            .orElseThrow(() -> new ResourceNotFoundException("상품을 찾을 수 없습니다"));
-                    return CartResult.CartItemInfo.from(item, product);
-                })
-                .toList();
-
-        return new CartResult(itemInfos);
+        return new CartResult(toItemInfos(cartItems));
     }
 
     /**
@@ -136,4 +125,28 @@ public class CartService {
         // 4. 전체 장바구니 조회하여 반환
         return getCart(new GetCartQuery(command.userId()));
     }
-}
\ No newline at end of file
+
+    /**
+     * 장바구니 항목 → 응답 정보 변환
+     * 상품은 항목 수와 무관하게 한 번의 다건 조회로 가져온다 (N+1 방지)
+     */
+    private List<CartResult.CartItemInfo> toItemInfos(List<CartItem> cartItems) {
+        if (cartItems.isEmpty()) {
+            return List.of();
+        }
+
+        List<Long> productIds = cartItems.stream().map(CartItem::getProductId).distinct().toList();
+        Map<Long, Product> productMap = productRepository.findAllByIds(productIds).stream()
+                .collect(Collectors.toMap(Product::getId, Function.identity()));
+
+        return cartItems.stream()
+                .map(item -> {
+                    Product product = productMap.get(item.getProductId());
+                    if (product == null) {
+                        throw new ResourceNotFoundException("상품을 찾을 수 없습니다");
+                    }
+                    return CartResult.CartItemInfo.from(item, product);
+                })
+                .toList();
+    }
+}
@@ -0,0 +1,12 @@
+package com.hhplus.be.common.exception;
+
+import org.springframework.http.HttpStatus;
+
+/**
+ * 429 Too Many Requests - 처리 대기열이 가득 참 (잠시 후 재시도)
+ */
+public class TooManyRequestsException extends BaseException {
+    public TooManyRequestsException(String message, String errorCode) {
+        super(message, HttpStatus.TOO_MANY_REQUESTS, errorCode);
+    }
+}
@@ -0,0 +1,19 @@
+package com.hhplus.be.common.id;
+
+import org.hibernate.annotations.IdGeneratorType;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 엔티티 ID를 애플리케이션에서 시간 순으로 발급 (@GeneratedValue(IDENTITY) 대체)
+ *
+ * INSERT 전에 ID가 정해지므로 Hibernate가 INSERT를 JDBC 배치로 묶을 수 있다.
+ */
+@IdGeneratorType(SnowflakeIdentifierGenerator.class)
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.FIELD, ElementType.METHOD})
+public @interface SnowflakeId {
+}
@@ -0,0 +1,61 @@
+package com.hhplus.be.common.id;
+
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * 시간 순 64비트 ID 생성기 (Snowflake 방식, lock-free)
+ *
+ * | 1bit 부호(0) | 41bit 에포크 이후 ms | 10bit 노드 ID | 12bit 시퀀스 |
+ *
+ * - 같은 노드에서 발급한 ID는 항상 단조 증가 (인스턴스 간에는 ms 단위로 대략 시간 순)
+ * - 마지막 발급 상태(ms + 시퀀스)를 AtomicLong 하나에 담아 CAS로만 갱신 → 락/대기 없음
+ * - 같은 ms에 시퀀스(4096개)를 다 쓰면 다음 ms를 미리 당겨 씀 (시계가 따라오면 자연히 해소)
+ * - 시계가 뒤로 가도 마지막 발급 시각에서 이어서 발급 → 중복 없음
+ */
+public final class SnowflakeIdGenerator {
+
+    static final long EPOCH_MILLIS = Instant.parse("2025-01-01T00:00:00Z").toEpochMilli();
+    static final int NODE_BITS = 10;
+    static final int SEQUENCE_BITS = 12;
+    public static final long MAX_NODE_ID = (1L << NODE_BITS) - 1;
+    private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+
+    private final long nodeBits;
+    private final LongSupplier currentMillis;
+    private final AtomicLong state = new AtomicLong(); // (에포크 이후 ms << SEQUENCE_BITS) | 시퀀스
+
+    public SnowflakeIdGenerator(long nodeId) {
+        this(nodeId, System::currentTimeMillis);
+    }
+
+    SnowflakeIdGenerator(long nodeId, LongSupplier currentMillis) {
+        if (nodeId < 0 || nodeId > MAX_NODE_ID) {
+            throw new IllegalArgumentException("노드 ID는 0 이상 " + MAX_NODE_ID + " 이하여야 합니다: " + nodeId);
+        }
+        this.nodeBits = nodeId << SEQUENCE_BITS;
+        this.currentMillis = currentMillis;
+    }
+
+    public long nextId() {
+        long next = state.updateAndGet(prev -> {
+            long now = currentMillis.getAsLong() - EPOCH_MILLIS;
+            // 시각이 앞으로 갔으면 시퀀스 0부터, 아니면 +1 (시퀀스 overflow는 ms 자리로 올림)
+            return now > (prev >>> SEQUENCE_BITS) ? now << SEQUENCE_BITS : prev + 1;
+        });
+        long millis = next >>> SEQUENCE_BITS;
+        return (millis << (NODE_BITS + SEQUENCE_BITS)) | nodeBits | (next & SEQUENCE_MASK);
+    }
+
+    /**
+     * ID에 담긴 발급 시각 (epoch ms)
+     */
+    public static long timestampOf(long id) {
+        return (id >>> (NODE_BITS + SEQUENCE_BITS)) + EPOCH_MILLIS;
+    }
+
+    public static long nodeIdOf(long id) {
+        return (id >>> SEQUENCE_BITS) & MAX_NODE_ID;
+    }
+}
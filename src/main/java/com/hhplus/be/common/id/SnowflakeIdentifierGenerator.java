@@ -0,0 +1,43 @@
+package com.hhplus.be.common.id;
+
+import org.hibernate.engine.config.spi.ConfigurationService;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.generator.BeforeExecutionGenerator;
+import org.hibernate.generator.EventType;
+import org.hibernate.generator.EventTypeSets;
+import org.hibernate.generator.GeneratorCreationContext;
+
+import java.lang.reflect.Member;
+import java.util.EnumSet;
+
+/**
+ * @SnowflakeId 엔티티의 Hibernate ID 생성기
+ *
+ * 노드 ID는 spring.jpa.properties.id.snowflake.node-id 로 인스턴스마다 다르게 지정한다.
+ * (같은 테이블에 쓰는 인스턴스끼리 겹치면 ID가 중복될 수 있음)
+ */
+public class SnowflakeIdentifierGenerator implements BeforeExecutionGenerator {
+
+    static final String NODE_ID_SETTING = "id.snowflake.node-id";
+
+    private final SnowflakeIdGenerator generator;
+
+    public SnowflakeIdentifierGenerator(SnowflakeId config, Member member, GeneratorCreationContext context) {
+        Object nodeId = context.getServiceRegistry()
+                .getService(ConfigurationService.class)
+                .getSettings()
+                .get(NODE_ID_SETTING);
+        this.generator = new SnowflakeIdGenerator(nodeId == null ? 0L : Long.parseLong(nodeId.toString()));
+    }
+
+    @Override
+    public Object generate(SharedSessionContractImplementor session, Object owner, Object currentValue,
+                           EventType eventType) {
+        return generator.nextId();
+    }
+
+    @Override
+    public EnumSet<EventType> getEventTypes() {
+        return EventTypeSets.INSERT_ONLY;
+    }
+}
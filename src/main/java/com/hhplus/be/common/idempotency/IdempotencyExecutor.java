@@ -0,0 +1,260 @@
+package com.hhplus.be.common.idempotency;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.hhplus.be.common.exception.BusinessException;
+import com.hhplus.be.common.exception.InvalidInputException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * Idempotency-Key 처리기 - (userId, key)당 작업을 한 번만 실행하고 같은 응답을 돌려준다.
+ *
+ * 조회 순서:
+ *  1. 인메모리 LRU(Caffeine): 완료된 응답 → DB 접근 없이 즉시 반환
+ *  2. 진행 중 요청: 같은 인스턴스에서 처리 중이면 새로 실행하지 않고 그 결과를 기다림
+ *  3. DB(idempotency_record): 유니크 제약으로 선점, 이미 완료된 기록이면 저장된 응답 반환
+ *     다른 인스턴스가 처리 중이면 409 IDEMPOTENCY_IN_PROGRESS
+ *
+ * 작업이 예외로 끝나면 선점을 해제해 같은 키로 재시도할 수 있게 한다.
+ * (기다리던 중복 요청도 같은 예외를 받는다)
+ * 선점/완료/해제는 각각 별도 트랜잭션이며, 작업은 자신의 트랜잭션(@Transactional/@Retryable)대로 실행된다.
+ */
+@Slf4j
+@Component
+public class IdempotencyExecutor {
+    public static final String HEADER = "Idempotency-Key";
+    static final int MAX_KEY_LENGTH = 100;
+
+    private final IdempotencyRecordJpaRepository recordRepository;
+    private final TransactionTemplate requiresNew;
+    private final ObjectMapper objectMapper;
+    private final Clock clock;
+    private final Cache<String, Completed> completed;
+    private final ConcurrentMap<String, InFlight> inFlight = new ConcurrentHashMap<>();
+    private final Duration inProgressLease;
+    private final Duration awaitTimeout;
+    private final Duration retention;
+
+    public IdempotencyExecutor(
+            IdempotencyRecordJpaRepository recordRepository,
+            PlatformTransactionManager transactionManager,
+            ObjectMapper objectMapper,
+            Clock clock,
+            @Value("${idempotency.cache.maximum-size:10000}") long maximumSize,
+            @Value("${idempotency.cache.ttl-seconds:3600}") long ttlSeconds,
+            @Value("${idempotency.in-progress-lease-seconds:60}") long leaseSeconds,
+            @Value("${idempotency.await-timeout-millis:10000}") long awaitTimeoutMillis,
+            @Value("${idempotency.retention-hours:24}") long retentionHours
+    ) {
+        this.recordRepository = recordRepository;
+        this.requiresNew = new TransactionTemplate(transactionManager);
+        this.requiresNew.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.objectMapper = objectMapper;
+        this.clock = clock;
+        this.completed = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .build();
+        this.inProgressLease = Duration.ofSeconds(leaseSeconds);
+        this.awaitTimeout = Duration.ofMillis(awaitTimeoutMillis);
+        this.retention = Duration.ofHours(retentionHours);
+    }
+
+    /**
+     * @param key         Idempotency-Key 헤더 (없으면 중복 방지 없이 바로 실행)
+     * @param fingerprint 요청 식별 문자열 (같은 키를 다른 요청에 쓰면 409 IDEMPOTENCY_KEY_REUSED)
+     * @param responseType 저장된 응답을 역직렬화할 타입
+     */
+    public <T> T execute(Long userId, String key, String fingerprint, Class<T> responseType, Supplier<T> action) {
+        if (key == null || key.isBlank()) {
+            return action.get();
+        }
+        if (key.length() > MAX_KEY_LENGTH) {
+            throw new InvalidInputException("Idempotency-Key는 " + MAX_KEY_LENGTH + "자 이하여야 합니다");
+        }
+        String cacheKey = userId + ":" + key;
+
+        // 1) 인메모리 tier
+        Completed hit = completed.getIfPresent(cacheKey);
+        if (hit != null) {
+            return read(hit, fingerprint, responseType);
+        }
+
+        // 2) 같은 키로 처리 중인 요청이 있으면 합류
+        InFlight mine = new InFlight(fingerprint);
+        InFlight running = inFlight.putIfAbsent(cacheKey, mine);
+        if (running != null) {
+            verifyFingerprint(running.fingerprint, fingerprint);
+            return read(await(running), fingerprint, responseType);
+        }
+
+        try {
+            Completed result = executeOnce(userId, key, fingerprint, action);
+            completed.put(cacheKey, result);
+            mine.future.complete(result);
+            return read(result, fingerprint, responseType);
+        } catch (RuntimeException e) {
+            mine.future.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(cacheKey, mine);
+        }
+    }
+
+    /**
+     * 3) DB tier - 선점한 경우에만 작업 실행
+     */
+    private Completed executeOnce(Long userId, String key, String fingerprint, Supplier<?> action) {
+        Claim claim = claim(userId, key, fingerprint);
+        if (claim.stored() != null) {
+            return claim.stored();
+        }
+        Long recordId = claim.recordId();
+
+        Object response;
+        try {
+            response = action.get();
+        } catch (RuntimeException e) {
+            requiresNew.executeWithoutResult(status ->
+                    recordRepository.release(recordId, IdempotencyStatus.IN_PROGRESS));
+            throw e;
+        }
+
+        String body = write(response);
+        requiresNew.executeWithoutResult(status -> recordRepository.complete(
+                recordId, body, Instant.now(clock), IdempotencyStatus.COMPLETED, IdempotencyStatus.IN_PROGRESS));
+        return new Completed(fingerprint, body);
+    }
+
+    /**
+     * 선점 성공 시 기록 ID, 이미 완료된 기록이면 저장된 응답
+     */
+    private Claim claim(Long userId, String key, String fingerprint) {
+        Instant now = Instant.now(clock);
+        try {
+            return Claim.owned(requiresNew.execute(status -> recordRepository.saveAndFlush(
+                    IdempotencyRecord.inProgress(userId, key, fingerprint, now)).getId()));
+        } catch (DataIntegrityViolationException duplicate) {
+            // 다른 요청(다른 인스턴스 포함)이 이미 선점
+        }
+
+        IdempotencyRecord existing = requiresNew.execute(status ->
+                        recordRepository.findByUserIdAndIdempotencyKey(userId, key))
+                .orElseThrow(() -> inProgress());
+        verifyFingerprint(existing.getFingerprint(), fingerprint);
+
+        if (existing.getStatus() == IdempotencyStatus.COMPLETED) {
+            return Claim.stored(new Completed(existing.getFingerprint(), existing.getResponseBody()));
+        }
+
+        Integer takenOver = requiresNew.execute(status -> recordRepository.takeOver(
+                existing.getId(), now.minus(inProgressLease), now, IdempotencyStatus.IN_PROGRESS));
+        if (takenOver == null || takenOver == 0) {
+            throw inProgress();
+        }
+        log.warn("임대 시간이 지난 Idempotency-Key 선점을 이어받음: userId={}, key={}", userId, key);
+        return Claim.owned(existing.getId());
+    }
+
+    private Completed await(InFlight running) {
+        try {
+            return running.future.get(awaitTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (TimeoutException e) {
+            throw inProgress();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw inProgress();
+        }
+    }
+
+    private <T> T read(Completed completed, String fingerprint, Class<T> responseType) {
+        verifyFingerprint(completed.fingerprint, fingerprint);
+        try {
+            return objectMapper.readValue(completed.body, responseType);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("저장된 응답을 읽을 수 없습니다", e);
+        }
+    }
+
+    private String write(Object response) {
+        try {
+            return objectMapper.writeValueAsString(response);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("응답을 저장할 수 없습니다", e);
+        }
+    }
+
+    private static void verifyFingerprint(String stored, String requested) {
+        if (!stored.equals(requested)) {
+            throw new BusinessException("다른 요청에 이미 사용된 Idempotency-Key입니다", "IDEMPOTENCY_KEY_REUSED");
+        }
+    }
+
+    private static BusinessException inProgress() {
+        return new BusinessException("같은 Idempotency-Key 요청이 처리 중입니다", "IDEMPOTENCY_IN_PROGRESS");
+    }
+
+    /**
+     * 보관 기간이 지난 기록 정리
+     */
+    @Scheduled(fixedDelayString = "${idempotency.purge-interval-millis:3600000}")
+    public void purgeExpired() {
+        Instant cutoff = Instant.now(clock).minus(retention);
+        Integer deleted = requiresNew.execute(status -> recordRepository.deleteCreatedBefore(cutoff));
+        if (deleted != null && deleted > 0) {
+            log.info("Idempotency 기록 정리: {}건 (기준 {})", deleted, cutoff);
+        }
+    }
+
+    // 테스트용: 인메모리 tier만 비워 DB tier 동작 확인
+    void clearLocalCache() {
+        completed.invalidateAll();
+    }
+
+    private record Completed(String fingerprint, String body) {
+    }
+
+    private record Claim(Long recordId, Completed stored) {
+        static Claim owned(Long recordId) {
+            return new Claim(recordId, null);
+        }
+
+        static Claim stored(Completed stored) {
+            return new Claim(null, stored);
+        }
+    }
+
+    private static final class InFlight {
+        private final String fingerprint;
+        private final CompletableFuture<Completed> future = new CompletableFuture<>();
+
+        private InFlight(String fingerprint) {
+            this.fingerprint = fingerprint;
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.hhplus.be.common.idempotency;
+
+import com.hhplus.be.common.id.SnowflakeId;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+/**
+ * Idempotency-Key 처리 기록 JPA Entity
+ * (user_id, idempotency_key) 유니크 제약으로 인스턴스 간 선점을 보장
+ */
+@Entity
+@Table(
+    name = "idempotency_record",
+    uniqueConstraints = {
+        @UniqueConstraint(name = "uk_idempotency_user_key", columnNames = {"user_id", "idempotency_key"})
+    },
+    indexes = {
+        // 보관 기간 지난 기록 정리
+        @Index(name = "idx_idempotency_created", columnList = "created_at")
+    }
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+public class IdempotencyRecord {
+
+    @Id
+    @SnowflakeId
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "idempotency_key", nullable = false, length = 100)
+    private String idempotencyKey;
+
+    @Column(nullable = false, length = 200)
+    private String fingerprint;  // 요청 식별 (엔드포인트 + 대상), 같은 키를 다른 요청에 재사용하면 거부
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private IdempotencyStatus status;
+
+    @Column(name = "response_body", columnDefinition = "TEXT")
+    private String responseBody;  // 직렬화된 응답 (COMPLETED일 때만)
+
+    @Column(name = "created_at", nullable = false)
+    private Instant createdAt;
+
+    @Column(name = "completed_at")
+    private Instant completedAt;
+
+    public static IdempotencyRecord inProgress(Long userId, String idempotencyKey, String fingerprint, Instant now) {
+        return new IdempotencyRecord(null, userId, idempotencyKey, fingerprint,
+                IdempotencyStatus.IN_PROGRESS, null, now, null);
+    }
+}
@@ -0,0 +1,51 @@
+package com.hhplus.be.common.idempotency;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.Instant;
+import java.util.Optional;
+
+public interface IdempotencyRecordJpaRepository extends JpaRepository<IdempotencyRecord, Long> {
+
+    Optional<IdempotencyRecord> findByUserIdAndIdempotencyKey(Long userId, String idempotencyKey);
+
+    // 처리 완료: 응답 저장
+    @Modifying
+    @Query("""
+        UPDATE IdempotencyRecord r
+        SET r.status = :completed, r.responseBody = :responseBody, r.completedAt = :now
+        WHERE r.id = :id
+        AND r.status = :inProgress
+    """)
+    int complete(@Param("id") Long id,
+                 @Param("responseBody") String responseBody,
+                 @Param("now") Instant now,
+                 @Param("completed") IdempotencyStatus completed,
+                 @Param("inProgress") IdempotencyStatus inProgress);
+
+    // 처리 실패: 선점 해제 (같은 키로 재시도 가능)
+    @Modifying
+    @Query("DELETE FROM IdempotencyRecord r WHERE r.id = :id AND r.status = :inProgress")
+    int release(@Param("id") Long id, @Param("inProgress") IdempotencyStatus inProgress);
+
+    // 선점한 인스턴스가 응답 저장 전에 죽은 경우: 임대 시간이 지난 선점을 가져옴
+    @Modifying
+    @Query("""
+        UPDATE IdempotencyRecord r
+        SET r.createdAt = :now
+        WHERE r.id = :id
+        AND r.status = :inProgress
+        AND r.createdAt < :staleBefore
+    """)
+    int takeOver(@Param("id") Long id,
+                 @Param("staleBefore") Instant staleBefore,
+                 @Param("now") Instant now,
+                 @Param("inProgress") IdempotencyStatus inProgress);
+
+    @Modifying
+    @Query("DELETE FROM IdempotencyRecord r WHERE r.createdAt < :cutoff")
+    int deleteCreatedBefore(@Param("cutoff") Instant cutoff);
+}
@@ -0,0 +1,6 @@
+package com.hhplus.be.common.idempotency;
+
+public enum IdempotencyStatus {
+    IN_PROGRESS,  // 선점됨, 처리 중
+    COMPLETED     // 응답 저장 완료
+}
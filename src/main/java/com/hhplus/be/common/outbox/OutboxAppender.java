@@ -0,0 +1,36 @@
+package com.hhplus.be.common.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Clock;
+import java.time.Instant;
+
+/**
+ * Outbox 기록
+ * 호출 측 트랜잭션에 참여해야만 기록 (MANDATORY) - 상태 변경이 롤백되면 이벤트도 함께 사라진다.
+ */
+@Component
+@RequiredArgsConstructor
+public class OutboxAppender {
+    private final OutboxEventJpaRepository outboxRepository;
+    private final ObjectMapper objectMapper;
+    private final Clock clock;
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void append(Long orderId, String eventType, Object payload) {
+        outboxRepository.save(OutboxEvent.pending(orderId, eventType, write(payload), Instant.now(clock)));
+    }
+
+    private String write(Object payload) {
+        try {
+            return objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Outbox 이벤트를 직렬화할 수 없습니다", e);
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.hhplus.be.common.outbox;
+
+import com.hhplus.be.common.id.SnowflakeId;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+/**
+ * Outbox JPA Entity
+ * 주문 상태 변경과 같은 트랜잭션에 기록되고, 커밋 후 OutboxRelay가 리스너에 전달
+ */
+@Entity
+@Table(
+    name = "outbox",
+    indexes = {
+        // 릴레이 폴링: status = PENDING 을 ID(발급 시각) 순으로
+        @Index(name = "idx_outbox_status_id", columnList = "status, outbox_id"),
+        @Index(name = "idx_outbox_order", columnList = "order_id")
+    }
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+public class OutboxEvent {
+
+    @Id
+    @SnowflakeId
+    @Column(name = "outbox_id")
+    private Long id;
+
+    @Column(name = "order_id", nullable = false)
+    private Long orderId;
+
+    @Column(name = "event_type", nullable = false, length = 50)
+    private String eventType;
+
+    @Column(nullable = false, columnDefinition = "TEXT")
+    private String payload;  // 이벤트 JSON
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private OutboxStatus status;
+
+    @Column(name = "created_at", nullable = false)
+    private Instant createdAt;
+
+    @Column(name = "sent_at")
+    private Instant sentAt;
+
+    public static OutboxEvent pending(Long orderId, String eventType, String payload, Instant now) {
+        return new OutboxEvent(null, orderId, eventType, payload, OutboxStatus.PENDING, now, null);
+    }
+}
@@ -0,0 +1,41 @@
+package com.hhplus.be.common.outbox;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+
+public interface OutboxEventJpaRepository extends JpaRepository<OutboxEvent, Long> {
+
+    // 전달 대기 이벤트 선점 - 다른 인스턴스가 잡은 행은 건너뜀 (MySQL 8 SKIP LOCKED)
+    @Query(value = """
+        SELECT * FROM outbox
+        WHERE status = 'PENDING'
+        ORDER BY outbox_id
+        LIMIT :limit
+        FOR UPDATE SKIP LOCKED
+    """, nativeQuery = true)
+    List<OutboxEvent> lockPending(@Param("limit") int limit);
+
+    @Query("SELECT e.id FROM OutboxEvent e WHERE e.status = :status AND e.eventType IN :eventTypes")
+    List<Long> findIdsByStatusAndEventTypes(@Param("status") OutboxStatus status,
+                                            @Param("eventTypes") Collection<String> eventTypes);
+
+    @Modifying
+    @Query("UPDATE OutboxEvent e SET e.status = :status, e.sentAt = :now WHERE e.id IN :ids")
+    int markSent(@Param("ids") Collection<Long> ids,
+                 @Param("now") Instant now,
+                 @Param("status") OutboxStatus status);
+
+    @Modifying
+    @Query("UPDATE OutboxEvent e SET e.status = :status WHERE e.id IN :ids")
+    int markFailed(@Param("ids") Collection<Long> ids, @Param("status") OutboxStatus status);
+
+    @Modifying
+    @Query("DELETE FROM OutboxEvent e WHERE e.status = :status AND e.sentAt < :cutoff")
+    int deleteSentBefore(@Param("cutoff") Instant cutoff, @Param("status") OutboxStatus status);
+}
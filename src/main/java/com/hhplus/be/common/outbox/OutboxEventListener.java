@@ -0,0 +1,22 @@
+package com.hhplus.be.common.outbox;
+
+import java.util.Set;
+
+/**
+ * OutboxRelay가 전달하는 이벤트를 받는 인-JVM 리스너
+ *
+ * 릴레이는 적어도 한 번(at-least-once) 전달한다 - 전달 후 상태 반영 전에 서버가 죽으면
+ * 같은 이벤트가 다시 올 수 있으므로, 중복이 문제되는 리스너는 outboxId로 걸러야 한다.
+ */
+public interface OutboxEventListener {
+
+    /**
+     * 구독할 이벤트 타입
+     */
+    Set<String> eventTypes();
+
+    /**
+     * 예외를 던지면 해당 이벤트는 FAILED로 남고 같은 배치의 나머지는 계속 전달된다.
+     */
+    void onEvent(OutboxMessage message) throws Exception;
+}
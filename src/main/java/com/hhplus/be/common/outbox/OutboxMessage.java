@@ -0,0 +1,19 @@
+package com.hhplus.be.common.outbox;
+
+import java.time.Instant;
+
+/**
+ * 리스너에 전달되는 Outbox 이벤트 (payload는 기록 시점의 JSON 그대로)
+ */
+public record OutboxMessage(
+        Long outboxId,
+        Long orderId,
+        String eventType,
+        String payload,
+        Instant createdAt
+) {
+    static OutboxMessage from(OutboxEvent event) {
+        return new OutboxMessage(event.getId(), event.getOrderId(), event.getEventType(),
+                event.getPayload(), event.getCreatedAt());
+    }
+}
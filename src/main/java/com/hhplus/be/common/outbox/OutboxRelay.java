@@ -0,0 +1,129 @@
+package com.hhplus.be.common.outbox;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 인프로세스 Outbox 릴레이
+ *
+ * - 주기적으로 PENDING 이벤트를 batchSize만큼 FOR UPDATE SKIP LOCKED로 선점
+ *   (여러 인스턴스가 동시에 폴링해도 같은 행을 나눠 갖지 않음)
+ * - 이벤트 타입을 구독한 리스너에 순서대로 전달
+ * - 성공/실패 ID를 모아 한 번의 UPDATE로 SENT/FAILED 반영, 같은 트랜잭션에서 커밋
+ * - SENT 이벤트는 보관 기간 후 일괄 삭제
+ *
+ * 결제 트랜잭션은 Outbox 행만 쓰고 끝나므로, 랭킹 등 부가 처리는 결제 응답 경로에서 빠진다.
+ */
+@Slf4j
+@Component
+public class OutboxRelay {
+    private final OutboxEventJpaRepository outboxRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final List<OutboxEventListener> listeners;
+    private final Clock clock;
+    private final int batchSize;
+    private final int maxBatchesPerRun;
+    private final Duration retention;
+
+    public OutboxRelay(
+            OutboxEventJpaRepository outboxRepository,
+            PlatformTransactionManager transactionManager,
+            List<OutboxEventListener> listeners,
+            Clock clock,
+            @Value("${outbox.relay.batch-size:200}") int batchSize,
+            @Value("${outbox.relay.max-batches-per-run:50}") int maxBatchesPerRun,
+            @Value("${outbox.retention-hours:24}") long retentionHours
+    ) {
+        this.outboxRepository = outboxRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.listeners = List.copyOf(listeners);
+        this.clock = clock;
+        this.batchSize = batchSize;
+        this.maxBatchesPerRun = maxBatchesPerRun;
+        this.retention = Duration.ofHours(retentionHours);
+    }
+
+    /**
+     * 밀린 이벤트가 있으면 배치를 이어서 처리 (한 회차 최대 maxBatchesPerRun개)
+     */
+    @Scheduled(fixedDelayString = "${outbox.relay.interval-millis:200}")
+    public void relay() {
+        for (int batch = 0; batch < maxBatchesPerRun; batch++) {
+            if (relayBatch() < batchSize) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * 한 배치 전달
+     * @return 선점한 이벤트 수
+     */
+    int relayBatch() {
+        Integer relayed = transactionTemplate.execute(status -> {
+            List<OutboxEvent> events = outboxRepository.lockPending(batchSize);
+            if (events.isEmpty()) {
+                return 0;
+            }
+
+            List<Long> sent = new ArrayList<>(events.size());
+            List<Long> failed = new ArrayList<>();
+            for (OutboxEvent event : events) {
+                if (dispatch(OutboxMessage.from(event))) {
+                    sent.add(event.getId());
+                } else {
+                    failed.add(event.getId());
+                }
+            }
+
+            if (!sent.isEmpty()) {
+                outboxRepository.markSent(sent, Instant.now(clock), OutboxStatus.SENT);
+            }
+            if (!failed.isEmpty()) {
+                outboxRepository.markFailed(failed, OutboxStatus.FAILED);
+            }
+            return events.size();
+        });
+        return relayed == null ? 0 : relayed;
+    }
+
+    private boolean dispatch(OutboxMessage message) {
+        boolean success = true;
+        for (OutboxEventListener listener : listeners) {
+            if (!listener.eventTypes().contains(message.eventType())) {
+                continue;
+            }
+            try {
+                listener.onEvent(message);
+            } catch (Exception e) {
+                success = false;
+                log.error("Outbox 이벤트 처리 실패: outboxId={}, type={}, listener={}",
+                        message.outboxId(), message.eventType(), listener.getClass().getSimpleName(), e);
+            }
+        }
+        return success;
+    }
+
+    /**
+     * 보관 기간이 지난 SENT 이벤트 일괄 삭제
+     */
+    @Scheduled(fixedDelayString = "${outbox.purge-interval-millis:3600000}")
+    public void purgeSent() {
+        Instant cutoff = Instant.now(clock).minus(retention);
+        Integer deleted = transactionTemplate.execute(status ->
+                outboxRepository.deleteSentBefore(cutoff, OutboxStatus.SENT));
+        if (deleted != null && deleted > 0) {
+            log.info("Outbox 정리: {}건 (기준 {})", deleted, cutoff);
+        }
+    }
+}
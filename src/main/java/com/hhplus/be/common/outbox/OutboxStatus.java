@@ -0,0 +1,7 @@
+package com.hhplus.be.common.outbox;
+
+public enum OutboxStatus {
+    PENDING,  // 전달 대기
+    SENT,     // 모든 리스너에 전달 완료
+    FAILED    // 리스너 처리 실패 (수동 확인 대상)
+}
@@ -0,0 +1,77 @@
+package com.hhplus.be.common.pagination;
+
+import com.hhplus.be.common.exception.InvalidInputException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.stream.Collectors;
+
+/**
+ * 커서 기반 페이지네이션용 커서 인코더/디코더
+ *
+ * 정렬 키 값들을 구분자로 이어 붙인 뒤 Base64(URL-safe)로 인코딩하여
+ * 클라이언트에는 의미를 알 수 없는(opaque) 문자열로 노출한다.
+ */
+public final class CursorCodec {
+    private static final String DELIMITER = "|";
+
+    private CursorCodec() {
+    }
+
+    /**
+     * 정렬 키 값들 → 커서 문자열
+     */
+    public static String encode(Object... keys) {
+        String raw = Arrays.stream(keys)
+                .map(String::valueOf)
+                .collect(Collectors.joining(DELIMITER));
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 커서 문자열 → 정렬 키 값들
+     *
+     * @param keyCount 기대하는 키 개수 (다르면 400)
+     */
+    public static String[] decode(String cursor, int keyCount) {
+        String raw;
+        try {
+            raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            throw new InvalidInputException("유효하지 않은 커서입니다");
+        }
+
+        String[] keys = raw.split("\\" + DELIMITER, -1);
+        if (keys.length != keyCount) {
+            throw new InvalidInputException("유효하지 않은 커서입니다");
+        }
+        return keys;
+    }
+
+    /**
+     * 단일 Long 키 커서 디코딩 (예: ID 기준 정렬)
+     */
+    public static long decodeLong(String cursor) {
+        return parseLong(decode(cursor, 1)[0]);
+    }
+
+    public static long parseLong(String key) {
+        try {
+            return Long.parseLong(key);
+        } catch (NumberFormatException e) {
+            throw new InvalidInputException("유효하지 않은 커서입니다");
+        }
+    }
+
+    public static Instant parseInstant(String key) {
+        try {
+            return Instant.parse(key);
+        } catch (DateTimeParseException e) {
+            throw new InvalidInputException("유효하지 않은 커서입니다");
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.hhplus.be.common.response;
+
+import java.util.List;
+
+/**
+ * 커서 기반 페이징 공통 응답
+ *
+ * - content: 현재 페이지 데이터
+ * - size: 현재 페이지 요소 개수
+ * - hasNext: 다음 페이지 존재 여부 (전체 count 없이 size + 1 조회로 판단)
+ * - nextCursor: 다음 페이지 요청 시 전달할 커서 (마지막 페이지면 null)
+ */
+public record CursorPageResponse<T>(
+        List<T> content,
+        int size,
+        boolean hasNext,
+        String nextCursor
+) {
+    public static <T> CursorPageResponse<T> of(List<T> content, boolean hasNext, String nextCursor) {
+        return new CursorPageResponse<>(content, content.size(), hasNext, nextCursor);
+    }
+}
@@ -0,0 +1,140 @@
+package com.hhplus.be.common.timer;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 계층형 타이밍 휠 (단일 스레드 접근 전제 - 호출 측에서 동기화)
+ *
+ * - 레벨 L의 슬롯 하나는 tick × wheelSize^L 구간을 담당
+ * - 등록: 남은 시간에 맞는 가장 낮은 레벨의 슬롯에 O(1) 삽입
+ * - 진행: 매 tick마다 레벨 0 슬롯 하나를 만료시키고,
+ *   상위 레벨 슬롯 경계에 도달하면 그 슬롯 항목을 하위 레벨로 내려보냄(cascade)
+ * - 취소: 항목 → 슬롯 인덱스로 O(1) 제거
+ *
+ * 항목 수와 무관하게 tick당 비용은 만료/이동되는 항목 수에만 비례한다.
+ *
+ * @param <K> 항목 키 (예: 주문 ID)
+ */
+public class HierarchicalTimingWheel<K> {
+
+    private final long tickMillis;
+    private final int wheelSize;
+    private final List<List<Set<K>>> levels;
+    private final long[] spans; // spans[L] = 레벨 L 슬롯 하나가 담당하는 tick 수 (wheelSize^L)
+    private final Map<K, Set<K>> slotOf = new HashMap<>();
+    private final Map<K, Long> deadlineTickOf = new HashMap<>();
+    private long currentTick;
+
+    public HierarchicalTimingWheel(long tickMillis, int wheelSize, int levelCount, long startMillis) {
+        this.tickMillis = tickMillis;
+        this.wheelSize = wheelSize;
+        this.levels = new ArrayList<>(levelCount);
+        this.spans = new long[levelCount + 1];
+        spans[0] = 1;
+        for (int level = 1; level <= levelCount; level++) {
+            spans[level] = spans[level - 1] * wheelSize;
+        }
+        for (int level = 0; level < levelCount; level++) {
+            List<Set<K>> slots = new ArrayList<>(wheelSize);
+            for (int slot = 0; slot < wheelSize; slot++) {
+                slots.add(new LinkedHashSet<>());
+            }
+            levels.add(slots);
+        }
+        this.currentTick = startMillis / tickMillis;
+    }
+
+    /**
+     * 항목 등록 (같은 키가 있으면 새 마감 시각으로 교체)
+     * 이미 마감이 지났으면 등록하지 않고 false 반환 - 호출 측에서 즉시 처리
+     */
+    public boolean schedule(K key, long deadlineMillis) {
+        cancel(key);
+        long deadlineTick = deadlineMillis / tickMillis;
+        if (deadlineTick <= currentTick) {
+            return false;
+        }
+        deadlineTickOf.put(key, deadlineTick);
+        place(key, deadlineTick);
+        return true;
+    }
+
+    public void cancel(K key) {
+        Set<K> slot = slotOf.remove(key);
+        if (slot != null) {
+            slot.remove(key);
+            deadlineTickOf.remove(key);
+        }
+    }
+
+    /**
+     * nowMillis까지 tick을 진행하고 마감된 항목 반환
+     */
+    public List<K> advanceTo(long nowMillis) {
+        List<K> expired = new ArrayList<>();
+        long targetTick = nowMillis / tickMillis;
+        while (currentTick < targetTick) {
+            currentTick++;
+            cascade();
+            Set<K> slot = levels.get(0).get(slotIndex(currentTick, 0));
+            for (K key : slot) {
+                slotOf.remove(key);
+                deadlineTickOf.remove(key);
+                expired.add(key);
+            }
+            slot.clear();
+        }
+        return expired;
+    }
+
+    public int size() {
+        return slotOf.size();
+    }
+
+    // 상위 레벨부터, 경계에 도달한 슬롯의 항목을 남은 시간에 맞는 레벨로 재배치
+    private void cascade() {
+        for (int level = levels.size() - 1; level >= 1; level--) {
+            if (currentTick % span(level) != 0) {
+                continue;
+            }
+            Set<K> slot = levels.get(level).get(slotIndex(currentTick, level));
+            if (slot.isEmpty()) {
+                continue;
+            }
+            List<K> moving = new ArrayList<>(slot);
+            slot.clear();
+            for (K key : moving) {
+                place(key, deadlineTickOf.get(key));
+            }
+        }
+    }
+
+    private void place(K key, long deadlineTick) {
+        long remaining = deadlineTick - currentTick;
+        int topLevel = levels.size() - 1;
+        int level = 0;
+        while (level < topLevel && remaining >= span(level + 1)) {
+            level++;
+        }
+        // 최상위 레벨 범위를 넘는 항목은 가장 먼 슬롯에 두었다가 cascade 때 다시 배치
+        long slotTick = remaining >= span(topLevel + 1) && level == topLevel
+                ? currentTick + span(topLevel) * (wheelSize - 1)
+                : deadlineTick;
+        Set<K> slot = levels.get(level).get(slotIndex(slotTick, level));
+        slot.add(key);
+        slotOf.put(key, slot);
+    }
+
+    private int slotIndex(long tick, int level) {
+        return (int) ((tick / span(level)) % wheelSize);
+    }
+
+    private long span(int level) {
+        return spans[level];
+    }
+}
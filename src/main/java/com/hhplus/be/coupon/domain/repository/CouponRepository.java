@@ -2,7 +2,9 @@ package com.hhplus.be.coupon.domain.repository;
 
 import com.hhplus.be.coupon.domain.model.Coupon;
 
+import java.time.Instant;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 public interface CouponRepository {
@@ -11,5 +13,11 @@ public interface CouponRepository {
     Optional<Coupon> findByCode(String code);
     List<Coupon> findAll();
 
+    // 발급 종료 시각이 지나지 않은 쿠폰 (발급 시작 전 포함)
+    List<Coupon> findIssuableAt(Instant now);
+
+    // 쿠폰별 발급 수량을 조건부로 증가 (총 수량을 넘으면 반영하지 않음), 반영하지 못한 쿠폰 ID 반환
+    List<Long> increaseIssuedQuantities(Map<Long, Integer> countByCouponId, Instant now);
+
     void deleteAll();
 }
\ No newline at end of file
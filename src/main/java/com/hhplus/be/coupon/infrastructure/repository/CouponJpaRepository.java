@@ -2,9 +2,27 @@ package com.hhplus.be.coupon.infrastructure.repository;
 
 import com.hhplus.be.coupon.infrastructure.entity.Coupon;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.Instant;
+import java.util.List;
 import java.util.Optional;
 
 public interface CouponJpaRepository extends JpaRepository<Coupon, Long> {
     Optional<Coupon> findByCode(String code);
+
+    @Query("SELECT c FROM Coupon c WHERE c.issueEndAt >= :now")
+    List<Coupon> findIssuableAt(@Param("now") Instant now);
+
+    // 조건부 증가 - 총 수량 이내일 때만 (version은 엔티티 저장 경로와의 충돌 감지용)
+    @Modifying(flushAutomatically = true)
+    @Query("""
+        UPDATE Coupon c
+        SET c.issuedQuantity = c.issuedQuantity + :count, c.version = c.version + 1, c.updatedAt = :now
+        WHERE c.id = :couponId
+          AND c.issuedQuantity + :count <= c.totalQuantity
+        """)
+    int increaseIssuedQuantity(@Param("couponId") Long couponId, @Param("count") int count, @Param("now") Instant now);
 }
\ No newline at end of file
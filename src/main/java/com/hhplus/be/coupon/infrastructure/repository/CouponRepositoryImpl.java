@@ -5,8 +5,12 @@ import com.hhplus.be.coupon.infrastructure.mapper.CouponMapper;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
 
+import java.time.Instant;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.TreeMap;
 
 @Repository
 @RequiredArgsConstructor
@@ -40,6 +44,25 @@ public class CouponRepositoryImpl implements com.hhplus.be.coupon.domain.reposit
                 .toList();
     }
 
+    @Override
+    public List<Coupon> findIssuableAt(Instant now) {
+        return couponJpaRepository.findIssuableAt(now).stream()
+                .map(couponMapper::toDomain)
+                .toList();
+    }
+
+    @Override
+    public List<Long> increaseIssuedQuantities(Map<Long, Integer> countByCouponId, Instant now) {
+        // ID 오름차순으로 잠가 동시 반영끼리 데드락 방지
+        List<Long> rejected = new ArrayList<>();
+        new TreeMap<>(countByCouponId).forEach((couponId, count) -> {
+            if (couponJpaRepository.increaseIssuedQuantity(couponId, count, now) == 0) {
+                rejected.add(couponId);
+            }
+        });
+        return rejected;
+    }
+
     @Override
     public void deleteAll() {
         couponJpaRepository.deleteAll();
@@ -1,14 +1,19 @@
 package com.hhplus.be.order.controller;
 
+import com.hhplus.be.common.idempotency.IdempotencyExecutor;
+import com.hhplus.be.common.response.CursorPageResponse;
 import com.hhplus.be.order.controller.dto.*;
 import com.hhplus.be.order.service.OrderService;
 import com.hhplus.be.order.service.dto.*;
-import com.hhplus.be.order.usecase.ProcessPaymentUseCase;
+import com.hhplus.be.order.usecase.async.AsyncPaymentProcessor;
+import com.hhplus.be.order.usecase.groupcommit.PaymentGroupCommitter;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.net.URI;
+
 /**
  * 주문 Controller
  * API 명세 기반 구현
@@ -18,7 +23,9 @@ import org.springframework.web.bind.annotation.*;
 @RequiredArgsConstructor
 public class OrderController {
     private final OrderService orderService;
-    private final ProcessPaymentUseCase processPaymentUseCase;
+    private final PaymentGroupCommitter paymentGroupCommitter;
+    private final AsyncPaymentProcessor asyncPaymentProcessor;
+    private final IdempotencyExecutor idempotencyExecutor;
 
     /**
      * 주문 생성
@@ -32,15 +39,24 @@ public class OrderController {
     }
 
     /**
-     * 주문 내역 조회
-     * GET /users/{userId}/orders
-     * 사용자의 주문 내역을 조회합니다.
+     * 주문 내역 조회 (커서 기반)
+     * GET /users/{userId}/orders?cursor=&size=20
+     * 사용자의 주문 내역을 최신순으로 조회합니다.
      */
     @GetMapping
-    public ResponseEntity<OrderListResponse> getOrderList(@PathVariable Long userId) {
-        OrderListQuery query = new OrderListQuery(userId);
+    public ResponseEntity<CursorPageResponse<OrderListResponse>> getOrderList(
+            @PathVariable Long userId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false, defaultValue = "20") int size
+    ) {
+        OrderListQuery query = new OrderListQuery(userId, cursor, size);
         OrderListResult result = orderService.getOrderList(query);
-        return ResponseEntity.ok(OrderListResponse.from(result));
+
+        var content = result.orders().stream()
+                .map(OrderListResponse::from)
+                .toList();
+
+        return ResponseEntity.ok(CursorPageResponse.of(content, result.hasNext(), result.nextCursor()));
     }
 
     /**
@@ -62,32 +78,75 @@ public class OrderController {
      * 주문 결제
      * POST /users/{userId}/orders/{orderId}/payment
      * 주문을 결제합니다. 쿠폰을 적용할 수 있습니다.
+     * Idempotency-Key가 같으면 결제를 다시 실행하지 않고 처음 응답을 반환합니다.
      */
     @PostMapping("/{orderId}/payment")
     public ResponseEntity<PaymentResponse> processPayment(
             @PathVariable Long userId,
             @PathVariable Long orderId,
+            @RequestHeader(value = IdempotencyExecutor.HEADER, required = false) String idempotencyKey,
+            @RequestBody(required = false) PaymentRequest request
+    ) {
+        String couponCode = (request != null) ? request.couponCode() : null;
+        PaymentCommand command = new PaymentCommand(userId, orderId, couponCode);
+        PaymentResponse response = idempotencyExecutor.execute(
+                userId, idempotencyKey, "payment:" + orderId + ":" + couponCode, PaymentResponse.class,
+                () -> PaymentResponse.from(paymentGroupCommitter.execute(command)));
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * 주문 결제 (비동기)
+     * POST /users/{userId}/orders/{orderId}/payment/jobs
+     * 결제 작업을 대기열에 등록하고 202와 작업 상태 경로를 반환합니다. 대기열이 가득 차면 429.
+     */
+    @PostMapping("/{orderId}/payment/jobs")
+    public ResponseEntity<PaymentJobResponse> submitPayment(
+            @PathVariable Long userId,
+            @PathVariable Long orderId,
+            @RequestHeader(value = IdempotencyExecutor.HEADER, required = false) String idempotencyKey,
             @RequestBody(required = false) PaymentRequest request
     ) {
         String couponCode = (request != null) ? request.couponCode() : null;
         PaymentCommand command = new PaymentCommand(userId, orderId, couponCode);
-        PaymentResult result = processPaymentUseCase.execute(command);
-        return ResponseEntity.ok(PaymentResponse.from(result));
+        PaymentJobResponse response = idempotencyExecutor.execute(
+                userId, idempotencyKey, "payment-job:" + orderId + ":" + couponCode, PaymentJobResponse.class,
+                () -> PaymentJobResponse.from(asyncPaymentProcessor.submit(command)));
+        return ResponseEntity.accepted()
+                .location(URI.create("/api/v1/users/" + userId + "/orders/" + orderId + "/payment/jobs/" + response.jobId()))
+                .body(response);
+    }
+
+    /**
+     * 비동기 결제 작업 상태 조회
+     * GET /users/{userId}/orders/{orderId}/payment/jobs/{jobId}
+     */
+    @GetMapping("/{orderId}/payment/jobs/{jobId}")
+    public ResponseEntity<PaymentJobResponse> getPaymentJob(
+            @PathVariable Long userId,
+            @PathVariable Long orderId,
+            @PathVariable String jobId
+    ) {
+        return ResponseEntity.ok(PaymentJobResponse.from(asyncPaymentProcessor.getJob(userId, orderId, jobId)));
     }
 
     /**
      * 주문 환불
      * POST /users/{userId}/orders/{orderId}/refund
      * 결제 완료된 주문을 환불합니다.
+     * Idempotency-Key가 같으면 환불을 다시 실행하지 않고 처음 응답을 반환합니다.
      */
     @PostMapping("/{orderId}/refund")
     public ResponseEntity<RefundResponse> processRefund(
             @PathVariable Long userId,
-            @PathVariable Long orderId
+            @PathVariable Long orderId,
+            @RequestHeader(value = IdempotencyExecutor.HEADER, required = false) String idempotencyKey
     ) {
         RefundCommand command = new RefundCommand(userId, orderId);
-        RefundResult result = orderService.processRefund(command);
-        return ResponseEntity.ok(RefundResponse.from(result));
+        RefundResponse response = idempotencyExecutor.execute(
+                userId, idempotencyKey, "refund:" + orderId, RefundResponse.class,
+                () -> RefundResponse.from(orderService.processRefund(command)));
+        return ResponseEntity.ok(response);
     }
 
     /**
@@ -6,33 +6,31 @@ import com.hhplus.be.order.service.dto.OrderListResult;
 import java.time.Instant;
 import java.util.List;
 
+/**
+ * 주문 내역 조회 Response (주문 1건)
+ * API: GET /users/{userId}/orders?cursor=&size=20
+ * 목록/커서 정보는 CursorPageResponse로 감싸서 반환
+ */
 public record OrderListResponse(
-        List<OrderSummary> orders
+        Long orderId,
+        Long userId,
+        OrderStatus status,
+        int totalAmount,
+        Instant createdAt,
+        List<Item> items
 ) {
-    public static OrderListResponse from(OrderListResult result) {
-        List<OrderSummary> orders = result.orders().stream()
-                .map(o -> new OrderSummary(
-                        o.orderId(),
-                        o.userId(),
-                        o.status(),
-                        o.totalAmount(),
-                        o.createdAt(),
-                        o.items().stream()
-                                .map(i -> new Item(i.productId(), i.productName(), i.unitPrice(), i.quantity()))
-                                .toList()
-                ))
-                .toList();
-        return new OrderListResponse(orders);
+    public static OrderListResponse from(OrderListResult.OrderSummary order) {
+        return new OrderListResponse(
+                order.orderId(),
+                order.userId(),
+                order.status(),
+                order.totalAmount(),
+                order.createdAt(),
+                order.items().stream()
+                        .map(i -> new Item(i.productId(), i.productName(), i.unitPrice(), i.quantity()))
+                        .toList()
+        );
     }
 
-    public record OrderSummary(
-            Long orderId,
-            Long userId,
-            OrderStatus status,
-            int totalAmount,
-            Instant createdAt,
-            List<Item> items
-    ) {}
-
     public record Item(Long productId, String productName, int unitPrice, int quantity) {}
-}
\ No newline at end of file
+}
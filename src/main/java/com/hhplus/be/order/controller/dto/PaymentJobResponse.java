@@ -0,0 +1,35 @@
+package com.hhplus.be.order.controller.dto;
+
+import com.hhplus.be.order.usecase.async.PaymentJob;
+import com.hhplus.be.order.usecase.async.PaymentJobStatus;
+
+import java.time.Instant;
+
+/**
+ * 비동기 결제 작업 응답 DTO
+ * API: POST /users/{userId}/orders/{orderId}/payment/jobs (202)
+ *      GET  /users/{userId}/orders/{orderId}/payment/jobs/{jobId}
+ */
+public record PaymentJobResponse(
+        String jobId,
+        Long orderId,
+        PaymentJobStatus status,
+        PaymentResponse payment,   // SUCCEEDED일 때만
+        String errorCode,          // FAILED일 때만
+        String errorMessage,
+        Instant acceptedAt,
+        Instant completedAt
+) {
+    public static PaymentJobResponse from(PaymentJob job) {
+        return new PaymentJobResponse(
+                job.jobId(),
+                job.command().orderId(),
+                job.status(),
+                job.result() != null ? PaymentResponse.from(job.result()) : null,
+                job.errorCode(),
+                job.errorMessage(),
+                job.acceptedAt(),
+                job.completedAt()
+        );
+    }
+}
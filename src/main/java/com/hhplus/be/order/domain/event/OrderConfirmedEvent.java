@@ -0,0 +1,31 @@
+package com.hhplus.be.order.domain.event;
+
+import com.hhplus.be.order.domain.model.Order;
+import com.hhplus.be.orderitem.domain.model.OrderItem;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * 주문 결제 확정 이벤트 (PENDING → CONFIRMED)
+ * 확정 트랜잭션에서 Outbox에 기록되고, 커밋 후 릴레이가 판매 랭킹 등 부가 집계에 전달
+ */
+public record OrderConfirmedEvent(
+        Long orderId,
+        Instant paidAt,
+        List<SoldItem> items
+) {
+    public static final String TYPE = "ORDER_CONFIRMED";
+
+    public record SoldItem(Long productId, int quantity) {}
+
+    public static OrderConfirmedEvent of(Order order, List<OrderItem> orderItems) {
+        return new OrderConfirmedEvent(
+                order.getId(),
+                order.getPaidAt(),
+                orderItems.stream()
+                        .map(item -> new SoldItem(item.getProductId(), item.getQuantity()))
+                        .toList()
+        );
+    }
+}
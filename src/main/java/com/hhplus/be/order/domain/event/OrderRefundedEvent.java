@@ -0,0 +1,29 @@
+package com.hhplus.be.order.domain.event;
+
+import com.hhplus.be.order.domain.model.Order;
+import com.hhplus.be.orderitem.domain.model.OrderItem;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * 주문 환불 이벤트 (CONFIRMED → REFUNDED)
+ * paidAt은 원 결제 시점 - 판매 집계에서 해당 시점의 판매량을 되돌릴 때 사용
+ */
+public record OrderRefundedEvent(
+        Long orderId,
+        Instant paidAt,
+        List<OrderConfirmedEvent.SoldItem> items
+) {
+    public static final String TYPE = "ORDER_REFUNDED";
+
+    public static OrderRefundedEvent of(Order order, List<OrderItem> orderItems) {
+        return new OrderRefundedEvent(
+                order.getId(),
+                order.getPaidAt(),
+                orderItems.stream()
+                        .map(item -> new OrderConfirmedEvent.SoldItem(item.getProductId(), item.getQuantity()))
+                        .toList()
+        );
+    }
+}
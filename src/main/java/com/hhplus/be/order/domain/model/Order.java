@@ -19,6 +19,7 @@ public class Order {
     private Instant paidAt;
     private Instant canceledAt;
     private Instant refundedAt;
+    private boolean stockReserved; // 주문 생성 시 재고를 미리 차감했는지 (결제 시 차감 생략, 취소/만료 시 복원)
     private Instant createdAt;
     private Instant updatedAt;
 
@@ -39,7 +40,7 @@ public class Order {
     // Mapper용 reconstruct 생성자
     private Order(Long id, Long userId, OrderStatus status, int totalAmount,
                   int finalAmount, Instant expiresAt, Instant paidAt,
-                  Instant canceledAt, Instant refundedAt,
+                  Instant canceledAt, Instant refundedAt, boolean stockReserved,
                   Instant createdAt, Instant updatedAt) {
         this.id = id;
         this.userId = userId;
@@ -50,16 +51,22 @@ public class Order {
         this.paidAt = paidAt;
         this.canceledAt = canceledAt;
         this.refundedAt = refundedAt;
+        this.stockReserved = stockReserved;
         this.createdAt = createdAt;
         this.updatedAt = updatedAt;
     }
 
     public static Order reconstruct(Long id, Long userId, OrderStatus status, int totalAmount,
                                     int finalAmount, Instant expiresAt, Instant paidAt,
-                                    Instant canceledAt, Instant refundedAt,
+                                    Instant canceledAt, Instant refundedAt, boolean stockReserved,
                                     Instant createdAt, Instant updatedAt) {
         return new Order(id, userId, status, totalAmount, finalAmount,
-                expiresAt, paidAt, canceledAt, refundedAt, createdAt, updatedAt);
+                expiresAt, paidAt, canceledAt, refundedAt, stockReserved, createdAt, updatedAt);
+    }
+
+    // 재고 예약 표시 (주문 생성 시 재고 차감 완료)
+    public void markStockReserved() {
+        this.stockReserved = true;
     }
 
 
@@ -0,0 +1,21 @@
+package com.hhplus.be.order.domain.model;
+
+import java.time.Instant;
+
+/**
+ * 주문 상세 조회용 평탄화 행 (orders ⋈ order_items 1행 = 주문 항목 1건)
+ * 항목이 없는 주문은 상품 컬럼이 null인 1행으로 조회된다.
+ */
+public record OrderDetailRow(
+        Long orderId,
+        Long userId,
+        OrderStatus status,
+        int totalAmount,
+        Instant createdAt,
+        Instant expiresAt,
+        Long productId,
+        String productName,
+        Integer unitPrice,
+        Integer quantity
+) {
+}
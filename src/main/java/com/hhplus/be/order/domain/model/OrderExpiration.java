@@ -0,0 +1,9 @@
+package com.hhplus.be.order.domain.model;
+
+import java.time.Instant;
+
+/**
+ * 결제 대기 주문의 만료 시각 (만료 타이머 재구성용)
+ */
+public record OrderExpiration(Long orderId, Instant expiresAt) {
+}
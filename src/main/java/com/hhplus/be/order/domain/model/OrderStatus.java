@@ -4,5 +4,6 @@ public enum OrderStatus {
     PENDING,      // 결제 대기
     CONFIRMED,    // 결제 완료
     CANCELLED,    // 취소됨
-    REFUNDED      // 환불됨
+    REFUNDED,     // 환불됨
+    EXPIRED       // 결제 기한 만료
 }
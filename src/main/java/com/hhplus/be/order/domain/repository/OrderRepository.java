@@ -1,7 +1,10 @@
 package com.hhplus.be.order.domain.repository;
 
 import com.hhplus.be.order.domain.model.Order;
+import com.hhplus.be.order.domain.model.OrderDetailRow;
+import com.hhplus.be.order.domain.model.OrderExpiration;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
 
@@ -15,8 +18,39 @@ public interface OrderRepository {
     // 3. 사용자별 주문 목록 조회
     List<Order> findByUserIdOrderByCreatedAtDesc(Long userId);
 
+    // 3-1. 사용자별 주문 목록 커서 조회 (created_at DESC, id DESC keyset)
+    //      cursorCreatedAt/cursorOrderId가 null이면 첫 페이지, 아니면 해당 주문 다음부터 최대 limit건
+    List<Order> findPageByUserId(Long userId, Instant cursorCreatedAt, Long cursorOrderId, int limit);
+
+    // 3-2. 주문 상세 조회 (주문 + 항목 단일 쿼리, 다른 회원의 주문이면 빈 리스트)
+    List<OrderDetailRow> findDetailRows(Long orderId, Long userId);
+
     // 4. 전체 주문 조회 (판매량 집계용)
     List<Order> findAll();
 
+    // 5. 결제 대기 주문 만료 시각 조회 (주문 ID 오름차순 keyset)
+    List<OrderExpiration> findPendingExpirationsAfter(Long lastOrderId, int limit);
+
+    // 6. 결제 대기 → 만료 전이 (PENDING이고 만료 시각이 지난 경우만, 전이했으면 true)
+    boolean expireIfPending(Long orderId, Instant now);
+
+    // 6-1. 결제 대기 → 결제 완료 전이 (PENDING인 경우만, 전이했으면 true)
+    boolean confirmIfPending(Long orderId, int finalAmount, Instant paidAt);
+
+    // 6-2. 결제 대기 → 취소 전이 (PENDING인 경우만, 전이했으면 true)
+    boolean cancelIfPending(Long orderId, Instant now);
+
+    // 6-3. 결제 완료 → 환불 전이 (CONFIRMED인 경우만, 전이했으면 true)
+    boolean refundIfConfirmed(Long orderId, Instant now);
+
+    // 7. 만료 시각이 지난 결제 대기 주문 ID 잠금 조회 (다른 트랜잭션이 잠근 행은 건너뜀)
+    List<Long> lockOverduePendingIds(Instant cutoff, int limit);
+
+    // 8. 결제 대기 → 만료 일괄 전이, 전이된 행 수 반환
+    int expireAll(List<Long> orderIds, Instant now);
+
+    // 9. 주어진 주문 중 재고를 예약한 주문 ID
+    List<Long> findStockReservedIdsIn(List<Long> orderIds);
+
     void deleteAll();
 }
@@ -1,5 +1,6 @@
 package com.hhplus.be.order.infrastructure.entity;
 
+import com.hhplus.be.common.id.SnowflakeId;
 import com.hhplus.be.order.domain.model.OrderStatus;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
@@ -16,6 +17,12 @@ import java.time.Instant;
         // 인기 상품 조회 최적화: status + paid_at 복합 인덱스
         @Index(name = "idx_order_status_paid", columnList = "status, paidAt"),
 
+        // 판매량 롤업의 환불 차감 조회: status + refunded_at 복합 인덱스
+        @Index(name = "idx_order_status_refunded", columnList = "status, refundedAt"),
+
+        // 만료 주문 스윕: status + expires_at 복합 인덱스
+        @Index(name = "idx_order_status_expires", columnList = "status, expiresAt"),
+
         // 주문 목록 조회 최적화: user_id + created_at 복합 인덱스
         @Index(name = "idx_order_user_created", columnList = "userId, createdAt")
     }
@@ -25,7 +32,7 @@ import java.time.Instant;
 @AllArgsConstructor
 public class Order {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @SnowflakeId
     private Long id;
 
     @Column(nullable = false)
@@ -53,6 +60,9 @@ public class Order {
     @Column
     private Instant refundedAt;
 
+    @Column(nullable = false)
+    private boolean stockReserved;
+
     @Column(nullable = false, updatable = false)
     private Instant createdAt;
 
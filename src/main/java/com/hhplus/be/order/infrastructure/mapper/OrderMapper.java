@@ -20,6 +20,7 @@ public class OrderMapper {
                 entity.getPaidAt(),
                 entity.getCanceledAt(),
                 entity.getRefundedAt(),
+                entity.isStockReserved(),
                 entity.getCreatedAt(),
                 entity.getUpdatedAt()
         );
@@ -39,6 +40,7 @@ public class OrderMapper {
                 domain.getPaidAt(),
                 domain.getCanceledAt(),
                 domain.getRefundedAt(),
+                domain.isStockReserved(),
                 domain.getCreatedAt(),
                 domain.getUpdatedAt()
         );
@@ -1,10 +1,114 @@
 package com.hhplus.be.order.infrastructure.repository;
 
+import com.hhplus.be.order.domain.model.OrderDetailRow;
+import com.hhplus.be.order.domain.model.OrderExpiration;
 import com.hhplus.be.order.infrastructure.entity.Order;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.Instant;
 import java.util.List;
 
 public interface OrderJpaRepository extends JpaRepository<Order, Long> {
     List<Order>  findByUserIdOrderByCreatedAtDesc(Long userId);
+
+    List<Order> findByUserIdOrderByCreatedAtDescIdDesc(Long userId, Limit limit);
+
+    // (user_id, created_at) 인덱스를 커서 위치부터 역순으로 seek
+    @Query("""
+        SELECT o FROM Order o
+        WHERE o.userId = :userId
+        AND (o.createdAt < :createdAt OR (o.createdAt = :createdAt AND o.id < :orderId))
+        ORDER BY o.createdAt DESC, o.id DESC
+    """)
+    List<Order> findPageByUserIdBefore(@Param("userId") Long userId,
+                                       @Param("createdAt") Instant createdAt,
+                                       @Param("orderId") Long orderId,
+                                       Limit limit);
+
+    // 엔티티 로딩 없이 주문 + 항목을 한 번에 조회 (소유자가 아니면 0행)
+    @Query("""
+        SELECT new com.hhplus.be.order.domain.model.OrderDetailRow(
+            o.id, o.userId, o.status, o.totalAmount, o.createdAt, o.expiresAt,
+            oi.productId, oi.productName, oi.unitPrice, oi.quantity
+        )
+        FROM Order o
+        LEFT JOIN OrderItem oi ON oi.orderId = o.id
+        WHERE o.id = :orderId
+        AND o.userId = :userId
+        ORDER BY oi.id
+    """)
+    List<OrderDetailRow> findDetailRows(@Param("orderId") Long orderId, @Param("userId") Long userId);
+
+    @Query("""
+        SELECT new com.hhplus.be.order.domain.model.OrderExpiration(o.id, o.expiresAt)
+        FROM Order o
+        WHERE o.status = 'PENDING'
+        AND o.id > :lastOrderId
+        ORDER BY o.id
+    """)
+    List<OrderExpiration> findPendingExpirationsAfter(@Param("lastOrderId") Long lastOrderId, Limit limit);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+        UPDATE Order o
+        SET o.status = com.hhplus.be.order.domain.model.OrderStatus.EXPIRED, o.updatedAt = :now
+        WHERE o.id = :orderId
+        AND o.status = 'PENDING'
+        AND o.expiresAt <= :now
+    """)
+    int expireIfPending(@Param("orderId") Long orderId, @Param("now") Instant now);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+        UPDATE Order o
+        SET o.status = com.hhplus.be.order.domain.model.OrderStatus.CONFIRMED,
+            o.finalAmount = :finalAmount, o.paidAt = :paidAt, o.updatedAt = :paidAt
+        WHERE o.id = :orderId
+        AND o.status = 'PENDING'
+    """)
+    int confirmIfPending(@Param("orderId") Long orderId, @Param("finalAmount") int finalAmount, @Param("paidAt") Instant paidAt);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+        UPDATE Order o
+        SET o.status = com.hhplus.be.order.domain.model.OrderStatus.CANCELLED, o.canceledAt = :now, o.updatedAt = :now
+        WHERE o.id = :orderId
+        AND o.status = 'PENDING'
+    """)
+    int cancelIfPending(@Param("orderId") Long orderId, @Param("now") Instant now);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+        UPDATE Order o
+        SET o.status = com.hhplus.be.order.domain.model.OrderStatus.REFUNDED, o.refundedAt = :now, o.updatedAt = :now
+        WHERE o.id = :orderId
+        AND o.status = 'CONFIRMED'
+    """)
+    int refundIfConfirmed(@Param("orderId") Long orderId, @Param("now") Instant now);
+
+    @Query(value = """
+        SELECT id FROM orders
+        WHERE status = 'PENDING'
+        AND expires_at <= :cutoff
+        ORDER BY expires_at
+        LIMIT :limit
+        FOR UPDATE SKIP LOCKED
+    """, nativeQuery = true)
+    List<Long> lockOverduePendingIds(@Param("cutoff") Instant cutoff, @Param("limit") int limit);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+        UPDATE Order o
+        SET o.status = com.hhplus.be.order.domain.model.OrderStatus.EXPIRED, o.updatedAt = :now
+        WHERE o.id IN :orderIds
+        AND o.status = 'PENDING'
+    """)
+    int expireAll(@Param("orderIds") List<Long> orderIds, @Param("now") Instant now);
+
+    @Query("SELECT o.id FROM Order o WHERE o.id IN :orderIds AND o.stockReserved = true")
+    List<Long> findStockReservedIdsIn(@Param("orderIds") List<Long> orderIds);
 }
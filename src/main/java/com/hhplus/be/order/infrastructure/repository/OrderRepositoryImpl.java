@@ -1,10 +1,14 @@
 package com.hhplus.be.order.infrastructure.repository;
 
 import com.hhplus.be.order.domain.model.Order;
+import com.hhplus.be.order.domain.model.OrderDetailRow;
+import com.hhplus.be.order.domain.model.OrderExpiration;
 import com.hhplus.be.order.infrastructure.mapper.OrderMapper;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Repository;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
 
@@ -34,6 +38,16 @@ public class OrderRepositoryImpl implements com.hhplus.be.order.domain.repositor
                 .toList();
     }
 
+    @Override
+    public List<Order> findPageByUserId(Long userId, Instant cursorCreatedAt, Long cursorOrderId, int limit) {
+        var entities = cursorCreatedAt == null
+                ? orderJpaRepository.findByUserIdOrderByCreatedAtDescIdDesc(userId, Limit.of(limit))
+                : orderJpaRepository.findPageByUserIdBefore(userId, cursorCreatedAt, cursorOrderId, Limit.of(limit));
+        return entities.stream()
+                .map(orderMapper::toDomain)
+                .toList();
+    }
+
     @Override
     public List<Order> findAll() {
         return orderJpaRepository.findAll().stream()
@@ -41,6 +55,51 @@ public class OrderRepositoryImpl implements com.hhplus.be.order.domain.repositor
                 .toList();
     }
 
+    @Override
+    public List<OrderDetailRow> findDetailRows(Long orderId, Long userId) {
+        return orderJpaRepository.findDetailRows(orderId, userId);
+    }
+
+    @Override
+    public List<OrderExpiration> findPendingExpirationsAfter(Long lastOrderId, int limit) {
+        return orderJpaRepository.findPendingExpirationsAfter(lastOrderId, Limit.of(limit));
+    }
+
+    @Override
+    public boolean expireIfPending(Long orderId, Instant now) {
+        return orderJpaRepository.expireIfPending(orderId, now) == 1;
+    }
+
+    @Override
+    public boolean confirmIfPending(Long orderId, int finalAmount, Instant paidAt) {
+        return orderJpaRepository.confirmIfPending(orderId, finalAmount, paidAt) == 1;
+    }
+
+    @Override
+    public boolean cancelIfPending(Long orderId, Instant now) {
+        return orderJpaRepository.cancelIfPending(orderId, now) == 1;
+    }
+
+    @Override
+    public boolean refundIfConfirmed(Long orderId, Instant now) {
+        return orderJpaRepository.refundIfConfirmed(orderId, now) == 1;
+    }
+
+    @Override
+    public List<Long> lockOverduePendingIds(Instant cutoff, int limit) {
+        return orderJpaRepository.lockOverduePendingIds(cutoff, limit);
+    }
+
+    @Override
+    public int expireAll(List<Long> orderIds, Instant now) {
+        return orderJpaRepository.expireAll(orderIds, now);
+    }
+
+    @Override
+    public List<Long> findStockReservedIdsIn(List<Long> orderIds) {
+        return orderJpaRepository.findStockReservedIdsIn(orderIds);
+    }
+
     @Override
     public void deleteAll() {
         orderJpaRepository.deleteAll();
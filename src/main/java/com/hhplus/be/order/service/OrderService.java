@@ -5,8 +5,13 @@ import com.hhplus.be.cart.domain.repository.CartRepository;
 import com.hhplus.be.common.exception.BusinessException;
 import com.hhplus.be.common.exception.InvalidInputException;
 import com.hhplus.be.common.exception.ResourceNotFoundException;
+import com.hhplus.be.common.outbox.OutboxAppender;
+import com.hhplus.be.common.pagination.CursorCodec;
 
+import com.hhplus.be.order.domain.event.OrderConfirmedEvent;
+import com.hhplus.be.order.domain.event.OrderRefundedEvent;
 import com.hhplus.be.order.domain.model.Order;
+import com.hhplus.be.order.domain.model.OrderDetailRow;
 import com.hhplus.be.order.domain.model.OrderStatus;
 import com.hhplus.be.order.domain.repository.OrderRepository;
 import com.hhplus.be.order.service.dto.CreateOrderResult;
@@ -16,14 +21,14 @@ import com.hhplus.be.order.service.dto.OrderListQuery;
 import com.hhplus.be.order.service.dto.OrderListResult;
 import com.hhplus.be.order.service.dto.RefundCommand;
 import com.hhplus.be.order.service.dto.RefundResult;
+import com.hhplus.be.order.service.expiry.OrderExpiryTimer;
 import com.hhplus.be.usercoupon.service.dto.DiscountCalculation;
 import com.hhplus.be.orderitem.domain.model.OrderItem;
 import com.hhplus.be.orderitem.domain.repository.OrderItemRepository;
-import com.hhplus.be.point.domain.model.Point;
-import com.hhplus.be.point.domain.repository.PointRepository;
+import com.hhplus.be.point.service.PointService;
 import com.hhplus.be.product.domain.model.Product;
 import com.hhplus.be.product.domain.repository.ProductRepository;
-import com.hhplus.be.user.domain.model.User;
+import com.hhplus.be.product.service.ProductService;
 import com.hhplus.be.user.domain.repository.UserRepository;
 import com.hhplus.be.orderdiscount.domain.OrderDiscount;
 import com.hhplus.be.orderdiscount.domain.repository.OrderDiscountRepository;
@@ -37,12 +42,14 @@ import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class OrderService {
     private static final long EXPIRE_MINUTES = 30L;
+    private static final int MAX_PAGE_SIZE = 100;
 
     private final OrderRepository orderRepository;
     private final UserRepository users;
@@ -50,8 +57,11 @@ public class OrderService {
     private final ProductRepository products;
     private final OrderRepository orders;
     private final OrderItemRepository orderItems;
-    private final PointRepository pointRepository;
+    private final PointService pointService;
     private final OrderDiscountRepository orderDiscountRepository;
+    private final ProductService productService;
+    private final OrderExpiryTimer orderExpiryTimer;
+    private final OutboxAppender outboxAppender;
     private final Clock clock;
 
     /**
@@ -60,8 +70,9 @@ public class OrderService {
      *  - 회원 존재 필수 (404)
      *  - 장바구니 비어있으면 (400)
      *  - 재고 0 상품 포함 시 거부 (409: BusinessException("...","OUT_OF_STOCK"))
+     *  - 주문 수량만큼 재고 예약(차감), 부족하면 주문 생성 전체 롤백 (409: OUT_OF_STOCK)
      *  - 총액 = 주문 시점 단가 스냅샷 × 수량
-     *  - 만료시간 = now + 30분
+     *  - 만료시간 = now + 30분, 만료/취소 시 예약 재고 복원
      */
     @Transactional
     public CreateOrderResult createFromCart(Long userId) {
@@ -81,10 +92,14 @@ public class OrderService {
         List<Line> lines = new ArrayList<>();
         int totalAmount = 0;
 
+        Map<Long, Product> productMap = loadProducts(cart.stream().map(CartItem::getProductId).toList());
+
         for (CartItem ci : cart) {
-            Product p = products.findById(ci.getProductId())
-                    .orElseThrow(() -> new ResourceNotFoundException("상품 없음: " + ci.getProductId()));
-            // 재고 0이면 주문 생성 거부 (결제 시점에 실제 차감)
+            Product p = productMap.get(ci.getProductId());
+            if (p == null) {
+                throw new ResourceNotFoundException("상품 없음: " + ci.getProductId());
+            }
+            // 재고 0이면 예약 시도 전에 바로 거부
             if (p.getStock() <= 0) {
                 throw new BusinessException("품절 상품이 포함되어 주문을 생성할 수 없습니다: " + p.getName(), "OUT_OF_STOCK");
             }
@@ -96,6 +111,7 @@ public class OrderService {
         // 4) 주문 저장( orderId 확보 )
         Instant now = Instant.now(clock);
         Order pending = Order.create(userId, totalAmount, now.plus(EXPIRE_MINUTES, ChronoUnit.MINUTES));
+        pending.markStockReserved(); // 아래 재고 예약이 실패하면 주문 저장까지 함께 롤백
         Order saved = orders.save(pending); // 인메모리면 여기서 assignId 수행
 
         // 5) 주문항목 생성(스냅샷) 후 일괄 저장
@@ -111,7 +127,11 @@ public class OrderService {
 
         orderItems.saveAll(items);
 
-        // 6) 결과 DTO
+        // 6) 재고 예약 + 커밋 후 만료 타이머 등록
+        productService.decreaseStocks(items);
+        orderExpiryTimer.scheduleAfterCommit(saved.getId(), saved.getExpiresAt());
+
+        // 7) 결과 DTO
         return CreateOrderResult.from(saved, items);
     }
 
@@ -123,19 +143,36 @@ public class OrderService {
      */
     @Transactional(readOnly = true)
     public OrderListResult getOrderList(OrderListQuery query) {
+        if (query.size() < 1 || query.size() > MAX_PAGE_SIZE) {
+            throw new InvalidInputException("페이지 크기는 1 이상 " + MAX_PAGE_SIZE + " 이하여야 합니다");
+        }
+
         // 1) 회원 검증
         users.findById(query.userId())
                 .orElseThrow(() -> new ResourceNotFoundException("존재하지 않는 회원"));
 
-        // 2) 주문 목록 조회
-        List<Order> orders = orderRepository.findByUserIdOrderByCreatedAtDesc(query.userId());
+        // 2) 주문 목록 조회 (created_at DESC, id DESC 커서 - 한 페이지 + 1건만 읽음)
+        Instant cursorCreatedAt = null;
+        Long cursorOrderId = null;
+        if (query.cursor() != null && !query.cursor().isBlank()) {
+            String[] keys = CursorCodec.decode(query.cursor(), 2);
+            cursorCreatedAt = CursorCodec.parseInstant(keys[0]);
+            cursorOrderId = CursorCodec.parseLong(keys[1]);
+        }
+        List<Order> orders = orderRepository.findPageByUserId(
+                query.userId(), cursorCreatedAt, cursorOrderId, query.size() + 1);
 
         if (orders.isEmpty()) {
-            return new OrderListResult(List.of());
+            return new OrderListResult(List.of(), false, null);
         }
 
-        // 3) 주문 항목 일괄 조회 (N+1 방지)
-        List<Long> orderIds = orders.stream().map(Order::getId).toList();
+        boolean hasNext = orders.size() > query.size();
+        List<Order> page = hasNext ? orders.subList(0, query.size()) : orders;
+        Order last = page.get(page.size() - 1);
+        String nextCursor = hasNext ? CursorCodec.encode(last.getCreatedAt(), last.getId()) : null;
+
+        // 3) 현재 페이지 주문의 항목만 일괄 조회 (N+1 방지)
+        List<Long> orderIds = page.stream().map(Order::getId).toList();
         List<OrderItem> allItems = orderItems.findByOrderIdIn(orderIds);
 
         // 4) 주문별로 항목 그룹화
@@ -143,46 +180,40 @@ public class OrderService {
                 .collect(Collectors.groupingBy(OrderItem::getOrderId));
 
         // 5) 결과 DTO
-        return OrderListResult.from(orders, itemsByOrderId);
+        return OrderListResult.from(page, itemsByOrderId, hasNext, nextCursor);
     }
 
     /**
      * 주문 상세 조회
      * 규칙:
-     *  - 회원 존재 필수 (404)
      *  - 주문 존재 필수 (404)
-     *  - 주문이 해당 회원의 것이 아니면 (404)
+     *  - 주문이 해당 회원의 것이 아니면 (404) - 존재하지 않는 회원도 여기에 포함
      */
     @Transactional(readOnly = true)
     public OrderDetailResult getOrderDetail(OrderDetailQuery query) {
-        // 1) 회원 검증
-        users.findById(query.userId())
-                .orElseThrow(() -> new ResourceNotFoundException("존재하지 않는 회원"));
-
-        // 2) 주문 조회 및 소유권 검증
-        Order order = orderRepository.findById(query.orderId())
-                .orElseThrow(() -> new ResourceNotFoundException("주문을 찾을 수 없습니다"));
-
-        if (!order.getUserId().equals(query.userId())) {
+        // 주문 + 항목을 한 번에 조회, 소유권은 WHERE 조건으로 검증
+        // (회원이 없거나 다른 회원의 주문이면 0행 → 주문 없음과 동일하게 404)
+        List<OrderDetailRow> rows = orderRepository.findDetailRows(query.orderId(), query.userId());
+        if (rows.isEmpty()) {
             throw new ResourceNotFoundException("주문을 찾을 수 없습니다");
         }
-
-        // 3) 주문 항목 조회
-        List<OrderItem> items = orderItems.findByOrderId(query.orderId());
-
-        // 4) 결과 DTO
-        return OrderDetailResult.from(order, items);
+        return OrderDetailResult.fromRows(rows);
     }
+
     /**
      * 환불 처리
      *
      * 트랜잭션 처리 순서:
      *  1. 주문 조회 및 검증 (CONFIRMED, 소유자 확인)
-     *  2. 포인트 환불
-     *  3. 재고 복구
-     *  4. 주문 상태 변경 (CONFIRMED → REFUNDED)
+     *  2. 주문 상태 변경 (CONFIRMED → REFUNDED) - 조건부 UPDATE로 한 번만 성공
+     *  3. 포인트 환불
+     *  4. 재고 복구
      *  5. 포인트 히스토리 기록
-     *  6. 결과 반환
+     *  6. 환불 이벤트 Outbox 기록
+     *  7. 결과 반환
+     *
+     * 상태 전이를 포인트/재고 반영보다 먼저 하므로, 같은 주문을 다시(또는 동시에) 환불하면
+     * 전이가 0건이 되어 아무것도 반영하지 않고 거부된다.
      */
     @Transactional
     public RefundResult processRefund(RefundCommand command) {
@@ -197,29 +228,25 @@ public class OrderService {
             throw new ResourceNotFoundException("주문을 찾을 수 없습니다");
         }
 
-        // 2. 주문 항목 조회
-        List<OrderItem> items = orderItems.findByOrderId(command.orderId());
-
-        // 3. 포인트 환불
-        User user = users.findById(command.userId())
-                .orElseThrow(() -> new ResourceNotFoundException("사용자를 찾을 수 없습니다"));
+        // 2. 주문 상태 변경 (CONFIRMED → REFUNDED) - 조회 이후 이미 환불되었으면 거부
+        order.refund(now);
+        if (!orderRepository.refundIfConfirmed(order.getId(), now)) {
+            throw new BusinessException("환불할 수 없는 주문 상태입니다.", "INVALID_ORDER_STATUS");
+        }
 
+        // 3. 포인트 환불 (DB에서 잔액 바로 증가)
         int refundAmount = order.getFinalAmount();
-        user.charge(refundAmount);
+        int balance = pointService.refundPoints(command.userId(), refundAmount);
 
         // 4. 재고 복구
-        for (OrderItem item : items) {
-            Product product = products.findById(item.getProductId())
-                    .orElseThrow(() -> new ResourceNotFoundException("상품을 찾을 수 없습니다"));
-            product.increaseStock(item.getQuantity());
-        }
+        List<OrderItem> items = orderItems.findByOrderId(command.orderId());
+        productService.increaseStocks(items);
 
-        // 5. 주문 상태 변경 (CONFIRMED → REFUNDED)
-        order.refund(now);
+        // 5. 포인트 히스토리 기록
+        pointService.recordRefundHistory(command.userId(), refundAmount, balance);
 
-        // 6. 포인트 히스토리 기록
-        Point pointHistory = Point.refund(command.userId(), refundAmount, user.getBalance());
-        pointRepository.save(pointHistory);
+        // 6. 환불 이벤트 Outbox 기록 (커밋 후 릴레이가 판매 랭킹에서 차감)
+        outboxAppender.append(order.getId(), OrderRefundedEvent.TYPE, OrderRefundedEvent.of(order, items));
 
         // 7. 결과 반환
         return new RefundResult(
@@ -227,14 +254,16 @@ public class OrderService {
                 order.getUserId(),
                 order.getStatus(),
                 refundAmount,
-                user.getBalance(),
+                balance,
                 order.getRefundedAt()
         );
     }
 
     /**
      * 주문 취소
-     * PENDING 상태의 주문을 취소합니다.
+     * PENDING 상태의 주문을 취소하고, 예약된 재고를 복원합니다.
+     * 상태 전이는 조건부 UPDATE(status = PENDING)로 한 번만 성공하므로
+     * 결제/만료/다른 취소와 겹쳐도 예약 재고는 한 번만 복원됩니다.
      */
     @Transactional
     public void cancelOrder(Long userId, Long orderId) {
@@ -249,8 +278,17 @@ public class OrderService {
             throw new ResourceNotFoundException("주문을 찾을 수 없습니다");
         }
 
-        // 2. 주문 취소 (PENDING → CANCELLED)
+        // 2. 주문 취소 (PENDING → CANCELLED) - 조회 이후 결제/만료/취소되었으면 거부
         order.cancel(now);
+        if (!orderRepository.cancelIfPending(orderId, now)) {
+            throw new BusinessException("취소할 수 없는 주문 상태입니다.", "INVALID_ORDER_STATUS");
+        }
+
+        // 3. 예약 재고 복원 + 만료 타이머 해제
+        if (order.isStockReserved()) {
+            productService.increaseStocks(orderItems.findByOrderId(orderId));
+        }
+        orderExpiryTimer.cancelAfterCommit(orderId);
     }
 
     /**
@@ -265,6 +303,11 @@ public class OrderService {
             throw new ResourceNotFoundException("주문을 찾을 수 없습니다");
         }
 
+        // 만료 검증 (만료 타이머가 이미 EXPIRED로 바꾼 경우 포함)
+        if (order.getStatus() == OrderStatus.EXPIRED) {
+            throw new BusinessException("주문이 만료되었습니다", "ORDER_EXPIRED");
+        }
+
         // 상태 검증
         if (order.getStatus() != OrderStatus.PENDING) {
             throw new BusinessException("결제할 수 없는 주문 상태입니다", "INVALID_ORDER_STATUS");
@@ -287,9 +330,16 @@ public class OrderService {
 
     /**
      * 주문 확정 (UseCase용)
+     * 확정 상태 저장과 확정 이벤트 Outbox 기록을 같은 트랜잭션에서 수행하고, 커밋 후 만료 타이머를 해제
+     * 검증 이후 다른 결제/취소/만료가 먼저 전이했으면 조건부 UPDATE가 0건이므로 예외로 결제 전체를 롤백
      */
-    public void confirmOrder(Order order, int finalAmount, Instant paidAt) {
+    public void confirmOrder(Order order, List<OrderItem> items, int finalAmount, Instant paidAt) {
         order.confirm(finalAmount, paidAt);
+        if (!orderRepository.confirmIfPending(order.getId(), finalAmount, paidAt)) {
+            throw new BusinessException("결제할 수 없는 주문 상태입니다", "INVALID_ORDER_STATUS");
+        }
+        outboxAppender.append(order.getId(), OrderConfirmedEvent.TYPE, OrderConfirmedEvent.of(order, items));
+        orderExpiryTimer.cancelAfterCommit(order.getId());
     }
 
     /**
@@ -308,4 +358,12 @@ public class OrderService {
         );
         orderDiscountRepository.save(orderDiscount);
     }
+
+    /**
+     * 상품 다건 조회 후 ID 기준 Map 변환 (항목별 단건 조회 방지)
+     */
+    private Map<Long, Product> loadProducts(List<Long> productIds) {
+        return products.findAllByIds(productIds.stream().distinct().toList()).stream()
+                .collect(Collectors.toMap(Product::getId, Function.identity()));
+    }
 }
@@ -1,8 +1,7 @@
 package com.hhplus.be.order.service.dto;
 
-import com.hhplus.be.order.domain.model.Order;
+import com.hhplus.be.order.domain.model.OrderDetailRow;
 import com.hhplus.be.order.domain.model.OrderStatus;
-import com.hhplus.be.orderitem.domain.model.OrderItem;
 
 import java.time.Instant;
 import java.util.List;
@@ -16,22 +15,22 @@ public record OrderDetailResult(
         Instant expiresAt,
         List<Item> items
 ) {
-    public static OrderDetailResult from(Order order, List<OrderItem> orderItems) {
-        List<Item> items = orderItems.stream()
-                .map(oi -> new Item(
-                        oi.getProductId(),
-                        oi.getProductName(),
-                        oi.getUnitPrice(),
-                        oi.getQuantity()
-                ))
+    /**
+     * 주문 ⋈ 주문 항목 평탄화 행 → 결과 DTO (주문 컬럼은 첫 행 기준)
+     */
+    public static OrderDetailResult fromRows(List<OrderDetailRow> rows) {
+        OrderDetailRow head = rows.get(0);
+        List<Item> items = rows.stream()
+                .filter(r -> r.productId() != null)
+                .map(r -> new Item(r.productId(), r.productName(), r.unitPrice(), r.quantity()))
                 .toList();
         return new OrderDetailResult(
-                order.getId(),
-                order.getUserId(),
-                order.getStatus(),
-                order.getTotalAmount(),
-                order.getCreatedAt(),
-                order.getExpiresAt(),
+                head.orderId(),
+                head.userId(),
+                head.status(),
+                head.totalAmount(),
+                head.createdAt(),
+                head.expiresAt(),
                 items
         );
     }
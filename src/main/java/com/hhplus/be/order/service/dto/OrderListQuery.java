@@ -1,6 +1,12 @@
 package com.hhplus.be.order.service.dto;
 
+/**
+ * 주문 내역 조회 Query
+ * API: GET /users/{userId}/orders?cursor=&size=20
+ */
 public record OrderListQuery(
-        Long userId
+        Long userId,
+        String cursor,  // 이전 페이지의 nextCursor (첫 페이지는 null)
+        int size        // 페이지 크기
 ) {
-}
\ No newline at end of file
+}
@@ -9,16 +9,19 @@ import java.util.List;
 import java.util.Map;
 
 public record OrderListResult(
-        List<OrderSummary> orders
+        List<OrderSummary> orders,
+        boolean hasNext,
+        String nextCursor
 ) {
-    public static OrderListResult from(List<Order> orders, Map<Long, List<OrderItem>> itemsByOrderId) {
+    public static OrderListResult from(List<Order> orders, Map<Long, List<OrderItem>> itemsByOrderId,
+                                       boolean hasNext, String nextCursor) {
         List<OrderSummary> summaries = orders.stream()
                 .map(order -> {
                     List<OrderItem> items = itemsByOrderId.getOrDefault(order.getId(), List.of());
                     return OrderSummary.from(order, items);
                 })
                 .toList();
-        return new OrderListResult(summaries);
+        return new OrderListResult(summaries, hasNext, nextCursor);
     }
 
     public record OrderSummary(
@@ -2,7 +2,6 @@ package com.hhplus.be.order.service.dto;
 
 import com.hhplus.be.order.domain.model.Order;
 import com.hhplus.be.order.domain.model.OrderStatus;
-import com.hhplus.be.user.domain.model.User;
 
 import java.time.Instant;
 
@@ -20,7 +19,7 @@ public record PaymentResult(
         int remainingBalance,   // 결제 후 남은 포인트
         Instant paidAt          // 결제 시각
 ) {
-    public static PaymentResult from(Order order, User user, int discountAmount) {
+    public static PaymentResult from(Order order, int remainingBalance, int discountAmount) {
         return new PaymentResult(
                 order.getId(),
                 order.getUserId(),
@@ -28,7 +27,7 @@ public record PaymentResult(
                 order.getTotalAmount(),
                 discountAmount,
                 order.getFinalAmount(),    // 결제 확정 시점에 설정된 finalAmount
-                user.getBalance(),         // 결제 후 잔액
+                remainingBalance,          // 결제 후 잔액
                 order.getPaidAt()          // 결제 완료 시각
         );
     }
@@ -0,0 +1,68 @@
+package com.hhplus.be.order.service.expiry;
+
+import com.hhplus.be.order.domain.model.Order;
+import com.hhplus.be.order.domain.repository.OrderRepository;
+import com.hhplus.be.orderitem.domain.repository.OrderItemRepository;
+import com.hhplus.be.product.service.ProductService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * 결제 대기 주문 만료 처리
+ *
+ * PENDING → EXPIRED 전이는 조건부 UPDATE로 한 번만 성공하므로
+ * 타이머/스위퍼/결제/취소가 겹쳐도 예약 재고는 한 번만 복원된다.
+ */
+@Service
+@RequiredArgsConstructor
+public class OrderExpiryService {
+    private final OrderRepository orderRepository;
+    private final OrderItemRepository orderItemRepository;
+    private final ProductService productService;
+    private final Clock clock;
+
+    /**
+     * 만료 시각이 지난 결제 대기 주문을 만료시키고 예약 재고를 복원
+     * 이미 결제/취소/만료된 주문이면 아무것도 하지 않고 false
+     */
+    @Transactional
+    public boolean expire(Long orderId) {
+        Instant now = Instant.now(clock);
+        Order order = orderRepository.findById(orderId).orElse(null);
+        if (order == null || !orderRepository.expireIfPending(orderId, now)) {
+            return false;
+        }
+        if (order.isStockReserved()) {
+            productService.increaseStocks(orderItemRepository.findByOrderId(orderId));
+        }
+        return true;
+    }
+
+    /**
+     * 만료 시각(cutoff)이 지난 결제 대기 주문을 최대 limit건 만료 (스위퍼용)
+     *
+     * 대상 행을 SKIP LOCKED로 잠가 결제/취소 중이거나 다른 스위퍼가 잡은 주문은 건너뛰고,
+     * 상태 전이와 재고 복원은 엔티티 로드 없이 일괄 UPDATE로 처리
+     * 만료한 주문 수를 반환
+     */
+    @Transactional
+    public int expireOverdue(Instant cutoff, int limit) {
+        List<Long> orderIds = orderRepository.lockOverduePendingIds(cutoff, limit);
+        if (orderIds.isEmpty()) {
+            return 0;
+        }
+        int expired = orderRepository.expireAll(orderIds, Instant.now(clock));
+
+        // 예약 재고는 상품별로 합산해 한 번에 복원
+        List<Long> reservedOrderIds = orderRepository.findStockReservedIdsIn(orderIds);
+        if (!reservedOrderIds.isEmpty()) {
+            productService.increaseStocks(orderItemRepository.findByOrderIdIn(reservedOrderIds));
+        }
+        return expired;
+    }
+}
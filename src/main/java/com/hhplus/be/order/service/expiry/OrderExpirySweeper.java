@@ -0,0 +1,86 @@
+package com.hhplus.be.order.service.expiry;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * 만료된 결제 대기 주문 일괄 정리 (스케줄러)
+ *
+ * 만료 타이머가 놓친 주문(타이머 등록 전 장애, 처리 실패 등)을 주기적으로 EXPIRED로 전이한다.
+ * 한 번에 chunk-size건씩 별도 트랜잭션으로 처리해 잠금 시간과 undo 크기를 제한하고,
+ * 한 회차는 max-chunks까지만 돌아 다음 주기로 넘긴다.
+ *
+ * 지표: order.expiry.sweep.rows (회차별 처리 건수), order.expiry.sweep.duration (회차 소요 시간)
+ */
+@Slf4j
+@Component
+public class OrderExpirySweeper {
+
+    private final OrderExpiryService orderExpiryService;
+    private final Clock clock;
+    private final int chunkSize;
+    private final int maxChunks;
+    private final Duration grace;
+    private final DistributionSummary rowsPerRun;
+    private final Timer runDuration;
+
+    public OrderExpirySweeper(
+            OrderExpiryService orderExpiryService,
+            Clock clock,
+            MeterRegistry meterRegistry,
+            @Value("${order.expiry.sweep.chunk-size:500}") int chunkSize,
+            @Value("${order.expiry.sweep.max-chunks:100}") int maxChunks,
+            @Value("${order.expiry.grace-seconds:30}") long graceSeconds
+    ) {
+        this.orderExpiryService = orderExpiryService;
+        this.clock = clock;
+        this.chunkSize = chunkSize;
+        this.maxChunks = maxChunks;
+        this.grace = Duration.ofSeconds(graceSeconds);
+        this.rowsPerRun = DistributionSummary.builder("order.expiry.sweep.rows")
+                .description("만료 스윕 회차별 처리 주문 수")
+                .register(meterRegistry);
+        this.runDuration = Timer.builder("order.expiry.sweep.duration")
+                .description("만료 스윕 회차 소요 시간")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 만료 스윕 1회차, 처리한 주문 수를 반환
+     */
+    @Scheduled(
+            initialDelayString = "${order.expiry.sweep.interval-millis:60000}",
+            fixedDelayString = "${order.expiry.sweep.interval-millis:60000}"
+    )
+    public int sweep() {
+        Timer.Sample sample = Timer.start();
+        // 만료 타이머와 같은 유예를 둬 마감 직전 검증을 통과한 결제와 겹치지 않게 함
+        Instant cutoff = Instant.now(clock).minus(grace);
+        int total = 0;
+        try {
+            for (int chunk = 0; chunk < maxChunks; chunk++) {
+                int expired = orderExpiryService.expireOverdue(cutoff, chunkSize);
+                total += expired;
+                if (expired < chunkSize) {
+                    break;
+                }
+            }
+        } finally {
+            rowsPerRun.record(total);
+            sample.stop(runDuration);
+        }
+        if (total > 0) {
+            log.info("만료 주문 스윕 - {}건 EXPIRED 처리", total);
+        }
+        return total;
+    }
+}
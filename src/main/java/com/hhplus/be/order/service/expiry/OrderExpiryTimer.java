@@ -0,0 +1,145 @@
+package com.hhplus.be.order.service.expiry;
+
+import com.hhplus.be.common.timer.HierarchicalTimingWheel;
+import com.hhplus.be.order.domain.model.OrderExpiration;
+import com.hhplus.be.order.domain.repository.OrderRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 결제 대기 주문 만료 타이머 (인메모리 계층형 타이밍 휠)
+ *
+ * - 주문 생성 커밋 후 등록, 결제/취소 커밋 후 해제
+ * - tick마다 마감된 주문만 꺼내 만료 처리 (폴링 쿼리 없음)
+ * - 기동 시 PENDING 주문의 expires_at으로 재구성
+ *
+ * 마감 시각은 expiresAt + grace: 만료 직전에 검증을 통과한 결제 트랜잭션이
+ * 끝날 시간을 두고 만료시킨다.
+ */
+@Slf4j
+@Component
+public class OrderExpiryTimer {
+    private static final int REBUILD_CHUNK_SIZE = 1000;
+
+    private final OrderRepository orderRepository;
+    private final OrderExpiryService orderExpiryService;
+    private final Clock clock;
+    private final long graceMillis;
+    private final HierarchicalTimingWheel<Long> wheel;
+
+    public OrderExpiryTimer(
+            OrderRepository orderRepository,
+            OrderExpiryService orderExpiryService,
+            Clock clock,
+            @Value("${order.expiry.tick-millis:1000}") long tickMillis,
+            @Value("${order.expiry.wheel-size:64}") int wheelSize,
+            @Value("${order.expiry.wheel-levels:4}") int wheelLevels,
+            @Value("${order.expiry.grace-seconds:30}") long graceSeconds
+    ) {
+        this.orderRepository = orderRepository;
+        this.orderExpiryService = orderExpiryService;
+        this.clock = clock;
+        this.graceMillis = graceSeconds * 1000;
+        this.wheel = new HierarchicalTimingWheel<>(tickMillis, wheelSize, wheelLevels, clock.millis());
+    }
+
+    /**
+     * 현재 트랜잭션 커밋 후 만료 타이머 등록 (롤백되면 등록하지 않음)
+     */
+    public void scheduleAfterCommit(Long orderId, Instant expiresAt) {
+        afterCommit(() -> schedule(orderId, expiresAt));
+    }
+
+    /**
+     * 현재 트랜잭션 커밋 후 만료 타이머 해제 (결제/취소)
+     */
+    public void cancelAfterCommit(Long orderId) {
+        afterCommit(() -> {
+            synchronized (wheel) {
+                wheel.cancel(orderId);
+            }
+        });
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        rebuild();
+    }
+
+    /**
+     * PENDING 주문 전체를 주문 ID 순으로 나눠 읽어 타이머 재등록
+     */
+    public void rebuild() {
+        long lastOrderId = 0L;
+        int scheduled = 0;
+        while (true) {
+            List<OrderExpiration> chunk = orderRepository.findPendingExpirationsAfter(lastOrderId, REBUILD_CHUNK_SIZE);
+            for (OrderExpiration expiration : chunk) {
+                schedule(expiration.orderId(), expiration.expiresAt());
+            }
+            scheduled += chunk.size();
+            if (chunk.size() < REBUILD_CHUNK_SIZE) {
+                break;
+            }
+            lastOrderId = chunk.get(chunk.size() - 1).orderId();
+        }
+        log.info("주문 만료 타이머 재구성 완료 - PENDING 주문 {}건", scheduled);
+    }
+
+    @Scheduled(fixedDelayString = "${order.expiry.tick-millis:1000}")
+    public void tick() {
+        List<Long> due;
+        synchronized (wheel) {
+            due = new ArrayList<>(wheel.advanceTo(clock.millis()));
+        }
+        due.forEach(this::expireQuietly);
+    }
+
+    int pendingCount() {
+        synchronized (wheel) {
+            return wheel.size();
+        }
+    }
+
+    private void schedule(Long orderId, Instant expiresAt) {
+        boolean registered;
+        synchronized (wheel) {
+            registered = wheel.schedule(orderId, expiresAt.toEpochMilli() + graceMillis);
+        }
+        if (!registered) {
+            expireQuietly(orderId); // 이미 마감 지남 (재구성 시 다운타임 중 만료분)
+        }
+    }
+
+    private void expireQuietly(Long orderId) {
+        try {
+            orderExpiryService.expire(orderId);
+        } catch (RuntimeException e) {
+            log.warn("주문 만료 처리 실패 - orderId={}", orderId, e);
+        }
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
@@ -8,7 +8,6 @@ import com.hhplus.be.order.service.dto.PaymentResult;
 import com.hhplus.be.orderitem.domain.model.OrderItem;
 import com.hhplus.be.point.service.PointService;
 import com.hhplus.be.product.service.ProductService;
-import com.hhplus.be.user.domain.model.User;
 import com.hhplus.be.coupon.service.CouponService;
 import com.hhplus.be.usercoupon.service.dto.DiscountCalculation;
 import lombok.RequiredArgsConstructor;
@@ -34,6 +33,19 @@ public class ProcessPaymentUseCase {
      */
     @Transactional
     public PaymentResult execute(PaymentCommand command) {
+        return executeInCurrentTransaction(command);
+    }
+
+    /**
+     * 호출 측이 연 트랜잭션 안에서 결제 처리 (트랜잭션 경계 없음)
+     * 그룹 커밋처럼 여러 결제를 한 트랜잭션 + savepoint로 묶을 때 사용
+     *
+     * 이 메서드 자체는 트랜잭션을 rollback-only로 표시하지 않지만, 예외가 안쪽 @Transactional 프록시
+     * (UserRepositoryImpl, Spring Data 리포지토리, OutboxAppender 등)를 통과해 던져지면 그 프록시가
+     * 공유 트랜잭션을 rollback-only로 표시한다. 이 경우 savepoint로 되돌려도 커밋할 수 없으므로
+     * 호출 측이 묶음 전체를 다시 실행해야 한다.
+     */
+    public PaymentResult executeInCurrentTransaction(PaymentCommand command) {
         Instant now = Instant.now(clock);
 
         // 1. 주문 검증 (Order 도메인)
@@ -59,27 +71,29 @@ public class ProcessPaymentUseCase {
                 couponResult.discountAmount()
         );
 
-        // 4. 재고 차감 (Product 도메인)
-        productService.decreaseStocks(items);
+        // 4. 재고 차감 (Product 도메인) - 주문 생성 시 예약된 주문은 이미 차감됨
+        if (!order.isStockReserved()) {
+            productService.decreaseStocks(items);
+        }
 
         // 5. 포인트 차감 (Point 도메인)
         int finalAmount = Math.max(0, order.getTotalAmount() - discount.discountAmount());
-        User user = pointService.deductPoints(command.userId(), finalAmount);
+        int remainingBalance = pointService.deductPoints(command.userId(), finalAmount);
 
         // 6. 쿠폰 사용 처리 (Coupon 도메인)
         if (discount.hasDiscount()) {
             couponService.markAsUsed(discount.userCouponId());
         }
 
-        // 7. 주문 확정 (Order 도메인)
-        orderService.confirmOrder(order, finalAmount, now);
+        // 7. 주문 확정 + 확정 이벤트 Outbox 기록 (Order 도메인)
+        orderService.confirmOrder(order, items, finalAmount, now);
 
         // 8. 할인 정보 저장 (Order 도메인)
         orderService.saveDiscountInfo(order.getId(), discount);
 
         // 9. 포인트 히스토리 기록 (Point 도메인)
-        pointService.recordUseHistory(command.userId(), finalAmount, user.getBalance());
+        pointService.recordUseHistory(command.userId(), finalAmount, remainingBalance);
 
-        return PaymentResult.from(order, user, discount.discountAmount());
+        return PaymentResult.from(order, remainingBalance, discount.discountAmount());
     }
 }
\ No newline at end of file
@@ -0,0 +1,128 @@
+package com.hhplus.be.order.usecase.async;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.hhplus.be.common.exception.BaseException;
+import com.hhplus.be.common.exception.ResourceNotFoundException;
+import com.hhplus.be.common.exception.TooManyRequestsException;
+import com.hhplus.be.order.service.dto.PaymentCommand;
+import com.hhplus.be.order.usecase.groupcommit.PaymentGroupCommitter;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * 비동기 결제 처리기
+ *
+ * - 요청 스레드는 작업을 대기열에 넣고 바로 반환 (DB 커넥션을 잡지 않음)
+ * - 워커 N개는 각각 단일 스레드 + 고정 크기 대기열, 작업은 userId 해시로 워커에 고정
+ *   → 같은 회원의 결제는 등록 순서대로 하나씩만 실행 (User.version 충돌 없음)
+ * - 워커 대기열이 가득 차면 429 PAYMENT_QUEUE_FULL (backpressure)
+ * - 작업 상태는 인메모리(TTL)로만 보관하므로 재시작 시 조회할 수 없다
+ */
+@Slf4j
+@Component
+public class AsyncPaymentProcessor {
+
+    private final PaymentGroupCommitter paymentGroupCommitter;
+    private final Clock clock;
+    private final List<ThreadPoolExecutor> workers;
+    private final Cache<String, PaymentJob> jobs;
+
+    public AsyncPaymentProcessor(
+            PaymentGroupCommitter paymentGroupCommitter,
+            Clock clock,
+            @Value("${order.payment.async.workers:4}") int workerCount,
+            @Value("${order.payment.async.queue-capacity:1000}") int queueCapacity,
+            @Value("${order.payment.async.job-ttl-seconds:3600}") long jobTtlSeconds
+    ) {
+        this.paymentGroupCommitter = paymentGroupCommitter;
+        this.clock = clock;
+        this.workers = IntStream.range(0, workerCount)
+                .mapToObj(workerNo -> new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+                        new ArrayBlockingQueue<>(queueCapacity),
+                        runnable -> {
+                            Thread thread = new Thread(runnable, "payment-worker-" + workerNo);
+                            thread.setDaemon(true);
+                            return thread;
+                        },
+                        new ThreadPoolExecutor.AbortPolicy()))
+                .toList();
+        this.jobs = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofSeconds(jobTtlSeconds))
+                .build();
+    }
+
+    /**
+     * 결제 작업 등록 (대기열이 가득 차면 429)
+     */
+    public PaymentJob submit(PaymentCommand command) {
+        PaymentJob job = PaymentJob.accepted(UUID.randomUUID().toString(), command, Instant.now(clock));
+        jobs.put(job.jobId(), job);
+        try {
+            workerOf(command.userId()).execute(() -> run(job));
+        } catch (RejectedExecutionException e) {
+            jobs.invalidate(job.jobId());
+            throw new TooManyRequestsException("결제 요청이 많습니다. 잠시 후 다시 시도해 주세요", "PAYMENT_QUEUE_FULL");
+        }
+        return job;
+    }
+
+    /**
+     * 작업 상태 조회 (다른 회원/주문의 작업이면 404)
+     */
+    public PaymentJob getJob(Long userId, Long orderId, String jobId) {
+        PaymentJob job = jobs.getIfPresent(jobId);
+        if (job == null
+                || !job.command().userId().equals(userId)
+                || !job.command().orderId().equals(orderId)) {
+            throw new ResourceNotFoundException("결제 작업을 찾을 수 없습니다");
+        }
+        return job;
+    }
+
+    private void run(PaymentJob job) {
+        jobs.put(job.jobId(), job.processing());
+        try {
+            var result = paymentGroupCommitter.execute(job.command());
+            jobs.put(job.jobId(), job.succeeded(result, Instant.now(clock)));
+        } catch (BaseException e) {
+            jobs.put(job.jobId(), job.failed(e.getErrorCode(), e.getMessage(), Instant.now(clock)));
+        } catch (RuntimeException e) {
+            log.error("비동기 결제 처리 실패: jobId={}, orderId={}", job.jobId(), job.command().orderId(), e);
+            jobs.put(job.jobId(), job.failed("INTERNAL_SERVER_ERROR", "서버 내부 오류가 발생했습니다", Instant.now(clock)));
+        }
+    }
+
+    private ThreadPoolExecutor workerOf(Long userId) {
+        return workers.get(Math.floorMod(Long.hashCode(userId), workers.size()));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        workers.forEach(ThreadPoolExecutor::shutdown);
+        for (ThreadPoolExecutor worker : workers) {
+            try {
+                if (!worker.awaitTermination(5, TimeUnit.SECONDS)) {
+                    log.warn("비동기 결제 워커 종료 대기 초과, 미처리 작업 {}건", worker.getQueue().size());
+                    worker.shutdownNow();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                worker.shutdownNow();
+            }
+        }
+    }
+}
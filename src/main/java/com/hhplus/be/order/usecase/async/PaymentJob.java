@@ -0,0 +1,36 @@
+package com.hhplus.be.order.usecase.async;
+
+import com.hhplus.be.order.service.dto.PaymentCommand;
+import com.hhplus.be.order.service.dto.PaymentResult;
+
+import java.time.Instant;
+
+/**
+ * 비동기 결제 작업 상태 (불변 스냅샷, 상태가 바뀔 때마다 새 인스턴스로 교체)
+ */
+public record PaymentJob(
+        String jobId,
+        PaymentCommand command,
+        PaymentJobStatus status,
+        PaymentResult result,      // SUCCEEDED일 때만
+        String errorCode,          // FAILED일 때만
+        String errorMessage,
+        Instant acceptedAt,
+        Instant completedAt
+) {
+    static PaymentJob accepted(String jobId, PaymentCommand command, Instant now) {
+        return new PaymentJob(jobId, command, PaymentJobStatus.ACCEPTED, null, null, null, now, null);
+    }
+
+    PaymentJob processing() {
+        return new PaymentJob(jobId, command, PaymentJobStatus.PROCESSING, null, null, null, acceptedAt, null);
+    }
+
+    PaymentJob succeeded(PaymentResult result, Instant now) {
+        return new PaymentJob(jobId, command, PaymentJobStatus.SUCCEEDED, result, null, null, acceptedAt, now);
+    }
+
+    PaymentJob failed(String errorCode, String errorMessage, Instant now) {
+        return new PaymentJob(jobId, command, PaymentJobStatus.FAILED, null, errorCode, errorMessage, acceptedAt, now);
+    }
+}
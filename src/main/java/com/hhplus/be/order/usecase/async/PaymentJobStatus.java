@@ -0,0 +1,8 @@
+package com.hhplus.be.order.usecase.async;
+
+public enum PaymentJobStatus {
+    ACCEPTED,    // 대기열 등록
+    PROCESSING,  // 워커가 결제 실행 중
+    SUCCEEDED,   // 결제 완료
+    FAILED       // 결제 실패 (errorCode 참고)
+}
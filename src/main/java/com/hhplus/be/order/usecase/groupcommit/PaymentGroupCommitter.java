@@ -0,0 +1,216 @@
+package com.hhplus.be.order.usecase.groupcommit;
+
+import com.hhplus.be.common.exception.TooManyRequestsException;
+import com.hhplus.be.order.service.dto.PaymentCommand;
+import com.hhplus.be.order.service.dto.PaymentResult;
+import com.hhplus.be.order.usecase.ProcessPaymentUseCase;
+import com.hhplus.be.point.service.history.PointHistoryWriter;
+import com.hhplus.be.product.service.stock.StockLaneEngine;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 결제 그룹 커밋 (order.payment.group-commit.enabled=true일 때만 사용)
+ *
+ * - 짧은 구간(window) 동안 들어온 결제를 최대 maxBatchSize건까지 모아 한 트랜잭션에서 실행
+ *   → 결제마다 하던 커밋(fsync)을 묶음당 한 번으로 줄임
+ * - 결제마다 savepoint를 잡고, 실패한 결제(포인트 부족 등)만 savepoint로 되돌림
+ *   성공한 결제는 즉시 flush, 실패 시 영속성 컨텍스트를 비워 실패한 변경이 커밋에 섞이지 않게 함
+ * - 커밋 자체가 실패하면(데드락 등) 묶음 전체를 결제별 개별 트랜잭션으로 다시 실행
+ * - 실패한 결제의 예외가 안쪽 @Transactional 프록시를 통과해 트랜잭션이 rollback-only가 되면
+ *   savepoint로 되돌려도 커밋할 수 없으므로, 남은 결제를 실행하지 않고 바로 개별 재실행으로 넘어감
+ * - 호출자는 자기 결제의 결과/예외만 받는다
+ *
+ * 롤백된 결제가 등록한 커밋 후 콜백은 해제되지 않으므로,
+ * 커밋 후 콜백에 의존하는 인메모리 재고 레인(롤백 시 보상)·포인트 내역 write-behind와 함께 켤 수 없다.
+ */
+@Slf4j
+@Component
+public class PaymentGroupCommitter {
+
+    private final ProcessPaymentUseCase processPaymentUseCase;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final long windowNanos;
+    private final int maxBatchSize;
+    private final BlockingQueue<Pending> queue;
+    private final Thread committer;
+    private final AtomicInteger fallbacks = new AtomicInteger(); // 개별 트랜잭션으로 재실행한 묶음 수
+    private volatile boolean running = true;
+
+    public PaymentGroupCommitter(
+            ProcessPaymentUseCase processPaymentUseCase,
+            EntityManager entityManager,
+            PlatformTransactionManager transactionManager,
+            StockLaneEngine stockLaneEngine,
+            PointHistoryWriter pointHistoryWriter,
+            @Value("${order.payment.group-commit.enabled:false}") boolean enabled,
+            @Value("${order.payment.group-commit.window-millis:2}") long windowMillis,
+            @Value("${order.payment.group-commit.max-batch-size:64}") int maxBatchSize,
+            @Value("${order.payment.group-commit.queue-capacity:10000}") int queueCapacity
+    ) {
+        if (enabled && stockLaneEngine.isEnabled()) {
+            throw new IllegalStateException("결제 그룹 커밋은 재고 레인(product.stock.lanes.enabled)과 함께 사용할 수 없습니다");
+        }
+        if (enabled && pointHistoryWriter.isWriteBehind()) {
+            throw new IllegalStateException("결제 그룹 커밋은 포인트 내역 write-behind(point.history.write-behind.enabled)와 함께 사용할 수 없습니다");
+        }
+        this.processPaymentUseCase = processPaymentUseCase;
+        this.entityManager = entityManager;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.enabled = enabled;
+        this.windowNanos = TimeUnit.MILLISECONDS.toNanos(windowMillis);
+        this.maxBatchSize = maxBatchSize;
+        this.queue = new LinkedBlockingQueue<>(queueCapacity);
+        this.committer = new Thread(this::runLoop, "payment-group-commit");
+        this.committer.setDaemon(true);
+        if (enabled) {
+            committer.start();
+        }
+    }
+
+    /**
+     * 결제 실행 - 비활성화 시 결제별 트랜잭션, 활성화 시 그룹 커밋 후 자기 결과 반환
+     */
+    public PaymentResult execute(PaymentCommand command) {
+        if (!enabled) {
+            return processPaymentUseCase.execute(command);
+        }
+        Pending pending = new Pending(command);
+        if (!queue.offer(pending)) {
+            throw new TooManyRequestsException("결제 요청이 많습니다. 잠시 후 다시 시도해 주세요", "PAYMENT_QUEUE_FULL");
+        }
+        try {
+            return pending.future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private void runLoop() {
+        while (running || !queue.isEmpty()) {
+            try {
+                Pending first = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                commit(collect(first));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        // 종료 시 남은 요청은 개별 트랜잭션으로 처리
+        Pending rest;
+        while ((rest = queue.poll()) != null) {
+            executeIndividually(rest);
+        }
+    }
+
+    /**
+     * 첫 요청 도착 후 window 동안(또는 maxBatchSize까지) 모음
+     */
+    private List<Pending> collect(Pending first) throws InterruptedException {
+        List<Pending> batch = new ArrayList<>(maxBatchSize);
+        batch.add(first);
+        long deadline = System.nanoTime() + windowNanos;
+        while (batch.size() < maxBatchSize) {
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) {
+                queue.drainTo(batch, maxBatchSize - batch.size());
+                break;
+            }
+            Pending next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                break;
+            }
+            batch.add(next);
+        }
+        return batch;
+    }
+
+    void commit(List<Pending> batch) {
+        Map<Pending, PaymentResult> succeeded = new LinkedHashMap<>();
+        Map<Pending, RuntimeException> failed = new LinkedHashMap<>();
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                for (Pending pending : batch) {
+                    Object savepoint = status.createSavepoint();
+                    try {
+                        PaymentResult result = processPaymentUseCase.executeInCurrentTransaction(pending.command);
+                        entityManager.flush();
+                        status.releaseSavepoint(savepoint);
+                        succeeded.put(pending, result);
+                    } catch (RuntimeException e) {
+                        status.rollbackToSavepoint(savepoint);
+                        entityManager.clear();
+                        failed.put(pending, e);
+                        if (status.isRollbackOnly()) {
+                            throw new IllegalStateException("결제 실패로 그룹 트랜잭션이 rollback-only로 표시됨", e);
+                        }
+                    }
+                }
+            });
+        } catch (RuntimeException commitFailure) {
+            fallbacks.incrementAndGet();
+            log.warn("결제 그룹 커밋 실패, {}건을 개별 트랜잭션으로 재실행", batch.size(), commitFailure);
+            batch.forEach(this::executeIndividually);
+            return;
+        }
+        succeeded.forEach((pending, result) -> pending.future.complete(result));
+        failed.forEach((pending, e) -> pending.future.completeExceptionally(e));
+    }
+
+    int fallbackCount() {
+        return fallbacks.get();
+    }
+
+    private void executeIndividually(Pending pending) {
+        try {
+            pending.future.complete(processPaymentUseCase.execute(pending.command));
+        } catch (RuntimeException e) {
+            pending.future.completeExceptionally(e);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        running = false;
+        if (enabled) {
+            try {
+                committer.join(TimeUnit.SECONDS.toMillis(5));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    static final class Pending {
+        private final PaymentCommand command;
+        private final CompletableFuture<PaymentResult> future = new CompletableFuture<>();
+
+        Pending(PaymentCommand command) {
+            this.command = command;
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.hhplus.be.orderdiscount.infrastructure.entity;
 
+import com.hhplus.be.common.id.SnowflakeId;
 import com.hhplus.be.orderdiscount.domain.DiscountType;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
@@ -17,7 +18,7 @@ import java.time.Instant;
 public class OrderDiscount {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @SnowflakeId
     private Long id;
 
     @Column(nullable = false)
@@ -0,0 +1,10 @@
+package com.hhplus.be.orderitem.domain.model;
+
+import java.time.Instant;
+
+/**
+ * 확정 주문 기준 상품 판매 기록 (결제 시점별 수량)
+ * 판매 랭킹 재구성용 조회 모델
+ */
+public record ProductSale(Long productId, int quantity, Instant paidAt) {
+}
@@ -1,6 +1,7 @@
 package com.hhplus.be.orderitem.domain.repository;
 
 import com.hhplus.be.orderitem.domain.model.OrderItem;
+import com.hhplus.be.orderitem.domain.model.ProductSale;
 
 import java.time.Instant;
 import java.util.List;
@@ -25,5 +26,27 @@ public interface OrderItemRepository {
      */
     Map<Long, Integer> countSalesByProductSince(Instant since);
 
+    /**
+     * [from, to) 구간 CONFIRMED 주문의 상품별 판매량 집계
+     */
+    Map<Long, Integer> countSalesByProductBetween(Instant from, Instant to);
+
+    /**
+     * [from, to) 구간에 결제된 주문의 (상품, 결제시점)별 판매량
+     * 이후 환불된 주문(REFUNDED)도 포함 - 환불은 findRefundedSalesBetween으로 따로 차감
+     */
+    List<ProductSale> findPaidSalesBetween(Instant from, Instant to);
+
+    /**
+     * [from, to) 구간에 환불된 주문의 (상품, 원 결제시점)별 판매량
+     */
+    List<ProductSale> findRefundedSalesBetween(Instant from, Instant to);
+
+    /**
+     * since 이후 CONFIRMED 주문의 (상품, 결제시점)별 판매량
+     * 인메모리 판매 랭킹 재구성용
+     */
+    List<ProductSale> findConfirmedSalesSince(Instant since);
+
     void deleteAll();
 }
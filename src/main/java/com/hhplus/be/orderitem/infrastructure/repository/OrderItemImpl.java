@@ -1,6 +1,7 @@
 package com.hhplus.be.orderitem.infrastructure.repository;
 
 import com.hhplus.be.orderitem.domain.model.OrderItem;
+import com.hhplus.be.orderitem.domain.model.ProductSale;
 import com.hhplus.be.orderitem.infrastructure.mapper.OrderItemMapper;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
@@ -50,8 +51,38 @@ public class OrderItemImpl implements com.hhplus.be.orderitem.domain.repository.
                 ));
     }
 
+    @Override
+    public Map<Long, Integer> countSalesByProductBetween(Instant from, Instant to) {
+        return orderItemJpaRepository.countSalesByProductBetween(from, to).stream()
+                .collect(Collectors.toMap(
+                        ProductSalesResult::productId,
+                        ProductSalesResult::getTotalQuantity
+                ));
+    }
+
+    @Override
+    public List<ProductSale> findPaidSalesBetween(Instant from, Instant to) {
+        return toSales(orderItemJpaRepository.findPaidSalesBetween(from, to));
+    }
+
+    @Override
+    public List<ProductSale> findRefundedSalesBetween(Instant from, Instant to) {
+        return toSales(orderItemJpaRepository.findRefundedSalesBetween(from, to));
+    }
+
+    @Override
+    public List<ProductSale> findConfirmedSalesSince(Instant since) {
+        return toSales(orderItemJpaRepository.findConfirmedSalesSince(since));
+    }
+
     @Override
     public void deleteAll() {
         orderItemJpaRepository.deleteAll();
     }
+
+    private List<ProductSale> toSales(List<ProductSaleRow> rows) {
+        return rows.stream()
+                .map(row -> new ProductSale(row.productId(), row.quantity().intValue(), row.paidAt()))
+                .toList();
+    }
 }
@@ -26,4 +26,62 @@ public interface OrderItemJpaRepository extends JpaRepository<OrderItem, Long> {
         GROUP BY oi.productId
     """)
     List<ProductSalesResult> countSalesByProductSince(@Param("since") Instant since);
+
+    @Query("""
+        SELECT new com.hhplus.be.orderitem.infrastructure.repository.ProductSaleRow(
+            oi.productId,
+            SUM(oi.quantity),
+            o.paidAt
+        )
+        FROM OrderItem oi
+        JOIN com.hhplus.be.order.infrastructure.entity.Order o ON oi.orderId = o.id
+        WHERE o.status = 'CONFIRMED'
+        AND o.paidAt >= :since
+        GROUP BY oi.productId, o.paidAt
+    """)
+    List<ProductSaleRow> findConfirmedSalesSince(@Param("since") Instant since);
+
+    @Query("""
+        SELECT new com.hhplus.be.orderitem.infrastructure.repository.ProductSalesResult(
+            oi.productId,
+            SUM(oi.quantity)
+        )
+        FROM OrderItem oi
+        JOIN com.hhplus.be.order.infrastructure.entity.Order o ON oi.orderId = o.id
+        WHERE o.status = 'CONFIRMED'
+        AND o.paidAt >= :from
+        AND o.paidAt < :to
+        GROUP BY oi.productId
+    """)
+    List<ProductSalesResult> countSalesByProductBetween(@Param("from") Instant from, @Param("to") Instant to);
+
+    @Query("""
+        SELECT new com.hhplus.be.orderitem.infrastructure.repository.ProductSaleRow(
+            oi.productId,
+            SUM(oi.quantity),
+            o.paidAt
+        )
+        FROM OrderItem oi
+        JOIN com.hhplus.be.order.infrastructure.entity.Order o ON oi.orderId = o.id
+        WHERE o.status IN ('CONFIRMED', 'REFUNDED')
+        AND o.paidAt >= :from
+        AND o.paidAt < :to
+        GROUP BY oi.productId, o.paidAt
+    """)
+    List<ProductSaleRow> findPaidSalesBetween(@Param("from") Instant from, @Param("to") Instant to);
+
+    @Query("""
+        SELECT new com.hhplus.be.orderitem.infrastructure.repository.ProductSaleRow(
+            oi.productId,
+            SUM(oi.quantity),
+            o.paidAt
+        )
+        FROM OrderItem oi
+        JOIN com.hhplus.be.order.infrastructure.entity.Order o ON oi.orderId = o.id
+        WHERE o.status = 'REFUNDED'
+        AND o.refundedAt >= :from
+        AND o.refundedAt < :to
+        GROUP BY oi.productId, o.paidAt
+    """)
+    List<ProductSaleRow> findRefundedSalesBetween(@Param("from") Instant from, @Param("to") Instant to);
 }
@@ -0,0 +1,6 @@
+package com.hhplus.be.orderitem.infrastructure.repository;
+
+import java.time.Instant;
+
+public record ProductSaleRow(Long productId, Long quantity, Instant paidAt) {
+}
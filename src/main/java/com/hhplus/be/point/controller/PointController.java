@@ -5,18 +5,12 @@ import com.hhplus.be.point.service.dto.*;
 import com.hhplus.be.point.controller.dto.PointBalanceResponse;
 import com.hhplus.be.point.controller.dto.PointChargeRequest;
 import com.hhplus.be.point.controller.dto.PointChargeResponse;
-import com.hhplus.be.point.controller.dto.PointHistoryResponse;
+import com.hhplus.be.point.controller.dto.PointHistoryPageResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
-import org.springframework.data.domain.Pageable;
-import org.springframework.data.web.PageableDefault;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
-
 /**
  * 포인트 API Controller
  * - 포인트 충전
@@ -56,25 +50,17 @@ public class PointController {
 
     /**
      * 1.3. 포인트 내역 조회
-     * GET /api/v1/users/{userId}/points/history?page=0&size=20
+     * GET /api/v1/users/{userId}/points/history?cursor=&size=20&includeTotal=false
      */
     @GetMapping("/history")
-    public ResponseEntity<Page<PointHistoryResponse>> getHistory(
+    public ResponseEntity<PointHistoryPageResponse> getHistory(
             @PathVariable Long userId,
-            @PageableDefault(size = 20) Pageable pageable
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false, defaultValue = "20") int size,
+            @RequestParam(required = false, defaultValue = "false") boolean includeTotal
     ) {
-        var query = new PointHistoryQuery(userId);
-        List<PointHistoryResult> history = pointService.getHistory(query);
-
-        // 페이징 처리 (간단 버전: 전체 조회 후 페이징)
-        int start = (int) pageable.getOffset();
-        int end = Math.min((start + pageable.getPageSize()), history.size());
-
-        List<PointHistoryResponse> pageContent = history.subList(start, end).stream()
-                .map(PointHistoryResponse::from)
-                .toList();
-        Page<PointHistoryResponse> page = new PageImpl<>(pageContent, pageable, history.size());
-
-        return ResponseEntity.ok(page);
+        var query = new PointHistoryQuery(userId, cursor, size, includeTotal);
+        var result = pointService.getHistory(query);
+        return ResponseEntity.ok(PointHistoryPageResponse.from(result));
     }
-}
\ No newline at end of file
+}
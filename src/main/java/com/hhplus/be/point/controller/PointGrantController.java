@@ -0,0 +1,48 @@
+package com.hhplus.be.point.controller;
+
+import com.hhplus.be.common.idempotency.IdempotencyExecutor;
+import com.hhplus.be.point.controller.dto.PointGrantResponse;
+import com.hhplus.be.point.service.PointGrantService;
+import com.hhplus.be.point.service.dto.PointGrantCommand;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.InputStream;
+
+/**
+ * 포인트 일괄 지급 API Controller
+ * - 지급 대상 업로드
+ * - 진행 상황 조회
+ */
+@RestController
+@RequestMapping("/api/v1/points/grants")
+@RequiredArgsConstructor
+public class PointGrantController {
+    private final PointGrantService pointGrantService;
+
+    /**
+     * 1.4. 포인트 일괄 지급 요청
+     * POST /api/v1/points/grants?reason= (본문: "userId,amount" CSV)
+     */
+    @PostMapping(consumes = "text/csv")
+    public ResponseEntity<PointGrantResponse> receive(
+            @RequestHeader(IdempotencyExecutor.HEADER) String idempotencyKey,
+            @RequestParam(required = false) String reason,
+            InputStream body
+    ) {
+        var command = new PointGrantCommand(idempotencyKey, reason, body);
+        var result = pointGrantService.receive(command);
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(PointGrantResponse.from(result));
+    }
+
+    /**
+     * 1.5. 포인트 일괄 지급 진행 상황 조회
+     * GET /api/v1/points/grants/{grantId}
+     */
+    @GetMapping("/{grantId}")
+    public ResponseEntity<PointGrantResponse> getGrant(@PathVariable Long grantId) {
+        return ResponseEntity.ok(PointGrantResponse.from(pointGrantService.getGrant(grantId)));
+    }
+}
@@ -0,0 +1,35 @@
+package com.hhplus.be.point.controller.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.hhplus.be.point.service.dto.PointGrantResult;
+
+/**
+ * 포인트 일괄 지급 Response DTO
+ * Presentation Layer에서 사용
+ */
+public record PointGrantResponse(
+        Long grantId,
+        String reason,
+        String status,
+        long totalCount,
+        long processedCount,
+        long grantedCount,
+        long skippedCount,
+        String createdAt,
+        @JsonInclude(JsonInclude.Include.NON_NULL)
+        String completedAt
+) {
+    public static PointGrantResponse from(PointGrantResult result) {
+        return new PointGrantResponse(
+                result.grantId(),
+                result.reason(),
+                result.status().name(),
+                result.totalCount(),
+                result.processedCount(),
+                result.grantedCount(),
+                result.skippedCount(),
+                result.createdAt().toString(),
+                result.completedAt() != null ? result.completedAt().toString() : null
+        );
+    }
+}
@@ -0,0 +1,26 @@
+package com.hhplus.be.point.controller.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.hhplus.be.point.service.dto.PointHistoryPageResult;
+
+import java.util.List;
+
+/**
+ * 포인트 내역 페이지 Response DTO
+ * 커서 페이징 공통 형식에 전체 건수(요청 시에만)를 더한 형태
+ */
+public record PointHistoryPageResponse(
+        List<PointHistoryResponse> content,
+        int size,
+        boolean hasNext,
+        String nextCursor,
+        @JsonInclude(JsonInclude.Include.NON_NULL) Long totalCount
+) {
+    public static PointHistoryPageResponse from(PointHistoryPageResult result) {
+        List<PointHistoryResponse> content = result.history().stream()
+                .map(PointHistoryResponse::from)
+                .toList();
+        return new PointHistoryPageResponse(content, content.size(), result.hasNext(),
+                result.nextCursor(), result.totalCount());
+    }
+}
@@ -55,6 +55,10 @@ public class Point {
         return new Point(userId, PointType.REFUND, amount, balanceAfter);
     }
 
+    public static Point grant(Long userId, int amount, int balanceAfter) {
+        return new Point(userId, PointType.GRANT, amount, balanceAfter);
+    }
+
     private void validateUserId(Long userId) {
         if (userId == null) {
             throw new InvalidInputException("사용자 ID는 필수입니다");
@@ -0,0 +1,28 @@
+package com.hhplus.be.point.domain.model;
+
+import java.time.Instant;
+
+/**
+ * 포인트 잔액 스냅샷 (원장 모드)
+ *
+ * - lastPointId 이하 내역을 모두 반영한 잔액
+ * - 첫 스냅샷은 회원 행의 잔액(users.balance)과 그 시점 마지막 내역 ID (이전 내역은 users.balance에 반영됨)
+ * - lastPointId = 0이면 내역이 없던 회원: users.balance가 시작 잔액
+ * - 현재 잔액 = balance + lastPointId 이후 내역의 증감 합
+ *
+ * 내역은 지워지거나 바뀌지 않으므로 오래된 스냅샷도 틀리지 않고, 뒤에 더할 내역이 많을 뿐이다.
+ */
+public record PointBalanceSnapshot(Long userId, int balance, long lastPointId, Instant snapshotAt) {
+
+    public static PointBalanceSnapshot base(Long userId, int balance) {
+        return new PointBalanceSnapshot(userId, balance, 0L, null);
+    }
+
+    public int balanceWith(PointLedgerDelta delta) {
+        return Math.toIntExact(balance + delta.amount());
+    }
+
+    public PointBalanceSnapshot advance(PointLedgerDelta delta, Instant now) {
+        return new PointBalanceSnapshot(userId, balanceWith(delta), delta.lastPointId(), now);
+    }
+}
@@ -0,0 +1,106 @@
+package com.hhplus.be.point.domain.model;
+
+import com.hhplus.be.common.exception.InvalidInputException;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.Instant;
+
+/**
+ * 포인트 일괄 지급 요청
+ *
+ * - 대상은 seq 1..totalCount로 적재되고, processedCount까지가 커밋된 청크
+ * - 청크 처리와 진행 상황 갱신이 같은 트랜잭션이므로, 중단 후에는 processedCount 다음 대상부터 이어서 지급
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PROTECTED)
+public class PointGrant {
+    public static final int MAX_GRANT_AMOUNT = 1_000_000;  // 한 줄 최대 지급액
+
+    private Long id;
+    private String grantKey;
+    private String reason;
+    private PointGrantStatus status;
+    private long totalCount;
+    private long processedCount;
+    private long grantedCount;
+    private long skippedCount;
+    private Instant createdAt;
+    private Instant completedAt;
+
+    public static PointGrant receive(String grantKey, String reason, Instant now) {
+        if (grantKey == null || grantKey.isBlank() || grantKey.length() > 100) {
+            throw new InvalidInputException("지급 요청 키는 1~100자여야 합니다");
+        }
+        if (reason != null && reason.length() > 200) {
+            throw new InvalidInputException("지급 사유는 200자 이하여야 합니다");
+        }
+        return new PointGrant(null, grantKey, reason, PointGrantStatus.RECEIVING, 0, 0, 0, 0, now, null);
+    }
+
+    public static PointGrant reconstruct(Long id, String grantKey, String reason, PointGrantStatus status,
+                                         long totalCount, long processedCount, long grantedCount, long skippedCount,
+                                         Instant createdAt, Instant completedAt) {
+        return new PointGrant(id, grantKey, reason, status, totalCount, processedCount, grantedCount, skippedCount,
+                createdAt, completedAt);
+    }
+
+    public static void validateItem(long lineNo, long userId, long amount) {
+        if (userId <= 0) {
+            throw new InvalidInputException(lineNo + "번째 줄: 회원 ID가 올바르지 않습니다");
+        }
+        if (amount <= 0 || amount > MAX_GRANT_AMOUNT) {
+            throw new InvalidInputException(lineNo + "번째 줄: 지급액은 1 이상 " + MAX_GRANT_AMOUNT + " 이하여야 합니다");
+        }
+    }
+
+    public boolean isReceiving() {
+        return status == PointGrantStatus.RECEIVING;
+    }
+
+    /**
+     * 업로드가 중간에 끊긴 요청을 처음부터 다시 적재
+     */
+    public void restartReceiving() {
+        if (!isReceiving()) {
+            throw new IllegalStateException("적재 중인 지급 요청만 다시 적재할 수 있습니다");
+        }
+        this.totalCount = 0;
+    }
+
+    /**
+     * 적재 완료 → 지급 대기 (대상이 없으면 바로 완료)
+     */
+    public void received(long totalCount, Instant now) {
+        if (!isReceiving()) {
+            throw new IllegalStateException("적재 중인 지급 요청이 아닙니다");
+        }
+        this.totalCount = totalCount;
+        this.status = PointGrantStatus.PENDING;
+        if (totalCount == 0) {
+            complete(now);
+        }
+    }
+
+    /**
+     * 한 청크 처리 결과 반영
+     */
+    public void advance(long processedSeq, int granted, int skipped, Instant now) {
+        if (status != PointGrantStatus.PENDING && status != PointGrantStatus.RUNNING) {
+            throw new IllegalStateException("지급 중인 요청이 아닙니다");
+        }
+        this.processedCount = processedSeq;
+        this.grantedCount += granted;
+        this.skippedCount += skipped;
+        this.status = PointGrantStatus.RUNNING;
+        if (processedCount >= totalCount) {
+            complete(now);
+        }
+    }
+
+    private void complete(Instant now) {
+        this.status = PointGrantStatus.COMPLETED;
+        this.completedAt = now;
+    }
+}
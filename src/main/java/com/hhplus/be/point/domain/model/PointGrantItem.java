@@ -0,0 +1,7 @@
+package com.hhplus.be.point.domain.model;
+
+/**
+ * 일괄 지급 대상 한 줄 (seq는 업로드 순서, 1부터)
+ */
+public record PointGrantItem(long seq, Long userId, int amount) {
+}
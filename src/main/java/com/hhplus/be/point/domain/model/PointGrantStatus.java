@@ -0,0 +1,8 @@
+package com.hhplus.be.point.domain.model;
+
+public enum PointGrantStatus {
+    RECEIVING,  // 대상 적재 중 (업로드가 끝나지 않음)
+    PENDING,    // 적재 완료, 지급 대기
+    RUNNING,    // 청크 단위로 지급 중
+    COMPLETED   // 모든 대상 처리 완료
+}
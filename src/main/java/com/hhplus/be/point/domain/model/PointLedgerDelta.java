@@ -0,0 +1,11 @@
+package com.hhplus.be.point.domain.model;
+
+/**
+ * 포인트 원장 구간 합계
+ *
+ * - amount: 구간 내역의 부호 있는 합 (충전/환불 +, 사용 -)
+ * - entries: 구간 내역 수
+ * - lastPointId: 구간의 마지막 내역 ID (내역이 없으면 구간 시작 ID)
+ */
+public record PointLedgerDelta(long amount, long entries, long lastPointId) {
+}
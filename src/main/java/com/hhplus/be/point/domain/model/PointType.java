@@ -3,5 +3,6 @@ package com.hhplus.be.point.domain.model;
 public enum PointType {
     CHARGE,  // 충전
     USE,     // 사용
-    REFUND   // 환불
+    REFUND,  // 환불
+    GRANT    // 일괄 지급 (프로모션/캐시백)
 }
\ No newline at end of file
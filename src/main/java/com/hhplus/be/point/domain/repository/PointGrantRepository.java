@@ -0,0 +1,25 @@
+package com.hhplus.be.point.domain.repository;
+
+import com.hhplus.be.point.domain.model.PointGrant;
+import com.hhplus.be.point.domain.model.PointGrantItem;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface PointGrantRepository {
+    // 1. 저장: 지급 요청 생성/진행 상황 갱신
+    PointGrant save(PointGrant grant);
+    // 2. 조회
+    Optional<PointGrant> findById(Long grantId);
+    Optional<PointGrant> findByGrantKey(String grantKey);
+    // 3. 지급할 요청 하나를 FOR UPDATE로 잠금 (다른 인스턴스가 잠근 요청은 건너뜀)
+    Optional<PointGrant> lockNextRunnable();
+    // 4. 대상 적재: 다건 INSERT
+    void appendItems(Long grantId, List<PointGrantItem> items);
+    // 5. afterSeq 이후 대상 limit건 (seq 오름차순)
+    List<PointGrantItem> findItems(Long grantId, long afterSeq, int limit);
+    // 6. upToSeq 이하 대상 삭제 (처리 완료된 청크 / 다시 적재할 때는 전체)
+    void deleteItems(Long grantId, long upToSeq);
+
+    void deleteAll();
+}
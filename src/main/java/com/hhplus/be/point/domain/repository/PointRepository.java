@@ -1,14 +1,37 @@
 package com.hhplus.be.point.domain.repository;
 
 import com.hhplus.be.point.domain.model.Point;
+import com.hhplus.be.point.domain.model.PointBalanceSnapshot;
+import com.hhplus.be.point.domain.model.PointLedgerDelta;
 
+import java.time.Instant;
 import java.util.List;
+import java.util.Optional;
+import java.util.OptionalLong;
 
 public interface PointRepository {
     // 1. 저장: 포인트 내역 저장
     Point save(Point point);
+    // 1-1. 일괄 저장: 여러 내역을 JDBC 배치(다건 INSERT)로 저장
+    void saveAll(List<Point> points);
     // 2. 조회: 사용자 ID로 포인트 내역 모두 찾기 (최신순)
     List<Point> findByUserIdOrderByCreatedAtDesc(Long userId);
+    // 3. 페이지 조회: (createdAt, id) 커서 이후 최신순으로 limit건 (커서가 null이면 첫 페이지)
+    List<Point> findPageByUserId(Long userId, Instant cursorCreatedAt, Long cursorPointId, int limit);
+    // 4. 사용자별 내역 건수
+    long countByUserId(Long userId);
+    // 5. 원장 합계: afterPointId < id <= upToPointId 내역의 증감 합/건수/마지막 ID
+    PointLedgerDelta sumLedger(Long userId, long afterPointId, long upToPointId);
+    // 5-1. 원장 합계 (FOR SHARE): afterPointId 이후 커밋된 최신 내역까지
+    PointLedgerDelta sumLedgerForShare(Long userId, long afterPointId);
+    // 6. afterPointId 이후 내역 중 createdBefore 이전에 기록된 마지막 ID
+    OptionalLong findLastPointIdCreatedBefore(Long userId, long afterPointId, Instant createdBefore);
+    // 6-1. 마지막 내역 ID (내역이 없으면 empty)
+    OptionalLong findLastPointId(Long userId);
+    // 7. 잔액 스냅샷 조회
+    Optional<PointBalanceSnapshot> findSnapshot(Long userId);
+    // 8. 스냅샷 전진: 저장된 위치가 expectedLastPointId일 때만 (스냅샷이 없으면 0), 반영 여부 반환
+    boolean advanceSnapshot(PointBalanceSnapshot snapshot, long expectedLastPointId);
 
     void deleteAll();
 }
@@ -1,5 +1,6 @@
 package com.hhplus.be.point.infrastructure.entity;
 
+import com.hhplus.be.common.id.SnowflakeId;
 import com.hhplus.be.point.domain.model.PointType;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
@@ -10,14 +11,22 @@ import lombok.NoArgsConstructor;
 import java.time.Instant;
 
 @Entity
-@Table(name = "point")
+@Table(
+    name = "point",
+    indexes = {
+        // 내역 조회 커서 페이징: 사용자별 최신순 seek
+        @Index(name = "idx_point_user_created_id", columnList = "userId, createdAt DESC, id DESC"),
+        // 원장 모드 잔액 계산: 스냅샷 이후 내역만 id 범위로 합산
+        @Index(name = "idx_point_user_id", columnList = "userId, id")
+    }
+)
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
 public class Point {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @SnowflakeId
     private Long id;
 
     @Column(nullable = false)
@@ -0,0 +1,32 @@
+package com.hhplus.be.point.infrastructure.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+/**
+ * 포인트 잔액 스냅샷 JPA Entity (회원당 한 행, 원장 모드 전용)
+ */
+@Entity
+@Table(name = "point_balance_snapshot")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+public class PointBalanceSnapshot {
+
+    @Id
+    private Long userId;
+
+    @Column(nullable = false)
+    private int balance;
+
+    @Column(nullable = false)
+    private Long lastPointId;
+
+    @Column(nullable = false)
+    private Instant snapshotAt;
+}
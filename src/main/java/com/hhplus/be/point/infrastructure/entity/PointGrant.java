@@ -0,0 +1,62 @@
+package com.hhplus.be.point.infrastructure.entity;
+
+import com.hhplus.be.common.id.SnowflakeId;
+import com.hhplus.be.point.domain.model.PointGrantStatus;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+/**
+ * 포인트 일괄 지급 요청 JPA Entity (진행 상황 포함)
+ */
+@Entity
+@Table(
+    name = "point_grant",
+    uniqueConstraints = {
+        @UniqueConstraint(name = "uk_point_grant_key", columnNames = {"grant_key"})
+    },
+    indexes = {
+        // 처리기 폴링: PENDING/RUNNING 요청을 ID(생성 시각) 순으로
+        @Index(name = "idx_point_grant_status_id", columnList = "status, id")
+    }
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+public class PointGrant {
+
+    @Id
+    @SnowflakeId
+    private Long id;
+
+    @Column(name = "grant_key", nullable = false, length = 100)
+    private String grantKey;
+
+    @Column(length = 200)
+    private String reason;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private PointGrantStatus status;
+
+    @Column(nullable = false)
+    private long totalCount;
+
+    @Column(nullable = false)
+    private long processedCount;
+
+    @Column(nullable = false)
+    private long grantedCount;
+
+    @Column(nullable = false)
+    private long skippedCount;
+
+    @Column(nullable = false, updatable = false)
+    private Instant createdAt;
+
+    private Instant completedAt;
+}
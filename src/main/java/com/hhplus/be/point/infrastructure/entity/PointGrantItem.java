@@ -0,0 +1,40 @@
+package com.hhplus.be.point.infrastructure.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 포인트 일괄 지급 대상 JPA Entity
+ * 적재/조회/삭제는 PointGrantRepositoryImpl에서 JDBC 배치로만 수행하고, 처리된 청크는 바로 삭제
+ */
+@Entity
+@Table(
+    name = "point_grant_item",
+    uniqueConstraints = {
+        @UniqueConstraint(name = "uk_point_grant_item", columnNames = {"grant_id", "seq"})
+    }
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+public class PointGrantItem {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "grant_id", nullable = false)
+    private Long grantId;
+
+    @Column(nullable = false)
+    private long seq;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(nullable = false)
+    private int amount;
+}
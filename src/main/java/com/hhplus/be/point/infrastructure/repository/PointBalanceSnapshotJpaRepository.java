@@ -0,0 +1,37 @@
+package com.hhplus.be.point.infrastructure.repository;
+
+import com.hhplus.be.point.infrastructure.entity.PointBalanceSnapshot;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.Instant;
+
+public interface PointBalanceSnapshotJpaRepository extends JpaRepository<PointBalanceSnapshot, Long> {
+
+    // 첫 스냅샷 - 다른 인스턴스가 먼저 만들었으면 0건
+    @Modifying
+    @Query(value = """
+        INSERT IGNORE INTO point_balance_snapshot (user_id, balance, last_point_id, snapshot_at)
+        VALUES (:userId, :balance, :lastPointId, :snapshotAt)
+    """, nativeQuery = true)
+    int insertIfAbsent(@Param("userId") Long userId,
+                       @Param("balance") int balance,
+                       @Param("lastPointId") long lastPointId,
+                       @Param("snapshotAt") Instant snapshotAt);
+
+    // 읽었던 위치에서만 전진 - 그 사이 다른 인스턴스가 먼저 전진시켰으면 0건
+    @Modifying
+    @Query("""
+        UPDATE PointBalanceSnapshot s
+        SET s.balance = :balance, s.lastPointId = :lastPointId, s.snapshotAt = :snapshotAt
+        WHERE s.userId = :userId
+        AND s.lastPointId = :expectedLastPointId
+    """)
+    int advance(@Param("userId") Long userId,
+                @Param("balance") int balance,
+                @Param("lastPointId") long lastPointId,
+                @Param("snapshotAt") Instant snapshotAt,
+                @Param("expectedLastPointId") long expectedLastPointId);
+}
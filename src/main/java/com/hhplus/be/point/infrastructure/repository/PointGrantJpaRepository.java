@@ -0,0 +1,22 @@
+package com.hhplus.be.point.infrastructure.repository;
+
+import com.hhplus.be.point.infrastructure.entity.PointGrant;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.Optional;
+
+public interface PointGrantJpaRepository extends JpaRepository<PointGrant, Long> {
+
+    Optional<PointGrant> findByGrantKey(String grantKey);
+
+    // 여러 인스턴스가 동시에 폴링해도 같은 요청을 함께 처리하지 않음
+    @Query(value = """
+        SELECT * FROM point_grant
+        WHERE status IN ('PENDING', 'RUNNING')
+        ORDER BY id
+        LIMIT 1
+        FOR UPDATE SKIP LOCKED
+    """, nativeQuery = true)
+    Optional<PointGrant> lockNextRunnable();
+}
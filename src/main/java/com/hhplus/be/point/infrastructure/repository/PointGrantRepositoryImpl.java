@@ -0,0 +1,102 @@
+package com.hhplus.be.point.infrastructure.repository;
+
+import com.hhplus.be.point.domain.model.PointGrant;
+import com.hhplus.be.point.domain.model.PointGrantItem;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * PointGrant Repository 구현체
+ * 지급 요청은 JPA, 대상(point_grant_item)은 건수가 많아 JDBC 배치로 적재/조회
+ */
+@Repository
+@RequiredArgsConstructor
+public class PointGrantRepositoryImpl implements com.hhplus.be.point.domain.repository.PointGrantRepository {
+
+    private final PointGrantJpaRepository pointGrantJpaRepository;
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public PointGrant save(PointGrant grant) {
+        var saved = pointGrantJpaRepository.save(new com.hhplus.be.point.infrastructure.entity.PointGrant(
+                grant.getId(),
+                grant.getGrantKey(),
+                grant.getReason(),
+                grant.getStatus(),
+                grant.getTotalCount(),
+                grant.getProcessedCount(),
+                grant.getGrantedCount(),
+                grant.getSkippedCount(),
+                grant.getCreatedAt(),
+                grant.getCompletedAt()
+        ));
+        return toDomain(saved);
+    }
+
+    @Override
+    public Optional<PointGrant> findById(Long grantId) {
+        return pointGrantJpaRepository.findById(grantId).map(this::toDomain);
+    }
+
+    @Override
+    public Optional<PointGrant> findByGrantKey(String grantKey) {
+        return pointGrantJpaRepository.findByGrantKey(grantKey).map(this::toDomain);
+    }
+
+    @Override
+    public Optional<PointGrant> lockNextRunnable() {
+        return pointGrantJpaRepository.lockNextRunnable().map(this::toDomain);
+    }
+
+    @Override
+    public void appendItems(Long grantId, List<PointGrantItem> items) {
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO point_grant_item (grant_id, seq, user_id, amount) VALUES (?, ?, ?, ?)",
+                items,
+                items.size(),
+                (ps, item) -> {
+                    ps.setLong(1, grantId);
+                    ps.setLong(2, item.seq());
+                    ps.setLong(3, item.userId());
+                    ps.setInt(4, item.amount());
+                });
+    }
+
+    @Override
+    public List<PointGrantItem> findItems(Long grantId, long afterSeq, int limit) {
+        return jdbcTemplate.query(
+                "SELECT seq, user_id, amount FROM point_grant_item WHERE grant_id = ? AND seq > ? ORDER BY seq LIMIT ?",
+                (rs, rowNum) -> new PointGrantItem(rs.getLong("seq"), rs.getLong("user_id"), rs.getInt("amount")),
+                grantId, afterSeq, limit);
+    }
+
+    @Override
+    public void deleteItems(Long grantId, long upToSeq) {
+        jdbcTemplate.update("DELETE FROM point_grant_item WHERE grant_id = ? AND seq <= ?", grantId, upToSeq);
+    }
+
+    @Override
+    public void deleteAll() {
+        jdbcTemplate.update("DELETE FROM point_grant_item");
+        pointGrantJpaRepository.deleteAllInBatch();
+    }
+
+    private PointGrant toDomain(com.hhplus.be.point.infrastructure.entity.PointGrant entity) {
+        return PointGrant.reconstruct(
+                entity.getId(),
+                entity.getGrantKey(),
+                entity.getReason(),
+                entity.getStatus(),
+                entity.getTotalCount(),
+                entity.getProcessedCount(),
+                entity.getGrantedCount(),
+                entity.getSkippedCount(),
+                entity.getCreatedAt(),
+                entity.getCompletedAt()
+        );
+    }
+}
@@ -1,11 +1,72 @@
 package com.hhplus.be.point.infrastructure.repository;
 
 import com.hhplus.be.point.infrastructure.entity.Point;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.Instant;
 import java.util.List;
+import java.util.Optional;
 
 public interface PointJpaRepository extends JpaRepository<Point, Long> {
     // 사용자 ID로 포인트 내역 조회 (최신순)
     List<Point> findByUserIdOrderByCreatedAtDesc(Long userId);
+
+    List<Point> findByUserIdOrderByCreatedAtDescIdDesc(Long userId, Limit limit);
+
+    // (user_id, created_at, id) 인덱스를 커서 위치부터 역순으로 seek
+    @Query("""
+        SELECT p FROM Point p
+        WHERE p.userId = :userId
+        AND (p.createdAt < :createdAt OR (p.createdAt = :createdAt AND p.id < :pointId))
+        ORDER BY p.createdAt DESC, p.id DESC
+    """)
+    List<Point> findPageByUserIdBefore(@Param("userId") Long userId,
+                                       @Param("createdAt") Instant createdAt,
+                                       @Param("pointId") Long pointId,
+                                       Limit limit);
+
+    long countByUserId(Long userId);
+
+    // 원장 구간 합계: (user_id, id) 인덱스로 afterId < id <= upToId 범위만 읽음
+    @Query(value = """
+        SELECT CAST(COALESCE(SUM(CASE WHEN p.point_type = 'USE' THEN -p.amount ELSE p.amount END), 0) AS SIGNED) AS amount,
+               COUNT(*) AS entries,
+               COALESCE(MAX(p.id), :afterId) AS lastPointId
+        FROM point p
+        WHERE p.user_id = :userId
+        AND p.id > :afterId
+        AND p.id <= :upToId
+    """, nativeQuery = true)
+    PointLedgerSum sumLedger(@Param("userId") Long userId,
+                             @Param("afterId") long afterId,
+                             @Param("upToId") long upToId);
+
+    // 잠금 읽기 - 트랜잭션의 읽기 시점과 관계없이 커밋된 최신 내역까지 읽음 (커밋 전인 같은 회원 내역이 있으면 대기)
+    @Query(value = """
+        SELECT CAST(COALESCE(SUM(CASE WHEN p.point_type = 'USE' THEN -p.amount ELSE p.amount END), 0) AS SIGNED) AS amount,
+               COUNT(*) AS entries,
+               COALESCE(MAX(p.id), :afterId) AS lastPointId
+        FROM point p
+        WHERE p.user_id = :userId
+        AND p.id > :afterId
+        FOR SHARE
+    """, nativeQuery = true)
+    PointLedgerSum sumLedgerForShare(@Param("userId") Long userId,
+                                     @Param("afterId") long afterId);
+
+    @Query("SELECT MAX(p.id) FROM Point p WHERE p.userId = :userId")
+    Optional<Long> findLastId(@Param("userId") Long userId);
+
+    @Query("""
+        SELECT MAX(p.id) FROM Point p
+        WHERE p.userId = :userId
+        AND p.id > :afterId
+        AND p.createdAt < :createdBefore
+    """)
+    Optional<Long> findLastIdCreatedBefore(@Param("userId") Long userId,
+                                           @Param("afterId") long afterId,
+                                           @Param("createdBefore") Instant createdBefore);
 }
@@ -0,0 +1,12 @@
+package com.hhplus.be.point.infrastructure.repository;
+
+/**
+ * 원장 구간 합계 native 쿼리 projection
+ */
+public interface PointLedgerSum {
+    Long getAmount();
+
+    Long getEntries();
+
+    Long getLastPointId();
+}
@@ -1,11 +1,17 @@
 package com.hhplus.be.point.infrastructure.repository;
 
 import com.hhplus.be.point.domain.model.Point;
+import com.hhplus.be.point.domain.model.PointBalanceSnapshot;
+import com.hhplus.be.point.domain.model.PointLedgerDelta;
 import com.hhplus.be.point.infrastructure.mapper.PointMapper;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Repository;
 
+import java.time.Instant;
 import java.util.List;
+import java.util.Optional;
+import java.util.OptionalLong;
 import java.util.stream.Collectors;
 
 /**
@@ -17,6 +23,7 @@ import java.util.stream.Collectors;
 public class PointRepositoryImpl implements com.hhplus.be.point.domain.repository.PointRepository {
 
     private final PointJpaRepository pointJpaRepository;
+    private final PointBalanceSnapshotJpaRepository pointBalanceSnapshotJpaRepository;
     private final PointMapper pointMapper;
 
     @Override
@@ -26,6 +33,13 @@ public class PointRepositoryImpl implements com.hhplus.be.point.domain.repositor
         return pointMapper.toDomain(savedEntity);
     }
 
+    @Override
+    public void saveAll(List<Point> points) {
+        pointJpaRepository.saveAll(points.stream()
+                .map(pointMapper::toEntity)
+                .toList());
+    }
+
     @Override
     public List<Point> findByUserIdOrderByCreatedAtDesc(Long userId) {
         return pointJpaRepository.findByUserIdOrderByCreatedAtDesc(userId).stream()
@@ -33,8 +47,74 @@ public class PointRepositoryImpl implements com.hhplus.be.point.domain.repositor
                 .collect(Collectors.toList());
     }
 
+    @Override
+    public List<Point> findPageByUserId(Long userId, Instant cursorCreatedAt, Long cursorPointId, int limit) {
+        var entities = cursorCreatedAt == null
+                ? pointJpaRepository.findByUserIdOrderByCreatedAtDescIdDesc(userId, Limit.of(limit))
+                : pointJpaRepository.findPageByUserIdBefore(userId, cursorCreatedAt, cursorPointId, Limit.of(limit));
+        return entities.stream()
+                .map(pointMapper::toDomain)
+                .toList();
+    }
+
+    @Override
+    public long countByUserId(Long userId) {
+        return pointJpaRepository.countByUserId(userId);
+    }
+
+    @Override
+    public PointLedgerDelta sumLedger(Long userId, long afterPointId, long upToPointId) {
+        return toDelta(pointJpaRepository.sumLedger(userId, afterPointId, upToPointId));
+    }
+
+    @Override
+    public PointLedgerDelta sumLedgerForShare(Long userId, long afterPointId) {
+        return toDelta(pointJpaRepository.sumLedgerForShare(userId, afterPointId));
+    }
+
+    @Override
+    public OptionalLong findLastPointIdCreatedBefore(Long userId, long afterPointId, Instant createdBefore) {
+        return pointJpaRepository.findLastIdCreatedBefore(userId, afterPointId, createdBefore)
+                .map(OptionalLong::of)
+                .orElseGet(OptionalLong::empty);
+    }
+
+    @Override
+    public OptionalLong findLastPointId(Long userId) {
+        return pointJpaRepository.findLastId(userId)
+                .map(OptionalLong::of)
+                .orElseGet(OptionalLong::empty);
+    }
+
+    @Override
+    public Optional<PointBalanceSnapshot> findSnapshot(Long userId) {
+        return pointBalanceSnapshotJpaRepository.findById(userId)
+                .map(entity -> new PointBalanceSnapshot(
+                        entity.getUserId(),
+                        entity.getBalance(),
+                        entity.getLastPointId(),
+                        entity.getSnapshotAt()
+                ));
+    }
+
+    @Override
+    public boolean advanceSnapshot(PointBalanceSnapshot snapshot, long expectedLastPointId) {
+        int updated = expectedLastPointId == 0L
+                ? pointBalanceSnapshotJpaRepository.insertIfAbsent(
+                        snapshot.userId(), snapshot.balance(), snapshot.lastPointId(), snapshot.snapshotAt())
+                : pointBalanceSnapshotJpaRepository.advance(
+                        snapshot.userId(), snapshot.balance(), snapshot.lastPointId(), snapshot.snapshotAt(),
+                        expectedLastPointId);
+        return updated == 1;
+    }
+
     @Override
     public void deleteAll() {
         pointJpaRepository.deleteAll();
+        pointBalanceSnapshotJpaRepository.deleteAllInBatch();
+    }
+
+    private PointLedgerDelta toDelta(PointLedgerSum sum) {
+        return new PointLedgerDelta(sum.getAmount(), sum.getEntries(), sum.getLastPointId());
     }
 }
\ No newline at end of file
@@ -0,0 +1,164 @@
+package com.hhplus.be.point.service;
+
+import com.hhplus.be.common.exception.BusinessException;
+import com.hhplus.be.common.exception.InvalidInputException;
+import com.hhplus.be.common.exception.ResourceNotFoundException;
+import com.hhplus.be.point.domain.model.PointGrant;
+import com.hhplus.be.point.domain.model.PointGrantItem;
+import com.hhplus.be.point.domain.repository.PointGrantRepository;
+import com.hhplus.be.point.service.dto.PointGrantCommand;
+import com.hhplus.be.point.service.dto.PointGrantResult;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 포인트 일괄 지급 UseCase를 처리하는 Service
+ * - 지급 대상 업로드 (스트리밍 적재)
+ * - 진행 상황 조회
+ *
+ * 업로드는 대상을 stage-batch-size줄씩 다건 INSERT로 적재만 하고 바로 반환한다.
+ * 실제 지급은 PointGrantProcessor가 청크 단위 트랜잭션으로 처리한다.
+ */
+@Service
+public class PointGrantService {
+
+    private final PointGrantRepository pointGrantRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final Clock clock;
+    private final int stageBatchSize;
+
+    public PointGrantService(
+            PointGrantRepository pointGrantRepository,
+            PlatformTransactionManager transactionManager,
+            Clock clock,
+            @Value("${point.grant.stage-batch-size:1000}") int stageBatchSize
+    ) {
+        this.pointGrantRepository = pointGrantRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.clock = clock;
+        this.stageBatchSize = stageBatchSize;
+    }
+
+    /**
+     * 포인트 일괄 지급 요청 UseCase
+     * API: POST /api/v1/points/grants
+     *
+     * 같은 키로 이미 적재를 마친 요청이 있으면 그 진행 상황을 그대로 반환하고,
+     * 업로드가 중간에 끊긴 요청이면 대상을 비우고 처음부터 다시 적재한다.
+     */
+    public PointGrantResult receive(PointGrantCommand command) {
+        // 1. 지급 요청 생성 (또는 기존 요청 확인) - 같은 키로 동시에 처음 요청하면 한쪽은 유니크 제약에 걸림
+        PointGrant grant;
+        try {
+            grant = transactionTemplate.execute(status -> start(command));
+        } catch (DataIntegrityViolationException e) {
+            throw new BusinessException("같은 Idempotency-Key 요청이 처리 중입니다", "IDEMPOTENCY_IN_PROGRESS");
+        }
+        if (!grant.isReceiving()) {
+            return PointGrantResult.from(grant);
+        }
+
+        // 2. 대상 적재
+        long totalCount = stage(grant.getId(), command);
+
+        // 3. 적재 완료 → 지급 대기
+        PointGrant received = transactionTemplate.execute(status -> {
+            PointGrant current = pointGrantRepository.findById(grant.getId())
+                    .orElseThrow(() -> new ResourceNotFoundException("포인트 지급 요청을 찾을 수 없습니다"));
+            current.received(totalCount, Instant.now(clock));
+            return pointGrantRepository.save(current);
+        });
+        return PointGrantResult.from(received);
+    }
+
+    /**
+     * 포인트 일괄 지급 진행 상황 조회 UseCase
+     * API: GET /api/v1/points/grants/{grantId}
+     */
+    public PointGrantResult getGrant(Long grantId) {
+        return pointGrantRepository.findById(grantId)
+                .map(PointGrantResult::from)
+                .orElseThrow(() -> new ResourceNotFoundException("포인트 지급 요청을 찾을 수 없습니다"));
+    }
+
+    private PointGrant start(PointGrantCommand command) {
+        var existing = pointGrantRepository.findByGrantKey(command.grantKey());
+        if (existing.isPresent()) {
+            PointGrant grant = existing.get();
+            if (grant.isReceiving()) {
+                pointGrantRepository.deleteItems(grant.getId(), Long.MAX_VALUE);
+                grant.restartReceiving();
+                return pointGrantRepository.save(grant);
+            }
+            return grant;
+        }
+        return pointGrantRepository.save(
+                PointGrant.receive(command.grantKey(), command.reason(), Instant.now(clock)));
+    }
+
+    /**
+     * "userId,amount" 줄을 읽어 seq를 붙여 적재 (빈 줄과 숫자로 시작하지 않는 첫 줄(헤더)은 건너뜀)
+     * @return 적재한 대상 수
+     */
+    private long stage(Long grantId, PointGrantCommand command) {
+        List<PointGrantItem> batch = new ArrayList<>(stageBatchSize);
+        long seq = 0;
+        long lineNo = 0;
+        try (var reader = new BufferedReader(new InputStreamReader(command.source(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lineNo++;
+                line = line.strip();
+                if (line.isEmpty() || (seq == 0 && !Character.isDigit(line.charAt(0)))) {
+                    continue;
+                }
+                batch.add(parse(++seq, lineNo, line));
+                if (batch.size() >= stageBatchSize) {
+                    flush(grantId, batch);
+                }
+            }
+        } catch (IOException e) {
+            throw new InvalidInputException("지급 대상을 읽을 수 없습니다");
+        }
+        flush(grantId, batch);
+        return seq;
+    }
+
+    private PointGrantItem parse(long seq, long lineNo, String line) {
+        String[] columns = line.split(",");
+        if (columns.length != 2) {
+            throw new InvalidInputException(lineNo + "번째 줄: \"userId,amount\" 형식이어야 합니다");
+        }
+        long userId;
+        long amount;
+        try {
+            userId = Long.parseLong(columns[0].strip());
+            amount = Long.parseLong(columns[1].strip());
+        } catch (NumberFormatException e) {
+            throw new InvalidInputException(lineNo + "번째 줄: 숫자가 아닙니다");
+        }
+        PointGrant.validateItem(lineNo, userId, amount);
+        return new PointGrantItem(seq, userId, (int) amount);
+    }
+
+    private void flush(Long grantId, List<PointGrantItem> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        List<PointGrantItem> items = List.copyOf(batch);
+        transactionTemplate.executeWithoutResult(status -> pointGrantRepository.appendItems(grantId, items));
+        batch.clear();
+    }
+}
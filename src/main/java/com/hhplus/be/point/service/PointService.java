@@ -1,14 +1,21 @@
 package com.hhplus.be.point.service;
 
 import com.hhplus.be.point.service.dto.*;
+import com.hhplus.be.common.exception.InsufficientBalanceException;
+import com.hhplus.be.common.exception.InvalidInputException;
 import com.hhplus.be.common.exception.ResourceNotFoundException;
+import com.hhplus.be.common.pagination.CursorCodec;
 import com.hhplus.be.point.domain.model.Point;
 import com.hhplus.be.point.domain.repository.PointRepository;
+import com.hhplus.be.point.service.history.PointHistoryWriter;
+import com.hhplus.be.point.service.ledger.PointLedger;
 import com.hhplus.be.user.domain.model.User;
 import com.hhplus.be.user.domain.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
 import java.util.List;
 
 /**
@@ -20,44 +27,82 @@ import java.util.List;
 @Service
 @RequiredArgsConstructor
 public class PointService {
+    private static final int MAX_PAGE_SIZE = 100;
+
     private final UserRepository userRepository;
     private final PointRepository pointRepository;
+    private final PointHistoryWriter pointHistoryWriter;
+    private final PointLedger pointLedger;
 
     /**
      * 포인트 충전 UseCase
      * API: POST /api/points/{userId}/charge
+     *
+     * 잔액을 읽어 와 다시 쓰지 않고 DB에서 조건부로 바로 증가시키므로,
+     * 같은 회원의 동시 충전/차감이 서로 충돌하거나 갱신을 잃지 않는다.
+     * 원장 모드에서는 회원 행을 건드리지 않고 충전 내역만 추가한다.
      */
+    @Transactional
     public PointChargeResult charge(PointChargeCommand command) {
-        // 1. 사용자 조회
-        var user = userRepository.findById(command.userId())
-                .orElseThrow(() -> new ResourceNotFoundException("사용자를 찾을 수 없습니다"));
+        // 1. 충전 금액 검증
+        User.validateChargeAmount(command.amount());
 
-        // 2. 사용자 포인트 충전
-        user.charge(command.amount());
+        if (pointLedger.isEnabled()) {
+            return PointChargeResult.from(pointLedger.charge(command.userId(), command.amount()));
+        }
 
-        // 3. 포인트 히스토리 기록
-        var point = Point.charge(command.userId(), command.amount(), user.getBalance());
-        pointRepository.save(point);
+        // 2. 잔액 증가 (보유 한도 초과 시 거부)
+        int balance = userRepository.increaseBalance(command.userId(), command.amount(), User.MAX_BALANCE)
+                .orElseThrow(() -> increaseRejected(command.userId()));
 
-        // 4. 변경된 사용자 정보 저장
-        userRepository.save(user);
+        // 3. 포인트 히스토리 기록
+        var point = Point.charge(command.userId(), command.amount(), balance);
+        pointHistoryWriter.record(point);
 
-        // 5. 결과 반환
+        // 4. 결과 반환
         return PointChargeResult.from(point);
     }
 
     /**
      * 포인트 내역 조회 UseCase
-     * API: GET /api/points/{userId}/history
+     * API: GET /api/v1/users/{userId}/points/history?cursor=&size=20
+     *
+     * (user_id, created_at DESC, id DESC) 인덱스를 커서 위치부터 seek해 한 페이지 + 1건만 읽는다.
+     * 전체 건수는 includeTotal 요청 시에만 COUNT로 구한다.
      */
-    public List<PointHistoryResult> getHistory(PointHistoryQuery query) {
-        // 1. 포인트 내역 조회 (최신순)
-        var points = pointRepository.findByUserIdOrderByCreatedAtDesc(query.userId());
-
-        // 2. DTO로 변환
-        return points.stream()
+    public PointHistoryPageResult getHistory(PointHistoryQuery query) {
+        if (query.size() < 1 || query.size() > MAX_PAGE_SIZE) {
+            throw new InvalidInputException("페이지 크기는 1 이상 " + MAX_PAGE_SIZE + " 이하여야 합니다");
+        }
+
+        // 1. 커서 해석 (created_at, id)
+        Instant cursorCreatedAt = null;
+        Long cursorPointId = null;
+        if (query.cursor() != null && !query.cursor().isBlank()) {
+            String[] keys = CursorCodec.decode(query.cursor(), 2);
+            cursorCreatedAt = CursorCodec.parseInstant(keys[0]);
+            cursorPointId = CursorCodec.parseLong(keys[1]);
+        }
+
+        // 2. 포인트 내역 조회 (최신순)
+        List<Point> points = pointRepository.findPageByUserId(
+                query.userId(), cursorCreatedAt, cursorPointId, query.size() + 1);
+        boolean hasNext = points.size() > query.size();
+        List<Point> page = hasNext ? points.subList(0, query.size()) : points;
+        String nextCursor = null;
+        if (hasNext) {
+            Point last = page.get(page.size() - 1);
+            nextCursor = CursorCodec.encode(last.getCreatedAt(), last.getId());
+        }
+
+        // 3. 전체 건수 (요청한 경우에만)
+        Long totalCount = query.includeTotal() ? pointRepository.countByUserId(query.userId()) : null;
+
+        // 4. DTO로 변환
+        List<PointHistoryResult> history = page.stream()
                 .map(PointHistoryResult::from)
                 .toList();
+        return new PointHistoryPageResult(history, hasNext, nextCursor, totalCount);
     }
 
     /**
@@ -65,6 +110,11 @@ public class PointService {
      * API: GET /api/points/{userId}
      */
     public PointBalanceResult getBalance(PointBalanceQuery query) {
+        // 원장 모드: 캐시된 스냅샷 + 이후 내역 합산
+        if (pointLedger.isEnabled()) {
+            return new PointBalanceResult(query.userId(), pointLedger.balanceOf(query.userId()));
+        }
+
         // 1. 사용자 조회
         var user = userRepository.findById(query.userId())
                 .orElseThrow(() -> new ResourceNotFoundException("사용자를 찾을 수 없습니다"));
@@ -74,44 +124,61 @@ public class PointService {
     }
 
     /**
-     * 포인트 차감
+     * 포인트 차감 - 잔액이 충분할 때만 DB에서 바로 차감하고 차감 후 잔액 반환
      */
-    public User deductPoints(Long userId, int amount) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new ResourceNotFoundException("사용자를 찾을 수 없습니다"));
-
-        // 도메인 모델에 비즈니스 로직 위임
-        user.use(amount); // InsufficientBalanceException 발생 가능
-
-        return user;
+    public int deductPoints(Long userId, int amount) {
+        User.validateUseAmount(amount);
+        if (pointLedger.isEnabled()) {
+            return pointLedger.use(userId, amount).getBalanceAfter();
+        }
+        return userRepository.decreaseBalance(userId, amount)
+                .orElseThrow(() -> {
+                    if (!userRepository.existsById(userId)) {
+                        return new ResourceNotFoundException("사용자를 찾을 수 없습니다");
+                    }
+                    return new InsufficientBalanceException("잔액이 부족합니다");
+                });
     }
 
     /**
-     * 포인트 히스토리 기록
+     * 포인트 히스토리 기록 (원장 모드에서는 차감 시 이미 기록됨)
      */
     public void recordUseHistory(Long userId, int amount, int balanceAfter) {
+        if (pointLedger.isEnabled()) {
+            return;
+        }
         Point pointHistory = Point.use(userId, amount, balanceAfter);
-        pointRepository.save(pointHistory);
+        pointHistoryWriter.record(pointHistory);
     }
 
     /**
-     * 포인트 환불
+     * 포인트 환불 - DB에서 바로 증가시키고 환불 후 잔액 반환
      */
-    public User refundPoints(Long userId, int amount) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new ResourceNotFoundException("사용자를 찾을 수 없습니다"));
-
-        user.refund(amount);
-        return user;
+    public int refundPoints(Long userId, int amount) {
+        User.validateRefundAmount(amount);
+        if (pointLedger.isEnabled()) {
+            return pointLedger.refund(userId, amount).getBalanceAfter();
+        }
+        return userRepository.increaseBalance(userId, amount, User.MAX_BALANCE)
+                .orElseThrow(() -> increaseRejected(userId));
     }
 
     /**
-     * 환불 히스토리 기록
+     * 환불 히스토리 기록 (원장 모드에서는 환불 시 이미 기록됨)
      */
     public void recordRefundHistory(Long userId, int amount, int balanceAfter) {
+        if (pointLedger.isEnabled()) {
+            return;
+        }
         Point pointHistory = Point.refund(userId, amount, balanceAfter);
-        pointRepository.save(pointHistory);
+        pointHistoryWriter.record(pointHistory);
     }
 
-
-}
\ No newline at end of file
+    // 증가가 반영되지 않은 이유: 회원이 없거나 보유 한도 초과
+    private RuntimeException increaseRejected(Long userId) {
+        if (!userRepository.existsById(userId)) {
+            return new ResourceNotFoundException("사용자를 찾을 수 없습니다");
+        }
+        return User.balanceLimitExceeded();
+    }
+}
@@ -0,0 +1,14 @@
+package com.hhplus.be.point.service.dto;
+
+import java.io.InputStream;
+
+/**
+ * 포인트 일괄 지급 UseCase Command DTO
+ * API: POST /api/v1/points/grants (text/csv)
+ */
+public record PointGrantCommand(
+        String grantKey,     // Idempotency-Key - 같은 키로 다시 요청하면 기존 지급 요청을 반환
+        String reason,       // 지급 사유 (선택)
+        InputStream source   // "userId,amount" 한 줄씩
+) {
+}
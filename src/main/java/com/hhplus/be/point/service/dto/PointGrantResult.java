@@ -0,0 +1,35 @@
+package com.hhplus.be.point.service.dto;
+
+import com.hhplus.be.point.domain.model.PointGrant;
+import com.hhplus.be.point.domain.model.PointGrantStatus;
+
+import java.time.Instant;
+
+/**
+ * 포인트 일괄 지급 진행 상황 Result DTO
+ */
+public record PointGrantResult(
+        Long grantId,
+        String reason,
+        PointGrantStatus status,
+        long totalCount,
+        long processedCount,
+        long grantedCount,
+        long skippedCount,
+        Instant createdAt,
+        Instant completedAt
+) {
+    public static PointGrantResult from(PointGrant grant) {
+        return new PointGrantResult(
+                grant.getId(),
+                grant.getReason(),
+                grant.getStatus(),
+                grant.getTotalCount(),
+                grant.getProcessedCount(),
+                grant.getGrantedCount(),
+                grant.getSkippedCount(),
+                grant.getCreatedAt(),
+                grant.getCompletedAt()
+        );
+    }
+}
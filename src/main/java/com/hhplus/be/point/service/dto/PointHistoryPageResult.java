@@ -0,0 +1,15 @@
+package com.hhplus.be.point.service.dto;
+
+import java.util.List;
+
+/**
+ * 포인트 내역 한 페이지 Result DTO
+ * totalCount는 includeTotal 요청 시에만 채워짐 (그 외 null)
+ */
+public record PointHistoryPageResult(
+        List<PointHistoryResult> history,
+        boolean hasNext,
+        String nextCursor,
+        Long totalCount
+) {
+}
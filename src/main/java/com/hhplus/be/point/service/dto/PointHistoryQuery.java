@@ -2,8 +2,13 @@ package com.hhplus.be.point.service.dto;
 
 /**
  * 포인트 내역 조회 UseCase Query DTO
- * Application Layer에서 사용
+ * API: GET /users/{userId}/points/history?cursor=&size=20&includeTotal=false
  */
-public record PointHistoryQuery(Long userId) {
+public record PointHistoryQuery(
+        Long userId,
+        String cursor,         // 이전 페이지의 nextCursor (첫 페이지는 null)
+        int size,              // 페이지 크기
+        boolean includeTotal   // true일 때만 전체 건수 COUNT 실행
+) {
 
-}
\ No newline at end of file
+}
@@ -0,0 +1,177 @@
+package com.hhplus.be.point.service.grant;
+
+import com.hhplus.be.common.exception.ResourceNotFoundException;
+import com.hhplus.be.point.domain.model.Point;
+import com.hhplus.be.point.domain.model.PointGrant;
+import com.hhplus.be.point.domain.model.PointGrantItem;
+import com.hhplus.be.point.domain.repository.PointGrantRepository;
+import com.hhplus.be.point.domain.repository.PointRepository;
+import com.hhplus.be.point.service.ledger.PointLedger;
+import com.hhplus.be.user.domain.model.User;
+import com.hhplus.be.user.domain.repository.UserRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 포인트 일괄 지급 처리기
+ *
+ * 한 청크(chunk-size줄)를 한 트랜잭션으로 처리:
+ *  1) 지급 대기/진행 중인 요청 하나를 FOR UPDATE SKIP LOCKED로 잠금 (인스턴스 간 중복 처리 방지)
+ *  2) processedCount 다음 대상부터 chunk-size줄 조회
+ *  3) 회원별 합계로 조건부 잔액 UPDATE를 JDBC 배치 한 번에 실행 (원장 모드면 UPDATE 없이 내역만)
+ *  4) GRANT 내역 다건 INSERT, 처리한 대상 삭제, 진행 상황 갱신
+ * 진행 상황이 지급과 같은 트랜잭션에 커밋되므로, 서버가 죽어도 재시작 후 마지막 커밋 청크 다음부터 이어서 지급한다.
+ *
+ * 회원이 없거나 지급 후 보유 한도를 넘는 회원의 줄은 건너뛰고 skippedCount에 센다.
+ */
+@Slf4j
+@Component
+public class PointGrantProcessor {
+
+    private final PointGrantRepository pointGrantRepository;
+    private final PointRepository pointRepository;
+    private final UserRepository userRepository;
+    private final PointLedger pointLedger;
+    private final TransactionTemplate transactionTemplate;
+    private final Clock clock;
+    private final int chunkSize;
+    private final int maxChunksPerRun;
+
+    public PointGrantProcessor(
+            PointGrantRepository pointGrantRepository,
+            PointRepository pointRepository,
+            UserRepository userRepository,
+            PointLedger pointLedger,
+            PlatformTransactionManager transactionManager,
+            Clock clock,
+            @Value("${point.grant.chunk-size:1000}") int chunkSize,
+            @Value("${point.grant.max-chunks-per-run:100}") int maxChunksPerRun
+    ) {
+        this.pointGrantRepository = pointGrantRepository;
+        this.pointRepository = pointRepository;
+        this.userRepository = userRepository;
+        this.pointLedger = pointLedger;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.clock = clock;
+        this.chunkSize = chunkSize;
+        this.maxChunksPerRun = maxChunksPerRun;
+    }
+
+    /**
+     * 밀린 청크가 있으면 이어서 처리 (한 회차 최대 maxChunksPerRun개)
+     */
+    @Scheduled(fixedDelayString = "${point.grant.interval-millis:1000}")
+    public void run() {
+        for (int chunk = 0; chunk < maxChunksPerRun; chunk++) {
+            try {
+                if (!processChunk()) {
+                    return;
+                }
+            } catch (RuntimeException e) {
+                // 청크 트랜잭션은 롤백되고 진행 상황도 그대로이므로 다음 회차에 같은 청크부터 다시 시도
+                log.error("포인트 일괄 지급 청크 처리 실패", e);
+                return;
+            }
+        }
+    }
+
+    /**
+     * 한 청크 처리
+     * @return 처리한 요청이 있었는지
+     */
+    boolean processChunk() {
+        Boolean processed = transactionTemplate.execute(status -> {
+            var next = pointGrantRepository.lockNextRunnable();
+            if (next.isEmpty()) {
+                return false;
+            }
+            PointGrant grant = next.get();
+            List<PointGrantItem> items = pointGrantRepository.findItems(grant.getId(), grant.getProcessedCount(), chunkSize);
+            Instant now = Instant.now(clock);
+            if (items.isEmpty()) {
+                grant.advance(grant.getTotalCount(), 0, 0, now);
+                pointGrantRepository.save(grant);
+                return true;
+            }
+
+            int granted = grant(items);
+            long lastSeq = items.get(items.size() - 1).seq();
+            pointGrantRepository.deleteItems(grant.getId(), lastSeq);
+            grant.advance(lastSeq, granted, items.size() - granted, now);
+            pointGrantRepository.save(grant);
+            return true;
+        });
+        return Boolean.TRUE.equals(processed);
+    }
+
+    /**
+     * 청크 대상 지급
+     * @return 지급한 줄 수
+     */
+    private int grant(List<PointGrantItem> items) {
+        Map<Long, Integer> amountByUserId = new TreeMap<>();
+        for (PointGrantItem item : items) {
+            amountByUserId.merge(item.userId(), item.amount(), Integer::sum);
+        }
+
+        // 회원별 청크 지급 전 잔액 (지급 대상에서 빠진 회원은 없음)
+        Map<Long, Integer> balanceBefore = pointLedger.isEnabled()
+                ? ledgerBalances(amountByUserId)
+                : increaseBalances(amountByUserId);
+
+        List<Point> history = new ArrayList<>(items.size());
+        Map<Long, Integer> running = new HashMap<>(balanceBefore);
+        for (PointGrantItem item : items) {
+            Integer balance = running.get(item.userId());
+            if (balance == null) {
+                continue;
+            }
+            int balanceAfter = balance + item.amount();
+            running.put(item.userId(), balanceAfter);
+            history.add(Point.grant(item.userId(), item.amount(), balanceAfter));
+        }
+        if (!history.isEmpty()) {
+            pointRepository.saveAll(history);
+        }
+        if (history.size() < items.size()) {
+            log.info("포인트 일괄 지급 제외 (회원 없음/보유 한도 초과): {}건, seq {}~{}",
+                    items.size() - history.size(), items.get(0).seq(), items.get(items.size() - 1).seq());
+        }
+        return history.size();
+    }
+
+    private Map<Long, Integer> increaseBalances(Map<Long, Integer> amountByUserId) {
+        Map<Long, Integer> balanceBefore = new HashMap<>();
+        userRepository.increaseBalances(amountByUserId, User.MAX_BALANCE)
+                .forEach((userId, balanceAfter) -> balanceBefore.put(userId, balanceAfter - amountByUserId.get(userId)));
+        return balanceBefore;
+    }
+
+    // 원장 모드: 회원 행은 건드리지 않고, 원장 잔액으로 보유 한도만 확인
+    private Map<Long, Integer> ledgerBalances(Map<Long, Integer> amountByUserId) {
+        Map<Long, Integer> balanceBefore = new HashMap<>();
+        amountByUserId.forEach((userId, amount) -> {
+            try {
+                int balance = pointLedger.balanceOf(userId);
+                if ((long) balance + amount <= User.MAX_BALANCE) {
+                    balanceBefore.put(userId, balance);
+                }
+            } catch (ResourceNotFoundException e) {
+                // 회원 없음 → 제외
+            }
+        });
+        return balanceBefore;
+    }
+}
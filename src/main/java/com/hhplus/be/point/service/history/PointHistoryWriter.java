@@ -0,0 +1,218 @@
+package com.hhplus.be.point.service.history;
+
+import com.hhplus.be.point.domain.model.Point;
+import com.hhplus.be.point.domain.repository.PointRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 포인트 내역 기록기
+ *
+ * - 기본(write-behind 비활성화): 호출 측 트랜잭션에서 바로 저장
+ * - write-behind 활성화: 고정 크기 링 버퍼에 넣고 백그라운드 writer가 모아서 다건 INSERT
+ *   · 첫 기록 도착 후 flush-millis가 지나거나 batch-size만큼 모이면 한 트랜잭션으로 저장
+ *   · 호출 측 트랜잭션이 있으면 커밋된 뒤에만 버퍼에 넣음 (롤백된 잔액 변경의 내역은 남지 않음)
+ *   · durable=true면 자기 내역이 저장될 때까지 기다렸다가 반환, false면 버퍼에 넣고 바로 반환
+ *   · 버퍼가 await-timeout 동안 가득 차 있으면 호출 스레드가 직접 저장 (내역 유실 대신 지연)
+ *
+ * write-behind에서 durable=false면 서버가 죽을 때 버퍼에 남은 내역은 유실되고,
+ * 저장 전까지는 내역 조회에 보이지 않는다. 잔액(users.balance)은 항상 동기로 반영된다.
+ */
+@Slf4j
+@Component
+public class PointHistoryWriter {
+
+    private final PointRepository pointRepository;
+    private final TransactionTemplate requiresNew;
+    private final boolean writeBehind;
+    private final boolean durable;
+    private final int batchSize;
+    private final long flushNanos;
+    private final long awaitTimeoutMillis;
+    private final BlockingQueue<Pending> buffer;
+    private final Thread writer;
+    private volatile boolean running = true;
+
+    public PointHistoryWriter(
+            PointRepository pointRepository,
+            PlatformTransactionManager transactionManager,
+            @Value("${point.history.write-behind.enabled:false}") boolean writeBehind,
+            @Value("${point.history.write-behind.durable:false}") boolean durable,
+            @Value("${point.history.write-behind.buffer-capacity:8192}") int bufferCapacity,
+            @Value("${point.history.write-behind.batch-size:500}") int batchSize,
+            @Value("${point.history.write-behind.flush-millis:20}") long flushMillis,
+            @Value("${point.history.write-behind.await-timeout-millis:2000}") long awaitTimeoutMillis
+    ) {
+        this.pointRepository = pointRepository;
+        this.requiresNew = new TransactionTemplate(transactionManager);
+        this.requiresNew.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.writeBehind = writeBehind;
+        this.durable = durable;
+        this.batchSize = batchSize;
+        this.flushNanos = TimeUnit.MILLISECONDS.toNanos(flushMillis);
+        this.awaitTimeoutMillis = awaitTimeoutMillis;
+        this.buffer = new ArrayBlockingQueue<>(bufferCapacity);
+        this.writer = new Thread(this::runLoop, "point-history-writer");
+        this.writer.setDaemon(true);
+        if (writeBehind) {
+            writer.start();
+        }
+    }
+
+    public boolean isWriteBehind() {
+        return writeBehind;
+    }
+
+    /**
+     * 포인트 내역 기록
+     */
+    public void record(Point point) {
+        if (!writeBehind) {
+            pointRepository.save(point);
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    enqueue(point);
+                }
+            });
+            return;
+        }
+        enqueue(point);
+    }
+
+    private void enqueue(Point point) {
+        Pending pending = new Pending(point);
+        try {
+            if (!buffer.offer(pending, awaitTimeoutMillis, TimeUnit.MILLISECONDS)) {
+                log.warn("포인트 내역 버퍼가 가득 차 직접 저장: userId={}", point.getUserId());
+                requiresNew.executeWithoutResult(status -> pointRepository.save(point));
+                return;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            requiresNew.executeWithoutResult(status -> pointRepository.save(point));
+            return;
+        }
+        if (durable) {
+            await(pending);
+        }
+    }
+
+    private void await(Pending pending) {
+        try {
+            pending.future.get(awaitTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("포인트 내역 저장에 실패했습니다", e.getCause());
+        } catch (TimeoutException e) {
+            throw new IllegalStateException("포인트 내역 저장이 지연되고 있습니다");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("포인트 내역 저장 대기가 중단되었습니다");
+        }
+    }
+
+    private void runLoop() {
+        while (running || !buffer.isEmpty()) {
+            try {
+                Pending first = buffer.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                flush(collect(first));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        List<Pending> rest = new ArrayList<>();
+        buffer.drainTo(rest);
+        if (!rest.isEmpty()) {
+            flush(rest);
+        }
+    }
+
+    /**
+     * 첫 기록 도착 후 flush 구간 동안(또는 batchSize까지) 모음
+     */
+    private List<Pending> collect(Pending first) throws InterruptedException {
+        List<Pending> batch = new ArrayList<>(batchSize);
+        batch.add(first);
+        long deadline = System.nanoTime() + flushNanos;
+        while (batch.size() < batchSize) {
+            buffer.drainTo(batch, batchSize - batch.size());
+            long remaining = deadline - System.nanoTime();
+            if (batch.size() >= batchSize || remaining <= 0) {
+                break;
+            }
+            Pending next = buffer.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                break;
+            }
+            batch.add(next);
+        }
+        return batch;
+    }
+
+    void flush(List<Pending> batch) {
+        List<Point> points = batch.stream().map(pending -> pending.point).toList();
+        try {
+            requiresNew.executeWithoutResult(status -> pointRepository.saveAll(points));
+            batch.forEach(pending -> pending.future.complete(null));
+        } catch (RuntimeException batchFailure) {
+            // 한 건 때문에 묶음 전체가 유실되지 않도록 건별로 다시 저장
+            log.warn("포인트 내역 일괄 저장 실패, {}건을 건별로 재시도", batch.size(), batchFailure);
+            batch.forEach(this::saveIndividually);
+        }
+    }
+
+    private void saveIndividually(Pending pending) {
+        try {
+            requiresNew.executeWithoutResult(status -> pointRepository.save(pending.point));
+            pending.future.complete(null);
+        } catch (RuntimeException e) {
+            log.error("포인트 내역 저장 실패: userId={}, type={}, amount={}",
+                    pending.point.getUserId(), pending.point.getPointType(), pending.point.getAmount(), e);
+            pending.future.completeExceptionally(e);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        running = false;
+        if (writeBehind) {
+            try {
+                writer.join(TimeUnit.SECONDS.toMillis(5));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    static final class Pending {
+        private final Point point;
+        private final CompletableFuture<Void> future = new CompletableFuture<>();
+
+        Pending(Point point) {
+            this.point = point;
+        }
+    }
+}
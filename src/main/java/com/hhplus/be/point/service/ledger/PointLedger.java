@@ -0,0 +1,252 @@
+package com.hhplus.be.point.service.ledger;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.hhplus.be.common.exception.InsufficientBalanceException;
+import com.hhplus.be.common.exception.ResourceNotFoundException;
+import com.hhplus.be.point.domain.model.Point;
+import com.hhplus.be.point.domain.model.PointBalanceSnapshot;
+import com.hhplus.be.point.domain.model.PointLedgerDelta;
+import com.hhplus.be.point.domain.repository.PointRepository;
+import com.hhplus.be.point.service.history.PointHistoryWriter;
+import com.hhplus.be.user.domain.model.User;
+import com.hhplus.be.user.domain.repository.UserRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 포인트 원장 (point.ledger.enabled=true일 때만 사용)
+ *
+ * - 충전/사용/환불은 point 행 추가(INSERT)만 하고 users.balance는 바꾸지 않음
+ * - 잔액 = 스냅샷 잔액 + 스냅샷 이후 내역의 증감 합
+ * - 스냅샷 이후 내역이 compact-every건 이상 쌓인 회원은 압축기가 새 스냅샷을 기록
+ * - 스냅샷은 인메모리 캐시에 두므로 잔액 조회는 (user_id, id) 인덱스로 최근 내역 몇 건만 합산
+ *
+ * 충전/환불은 잠금 없이 추가하고(보유 한도는 추가 직전 잔액으로만 검사),
+ * 사용은 회원 행을 FOR UPDATE로 잠가(갱신은 하지 않음) 같은 회원의 사용끼리만 직렬화한다.
+ *
+ * 압축기는 settle-millis보다 오래된 내역까지만 스냅샷에 접으므로,
+ * 그보다 오래 걸리는 트랜잭션의 내역은 스냅샷에서 빠질 수 있다 (트랜잭션 최대 시간보다 길게 설정).
+ * 스냅샷이 없는 회원은 처음 접근할 때 users.balance와 그 시점 마지막 내역 ID로 첫 스냅샷을 저장한다
+ * (원장 모드 전 내역은 users.balance에 이미 반영되어 있으므로 다시 더하지 않음).
+ */
+@Slf4j
+@Component
+public class PointLedger {
+
+    private final PointRepository pointRepository;
+    private final UserRepository userRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final Clock clock;
+    private final boolean enabled;
+    private final int compactEvery;
+    private final Duration settle;
+    private final int maxUsersPerRun;
+    private final Cache<Long, PointBalanceSnapshot> snapshots;
+    // 스냅샷 이후 내역이 compactEvery건 이상 쌓인 회원 → 마지막으로 확인한 건수
+    private final Map<Long, Long> pendingCompaction = new ConcurrentHashMap<>();
+
+    public PointLedger(
+            PointRepository pointRepository,
+            UserRepository userRepository,
+            PointHistoryWriter pointHistoryWriter,
+            PlatformTransactionManager transactionManager,
+            Clock clock,
+            @Value("${point.ledger.enabled:false}") boolean enabled,
+            @Value("${point.ledger.compact-every:100}") int compactEvery,
+            @Value("${point.ledger.settle-millis:10000}") long settleMillis,
+            @Value("${point.ledger.max-users-per-run:500}") int maxUsersPerRun,
+            @Value("${point.ledger.cache-size:100000}") long cacheSize
+    ) {
+        if (enabled && pointHistoryWriter.isWriteBehind()) {
+            throw new IllegalStateException("포인트 원장(point.ledger.enabled)은 포인트 내역 write-behind(point.history.write-behind.enabled)와 함께 사용할 수 없습니다");
+        }
+        this.pointRepository = pointRepository;
+        this.userRepository = userRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.clock = clock;
+        this.enabled = enabled;
+        this.compactEvery = compactEvery;
+        this.settle = Duration.ofMillis(settleMillis);
+        this.maxUsersPerRun = maxUsersPerRun;
+        this.snapshots = Caffeine.newBuilder()
+                .maximumSize(cacheSize)
+                .build();
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 현재 잔액
+     */
+    public int balanceOf(Long userId) {
+        PointBalanceSnapshot snapshot = snapshotOf(userId);
+        PointLedgerDelta delta = pointRepository.sumLedger(userId, snapshot.lastPointId(), Long.MAX_VALUE);
+        track(userId, delta.entries());
+        return snapshot.balanceWith(delta);
+    }
+
+    /**
+     * 충전 내역 추가
+     */
+    public Point charge(Long userId, int amount) {
+        return pointRepository.save(Point.charge(userId, amount, balanceAfterCredit(userId, amount)));
+    }
+
+    /**
+     * 환불 내역 추가
+     */
+    public Point refund(Long userId, int amount) {
+        return pointRepository.save(Point.refund(userId, amount, balanceAfterCredit(userId, amount)));
+    }
+
+    /**
+     * 사용 내역 추가 - 호출 측 트랜잭션 안에서만 (회원 행 잠금을 커밋까지 유지)
+     *
+     * 잠금 후 내역을 잠금 읽기로 합산하므로, 먼저 커밋된 같은 회원의 사용까지 반영한 잔액으로 검사한다.
+     */
+    public Point use(Long userId, int amount) {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            throw new IllegalStateException("포인트 사용은 트랜잭션 안에서만 기록할 수 있습니다");
+        }
+        int baseBalance = userRepository.lockBalance(userId)
+                .orElseThrow(() -> new ResourceNotFoundException("사용자를 찾을 수 없습니다"));
+        PointBalanceSnapshot snapshot = cachedSnapshot(userId);
+        if (snapshot == null) {
+            snapshot = loadSnapshot(userId, baseBalance);
+        }
+        PointLedgerDelta delta = pointRepository.sumLedgerForShare(userId, snapshot.lastPointId());
+        int balance = snapshot.balanceWith(delta);
+        if (balance < amount) {
+            throw new InsufficientBalanceException("잔액이 부족합니다");
+        }
+        track(userId, delta.entries() + 1);
+        return pointRepository.save(Point.use(userId, amount, balance - amount));
+    }
+
+    // 충전/환불 후 잔액 - 동시에 추가되는 다른 충전은 보지 못할 수 있어 내역의 balanceAfter는 참고값
+    private int balanceAfterCredit(Long userId, int amount) {
+        PointBalanceSnapshot snapshot = snapshotOf(userId);
+        PointLedgerDelta delta = pointRepository.sumLedger(userId, snapshot.lastPointId(), Long.MAX_VALUE);
+        long balance = (long) snapshot.balanceWith(delta) + amount;
+        if (balance > User.MAX_BALANCE) {
+            throw User.balanceLimitExceeded();
+        }
+        track(userId, delta.entries() + 1);
+        return (int) balance;
+    }
+
+    /**
+     * 스냅샷 압축 - 쌓인 내역이 많은 회원부터 한 회차 최대 maxUsersPerRun명
+     */
+    @Scheduled(fixedDelayString = "${point.ledger.interval-millis:1000}")
+    public void compact() {
+        if (!enabled || pendingCompaction.isEmpty()) {
+            return;
+        }
+        Instant settledBefore = Instant.now(clock).minus(settle);
+        List<Long> userIds = pendingCompaction.entrySet().stream()
+                .sorted(Map.Entry.<Long, Long>comparingByValue().reversed())
+                .limit(maxUsersPerRun)
+                .map(Map.Entry::getKey)
+                .toList();
+        for (Long userId : userIds) {
+            pendingCompaction.remove(userId);
+            try {
+                transactionTemplate.executeWithoutResult(status -> compact(userId, settledBefore));
+            } catch (RuntimeException e) {
+                log.warn("포인트 잔액 스냅샷 압축 실패: userId={}", userId, e);
+            }
+        }
+    }
+
+    /**
+     * 한 회원의 스냅샷을 settledBefore 이전 내역까지 전진
+     *
+     * 다른 인스턴스가 그 사이 먼저 전진시켰으면 조건부 갱신이 0건이 되어 그대로 둔다.
+     */
+    void compact(Long userId, Instant settledBefore) {
+        PointBalanceSnapshot current = pointRepository.findSnapshot(userId)
+                .orElseGet(() -> seedSnapshot(userId, userRepository.findBalance(userId)
+                        .orElseThrow(() -> new ResourceNotFoundException("사용자를 찾을 수 없습니다"))));
+        OptionalLong upTo = pointRepository.findLastPointIdCreatedBefore(userId, current.lastPointId(), settledBefore);
+        if (upTo.isEmpty()) {
+            return;
+        }
+        PointLedgerDelta delta = pointRepository.sumLedger(userId, current.lastPointId(), upTo.getAsLong());
+        PointBalanceSnapshot next = current.advance(delta, Instant.now(clock));
+        if (pointRepository.advanceSnapshot(next, current.lastPointId())) {
+            snapshots.put(userId, next);
+        }
+    }
+
+    private PointBalanceSnapshot snapshotOf(Long userId) {
+        PointBalanceSnapshot cached = cachedSnapshot(userId);
+        if (cached != null) {
+            return cached;
+        }
+        int baseBalance = userRepository.findBalance(userId)
+                .orElseThrow(() -> new ResourceNotFoundException("사용자를 찾을 수 없습니다"));
+        return loadSnapshot(userId, baseBalance);
+    }
+
+    private PointBalanceSnapshot cachedSnapshot(Long userId) {
+        return snapshots.getIfPresent(userId);
+    }
+
+    // 스냅샷은 앞으로만 전진하고 users.balance는 원장 모드에서 바뀌지 않으므로, 어느 시점에 읽은 값이든 캐시해도 맞다
+    private PointBalanceSnapshot loadSnapshot(Long userId, int baseBalance) {
+        PointBalanceSnapshot loaded = pointRepository.findSnapshot(userId)
+                .orElseGet(() -> seedSnapshot(userId, baseBalance));
+        snapshots.put(userId, loaded);
+        return loaded;
+    }
+
+    /**
+     * 첫 스냅샷 - 지금까지의 내역은 baseBalance(users.balance)에 반영되어 있으므로 마지막 내역 ID에서 시작해 저장
+     *
+     * 다른 인스턴스가 먼저 저장했으면 저장된 스냅샷을 쓰고, 같은 트랜잭션의 읽기 시점 때문에 보이지 않으면
+     * 같은 시점에 계산한 이 스냅샷을 쓴다. 내역이 없는 회원은 저장할 필요 없이 lastPointId = 0에서 시작.
+     */
+    private PointBalanceSnapshot seedSnapshot(Long userId, int baseBalance) {
+        OptionalLong lastPointId = pointRepository.findLastPointId(userId);
+        if (lastPointId.isEmpty()) {
+            return PointBalanceSnapshot.base(userId, baseBalance);
+        }
+        PointBalanceSnapshot seed = new PointBalanceSnapshot(userId, baseBalance, lastPointId.getAsLong(), Instant.now(clock));
+        Boolean inserted = transactionTemplate.execute(status -> pointRepository.advanceSnapshot(seed, 0L));
+        if (Boolean.TRUE.equals(inserted)) {
+            return seed;
+        }
+        return pointRepository.findSnapshot(userId).orElse(seed);
+    }
+
+    /**
+     * 스냅샷 이후 내역 수가 기준 이상이면 압축 대상으로 표시.
+     * 두 배 이상 쌓였으면 다른 인스턴스가 이미 압축했을 수 있으니 캐시도 비워 다음 조회 때 다시 읽는다.
+     */
+    private void track(Long userId, long entries) {
+        if (entries < compactEvery) {
+            return;
+        }
+        pendingCompaction.merge(userId, entries, Math::max);
+        if (entries >= 2L * compactEvery) {
+            snapshots.invalidate(userId);
+        }
+    }
+}
@@ -1,19 +1,19 @@
 package com.hhplus.be.product.controller;
 
+import com.hhplus.be.common.response.CursorPageResponse;
+import com.hhplus.be.product.controller.dto.ChangeStockShardCountRequest;
 import com.hhplus.be.product.controller.dto.ProductDetailResponse;
 import com.hhplus.be.product.controller.dto.ProductListResponse;
 import com.hhplus.be.product.controller.dto.ProductStockResponse;
 import com.hhplus.be.product.controller.dto.TopProductResponse;
 import com.hhplus.be.product.service.ProductService;
+import com.hhplus.be.product.service.dto.ChangeStockShardCountCommand;
 import com.hhplus.be.product.service.dto.ProductDetailQuery;
 import com.hhplus.be.product.service.dto.ProductListQuery;
 import com.hhplus.be.product.service.dto.ProductStockQuery;
 import com.hhplus.be.product.service.dto.TopProductQuery;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
-import org.springframework.data.domain.Pageable;
-import org.springframework.data.web.PageableDefault;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -28,27 +28,22 @@ public class ProductController {
     private final ProductService productService;
 
     /**
-     * 상품 목록 조회
-     * GET /products?page=0&size=20
+     * 상품 목록 조회 (커서 기반)
+     * GET /products?cursor=&size=20
      */
     @GetMapping
-    public ResponseEntity<Page<ProductListResponse>> getProducts(
-            @PageableDefault(size = 20) Pageable pageable
+    public ResponseEntity<CursorPageResponse<ProductListResponse>> getProducts(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false, defaultValue = "20") int size
     ) {
-        var query = new ProductListQuery();
+        var query = new ProductListQuery(cursor, size);
         var result = productService.getProducts(query);
 
-        // 페이징 처리
-        int start = (int) pageable.getOffset();
-        int end = Math.min((start + pageable.getPageSize()), result.products().size());
-
-        var pageContent = result.products().subList(start, end).stream()
+        var content = result.products().stream()
                 .map(ProductListResponse::from)
                 .toList();
 
-        var page = new PageImpl<>(pageContent, pageable, result.products().size());
-
-        return ResponseEntity.ok(page);
+        return ResponseEntity.ok(CursorPageResponse.of(content, result.hasNext(), result.nextCursor()));
     }
 
     /**
@@ -79,6 +74,21 @@ public class ProductController {
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * 재고 분산 행 수 변경
+     * PUT /products/{productId}/stock/shards
+     */
+    @PutMapping("/{productId}/stock/shards")
+    public ResponseEntity<ProductStockResponse> changeStockShardCount(
+            @PathVariable Long productId,
+            @Valid @RequestBody ChangeStockShardCountRequest request
+    ) {
+        var command = new ChangeStockShardCountCommand(productId, request.shardCount());
+        var result = productService.changeStockShardCount(command);
+        var response = ProductStockResponse.from(result);
+        return ResponseEntity.ok(response);
+    }
+
     /**
      * 인기 상품 조회
      * GET /products/top?period=3d&limit=5
@@ -0,0 +1,19 @@
+package com.hhplus.be.product.controller.dto;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+
+/**
+ * 재고 분산 행 수 변경 Request
+ * API: PUT /products/{productId}/stock/shards
+ *
+ * shardCount = 0이면 분산 해제 (product.stock 단일 행으로 복귀)
+ */
+public record ChangeStockShardCountRequest(
+        @NotNull(message = "분산 행 수는 필수입니다")
+        @Min(value = 0, message = "분산 행 수는 0 이상이어야 합니다")
+        @Max(value = 64, message = "분산 행 수는 64 이하여야 합니다")
+        Integer shardCount
+) {
+}
@@ -4,7 +4,7 @@ import com.hhplus.be.product.service.dto.ProductListResult;
 
 /**
  * 상품 목록 조회 Response
- * API: GET /products?page=0&size=20
+ * API: GET /products?cursor=&size=20
  *
  * API 명세 응답 필드:
  * - productId, name, description, price
@@ -0,0 +1,10 @@
+package com.hhplus.be.product.domain.model;
+
+import java.time.LocalDate;
+
+/**
+ * 상품별 일 판매량 롤업 (product_sales_daily)
+ * quantity는 롤업 반영 시 증감분(delta)으로도 사용
+ */
+public record ProductSalesDaily(Long productId, LocalDate salesDate, int quantity) {
+}
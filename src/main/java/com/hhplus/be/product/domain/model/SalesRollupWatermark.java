@@ -0,0 +1,16 @@
+package com.hhplus.be.product.domain.model;
+
+import java.time.Instant;
+
+/**
+ * 일 판매량 롤업 진행 상태
+ *
+ * - coveredFrom: 롤업이 시작된 시점(일 경계). 이전 판매는 롤업에 없음
+ * - processedUntil: 이 시점 이전에 결제/환불된 주문은 롤업에 반영 완료
+ */
+public record SalesRollupWatermark(Instant coveredFrom, Instant processedUntil) {
+
+    public SalesRollupWatermark advanceTo(Instant processedUntil) {
+        return new SalesRollupWatermark(coveredFrom, processedUntil);
+    }
+}
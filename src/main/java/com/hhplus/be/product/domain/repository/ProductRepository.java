@@ -2,7 +2,9 @@ package com.hhplus.be.product.domain.repository;
 
 import com.hhplus.be.product.domain.model.Product;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -11,7 +13,8 @@ import java.util.Optional;
  *
  * API 명세 기반 메서드:
  * - findById: GET /products/{productId}
- * - findAll: GET /products?page=0&size=20
+ * - findAllAfter: GET /products?cursor=&size=20
+ * - findAllByIds: 장바구니/주문/인기상품 등 다건 조회
  */
 public interface ProductRepository {
     /**
@@ -19,11 +22,55 @@ public interface ProductRepository {
      */
     Optional<Product> findById(Long productId);
 
+    /**
+     * 상품 ID 목록으로 일괄 조회 (IN 쿼리)
+     * 존재하지 않는 ID는 결과에서 빠지며, 결과 순서는 보장하지 않음
+     */
+    List<Product> findAllByIds(Collection<Long> productIds);
+
+    /**
+     * 상품 ID 목록으로 캐시를 거치지 않고 DB에서 일괄 조회
+     * 조회한 재고를 기준값으로 삼는 경우(재고 레인 카운터 적재 등)에만 사용
+     */
+    List<Product> findAllByIdsFromDb(Collection<Long> productIds);
+
     /**
      * 전체 상품 목록 조회
      */
     List<Product> findAll();
 
+    /**
+     * 상품 목록 커서 조회 (ID 오름차순 keyset)
+     * lastProductId보다 큰 ID의 상품을 최대 limit건 조회
+     */
+    List<Product> findAllAfter(Long lastProductId, int limit);
+
+    /**
+     * 조건부 재고 차감 (상품ID → 차감 수량)
+     * 상품별로 stock >= 수량일 때만 차감하며, 차감하지 못한 상품 ID 목록을 반환
+     * (재고 부족 또는 상품 없음 - 호출 측에서 트랜잭션을 롤백해야 함)
+     * orderId는 재고 분산 상품에서 차감할 분산 행을 고르는 라우팅 키
+     */
+    List<Long> decreaseStocks(Long orderId, Map<Long, Integer> quantityByProductId);
+
+    /**
+     * 조건 없는 재고 차감 (상품ID → 차감 수량, 재고가 음수가 될 수 있음)
+     * 이미 확정된 차감을 DB에 기록할 때만 사용하며, 차감하지 못한(존재하지 않는) 상품 ID 목록을 반환
+     */
+    List<Long> forceDecreaseStocks(Map<Long, Integer> quantityByProductId);
+
+    /**
+     * 재고 증가 (상품ID → 증가 수량)
+     * 증가하지 못한(존재하지 않는) 상품 ID 목록을 반환
+     */
+    List<Long> increaseStocks(Long orderId, Map<Long, Integer> quantityByProductId);
+
+    /**
+     * 재고 분산 행 수 변경 (0이면 분산 해제)
+     * 현재 총 재고를 새 분산 행에 균등 분할하며, 상품이 없으면 빈 Optional
+     */
+    Optional<Product> changeStockShardCount(Long productId, int shardCount);
+
     /**
      * 상품 저장 (생성/수정)
      */
@@ -0,0 +1,36 @@
+package com.hhplus.be.product.domain.repository;
+
+import com.hhplus.be.product.domain.model.ProductSalesDaily;
+import com.hhplus.be.product.domain.model.SalesRollupWatermark;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 상품 일 판매량 롤업 Repository 인터페이스 (Domain Layer)
+ */
+public interface ProductSalesDailyRepository {
+
+    /**
+     * (상품, 일자)별 판매량 증감 반영 (없으면 생성)
+     */
+    void addQuantities(List<ProductSalesDaily> deltas);
+
+    /**
+     * [from, to) 일자 구간의 상품별 판매량 합계
+     */
+    Map<Long, Integer> sumQuantityByProduct(LocalDate from, LocalDate to);
+
+    Optional<SalesRollupWatermark> findWatermark();
+
+    /**
+     * 롤업 진행 상태 조회 + 행 잠금 (동시에 여러 인스턴스가 같은 구간을 반영하지 않도록)
+     */
+    Optional<SalesRollupWatermark> findWatermarkForUpdate();
+
+    void saveWatermark(SalesRollupWatermark watermark);
+
+    void deleteAll();
+}
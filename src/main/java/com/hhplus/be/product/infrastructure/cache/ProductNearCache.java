@@ -0,0 +1,140 @@
+package com.hhplus.be.product.infrastructure.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.hhplus.be.product.domain.model.Product;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 상품 단건 조회용 인프로세스 near cache
+ *
+ * - 크기 제한 + W-TinyLFU(접근 빈도 기반) eviction, 엔트리별 TTL
+ * - Product.version이 더 낮은 스냅샷은 이미 캐시된 최신 스냅샷을 덮어쓰지 못함
+ * - 무효화마다 상품별 세대(generation)를 올리고, 조회 전에 받아 둔 세대 이후 무효화된 상품의 스냅샷은 적재하지 않음
+ *   (키가 비어 있을 때 커밋 전에 읽은 이전 값이 들어오는 경우 대비)
+ * - 저장 시 즉시 무효화 + 트랜잭션 종료 후 한 번 더 무효화
+ *   (커밋 전 다른 트랜잭션이 이전 값을 다시 적재하는 경우 대비)
+ * - hit/miss/eviction 지표는 Micrometer(cache.* / product.near-cache)로 노출
+ *
+ * 도메인 Product는 가변 객체이므로 저장/반환 모두 복사본을 사용한다.
+ */
+@Component
+public class ProductNearCache {
+    static final String CACHE_NAME = "product.near-cache";
+
+    private final Cache<Long, Product> cache;
+    private final AtomicLong generation = new AtomicLong();
+    // 상품별 마지막 무효화 세대 (크기 제한으로 밀려난 세대는 evictedFloor로 보수적으로 대체)
+    private final Cache<Long, Long> evictedGenerations;
+    private final AtomicLong evictedFloor = new AtomicLong();
+
+    public ProductNearCache(
+            @Value("${product.cache.maximum-size:10000}") long maximumSize,
+            @Value("${product.cache.ttl-seconds:30}") long ttlSeconds,
+            MeterRegistry meterRegistry
+    ) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+        this.evictedGenerations = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .<Long, Long>evictionListener((productId, evictedAt, cause) -> evictedFloor.accumulateAndGet(evictedAt, Math::max))
+                .build();
+    }
+
+    public Optional<Product> get(Long productId) {
+        return Optional.ofNullable(cache.getIfPresent(productId))
+                .map(ProductNearCache::copyOf);
+    }
+
+    /**
+     * DB 조회 직전에 받아 put에 넘기는 현재 세대
+     */
+    public long generation() {
+        return generation.get();
+    }
+
+    /**
+     * DB에서 읽은 스냅샷 적재
+     * 조회 전 세대(loadedAt) 이후 무효화된 상품이면 버리고, 이미 더 높은 version이 캐시되어 있으면 유지
+     */
+    public void put(Product product, long loadedAt) {
+        Product loaded = copyOf(product);
+        cache.asMap().compute(product.getId(), (productId, cached) -> {
+            if (evictedSince(productId, loadedAt)) {
+                return cached;
+            }
+            return cached == null || loaded.getVersion() >= cached.getVersion() ? loaded : cached;
+        });
+    }
+
+    public void evict(Long productId) {
+        invalidate(productId);
+        evictAfterCompletion(() -> invalidate(productId));
+    }
+
+    public void evictAll(Collection<Long> productIds) {
+        productIds.forEach(this::invalidate);
+        evictAfterCompletion(() -> productIds.forEach(this::invalidate));
+    }
+
+    public void clear() {
+        evictedFloor.accumulateAndGet(generation.incrementAndGet(), Math::max);
+        cache.invalidateAll();
+    }
+
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    // 세대를 먼저 기록한 뒤 비워야, 그 사이 적재(compute)가 들어와도 기록을 보거나 곧바로 지워짐
+    private void invalidate(Long productId) {
+        evictedGenerations.put(productId, generation.incrementAndGet());
+        cache.invalidate(productId);
+    }
+
+    // 기록이 크기 제한으로 밀려났으면 evictionListener가 먼저 올려 둔 evictedFloor로 판단
+    private boolean evictedSince(Long productId, long loadedAt) {
+        Long evictedAt = evictedGenerations.getIfPresent(productId);
+        return (evictedAt != null && evictedAt > loadedAt) || evictedFloor.get() > loadedAt;
+    }
+
+    private void evictAfterCompletion(Runnable eviction) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                eviction.run();
+            }
+        });
+    }
+
+    private static Product copyOf(Product product) {
+        return Product.reconstruct(
+                product.getId(),
+                product.getName(),
+                product.getDescription(),
+                product.getPrice(),
+                product.getStock(),
+                product.getVersion(),
+                product.getCreatedAt(),
+                product.getUpdatedAt()
+        );
+    }
+}
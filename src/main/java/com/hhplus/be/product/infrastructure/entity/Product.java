@@ -38,6 +38,11 @@ public class Product {
     @Version
     private int version;
 
+    // 재고 분산 행 수 (0이면 stock 컬럼이 실제 재고, 1 이상이면 product_stock_shard 합계가 실제 재고)
+    // 분산 설정 변경 시에만 JDBC로 갱신하므로 엔티티 저장에서는 제외
+    @Column(nullable = false, insertable = false, updatable = false, columnDefinition = "INT NOT NULL DEFAULT 0")
+    private int stockShardCount;
+
     @Column(nullable = false, updatable = false)
     private Instant createdAt;
 
@@ -0,0 +1,43 @@
+package com.hhplus.be.product.infrastructure.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * 상품 일 판매량 롤업 JPA Entity
+ * 행 갱신은 ProductSalesDailyJpaRepository.upsertQuantity(native upsert)로만 수행
+ */
+@Entity
+@Table(
+    name = "product_sales_daily",
+    uniqueConstraints = {
+        @UniqueConstraint(name = "uk_product_sales_daily", columnNames = {"product_id", "sales_date"})
+    },
+    indexes = {
+        // 기간 합계 조회: sales_date 범위 + 커버링
+        @Index(name = "idx_product_sales_daily_date", columnList = "sales_date, product_id, quantity")
+    }
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+public class ProductSalesDaily {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "product_id", nullable = false)
+    private Long productId;
+
+    @Column(name = "sales_date", nullable = false)
+    private LocalDate salesDate;
+
+    @Column(nullable = false)
+    private int quantity;
+}
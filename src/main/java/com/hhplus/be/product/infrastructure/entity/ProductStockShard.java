@@ -0,0 +1,38 @@
+package com.hhplus.be.product.infrastructure.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 상품 재고 분산 행 JPA Entity
+ * 재고 분산(sharded stock) 모드 상품은 재고를 N개 행에 나눠 보관하고, 합계가 실제 재고
+ * 행 변경은 ProductStockShardStore(JDBC)로만 수행
+ */
+@Entity
+@Table(
+    name = "product_stock_shard",
+    uniqueConstraints = {
+        @UniqueConstraint(name = "uk_product_stock_shard", columnNames = {"product_id", "shard_no"})
+    }
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+public class ProductStockShard {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "product_id", nullable = false)
+    private Long productId;
+
+    @Column(name = "shard_no", nullable = false)
+    private int shardNo;
+
+    @Column(nullable = false)
+    private int stock;
+}
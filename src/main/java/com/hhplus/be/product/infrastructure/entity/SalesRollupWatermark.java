@@ -0,0 +1,30 @@
+package com.hhplus.be.product.infrastructure.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+/**
+ * 일 판매량 롤업 진행 상태 JPA Entity (단일 행, id = 1)
+ */
+@Entity
+@Table(name = "product_sales_rollup_watermark")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+public class SalesRollupWatermark {
+    public static final long SINGLETON_ID = 1L;
+
+    @Id
+    private Long id;
+
+    @Column(nullable = false)
+    private Instant coveredFrom;
+
+    @Column(nullable = false)
+    private Instant processedUntil;
+}
@@ -16,13 +16,19 @@ public class ProductMapper {
         if (entity == null) {
             return null;
         }
+        return toDomain(entity, entity.getStock());
+    }
 
+    /**
+     * JPA Entity → Domain Model (재고 분산 상품: 분산 행 합계를 재고로 사용)
+     */
+    public com.hhplus.be.product.domain.model.Product toDomain(Product entity, int stock) {
         return com.hhplus.be.product.domain.model.Product.reconstruct(
                 entity.getId(),
                 entity.getName(),
                 entity.getDescription(),
                 entity.getPrice(),
-                entity.getStock(),
+                stock,
                 entity.getVersion(),
                 entity.getCreatedAt(),
                 entity.getUpdatedAt()
@@ -44,6 +50,7 @@ public class ProductMapper {
                 domain.getPrice(),
                 domain.getStock(),
                 domain.getVersion(),
+                0, // stockShardCount: insertable/updatable = false
                 domain.getCreatedAt(),
                 domain.getUpdatedAt()
         );
@@ -1,12 +1,17 @@
 package com.hhplus.be.product.infrastructure.repository;
 
 import com.hhplus.be.product.infrastructure.entity.Product;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 
+import java.util.List;
+
 /**
  * 상품 JPA Repository (Infrastructure Layer)
  * Spring Data JPA가 자동 구현
  */
 public interface ProductJpaRepository extends JpaRepository<Product, Long> {
 
+    // PK 인덱스를 타는 keyset 조회: WHERE id > ? ORDER BY id LIMIT ?
+    List<Product> findByIdGreaterThanOrderByIdAsc(Long id, Limit limit);
 }
@@ -1,35 +1,272 @@
 package com.hhplus.be.product.infrastructure.repository;
 
 import com.hhplus.be.product.domain.model.Product;
+import com.hhplus.be.product.infrastructure.cache.ProductNearCache;
 import com.hhplus.be.product.infrastructure.mapper.ProductMapper;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Repository;
 
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.TreeMap;
 import java.util.stream.Collectors;
 
 /**
  * ProductRepository 구현체 (Infrastructure Layer)
  * Domain ↔ JPA Entity 변환 처리
+ *
+ * 단건/다건 조회는 ProductNearCache를 먼저 확인하는 read-through 방식
+ * 재고 증감은 엔티티 merge 없이 조건부 UPDATE를 JDBC 배치로 실행
+ * 재고 분산(stockShardCount >= 1) 상품은 product.stock 대신 ProductStockShardStore의 분산 행 합계가 실제 재고
+ *
+ * 분산 여부는 잠금 없는 스냅샷으로 고르므로, product.stock UPDATE는 stock_shard_count = 0일 때만 반영하고
+ * 그 사이 분산 설정이 바뀐 상품은 현재 분산 행(또는 product.stock)으로 다시 처리한다.
  */
 @Repository
 @RequiredArgsConstructor
 public class ProductRepositoryImpl implements com.hhplus.be.product.domain.repository.ProductRepository {
 
+    // IN 절 파라미터 수 상한 (쿼리 파싱 비용/패킷 크기 제한 대비)
+    private static final int IN_CLAUSE_CHUNK_SIZE = 1000;
+
+    // 재고가 충분할 때만 차감 - 행 잠금은 UPDATE 한 번 동안만 유지
+    // version도 올려 기존 엔티티 save(@Version) 경로와 near cache 버전 비교가 어긋나지 않게 함
+    // 분산 상품이면 product.stock은 실제 재고가 아니므로 반영하지 않음 (stock_shard_count = 0)
+    private static final String DECREASE_STOCK_SQL =
+            "UPDATE product SET stock = stock - ?, version = version + 1, updated_at = ? WHERE id = ? AND stock >= ? AND stock_shard_count = 0";
+    private static final String FORCE_DECREASE_STOCK_SQL =
+            "UPDATE product SET stock = stock - ?, version = version + 1, updated_at = ? WHERE id = ? AND stock_shard_count = 0";
+    private static final String INCREASE_STOCK_SQL =
+            "UPDATE product SET stock = stock + ?, version = version + 1, updated_at = ? WHERE id = ? AND stock_shard_count = 0";
+
     private final ProductJpaRepository productJpaRepository;
     private final ProductMapper productMapper;
+    private final ProductNearCache productNearCache;
+    private final JdbcTemplate jdbcTemplate;
+    private final ProductStockShardStore productStockShardStore;
+    private final ProductStockShardJpaRepository productStockShardJpaRepository;
 
     @Override
     public Optional<Product> findById(Long productId) {
-        return productJpaRepository.findById(productId)
-                .map(productMapper::toDomain);
+        var cached = productNearCache.get(productId);
+        if (cached.isPresent()) {
+            return cached;
+        }
+
+        long generation = productNearCache.generation();
+        var loaded = productJpaRepository.findById(productId)
+                .map(entity -> toDomains(List.of(entity)).get(0));
+        loaded.ifPresent(product -> productNearCache.put(product, generation));
+        return loaded;
+    }
+
+    @Override
+    public List<Product> findAllByIds(Collection<Long> productIds) {
+        List<Product> result = new ArrayList<>(productIds.size());
+        List<Long> misses = new ArrayList<>();
+        for (Long productId : new LinkedHashSet<>(productIds)) {
+            productNearCache.get(productId).ifPresentOrElse(result::add, () -> misses.add(productId));
+        }
+
+        // 캐시 miss만 청크 단위 IN 쿼리로 조회
+        for (int from = 0; from < misses.size(); from += IN_CLAUSE_CHUNK_SIZE) {
+            List<Long> chunk = misses.subList(from, Math.min(from + IN_CLAUSE_CHUNK_SIZE, misses.size()));
+            long generation = productNearCache.generation();
+            toDomains(productJpaRepository.findAllById(chunk))
+                    .forEach(product -> {
+                        productNearCache.put(product, generation);
+                        result.add(product);
+                    });
+        }
+        return result;
+    }
+
+    @Override
+    public List<Product> findAllByIdsFromDb(Collection<Long> productIds) {
+        List<Long> ids = new ArrayList<>(new LinkedHashSet<>(productIds));
+        List<Product> result = new ArrayList<>(ids.size());
+        for (int from = 0; from < ids.size(); from += IN_CLAUSE_CHUNK_SIZE) {
+            List<Long> chunk = ids.subList(from, Math.min(from + IN_CLAUSE_CHUNK_SIZE, ids.size()));
+            result.addAll(toDomains(productJpaRepository.findAllById(chunk)));
+        }
+        return result;
     }
 
     @Override
     public List<Product> findAll() {
-        return productJpaRepository.findAll().stream()
-                .map(productMapper::toDomain)
+        return toDomains(productJpaRepository.findAll());
+    }
+
+    @Override
+    public List<Product> findAllAfter(Long lastProductId, int limit) {
+        return toDomains(productJpaRepository.findByIdGreaterThanOrderByIdAsc(lastProductId, Limit.of(limit)));
+    }
+
+    @Override
+    public List<Long> decreaseStocks(Long orderId, Map<Long, Integer> quantityByProductId) {
+        if (quantityByProductId.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, List<ProductStockShardStore.ShardStock>> shardsByProductId =
+                productStockShardStore.findShards(quantityByProductId.keySet());
+
+        List<Long> failed = new ArrayList<>();
+        for (Long productId : executeStockBatch(DECREASE_STOCK_SQL, withoutShards(quantityByProductId, shardsByProductId), true)) {
+            // 재고 부족이거나 스냅샷 이후 분산 상품이 됨 → 현재 분산 행을 잠가 차감 (분산 행이 없으면 재고 부족)
+            if (!productStockShardStore.drain(productId, quantityByProductId.get(productId))) {
+                failed.add(productId);
+            }
+        }
+        // 분산 행에서 차감하지 못한 상품은 스냅샷 이후 분산이 해제됐을 수 있으므로 product.stock에서 다시 시도
+        Map<Long, Integer> shardFailed = new HashMap<>();
+        new TreeMap<>(shardsByProductId).forEach((productId, shards) -> {
+            if (!productStockShardStore.decrease(orderId, productId, quantityByProductId.get(productId), shards)) {
+                shardFailed.put(productId, quantityByProductId.get(productId));
+            }
+        });
+        failed.addAll(executeStockBatch(DECREASE_STOCK_SQL, shardFailed, true));
+        productNearCache.evictAll(quantityByProductId.keySet());
+        return failed;
+    }
+
+    @Override
+    public List<Long> forceDecreaseStocks(Map<Long, Integer> quantityByProductId) {
+        if (quantityByProductId.isEmpty()) {
+            return List.of();
+        }
+        List<Long> failed = new ArrayList<>();
+        for (Long productId : executeStockBatch(FORCE_DECREASE_STOCK_SQL, quantityByProductId, false)) {
+            // 분산 상품은 분산 행에서 차감 (분산 행도 없으면 상품 없음)
+            if (!productStockShardStore.forceDecrease(productId, quantityByProductId.get(productId))) {
+                failed.add(productId);
+            }
+        }
+        productNearCache.evictAll(quantityByProductId.keySet());
+        return failed;
+    }
+
+    @Override
+    public List<Long> increaseStocks(Long orderId, Map<Long, Integer> quantityByProductId) {
+        if (quantityByProductId.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, List<ProductStockShardStore.ShardStock>> shardsByProductId =
+                productStockShardStore.findShards(quantityByProductId.keySet());
+
+        List<Long> failed = new ArrayList<>();
+        for (Long productId : executeStockBatch(INCREASE_STOCK_SQL, withoutShards(quantityByProductId, shardsByProductId), false)) {
+            // 스냅샷 이후 분산 상품이 됨 → 현재 분산 행에 증가 (분산 행도 없으면 상품 없음)
+            if (!productStockShardStore.increase(orderId, productId, quantityByProductId.get(productId), List.of())) {
+                failed.add(productId);
+            }
+        }
+        // 스냅샷 이후 분산이 해제된 상품은 product.stock에 증가
+        Map<Long, Integer> unsharded = new HashMap<>();
+        new TreeMap<>(shardsByProductId).forEach((productId, shards) -> {
+            if (!productStockShardStore.increase(orderId, productId, quantityByProductId.get(productId), shards)) {
+                unsharded.put(productId, quantityByProductId.get(productId));
+            }
+        });
+        failed.addAll(executeStockBatch(INCREASE_STOCK_SQL, unsharded, false));
+        productNearCache.evictAll(quantityByProductId.keySet());
+        return failed;
+    }
+
+    @Override
+    public Optional<Product> changeStockShardCount(Long productId, int shardCount) {
+        // product 행을 먼저 잠가 동시 분산 설정 변경/비분산 차감과 직렬화
+        List<int[]> rows = jdbcTemplate.query(
+                "SELECT stock, stock_shard_count FROM product WHERE id = ? FOR UPDATE",
+                (rs, rowNum) -> new int[]{rs.getInt("stock"), rs.getInt("stock_shard_count")},
+                productId);
+        if (rows.isEmpty()) {
+            return Optional.empty();
+        }
+        int currentShardCount = rows.get(0)[1];
+        int total = currentShardCount > 0 ? productStockShardStore.lockAndSum(productId) : rows.get(0)[0];
+
+        productStockShardStore.replaceShards(productId, shardCount > 0 ? split(total, shardCount) : new int[0]);
+        jdbcTemplate.update(
+                "UPDATE product SET stock = ?, stock_shard_count = ?, version = version + 1, updated_at = ? WHERE id = ?",
+                total, shardCount, Timestamp.from(Instant.now()), productId);
+        productNearCache.evict(productId);
+
+        return productJpaRepository.findById(productId)
+                .map(entity -> productMapper.toDomain(entity, total));
+    }
+
+    /**
+     * 상품별 재고 UPDATE를 한 번의 JDBC 배치로 실행하고, 갱신되지 않은 상품 ID를 반환
+     */
+    private List<Long> executeStockBatch(String sql, Map<Long, Integer> quantityByProductId, boolean guarded) {
+        if (quantityByProductId.isEmpty()) {
+            return List.of();
+        }
+        // 상품 ID 오름차순으로 잠가 여러 상품을 함께 결제하는 트랜잭션끼리 교착 상태 방지
+        List<Map.Entry<Long, Integer>> lines = new ArrayList<>(new TreeMap<>(quantityByProductId).entrySet());
+        Timestamp now = Timestamp.from(Instant.now());
+
+        int[][] updated = jdbcTemplate.batchUpdate(sql, lines, lines.size(), (ps, line) -> {
+            ps.setInt(1, line.getValue());
+            ps.setTimestamp(2, now);
+            ps.setLong(3, line.getKey());
+            if (guarded) {
+                ps.setInt(4, line.getValue());
+            }
+        });
+        productNearCache.evictAll(quantityByProductId.keySet());
+
+        List<Long> failed = new ArrayList<>();
+        for (int i = 0; i < lines.size(); i++) {
+            if (updated[0][i] == 0) {
+                failed.add(lines.get(i).getKey());
+            }
+        }
+        return failed;
+    }
+
+    /**
+     * 분산 행이 있는 상품은 제외한 차감/증가 대상 (product.stock 배치 UPDATE 대상)
+     */
+    private static Map<Long, Integer> withoutShards(Map<Long, Integer> quantityByProductId,
+                                                     Map<Long, ?> shardsByProductId) {
+        Map<Long, Integer> plain = new HashMap<>(quantityByProductId);
+        plain.keySet().removeAll(shardsByProductId.keySet());
+        return plain;
+    }
+
+    // 균등 분할, 나머지는 앞쪽 행부터 1씩 배정
+    private static int[] split(int total, int shardCount) {
+        int[] stocks = new int[shardCount];
+        for (int i = 0; i < shardCount; i++) {
+            stocks[i] = total / shardCount + (i < total % shardCount ? 1 : 0);
+        }
+        return stocks;
+    }
+
+    /**
+     * Entity → Domain 변환 (분산 상품은 분산 행 합계로 재고를 덮어씀)
+     */
+    private List<Product> toDomains(List<com.hhplus.be.product.infrastructure.entity.Product> entities) {
+        List<Long> shardedIds = entities.stream()
+                .filter(entity -> entity.getStockShardCount() > 0)
+                .map(com.hhplus.be.product.infrastructure.entity.Product::getId)
+                .toList();
+        Map<Long, Integer> shardSums = shardedIds.isEmpty() ? Map.of() : productStockShardStore.sumStocks(shardedIds);
+
+        return entities.stream()
+                .map(entity -> shardSums.containsKey(entity.getId())
+                        ? productMapper.toDomain(entity, shardSums.get(entity.getId()))
+                        : productMapper.toDomain(entity))
                 .collect(Collectors.toList());
     }
 
@@ -37,11 +274,14 @@ public class ProductRepositoryImpl implements com.hhplus.be.product.domain.repos
     public Product save(Product product) {
         var entity = productMapper.toEntity(product);
         var savedEntity = productJpaRepository.save(entity);
+        productNearCache.evict(savedEntity.getId());
         return productMapper.toDomain(savedEntity);
     }
 
     @Override
     public void deleteAll() {
+        productStockShardJpaRepository.deleteAllInBatch();
         productJpaRepository.deleteAll();
+        productNearCache.clear();
     }
 }
\ No newline at end of file
@@ -0,0 +1,36 @@
+package com.hhplus.be.product.infrastructure.repository;
+
+import com.hhplus.be.product.infrastructure.entity.ProductSalesDaily;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public interface ProductSalesDailyJpaRepository extends JpaRepository<ProductSalesDaily, Long> {
+
+    // (product_id, sales_date) 유니크 키 기준 누적 (MySQL upsert)
+    @Modifying
+    @Query(value = """
+        INSERT INTO product_sales_daily (product_id, sales_date, quantity)
+        VALUES (:productId, :salesDate, :quantity)
+        ON DUPLICATE KEY UPDATE quantity = quantity + VALUES(quantity)
+    """, nativeQuery = true)
+    int upsertQuantity(@Param("productId") Long productId,
+                       @Param("salesDate") LocalDate salesDate,
+                       @Param("quantity") int quantity);
+
+    @Query("""
+        SELECT new com.hhplus.be.product.infrastructure.repository.ProductSalesSum(
+            d.productId,
+            SUM(d.quantity)
+        )
+        FROM ProductSalesDaily d
+        WHERE d.salesDate >= :from
+        AND d.salesDate < :to
+        GROUP BY d.productId
+    """)
+    List<ProductSalesSum> sumQuantityByProduct(@Param("from") LocalDate from, @Param("to") LocalDate to);
+}
@@ -0,0 +1,73 @@
+package com.hhplus.be.product.infrastructure.repository;
+
+import com.hhplus.be.product.domain.model.ProductSalesDaily;
+import com.hhplus.be.product.domain.model.SalesRollupWatermark;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * ProductSalesDailyRepository 구현체 (Infrastructure Layer)
+ */
+@Repository
+@RequiredArgsConstructor
+public class ProductSalesDailyRepositoryImpl implements com.hhplus.be.product.domain.repository.ProductSalesDailyRepository {
+
+    private final ProductSalesDailyJpaRepository productSalesDailyJpaRepository;
+    private final SalesRollupWatermarkJpaRepository salesRollupWatermarkJpaRepository;
+
+    @Override
+    public void addQuantities(List<ProductSalesDaily> deltas) {
+        for (ProductSalesDaily delta : deltas) {
+            productSalesDailyJpaRepository.upsertQuantity(delta.productId(), delta.salesDate(), delta.quantity());
+        }
+    }
+
+    @Override
+    public Map<Long, Integer> sumQuantityByProduct(LocalDate from, LocalDate to) {
+        return productSalesDailyJpaRepository.sumQuantityByProduct(from, to).stream()
+                .filter(sum -> sum.quantity() > 0)
+                .collect(Collectors.toMap(
+                        ProductSalesSum::productId,
+                        sum -> sum.quantity().intValue()
+                ));
+    }
+
+    @Override
+    public Optional<SalesRollupWatermark> findWatermark() {
+        return salesRollupWatermarkJpaRepository
+                .findById(com.hhplus.be.product.infrastructure.entity.SalesRollupWatermark.SINGLETON_ID)
+                .map(this::toDomain);
+    }
+
+    @Override
+    public Optional<SalesRollupWatermark> findWatermarkForUpdate() {
+        return salesRollupWatermarkJpaRepository
+                .findByIdForUpdate(com.hhplus.be.product.infrastructure.entity.SalesRollupWatermark.SINGLETON_ID)
+                .map(this::toDomain);
+    }
+
+    @Override
+    public void saveWatermark(SalesRollupWatermark watermark) {
+        salesRollupWatermarkJpaRepository.save(new com.hhplus.be.product.infrastructure.entity.SalesRollupWatermark(
+                com.hhplus.be.product.infrastructure.entity.SalesRollupWatermark.SINGLETON_ID,
+                watermark.coveredFrom(),
+                watermark.processedUntil()
+        ));
+    }
+
+    @Override
+    public void deleteAll() {
+        productSalesDailyJpaRepository.deleteAllInBatch();
+        salesRollupWatermarkJpaRepository.deleteAllInBatch();
+    }
+
+    private SalesRollupWatermark toDomain(com.hhplus.be.product.infrastructure.entity.SalesRollupWatermark entity) {
+        return new SalesRollupWatermark(entity.getCoveredFrom(), entity.getProcessedUntil());
+    }
+}
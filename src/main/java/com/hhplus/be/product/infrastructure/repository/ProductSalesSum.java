@@ -0,0 +1,4 @@
+package com.hhplus.be.product.infrastructure.repository;
+
+public record ProductSalesSum(Long productId, Long quantity) {
+}
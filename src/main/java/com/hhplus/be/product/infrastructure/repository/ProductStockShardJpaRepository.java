@@ -0,0 +1,11 @@
+package com.hhplus.be.product.infrastructure.repository;
+
+import com.hhplus.be.product.infrastructure.entity.ProductStockShard;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+/**
+ * 재고 분산 행 JPA Repository
+ * 조회/차감은 ProductStockShardStore(JDBC)에서 수행하고, 여기서는 일괄 삭제만 사용
+ */
+public interface ProductStockShardJpaRepository extends JpaRepository<ProductStockShard, Long> {
+}
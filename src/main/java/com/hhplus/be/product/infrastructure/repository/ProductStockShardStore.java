@@ -0,0 +1,191 @@
+package com.hhplus.be.product.infrastructure.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * 재고 분산 행(product_stock_shard) JDBC 접근
+ *
+ * 차감 순서:
+ *  1) (주문ID, 상품ID) 해시로 고른 행부터 순서대로, 스냅샷상 수량이 충분한 행에 조건부 UPDATE
+ *  2) 어느 한 행으로도 충족되지 않으면 전체 행을 잠그고(FOR UPDATE) 여러 행에서 나눠 차감
+ * → 재고가 충분한 동안에는 동시 결제가 서로 다른 행을 잠가 product 단일 행 경합을 피함
+ */
+@Component
+@RequiredArgsConstructor
+public class ProductStockShardStore {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    record ShardStock(int shardNo, int stock) {}
+
+    /**
+     * 상품별 분산 행 스냅샷 (잠금 없음, shard_no 오름차순)
+     * 분산 모드가 아닌 상품은 결과에 없음
+     */
+    Map<Long, List<ShardStock>> findShards(Collection<Long> productIds) {
+        List<Map.Entry<Long, ShardStock>> rows = namedParameterJdbcTemplate.query(
+                "SELECT product_id, shard_no, stock FROM product_stock_shard WHERE product_id IN (:ids) ORDER BY product_id, shard_no",
+                Map.of("ids", productIds),
+                (rs, rowNum) -> Map.entry(rs.getLong("product_id"), new ShardStock(rs.getInt("shard_no"), rs.getInt("stock")))
+        );
+        return rows.stream().collect(Collectors.groupingBy(
+                Map.Entry::getKey,
+                Collectors.mapping(Map.Entry::getValue, Collectors.toList())
+        ));
+    }
+
+    /**
+     * 상품별 분산 행 재고 합계
+     */
+    Map<Long, Integer> sumStocks(Collection<Long> productIds) {
+        Map<Long, Integer> sums = new HashMap<>();
+        namedParameterJdbcTemplate.query(
+                "SELECT product_id, SUM(stock) AS total FROM product_stock_shard WHERE product_id IN (:ids) GROUP BY product_id",
+                Map.of("ids", productIds),
+                rs -> {
+                    sums.put(rs.getLong("product_id"), rs.getInt("total"));
+                }
+        );
+        return sums;
+    }
+
+    /**
+     * 분산 행에서 quantity만큼 차감 (현재 트랜잭션에서 반영, 실패 시 false)
+     */
+    boolean decrease(Long routingKey, Long productId, int quantity, List<ShardStock> shards) {
+        int start = pick(routingKey, productId, shards.size());
+        for (int i = 0; i < shards.size(); i++) {
+            ShardStock shard = shards.get((start + i) % shards.size());
+            if (shard.stock() < quantity) {
+                continue; // 스냅샷 기준으로 이미 부족한 행은 잠그지 않음
+            }
+            int updated = jdbcTemplate.update(
+                    "UPDATE product_stock_shard SET stock = stock - ? WHERE product_id = ? AND shard_no = ? AND stock >= ?",
+                    quantity, productId, shard.shardNo(), quantity);
+            if (updated == 1) {
+                return true;
+            }
+        }
+        return drain(productId, quantity);
+    }
+
+    /**
+     * 해시로 고른 분산 행에 quantity만큼 증가
+     * 스냅샷 이후 분산 행이 재생성되어 고른 행이 없으면 현재 행을 잠가 다시 고르고,
+     * 분산이 해제되어 행이 하나도 없으면 false (호출 측이 product.stock에 반영)
+     */
+    boolean increase(Long routingKey, Long productId, int quantity, List<ShardStock> shards) {
+        if (!shards.isEmpty() && add(productId, shards.get(pick(routingKey, productId, shards.size())), quantity)) {
+            return true;
+        }
+        List<ShardStock> locked = lockAll(productId);
+        if (locked.isEmpty()) {
+            return false;
+        }
+        return add(productId, locked.get(pick(routingKey, productId, locked.size())), quantity);
+    }
+
+    /**
+     * 전체 분산 행을 잠그고 합계 반환 (분산 설정 변경용)
+     */
+    int lockAndSum(Long productId) {
+        return lockAll(productId).stream().mapToInt(ShardStock::stock).sum();
+    }
+
+    /**
+     * 분산 행 재생성 (stocks.length개, 비어 있으면 분산 해제)
+     */
+    void replaceShards(Long productId, int[] stocks) {
+        jdbcTemplate.update("DELETE FROM product_stock_shard WHERE product_id = ?", productId);
+        if (stocks.length == 0) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO product_stock_shard (product_id, shard_no, stock) VALUES (?, ?, ?)",
+                IntStream.range(0, stocks.length).boxed().toList(),
+                stocks.length,
+                (ps, shardNo) -> {
+                    ps.setLong(1, productId);
+                    ps.setInt(2, shardNo);
+                    ps.setInt(3, stocks[shardNo]);
+                });
+    }
+
+    /**
+     * 전체 분산 행을 잠근 뒤 여러 행에서 나눠 차감 (합계가 부족하거나 분산 행이 없으면 false)
+     * 단일 행으로 충족되지 않을 때, 또는 스냅샷 이후 분산 상품이 된 경우에 사용
+     */
+    boolean drain(Long productId, int quantity) {
+        List<ShardStock> locked = lockAll(productId);
+        if (locked.stream().mapToInt(ShardStock::stock).sum() < quantity) {
+            return false;
+        }
+        int remaining = quantity;
+        for (ShardStock shard : locked) {
+            if (remaining == 0) {
+                break;
+            }
+            int take = Math.min(shard.stock(), remaining);
+            if (take > 0) {
+                jdbcTemplate.update(
+                        "UPDATE product_stock_shard SET stock = stock - ? WHERE product_id = ? AND shard_no = ?",
+                        take, productId, shard.shardNo());
+                remaining -= take;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 전체 분산 행을 잠근 뒤 합계와 관계없이 quantity만큼 차감 (분산 행이 없으면 false)
+     * 남은 행 재고로 다 채우지 못한 수량은 첫 행에서 빼 음수로 남김
+     */
+    boolean forceDecrease(Long productId, int quantity) {
+        List<ShardStock> locked = lockAll(productId);
+        if (locked.isEmpty()) {
+            return false;
+        }
+        int remaining = quantity;
+        for (ShardStock shard : locked) {
+            int take = Math.min(Math.max(shard.stock(), 0), remaining);
+            if (take > 0) {
+                add(productId, shard, -take);
+                remaining -= take;
+            }
+        }
+        if (remaining > 0) {
+            add(productId, locked.get(0), -remaining);
+        }
+        return true;
+    }
+
+    private boolean add(Long productId, ShardStock shard, int quantity) {
+        return jdbcTemplate.update(
+                "UPDATE product_stock_shard SET stock = stock + ? WHERE product_id = ? AND shard_no = ?",
+                quantity, productId, shard.shardNo()) == 1;
+    }
+
+    private List<ShardStock> lockAll(Long productId) {
+        return jdbcTemplate.query(
+                "SELECT shard_no, stock FROM product_stock_shard WHERE product_id = ? ORDER BY shard_no FOR UPDATE",
+                (rs, rowNum) -> new ShardStock(rs.getInt("shard_no"), rs.getInt("stock")),
+                productId);
+    }
+
+    // 같은 주문이라도 상품마다 다른 행으로 퍼지도록 상품ID까지 함께 해시
+    private static int pick(Long routingKey, Long productId, int shardCount) {
+        return Math.floorMod(Objects.hash(routingKey, productId), shardCount);
+    }
+}
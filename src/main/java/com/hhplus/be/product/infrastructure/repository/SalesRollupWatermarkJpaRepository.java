@@ -0,0 +1,18 @@
+package com.hhplus.be.product.infrastructure.repository;
+
+import com.hhplus.be.product.infrastructure.entity.SalesRollupWatermark;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Optional;
+
+public interface SalesRollupWatermarkJpaRepository extends JpaRepository<SalesRollupWatermark, Long> {
+
+    // SELECT ... FOR UPDATE
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT w FROM SalesRollupWatermark w WHERE w.id = :id")
+    Optional<SalesRollupWatermark> findByIdForUpdate(@Param("id") Long id);
+}
@@ -1,18 +1,26 @@
 package com.hhplus.be.product.service;
 
+import com.hhplus.be.common.exception.BusinessException;
+import com.hhplus.be.common.exception.InvalidInputException;
 import com.hhplus.be.common.exception.ResourceNotFoundException;
+import com.hhplus.be.common.pagination.CursorCodec;
 import com.hhplus.be.orderitem.domain.model.OrderItem;
-import com.hhplus.be.orderitem.domain.repository.OrderItemRepository;
 import com.hhplus.be.product.domain.model.Product;
 import com.hhplus.be.product.domain.repository.ProductRepository;
 import com.hhplus.be.product.service.dto.*;
+import com.hhplus.be.product.service.ranking.ProductSalesRollupService;
+import com.hhplus.be.product.service.ranking.SalesRankingBoard;
+import com.hhplus.be.product.service.stock.StockLaneEngine;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * 상품 Service
@@ -21,16 +29,36 @@ import java.util.Map;
 @Service
 @RequiredArgsConstructor
 public class ProductService {
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final int MAX_STOCK_SHARD_COUNT = 64;
+
     private final ProductRepository productRepository;
-    private final OrderItemRepository orderItemRepository;
+    private final SalesRankingBoard salesRankingBoard;
+    private final ProductSalesRollupService productSalesRollupService;
+    private final StockLaneEngine stockLaneEngine;
 
     /**
-     * 상품 목록 조회
-     * API: GET /products?page=0&size=20
+     * 상품 목록 조회 (커서 기반)
+     * API: GET /products?cursor=&size=20
+     *
+     * ID 오름차순 keyset 조회로 카탈로그 크기와 무관하게 페이지 단위만 읽는다.
+     * size + 1건을 조회해 다음 페이지 존재 여부를 판단 (전체 count 쿼리 없음)
      */
     public ProductListResult getProducts(ProductListQuery query) {
-        List<Product> products = productRepository.findAll();
-        return ProductListResult.from(products);
+        if (query.size() < 1 || query.size() > MAX_PAGE_SIZE) {
+            throw new InvalidInputException("페이지 크기는 1 이상 " + MAX_PAGE_SIZE + " 이하여야 합니다");
+        }
+        long lastProductId = (query.cursor() == null || query.cursor().isBlank())
+                ? 0L
+                : CursorCodec.decodeLong(query.cursor());
+
+        List<Product> products = productRepository.findAllAfter(lastProductId, query.size() + 1);
+
+        boolean hasNext = products.size() > query.size();
+        List<Product> page = hasNext ? products.subList(0, query.size()) : products;
+        String nextCursor = hasNext ? CursorCodec.encode(page.get(page.size() - 1).getId()) : null;
+
+        return ProductListResult.from(page, hasNext, nextCursor);
     }
 
     /**
@@ -53,39 +81,61 @@ public class ProductService {
         return ProductStockResult.from(product);
     }
 
+    /**
+     * 재고 분산 행 수 변경 (핫 상품 운영용)
+     * API: PUT /products/{productId}/stock/shards
+     *
+     * 현재 총 재고를 유지한 채 shardCount개 행으로 재분할 (0이면 분산 해제)
+     * 분산 상품의 차감은 주문마다 다른 행에서 일어나 단일 product 행 잠금 경합이 줄어듦
+     */
+    @Transactional
+    public ProductStockResult changeStockShardCount(ChangeStockShardCountCommand command) {
+        if (command.shardCount() < 0 || command.shardCount() > MAX_STOCK_SHARD_COUNT) {
+            throw new InvalidInputException("분산 행 수는 0 이상 " + MAX_STOCK_SHARD_COUNT + " 이하여야 합니다");
+        }
+        if (stockLaneEngine.isEnabled()) {
+            // 레인이 재고 카운터를 소유하는 동안 DB 재고를 직접 재분할하면 카운터와 어긋남
+            throw new BusinessException("재고 레인 사용 중에는 분산 설정을 변경할 수 없습니다", "STOCK_LANES_ENABLED");
+        }
+        var product = productRepository.changeStockShardCount(command.productId(), command.shardCount())
+                .orElseThrow(() -> new ResourceNotFoundException("상품을 찾을 수 없습니다"));
+        return ProductStockResult.from(product);
+    }
+
     /**
      * 인기 상품 조회 (최근 N일간 CONFIRMED 주문 기준)
      * API: GET /products/top?period=3d&limit=5
      *
-     * 실제 판매량 = ORDER 테이블의 CONFIRMED 상태 주문 기준으로 집계
+     * 집계 윈도우(1/3/7/30일)는 인메모리 판매 랭킹 보드에서 응답하고,
+     * 그 외 기간이거나 보드 재구성 전이면 일 판매량 롤업 + 당일분 집계로 대체
      */
     public TopProductResult getTopProducts(TopProductQuery query) {
         // 1. 최근 N일 계산 (기본 3일)
         int days = parsePeriod(query.period());
-        Instant since = Instant.now().minus(days, ChronoUnit.DAYS);
 
-        // 2. CONFIRMED 주문의 상품별 판매량 집계
-        Map<Long, Integer> salesByProduct = orderItemRepository.countSalesByProductSince(since);
+        // 2. 판매량 Top N 선택 (판매량 내림차순)
+        List<Map.Entry<Long, Integer>> topEntries = salesRankingBoard.supports(days)
+                ? salesRankingBoard.top(days, query.limit())
+                : topSalesFromRollup(days, query.limit());
 
-        // 3. 판매량 Top N 상품 조회
-        List<TopProductResult.ProductItem> items = salesByProduct.entrySet().stream()
-                // 판매량 내림차순 정렬
-                .sorted(Map.Entry.<Long, Integer>comparingByValue().reversed())
-                // 상위 N개 선택
-                .limit(query.limit())
-                // Product 조회 + DTO 변환
-                .map(entry -> {
-                    Long productId = entry.getKey();
-                    int salesCount = entry.getValue();
-                    Product product = productRepository.findById(productId)
-                            .orElseThrow(() -> new ResourceNotFoundException("상품을 찾을 수 없습니다"));
-                    return TopProductResult.ProductItem.from(product, salesCount);
-                })
+        // 3. Top N 상품 일괄 조회 + DTO 변환 (순위 순서 유지)
+        Map<Long, Product> productMap = loadProducts(topEntries.stream().map(Map.Entry::getKey).toList());
+        List<TopProductResult.ProductItem> items = topEntries.stream()
+                .map(entry -> TopProductResult.ProductItem.from(getLoaded(productMap, entry.getKey()), entry.getValue()))
                 .toList();
 
         return new TopProductResult(items);
     }
 
+    private List<Map.Entry<Long, Integer>> topSalesFromRollup(int days, int limit) {
+        Instant since = Instant.now().minus(days, ChronoUnit.DAYS);
+        Map<Long, Integer> salesByProduct = productSalesRollupService.sumSalesSince(since);
+        return salesByProduct.entrySet().stream()
+                .sorted(Map.Entry.<Long, Integer>comparingByValue().reversed())
+                .limit(limit)
+                .toList();
+    }
+
     /**
      * period 파라미터 파싱 (예: "3d" -> 3)
      * 기본값: 3일
@@ -104,28 +154,69 @@ public class ProductService {
 
     /**
      * 여러 상품의 재고 일괄 차감 (UseCase용)
+     *
+     * 상품별 조건부 UPDATE(stock >= 수량)를 한 번의 배치로 실행 - 엔티티 로드/버전 충돌 없음
+     * 차감 실패 상품이 있으면 예외를 던져 결제 트랜잭션 전체를 롤백
+     *  - 상품 없음: 404, 재고 부족: 409(OUT_OF_STOCK)
+     * 재고 분산 상품은 주문 ID로 차감할 분산 행을 고름
+     * 재고 레인이 활성화되어 있으면 DB 대신 레인의 메모리 카운터에서 차감 (DB 반영은 레인이 모아서 처리)
      */
     public void decreaseStocks(List<OrderItem> orderItems) {
-        for (OrderItem orderItem : orderItems) {
-            Product product = productRepository.findById(orderItem.getProductId())
-                    .orElseThrow(() -> new ResourceNotFoundException("상품을 찾을 수 없습니다"));
-            product.decreaseStock(orderItem.getQuantity());
-            productRepository.save(product);  // 변경사항 저장
+        if (orderItems.isEmpty()) {
+            return;
+        }
+        Long orderId = orderItems.get(0).getOrderId();
+        Map<Long, Integer> quantityByProductId = sumQuantityByProduct(orderItems);
+        List<Long> failedProductIds = stockLaneEngine.isEnabled()
+                ? stockLaneEngine.decrease(quantityByProductId)
+                : productRepository.decreaseStocks(orderId, quantityByProductId);
+        if (failedProductIds.isEmpty()) {
+            return;
         }
+
+        // 실패 원인 구분은 실패한 상품만 조회
+        Map<Long, Product> productMap = loadProducts(failedProductIds);
+        failedProductIds.forEach(productId -> getLoaded(productMap, productId));
+        throw new BusinessException("재고가 부족합니다", "OUT_OF_STOCK");
     }
 
     /**
      * 여러 상품의 재고 일괄 복원 (UseCase용)
      */
     public void increaseStocks(List<OrderItem> orderItems) {
-        for (OrderItem item : orderItems) {
-            Product product = productRepository.findById(item.getProductId())
-                    .orElseThrow(() -> new ResourceNotFoundException("상품을 찾을 수 없습니다"));
-
-            product.increaseStock(item.getQuantity());
-            productRepository.save(product);  // 변경사항 저장
+        if (orderItems.isEmpty()) {
+            return;
         }
+        Long orderId = orderItems.get(0).getOrderId();
+        Map<Long, Integer> quantityByProductId = sumQuantityByProduct(orderItems);
+        List<Long> failedProductIds = stockLaneEngine.isEnabled()
+                ? stockLaneEngine.increase(quantityByProductId)
+                : productRepository.increaseStocks(orderId, quantityByProductId);
+        if (!failedProductIds.isEmpty()) {
+            throw new ResourceNotFoundException("상품을 찾을 수 없습니다");
+        }
+    }
+
+    // 같은 상품이 여러 주문 항목에 있으면 수량을 합쳐 한 번에 반영
+    private Map<Long, Integer> sumQuantityByProduct(List<OrderItem> orderItems) {
+        return orderItems.stream()
+                .collect(Collectors.groupingBy(OrderItem::getProductId, Collectors.summingInt(OrderItem::getQuantity)));
     }
 
+    /**
+     * 상품 다건 조회 후 ID 기준 Map 변환
+     * 같은 상품이 여러 항목에 있어도 한 번만 조회
+     */
+    private Map<Long, Product> loadProducts(List<Long> productIds) {
+        return productRepository.findAllByIds(productIds.stream().distinct().toList()).stream()
+                .collect(Collectors.toMap(Product::getId, Function.identity()));
+    }
 
+    private Product getLoaded(Map<Long, Product> productMap, Long productId) {
+        Product product = productMap.get(productId);
+        if (product == null) {
+            throw new ResourceNotFoundException("상품을 찾을 수 없습니다");
+        }
+        return product;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,8 @@
+package com.hhplus.be.product.service.dto;
+
+/**
+ * 재고 분산 행 수 변경 Command
+ * API: PUT /products/{productId}/stock/shards
+ */
+public record ChangeStockShardCountCommand(Long productId, int shardCount) {
+}
@@ -2,8 +2,10 @@ package com.hhplus.be.product.service.dto;
 
 /**
  * 상품 목록 조회 Query
- * API: GET /products?page=0&size=20
+ * API: GET /products?cursor=&size=20
  */
-public record ProductListQuery() {
-    // 페이징은 Pageable로 처리
-}
\ No newline at end of file
+public record ProductListQuery(
+        String cursor,  // 이전 페이지의 nextCursor (첫 페이지는 null)
+        int size        // 페이지 크기
+) {
+}
@@ -6,15 +6,17 @@ import java.util.List;
 
 /**
  * 상품 목록 조회 Result
- * API: GET /products?page=0&size=20
+ * API: GET /products?cursor=&size=20
  */
 public record ProductListResult(
-        List<ProductItem> products
+        List<ProductItem> products,
+        boolean hasNext,
+        String nextCursor
 ) {
-    public static ProductListResult from(List<Product> products) {
+    public static ProductListResult from(List<Product> products, boolean hasNext, String nextCursor) {
         return new ProductListResult(products.stream()
                 .map(ProductItem::from)
-                .toList());
+                .toList(), hasNext, nextCursor);
     }
 
     public record ProductItem(
@@ -32,4 +34,4 @@ public record ProductListResult(
             );
         }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,33 @@
+package com.hhplus.be.product.service.ranking;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 일 판매량 롤업 주기 실행
+ * 청크 단위(청크마다 별도 트랜잭션)로 워터마크를 따라잡을 때까지 반복
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProductSalesRollupJob {
+    private final ProductSalesRollupService productSalesRollupService;
+
+    @Scheduled(
+            initialDelayString = "${product.ranking.rollup.interval-millis:60000}",
+            fixedDelayString = "${product.ranking.rollup.interval-millis:60000}"
+    )
+    public void run() {
+        int chunks = 0;
+        boolean caughtUp = false;
+        while (!caughtUp) {
+            caughtUp = productSalesRollupService.rollupNextChunk();
+            chunks++;
+        }
+        if (chunks > 1) {
+            log.info("Product sales rollup processed {} chunks", chunks);
+        }
+    }
+}
@@ -0,0 +1,146 @@
+package com.hhplus.be.product.service.ranking;
+
+import com.hhplus.be.orderitem.domain.model.ProductSale;
+import com.hhplus.be.orderitem.domain.repository.OrderItemRepository;
+import com.hhplus.be.product.domain.model.ProductSalesDaily;
+import com.hhplus.be.product.domain.model.SalesRollupWatermark;
+import com.hhplus.be.product.domain.repository.ProductSalesDailyRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 상품 일 판매량 롤업 (product_sales_daily)
+ *
+ * 반영 규칙 (워터마크 구간 [from, to) 단위, 증분):
+ *  - 구간 내 결제된 주문(CONFIRMED/REFUNDED): 결제일 행에 +수량
+ *  - 구간 내 환불된 주문(REFUNDED): 원 결제일 행에 -수량
+ *  → 환불 시점은 항상 결제 시점 이후라 같은 주문의 차감이 가산보다 먼저 반영되지 않음
+ *
+ * 워터마크는 now - commitLag 까지만 전진 (결제 트랜잭션이 paidAt 이후에 커밋되는 경우 대비)
+ */
+@Service
+public class ProductSalesRollupService {
+
+    private final ProductSalesDailyRepository productSalesDailyRepository;
+    private final OrderItemRepository orderItemRepository;
+    private final Clock clock;
+    private final Duration commitLag;
+    private final Duration maxChunk;
+    private final int backfillDays;
+
+    public ProductSalesRollupService(
+            ProductSalesDailyRepository productSalesDailyRepository,
+            OrderItemRepository orderItemRepository,
+            Clock clock,
+            @Value("${product.ranking.rollup.commit-lag-seconds:60}") long commitLagSeconds,
+            @Value("${product.ranking.rollup.chunk-hours:24}") long chunkHours,
+            @Value("${product.ranking.rollup.backfill-days:30}") int backfillDays
+    ) {
+        this.productSalesDailyRepository = productSalesDailyRepository;
+        this.orderItemRepository = orderItemRepository;
+        this.clock = clock;
+        this.commitLag = Duration.ofSeconds(commitLagSeconds);
+        this.maxChunk = Duration.ofHours(chunkHours);
+        this.backfillDays = backfillDays;
+    }
+
+    /**
+     * 워터마크 이후 최대 한 청크를 롤업에 반영
+     *
+     * @return 반영 가능한 시점까지 따라잡았으면 true
+     */
+    @Transactional
+    public boolean rollupNextChunk() {
+        Instant target = Instant.now(clock).minus(commitLag);
+        SalesRollupWatermark watermark = productSalesDailyRepository.findWatermarkForUpdate()
+                .orElseGet(this::initialWatermark);
+
+        Instant from = watermark.processedUntil();
+        if (!from.isBefore(target)) {
+            return true;
+        }
+        Instant to = from.plus(maxChunk).isBefore(target) ? from.plus(maxChunk) : target;
+
+        Map<Key, Integer> deltas = new HashMap<>();
+        accumulate(deltas, orderItemRepository.findPaidSalesBetween(from, to), 1);
+        accumulate(deltas, orderItemRepository.findRefundedSalesBetween(from, to), -1);
+
+        productSalesDailyRepository.addQuantities(deltas.entrySet().stream()
+                .filter(entry -> entry.getValue() != 0)
+                .map(entry -> new ProductSalesDaily(entry.getKey().productId(), entry.getKey().salesDate(), entry.getValue()))
+                .toList());
+        productSalesDailyRepository.saveWatermark(watermark.advanceTo(to));
+
+        return !to.isBefore(target);
+    }
+
+    /**
+     * since 이후 CONFIRMED 주문의 상품별 판매량
+     *
+     * 롤업이 완전히 덮는 일자는 product_sales_daily 합계로,
+     * 앞뒤 경계(시작일 일부, 워터마크가 걸친 날 ~ 현재)만 주문 테이블에서 집계한다.
+     * → 기간 길이와 무관하게 원본 스캔은 최대 이틀치
+     */
+    @Transactional(readOnly = true)
+    public Map<Long, Integer> sumSalesSince(Instant since) {
+        Optional<SalesRollupWatermark> watermark = productSalesDailyRepository.findWatermark();
+        if (watermark.isEmpty()) {
+            return orderItemRepository.countSalesByProductSince(since);
+        }
+
+        ZoneId zone = clock.getZone();
+        LocalDate firstFullDay = ceilDay(since, zone);
+        LocalDate coveredFromDay = LocalDate.ofInstant(watermark.get().coveredFrom(), zone);
+        if (firstFullDay.isBefore(coveredFromDay)) {
+            firstFullDay = coveredFromDay;
+        }
+        // 워터마크가 걸친 날은 롤업이 일부만 반영되어 있으므로 원본으로 집계
+        LocalDate partialDay = LocalDate.ofInstant(watermark.get().processedUntil(), zone);
+        if (!firstFullDay.isBefore(partialDay)) {
+            return orderItemRepository.countSalesByProductSince(since);
+        }
+
+        Map<Long, Integer> sales = new HashMap<>(productSalesDailyRepository.sumQuantityByProduct(firstFullDay, partialDay));
+        Instant headEnd = firstFullDay.atStartOfDay(zone).toInstant();
+        if (since.isBefore(headEnd)) {
+            orderItemRepository.countSalesByProductBetween(since, headEnd)
+                    .forEach((productId, quantity) -> sales.merge(productId, quantity, Integer::sum));
+        }
+        orderItemRepository.countSalesByProductSince(partialDay.atStartOfDay(zone).toInstant())
+                .forEach((productId, quantity) -> sales.merge(productId, quantity, Integer::sum));
+        return sales;
+    }
+
+    // 첫 실행: backfillDays 전 자정부터 롤업 시작
+    private SalesRollupWatermark initialWatermark() {
+        ZoneId zone = clock.getZone();
+        Instant coveredFrom = LocalDate.now(clock).minusDays(backfillDays).atStartOfDay(zone).toInstant();
+        return new SalesRollupWatermark(coveredFrom, coveredFrom);
+    }
+
+    private void accumulate(Map<Key, Integer> deltas, List<ProductSale> sales, int sign) {
+        ZoneId zone = clock.getZone();
+        for (ProductSale sale : sales) {
+            Key key = new Key(sale.productId(), LocalDate.ofInstant(sale.paidAt(), zone));
+            deltas.merge(key, sign * sale.quantity(), Integer::sum);
+        }
+    }
+
+    private static LocalDate ceilDay(Instant instant, ZoneId zone) {
+        LocalDate day = LocalDate.ofInstant(instant, zone);
+        return day.atStartOfDay(zone).toInstant().equals(instant) ? day : day.plusDays(1);
+    }
+
+    private record Key(Long productId, LocalDate salesDate) {}
+}
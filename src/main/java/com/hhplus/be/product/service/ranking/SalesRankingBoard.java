@@ -0,0 +1,230 @@
+package com.hhplus.be.product.service.ranking;
+
+import com.hhplus.be.common.outbox.OutboxEventJpaRepository;
+import com.hhplus.be.common.outbox.OutboxStatus;
+import com.hhplus.be.order.domain.event.OrderConfirmedEvent;
+import com.hhplus.be.order.domain.event.OrderRefundedEvent;
+import com.hhplus.be.orderitem.domain.model.ProductSale;
+import com.hhplus.be.orderitem.domain.repository.OrderItemRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 인메모리 판매 랭킹 보드 (슬라이딩 윈도우)
+ *
+ * - 판매량을 분 단위 버킷(epochMinute → 상품별 수량)에 누적
+ * - 설정된 윈도우(기본 1/3/7/30일)별 상품 합계를 증분 유지
+ *   · 판매/환불 시 해당 버킷이 속한 윈도우 합계에 ±수량 반영
+ *   · 매 tick마다 윈도우 밖으로 밀려난 버킷만큼 차감
+ * - 조회는 윈도우 합계에서 힙 기반 Top-K 선택 (DB 집계 없음, 락 없음)
+ * - 기동 시 DB의 CONFIRMED 주문으로 재구성
+ *   같은 스냅샷에서 아직 전달되지 않은(PENDING) 확정/환불 이벤트 ID도 읽어 두고,
+ *   이후 릴레이가 그 이벤트를 전달하면 이미 DB 상태로 반영된 것이므로 건너뜀 (이중 집계 방지)
+ *
+ * 쓰기(기록/tick/재구성)는 synchronized, 윈도우 합계는 ConcurrentHashMap이라
+ * 조회는 약한 일관성으로 락 없이 읽는다.
+ */
+@Slf4j
+@Component
+public class SalesRankingBoard {
+    private static final long MINUTES_PER_DAY = 24 * 60;
+
+    // 판매량 내림차순, 동률이면 상품 ID 오름차순
+    private static final Comparator<Map.Entry<Long, Integer>> RANK_ORDER =
+            Map.Entry.<Long, Integer>comparingByValue().reversed()
+                    .thenComparing(Map.Entry.<Long, Integer>comparingByKey());
+
+    private final OrderItemRepository orderItemRepository;
+    private final OutboxEventJpaRepository outboxEventRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    private final Clock clock;
+    private final int[] windowDays;
+    private final long retentionMinutes;
+
+    private final NavigableMap<Long, Map<Long, Integer>> buckets = new TreeMap<>();
+    private final Map<Integer, Map<Long, Integer>> windowTotals = new HashMap<>();
+    private final Set<Long> rebuiltEventIds = new HashSet<>(); // 재구성 시점에 DB 상태로 이미 반영된 전달 대기 이벤트
+    private long currentMinute;
+    private volatile boolean ready;
+
+    public SalesRankingBoard(
+            OrderItemRepository orderItemRepository,
+            OutboxEventJpaRepository outboxEventRepository,
+            PlatformTransactionManager transactionManager,
+            Clock clock,
+            @Value("${product.ranking.window-days:1,3,7,30}") int[] windowDays
+    ) {
+        this.orderItemRepository = orderItemRepository;
+        this.outboxEventRepository = outboxEventRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.clock = clock;
+        this.windowDays = Arrays.stream(windowDays).distinct().sorted().toArray();
+        this.retentionMinutes = this.windowDays[this.windowDays.length - 1] * MINUTES_PER_DAY;
+        for (int days : this.windowDays) {
+            windowTotals.put(days, new ConcurrentHashMap<>());
+        }
+        this.currentMinute = minuteOf(clock.instant());
+    }
+
+    /**
+     * 해당 기간(일)을 메모리에서 응답할 수 있는지 여부
+     * 재구성 전이거나 설정되지 않은 기간이면 false (호출 측에서 DB 집계로 대체)
+     */
+    public boolean supports(int days) {
+        return ready && windowTotals.containsKey(days);
+    }
+
+    /**
+     * 최근 days일 판매량 상위 limit개 (상품ID → 판매량, 순위순)
+     */
+    public List<Map.Entry<Long, Integer>> top(int days, int limit) {
+        Map<Long, Integer> totals = windowTotals.get(days);
+        if (totals == null) {
+            throw new IllegalArgumentException("집계하지 않는 기간입니다: " + days + "d");
+        }
+        if (limit <= 0) {
+            return List.of();
+        }
+
+        // 크기 limit의 힙에 순위가 가장 낮은 항목을 head로 유지
+        PriorityQueue<Map.Entry<Long, Integer>> heap = new PriorityQueue<>(limit + 1, RANK_ORDER.reversed());
+        for (Map.Entry<Long, Integer> entry : totals.entrySet()) {
+            heap.offer(Map.entry(entry.getKey(), entry.getValue()));
+            if (heap.size() > limit) {
+                heap.poll();
+            }
+        }
+
+        List<Map.Entry<Long, Integer>> ranked = new ArrayList<>(heap);
+        ranked.sort(RANK_ORDER);
+        return ranked;
+    }
+
+    /**
+     * 결제 확정 판매량 반영
+     */
+    public synchronized void record(Long productId, int quantity, Instant paidAt) {
+        apply(productId, quantity, minuteOf(paidAt));
+    }
+
+    /**
+     * 환불된 판매량 차감 (원 결제 시점 버킷에서 차감)
+     */
+    public synchronized void revoke(Long productId, int quantity, Instant paidAt) {
+        apply(productId, -quantity, minuteOf(paidAt));
+    }
+
+    /**
+     * 확정/환불 이벤트 단위 반영 - 재구성 때 이미 DB 상태로 반영된 이벤트면 건너뜀
+     * 반영했으면 true
+     */
+    public synchronized boolean applyEvent(Long eventId, Runnable apply) {
+        if (rebuiltEventIds.contains(eventId)) {
+            return false;
+        }
+        apply.run();
+        return true;
+    }
+
+    /**
+     * 윈도우 경계 이동: 밀려난 버킷 차감 + 보관 기간 지난 버킷 제거
+     */
+    @Scheduled(fixedDelayString = "${product.ranking.tick-millis:1000}")
+    public synchronized void tick() {
+        advanceTo(minuteOf(clock.instant()));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        rebuild();
+    }
+
+    /**
+     * DB의 CONFIRMED 주문으로 보드 재구성 (기동 시)
+     *
+     * 주문 상태와 Outbox 행은 같은 트랜잭션에서 커밋되므로, 한 읽기 전용 트랜잭션(같은 스냅샷)에서
+     * 판매 기록과 PENDING 이벤트 ID를 함께 읽으면 그 이벤트들의 효과는 이미 판매 기록에 들어 있다.
+     */
+    public synchronized void rebuild() {
+        long nowMinute = minuteOf(clock.instant());
+        buckets.clear();
+        windowTotals.values().forEach(Map::clear);
+        rebuiltEventIds.clear();
+        currentMinute = nowMinute;
+
+        Instant since = Instant.ofEpochSecond((nowMinute - retentionMinutes + 1) * 60);
+        List<ProductSale> sales = readOnlyTransaction.execute(status -> {
+            rebuiltEventIds.addAll(outboxEventRepository.findIdsByStatusAndEventTypes(
+                    OutboxStatus.PENDING, Set.of(OrderConfirmedEvent.TYPE, OrderRefundedEvent.TYPE)));
+            return orderItemRepository.findConfirmedSalesSince(since);
+        });
+        for (ProductSale sale : sales) {
+            apply(sale.productId(), sale.quantity(), minuteOf(sale.paidAt()));
+        }
+        ready = true;
+        log.info("Sales ranking rebuilt: {} sale rows, {} buckets, {} pending events skipped on delivery",
+                sales.size(), buckets.size(), rebuiltEventIds.size());
+    }
+
+    private void apply(Long productId, int delta, long minute) {
+        // 가장 긴 윈도우 밖의 판매는 어떤 랭킹에도 포함되지 않음
+        if (minute <= currentMinute - retentionMinutes) {
+            return;
+        }
+        addTo(buckets.computeIfAbsent(minute, m -> new HashMap<>()), productId, delta);
+        for (int days : windowDays) {
+            if (minute > currentMinute - days * MINUTES_PER_DAY) {
+                addTo(windowTotals.get(days), productId, delta);
+            }
+        }
+    }
+
+    private void advanceTo(long nowMinute) {
+        if (nowMinute <= currentMinute) {
+            return;
+        }
+        for (int days : windowDays) {
+            long span = days * MINUTES_PER_DAY;
+            Map<Long, Integer> totals = windowTotals.get(days);
+            // (이전 경계, 새 경계] 구간의 버킷이 윈도우에서 빠짐
+            buckets.subMap(currentMinute - span, false, nowMinute - span, true).values()
+                    .forEach(bucket -> bucket.forEach((productId, quantity) -> addTo(totals, productId, -quantity)));
+        }
+        buckets.headMap(nowMinute - retentionMinutes, true).clear();
+        currentMinute = nowMinute;
+    }
+
+    // 0 이하가 되면 엔트리 제거 (랭킹 대상에서 제외)
+    private static void addTo(Map<Long, Integer> totals, Long productId, int delta) {
+        totals.compute(productId, (id, current) -> {
+            int sum = (current == null ? 0 : current) + delta;
+            return sum > 0 ? sum : null;
+        });
+    }
+
+    private static long minuteOf(Instant instant) {
+        return Math.floorDiv(instant.getEpochSecond(), 60);
+    }
+}
@@ -0,0 +1,50 @@
+package com.hhplus.be.product.service.ranking;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hhplus.be.common.outbox.OutboxEventListener;
+import com.hhplus.be.common.outbox.OutboxMessage;
+import com.hhplus.be.order.domain.event.OrderConfirmedEvent;
+import com.hhplus.be.order.domain.event.OrderRefundedEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Set;
+
+/**
+ * 주문 확정/환불 이벤트 → 판매 랭킹 반영
+ * Outbox 릴레이가 커밋된 이벤트만 전달하므로 결제/환불 응답 경로와 분리된다.
+ * 기동 시 재구성은 아직 전달되지 않은 이벤트의 효과까지 DB에서 읽으므로,
+ * 그 이벤트는 Outbox ID로 걸러 한 번만 반영한다 (SalesRankingBoard.applyEvent).
+ */
+@Component
+@RequiredArgsConstructor
+public class SalesRankingEventListener implements OutboxEventListener {
+    private final SalesRankingBoard salesRankingBoard;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public Set<String> eventTypes() {
+        return Set.of(OrderConfirmedEvent.TYPE, OrderRefundedEvent.TYPE);
+    }
+
+    @Override
+    public void onEvent(OutboxMessage message) throws Exception {
+        if (OrderConfirmedEvent.TYPE.equals(message.eventType())) {
+            OrderConfirmedEvent event = objectMapper.readValue(message.payload(), OrderConfirmedEvent.class);
+            salesRankingBoard.applyEvent(message.outboxId(), () -> onOrderConfirmed(event));
+        } else {
+            OrderRefundedEvent event = objectMapper.readValue(message.payload(), OrderRefundedEvent.class);
+            salesRankingBoard.applyEvent(message.outboxId(), () -> onOrderRefunded(event));
+        }
+    }
+
+    void onOrderConfirmed(OrderConfirmedEvent event) {
+        event.items().forEach(item ->
+                salesRankingBoard.record(item.productId(), item.quantity(), event.paidAt()));
+    }
+
+    void onOrderRefunded(OrderRefundedEvent event) {
+        event.items().forEach(item ->
+                salesRankingBoard.revoke(item.productId(), item.quantity(), event.paidAt()));
+    }
+}
@@ -0,0 +1,185 @@
+package com.hhplus.be.product.service.stock;
+
+import com.hhplus.be.product.domain.model.Product;
+import com.hhplus.be.product.domain.repository.ProductRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 재고 레인 (단일 스레드)
+ *
+ * 이 레인에 라우팅된 상품의 재고 카운터를 소유하고, 모든 증감을 자기 스레드에서 순서대로 처리한다.
+ * 카운터는 최초 접근 시 DB에서 적재하며, 누적된 증감(delta)은 주기적으로 또는
+ * 건수 임계치에 도달하면 상품별로 합쳐 한 번에 DB에 반영한다.
+ *
+ * stocks/pendingDeltas는 레인 스레드에서만 접근하므로 동기화하지 않는다.
+ */
+@Slf4j
+class StockLane {
+
+    private final ProductRepository productRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int flushBatchSize;
+    private final ScheduledExecutorService executor;
+
+    private final Map<Long, Integer> stocks = new HashMap<>();
+    private final Map<Long, Integer> pendingDeltas = new HashMap<>();
+    private int pendingMutations;
+
+    StockLane(int laneNo, ProductRepository productRepository, TransactionTemplate transactionTemplate,
+              long flushMillis, int flushBatchSize) {
+        this.productRepository = productRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.flushBatchSize = flushBatchSize;
+        this.executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "stock-lane-" + laneNo);
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.scheduleWithFixedDelay(this::flushQuietly, flushMillis, flushMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 레인 내 상품 전체를 차감하거나 하나도 차감하지 않음
+     * 차감하지 못한 상품 ID(없음/재고 부족)를 반환
+     */
+    CompletableFuture<List<Long>> decrease(Map<Long, Integer> quantityByProductId) {
+        return CompletableFuture.supplyAsync(() -> {
+            List<Long> failed = new ArrayList<>(load(quantityByProductId.keySet()));
+            quantityByProductId.forEach((productId, quantity) -> {
+                Integer stock = stocks.get(productId);
+                if (stock != null && stock < quantity) {
+                    failed.add(productId);
+                }
+            });
+            if (failed.isEmpty()) {
+                quantityByProductId.forEach((productId, quantity) -> apply(productId, -quantity));
+                flushIfFull();
+            }
+            return failed;
+        }, executor);
+    }
+
+    /**
+     * 재고 증가, 존재하지 않는 상품 ID를 반환
+     */
+    CompletableFuture<List<Long>> increase(Map<Long, Integer> quantityByProductId) {
+        return CompletableFuture.supplyAsync(() -> {
+            List<Long> missing = load(quantityByProductId.keySet());
+            quantityByProductId.forEach((productId, quantity) -> {
+                if (!missing.contains(productId)) {
+                    apply(productId, quantity);
+                }
+            });
+            flushIfFull();
+            return missing;
+        }, executor);
+    }
+
+    /**
+     * 남은 증감을 반영하고 레인 종료
+     */
+    void shutdown(long timeoutMillis) {
+        if (executor.isShutdown()) {
+            return;
+        }
+        executor.execute(this::flushQuietly);
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(timeoutMillis, TimeUnit.MILLISECONDS)) {
+                log.warn("재고 레인 종료 대기 시간 초과 - 미반영 증감 {}건", pendingDeltas.size());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // 카운터가 없는 상품만 DB에서 적재, DB에도 없는 상품 ID 반환
+    // near cache의 이전 재고가 기준값이 되면 flush의 조건 없는 차감이 초과 판매로 이어지므로 캐시를 거치지 않음
+    private List<Long> load(Iterable<Long> productIds) {
+        List<Long> unknown = new ArrayList<>();
+        productIds.forEach(productId -> {
+            if (!stocks.containsKey(productId)) {
+                unknown.add(productId);
+            }
+        });
+        if (unknown.isEmpty()) {
+            return unknown;
+        }
+        for (Product product : productRepository.findAllByIdsFromDb(unknown)) {
+            stocks.put(product.getId(), product.getStock());
+        }
+        unknown.removeIf(stocks::containsKey);
+        return unknown;
+    }
+
+    private void apply(Long productId, int delta) {
+        stocks.merge(productId, delta, Integer::sum);
+        pendingDeltas.merge(productId, delta, Integer::sum);
+        pendingMutations++;
+    }
+
+    private void flushIfFull() {
+        if (pendingMutations >= flushBatchSize) {
+            flushQuietly();
+        }
+    }
+
+    /**
+     * 상품별 순 증감을 한 트랜잭션으로 DB에 반영
+     * 실패하면 아무것도 반영되지 않으므로 증감을 그대로 두고 다음 주기에 재시도
+     *
+     * 레인 밖에서 DB 재고가 줄어 조건부 차감이 거부된 상품도, 레인이 이미 호출자에게 확정한 차감이므로
+     * 같은 트랜잭션에서 조건 없이 차감해 기록한다 (DB 재고가 음수가 되면 초과 판매가 드러남).
+     */
+    private void flushQuietly() {
+        if (pendingDeltas.isEmpty()) {
+            return;
+        }
+        Map<Long, Integer> decreases = new HashMap<>();
+        Map<Long, Integer> increases = new HashMap<>();
+        pendingDeltas.forEach((productId, delta) -> {
+            if (delta < 0) {
+                decreases.put(productId, -delta);
+            } else if (delta > 0) {
+                increases.put(productId, delta);
+            }
+        });
+
+        try {
+            List<Long> diverged = new ArrayList<>();
+            List<Long> missing = transactionTemplate.execute(status -> {
+                diverged.addAll(productRepository.decreaseStocks(null, decreases));
+                Map<Long, Integer> forced = new HashMap<>();
+                diverged.forEach(productId -> forced.put(productId, decreases.get(productId)));
+                List<Long> failed = new ArrayList<>(productRepository.forceDecreaseStocks(forced));
+                failed.addAll(productRepository.increaseStocks(null, increases));
+                return failed;
+            });
+            pendingDeltas.clear();
+            pendingMutations = 0;
+
+            // 레인 밖에서 재고가 바뀐 상품은 카운터를 버리고 다음 접근 때 DB에서 다시 적재
+            if (!diverged.isEmpty()) {
+                log.error("재고 레인 반영 - DB 재고와 어긋나 조건 없이 차감한 상품 {}", diverged);
+                diverged.forEach(stocks::remove);
+            }
+            // DB에서 삭제된 상품은 반영할 곳이 없으므로 증감을 버림
+            if (!missing.isEmpty()) {
+                log.error("재고 레인 반영 실패 - 존재하지 않는 상품 {}", missing);
+                missing.forEach(stocks::remove);
+            }
+        } catch (RuntimeException e) {
+            log.warn("재고 레인 반영 실패 - 다음 주기에 재시도 ({}건)", pendingDeltas.size(), e);
+        }
+    }
+}
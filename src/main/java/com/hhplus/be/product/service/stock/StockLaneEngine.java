@@ -0,0 +1,180 @@
+package com.hhplus.be.product.service.stock;
+
+import com.hhplus.be.common.exception.BusinessException;
+import com.hhplus.be.product.domain.repository.ProductRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.stream.IntStream;
+
+/**
+ * 인프로세스 재고 레인 엔진 (product.stock.lanes.enabled=true일 때만 사용)
+ *
+ * - 상품 ID 해시로 고정된 단일 스레드 레인에 라우팅 → 상품별 증감은 한 스레드가 순서대로 처리
+ * - 재고 검사/차감은 메모리 카운터에서 끝나고, DB에는 레인이 모아서 비동기로 반영
+ * - 여러 레인에 걸친 주문은 레인별로 전부/전무 차감 후, 하나라도 실패하면 성공한 레인을 되돌림
+ * - 호출 트랜잭션이 롤백되면 afterCompletion에서 반대 증감을 레인에 제출
+ *
+ * 레인이 재고의 단일 writer라는 전제이므로, 활성화 시 재고를 바꾸는 다른 경로(분산 설정 변경 등)는
+ * 레인 밖에서 쓰지 않아야 한다. 조회 API의 재고는 최대 flush 주기만큼 늦게 보일 수 있다.
+ */
+@Slf4j
+@Component
+public class StockLaneEngine {
+
+    private final boolean enabled;
+    private final long awaitTimeoutMillis;
+    private final List<StockLane> lanes;
+
+    public StockLaneEngine(
+            ProductRepository productRepository,
+            PlatformTransactionManager transactionManager,
+            @Value("${product.stock.lanes.enabled:false}") boolean enabled,
+            @Value("${product.stock.lanes.count:4}") int laneCount,
+            @Value("${product.stock.lanes.flush-millis:50}") long flushMillis,
+            @Value("${product.stock.lanes.flush-batch-size:256}") int flushBatchSize,
+            @Value("${product.stock.lanes.await-timeout-millis:2000}") long awaitTimeoutMillis
+    ) {
+        this.enabled = enabled;
+        this.awaitTimeoutMillis = awaitTimeoutMillis;
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        this.lanes = enabled
+                ? IntStream.range(0, laneCount)
+                        .mapToObj(laneNo -> new StockLane(laneNo, productRepository, transactionTemplate, flushMillis, flushBatchSize))
+                        .toList()
+                : List.of();
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 재고 차감 (전부 또는 전무), 차감하지 못한 상품 ID(없음/재고 부족)를 반환
+     */
+    public List<Long> decrease(Map<Long, Integer> quantityByProductId) {
+        Map<StockLane, Map<Long, Integer>> byLane = splitByLane(quantityByProductId);
+        Map<StockLane, CompletableFuture<List<Long>>> futures = new LinkedHashMap<>();
+        byLane.forEach((lane, quantities) -> futures.put(lane, lane.decrease(quantities)));
+
+        List<Long> failed = new ArrayList<>();
+        List<StockLane> timedOut = new ArrayList<>();
+        List<StockLane> succeeded = new ArrayList<>();
+        futures.forEach((lane, future) -> {
+            List<Long> laneFailed = await(future);
+            if (laneFailed == null) {
+                timedOut.add(lane);
+            } else if (laneFailed.isEmpty()) {
+                succeeded.add(lane);
+            } else {
+                failed.addAll(laneFailed);
+            }
+        });
+
+        if (failed.isEmpty() && timedOut.isEmpty()) {
+            afterRollback(() -> increase(quantityByProductId, false));
+            return failed;
+        }
+
+        // 일부 레인만 차감된 경우 되돌림 (늦게 끝난 레인은 완료 시점에 되돌림)
+        succeeded.forEach(lane -> lane.increase(byLane.get(lane)));
+        timedOut.forEach(lane -> futures.get(lane).thenAccept(laneFailed -> {
+            if (laneFailed.isEmpty()) {
+                lane.increase(byLane.get(lane));
+            }
+        }));
+        if (!timedOut.isEmpty()) {
+            throw new BusinessException("재고 처리가 지연되고 있습니다. 잠시 후 다시 시도해주세요", "STOCK_LANE_TIMEOUT");
+        }
+        return failed;
+    }
+
+    /**
+     * 재고 증가, 존재하지 않는 상품 ID를 반환
+     */
+    public List<Long> increase(Map<Long, Integer> quantityByProductId) {
+        return increase(quantityByProductId, true);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        lanes.forEach(lane -> lane.shutdown(awaitTimeoutMillis));
+    }
+
+    private List<Long> increase(Map<Long, Integer> quantityByProductId, boolean compensateOnRollback) {
+        Map<StockLane, Map<Long, Integer>> byLane = splitByLane(quantityByProductId);
+        List<CompletableFuture<List<Long>>> futures = byLane.entrySet().stream()
+                .map(entry -> entry.getKey().increase(entry.getValue()))
+                .toList();
+        if (!compensateOnRollback) {
+            return List.of(); // 롤백 보상은 기다리지 않음
+        }
+
+        List<Long> missing = new ArrayList<>();
+        for (CompletableFuture<List<Long>> future : futures) {
+            List<Long> laneMissing = await(future);
+            if (laneMissing == null) {
+                throw new BusinessException("재고 처리가 지연되고 있습니다. 잠시 후 다시 시도해주세요", "STOCK_LANE_TIMEOUT");
+            }
+            missing.addAll(laneMissing);
+        }
+        afterRollback(() -> decrease(quantityByProductId));
+        return missing;
+    }
+
+    // 제한 시간 내 완료되지 않으면 null
+    private List<Long> await(CompletableFuture<List<Long>> future) {
+        try {
+            return future.get(awaitTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            return null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("재고 레인 처리 실패", e.getCause());
+        }
+    }
+
+    private Map<StockLane, Map<Long, Integer>> splitByLane(Map<Long, Integer> quantityByProductId) {
+        Map<StockLane, Map<Long, Integer>> byLane = new HashMap<>();
+        quantityByProductId.forEach((productId, quantity) ->
+                byLane.computeIfAbsent(laneOf(productId), lane -> new HashMap<>()).put(productId, quantity));
+        return byLane;
+    }
+
+    // 레인 수가 고정이므로 해시 모듈러로 상품 → 레인 매핑이 프로세스 수명 동안 변하지 않음
+    private StockLane laneOf(Long productId) {
+        return lanes.get(Math.floorMod(Long.hashCode(productId) * 0x9E3779B9, lanes.size()));
+    }
+
+    // 호출 측 트랜잭션이 롤백되면 레인에 반영된 증감을 되돌림
+    private void afterRollback(Runnable compensation) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status != STATUS_COMMITTED) {
+                    compensation.run();
+                }
+            }
+        });
+    }
+}
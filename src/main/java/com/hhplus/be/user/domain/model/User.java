@@ -1,5 +1,6 @@
 package com.hhplus.be.user.domain.model;
 
+import com.hhplus.be.common.exception.BusinessException;
 import com.hhplus.be.common.exception.InsufficientBalanceException;
 import com.hhplus.be.common.exception.InvalidInputException;
 import lombok.AccessLevel;
@@ -11,6 +12,8 @@ import java.time.Instant;
 @Getter
 @AllArgsConstructor(access = AccessLevel.PROTECTED)
 public class User {
+    public static final int MAX_BALANCE = 100_000_000;  // 보유 한도 (int 범위 안에서 충전 누적 보호)
+
     private Long id;
     private String name;
     private String email;
@@ -46,6 +49,27 @@ public class User {
     }
 
     public void charge(int amount) {
+        validateChargeAmount(amount);
+        if (this.balance > MAX_BALANCE - amount) {
+            throw balanceLimitExceeded();
+        }
+        this.balance += amount;
+        this.updatedAt = Instant.now();
+    }
+
+    public void use(int amount) {
+        validateUseAmount(amount);
+        if (this.balance < amount) {
+            throw new InsufficientBalanceException("잔액이 부족합니다");
+        }
+        this.balance -= amount;
+        this.updatedAt = Instant.now();
+    }
+
+    /**
+     * 충전 금액 검증 (잔액 조회 없이 DB에서 바로 증감할 때도 같은 규칙 적용)
+     */
+    public static void validateChargeAmount(int amount) {
         if (amount <= 0) {
             throw new InvalidInputException("충전 금액은 양수여야 합니다");
         }
@@ -55,25 +79,29 @@ public class User {
         if (amount > 1000000) {
             throw new InvalidInputException("최대 충전 금액은 1,000,000원입니다");
         }
-        this.balance += amount;
-        this.updatedAt = Instant.now();
     }
 
-    public void use(int amount) {
+    public static void validateUseAmount(int amount) {
         if (amount <= 0) {
             throw new InvalidInputException("사용 금액은 양수여야 합니다");
         }
-        if (this.balance < amount) {
-            throw new InsufficientBalanceException("잔액이 부족합니다");
-        }
-        this.balance -= amount;
-        this.updatedAt = Instant.now();
     }
 
-    public void refund(int amount) {
+    public static void validateRefundAmount(int amount) {
         if (amount <= 0) {
             throw new InvalidInputException("환불 금액은 양수여야 합니다");
         }
+    }
+
+    public static BusinessException balanceLimitExceeded() {
+        return new BusinessException("보유 가능한 포인트 한도를 초과합니다", "BALANCE_LIMIT_EXCEEDED");
+    }
+
+    public void refund(int amount) {
+        validateRefundAmount(amount);
+        if (this.balance > MAX_BALANCE - amount) {
+            throw balanceLimitExceeded();
+        }
         this.balance += amount;
         this.updatedAt = Instant.now();
     }
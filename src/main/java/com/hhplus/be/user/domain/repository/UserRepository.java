@@ -2,7 +2,9 @@ package com.hhplus.be.user.domain.repository;
 
 import com.hhplus.be.user.domain.model.User;
 
+import java.util.Map;
 import java.util.Optional;
+import java.util.OptionalInt;
 
 public interface UserRepository {
 
@@ -12,5 +14,24 @@ public interface UserRepository {
     // 2. 저장: 사용자 업데이트
     User save(User user);
 
+    // 3. 잔액 차감: balance >= amount 일 때만 DB에서 바로 차감, 차감 후 잔액 반환 (조건 불일치/회원 없음이면 empty)
+    OptionalInt decreaseBalance(Long userId, int amount);
+
+    // 4. 잔액 증가: 증가 후 잔액이 maxBalance 이하일 때만 DB에서 바로 증가, 증가 후 잔액 반환
+    OptionalInt increaseBalance(Long userId, int amount, int maxBalance);
+
+    // 5. 존재 여부
+    boolean existsById(Long id);
+
+    // 6. 잔액 컬럼 값 조회 (회원 없으면 empty)
+    OptionalInt findBalance(Long id);
+
+    // 7. 회원 행을 FOR UPDATE로 잠그고 잔액 컬럼 값 반환 - 같은 회원의 처리를 직렬화할 때 (회원 없으면 empty)
+    OptionalInt lockBalance(Long id);
+
+    // 8. 여러 회원 잔액 일괄 증가: 회원별 조건부 UPDATE를 JDBC 배치 한 번으로, 반영된 회원의 증가 후 잔액 반환
+    //    (회원이 없거나 maxBalance를 넘는 회원은 결과에 없음)
+    Map<Long, Integer> increaseBalances(Map<Long, Integer> amountByUserId, int maxBalance);
+
     void deleteAll();
 }
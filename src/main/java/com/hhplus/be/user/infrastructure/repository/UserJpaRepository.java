@@ -2,7 +2,45 @@ package com.hhplus.be.user.infrastructure.repository;
 
 import com.hhplus.be.user.infrastructure.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.Instant;
+import java.util.Optional;
 
 public interface UserJpaRepository extends JpaRepository<User, Long> {
 
+    // 조건부 차감 - 행 잠금 한 번으로 끝나므로 동시 차감끼리 충돌/재시도 없음 (version은 엔티티 저장 경로와의 충돌 감지용)
+    @Modifying(flushAutomatically = true)
+    @Query("""
+        UPDATE User u
+        SET u.balance = u.balance - :amount, u.version = u.version + 1, u.updatedAt = :now
+        WHERE u.id = :userId
+        AND u.balance >= :amount
+    """)
+    int decreaseBalance(@Param("userId") Long userId,
+                        @Param("amount") int amount,
+                        @Param("now") Instant now);
+
+    // 조건부 증가 - 증가 후 잔액이 한도를 넘지 않을 때만 (balanceLimit = maxBalance - amount)
+    @Modifying(flushAutomatically = true)
+    @Query("""
+        UPDATE User u
+        SET u.balance = u.balance + :amount, u.version = u.version + 1, u.updatedAt = :now
+        WHERE u.id = :userId
+        AND u.balance <= :balanceLimit
+    """)
+    int increaseBalance(@Param("userId") Long userId,
+                        @Param("amount") int amount,
+                        @Param("balanceLimit") int balanceLimit,
+                        @Param("now") Instant now);
+
+    // 영속성 컨텍스트를 거치지 않고 현재 트랜잭션에서 보이는 잔액을 읽음
+    @Query("SELECT u.balance FROM User u WHERE u.id = :userId")
+    Optional<Integer> findBalanceById(@Param("userId") Long userId);
+
+    // SELECT ... FOR UPDATE - 행을 갱신하지 않고 잠금만
+    @Query(value = "SELECT balance FROM users WHERE id = :userId FOR UPDATE", nativeQuery = true)
+    Optional<Integer> lockBalanceById(@Param("userId") Long userId);
 }
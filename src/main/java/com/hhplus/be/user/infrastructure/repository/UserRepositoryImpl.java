@@ -3,15 +3,31 @@ package com.hhplus.be.user.infrastructure.repository;
 import com.hhplus.be.user.domain.model.User;
 import com.hhplus.be.user.infrastructure.mapper.UserMapper;
 import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.TreeMap;
 
 @Repository
 @RequiredArgsConstructor
 public class UserRepositoryImpl implements com.hhplus.be.user.domain.repository.UserRepository {
+    private static final String INCREASE_BALANCE_SQL =
+            "UPDATE users SET balance = balance + ?, version = version + 1, updated_at = ? WHERE id = ? AND balance <= ?";
+
     private final UserJpaRepository userJpaRepository;
     private final UserMapper userMapper;
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
 
     @Override
     public Optional<User> findById(Long id) {
@@ -26,6 +42,89 @@ public class UserRepositoryImpl implements com.hhplus.be.user.domain.repository.
         return userMapper.toDomain(savedEntity);
     }
 
+    /**
+     * UPDATE로 잠근 행을 같은 트랜잭션에서 다시 읽으므로 반환 잔액은 이 차감 직후의 값이다
+     * (커밋 전까지 다른 트랜잭션이 바꿀 수 없음). 호출 측 트랜잭션이 있으면 그대로 참여.
+     * 조건 불일치는 예외 대신 empty로 알려 호출 측 트랜잭션을 rollback-only로 만들지 않는다.
+     */
+    @Override
+    @Transactional
+    public OptionalInt decreaseBalance(Long userId, int amount) {
+        if (userJpaRepository.decreaseBalance(userId, amount, Instant.now()) == 0) {
+            return OptionalInt.empty();
+        }
+        return findBalance(userId);
+    }
+
+    @Override
+    @Transactional
+    public OptionalInt increaseBalance(Long userId, int amount, int maxBalance) {
+        if (userJpaRepository.increaseBalance(userId, amount, maxBalance - amount, Instant.now()) == 0) {
+            return OptionalInt.empty();
+        }
+        return findBalance(userId);
+    }
+
+    @Override
+    public OptionalInt findBalance(Long id) {
+        return userJpaRepository.findBalanceById(id)
+                .map(OptionalInt::of)
+                .orElseGet(OptionalInt::empty);
+    }
+
+    @Override
+    public OptionalInt lockBalance(Long id) {
+        return userJpaRepository.lockBalanceById(id)
+                .map(OptionalInt::of)
+                .orElseGet(OptionalInt::empty);
+    }
+
+    /**
+     * 회원 ID 오름차순으로 잠가 같은 회원들을 함께 갱신하는 트랜잭션끼리 교착 상태를 피한다.
+     * 엔티티를 거치지 않으므로 호출 측은 같은 트랜잭션에서 User 엔티티를 수정하지 않아야 한다.
+     */
+    @Override
+    @Transactional
+    public Map<Long, Integer> increaseBalances(Map<Long, Integer> amountByUserId, int maxBalance) {
+        if (amountByUserId.isEmpty()) {
+            return Map.of();
+        }
+        List<Map.Entry<Long, Integer>> lines = new ArrayList<>(new TreeMap<>(amountByUserId).entrySet());
+        Timestamp now = Timestamp.from(Instant.now());
+
+        int[][] updated = jdbcTemplate.batchUpdate(INCREASE_BALANCE_SQL, lines, lines.size(), (ps, line) -> {
+            ps.setInt(1, line.getValue());
+            ps.setTimestamp(2, now);
+            ps.setLong(3, line.getKey());
+            ps.setInt(4, maxBalance - line.getValue());
+        });
+
+        List<Long> applied = new ArrayList<>();
+        for (int i = 0; i < lines.size(); i++) {
+            if (updated[0][i] > 0) {
+                applied.add(lines.get(i).getKey());
+            }
+        }
+        if (applied.isEmpty()) {
+            return Map.of();
+        }
+        // UPDATE로 잠근 행이므로 커밋 전까지 다른 트랜잭션이 바꿀 수 없음
+        Map<Long, Integer> balances = new HashMap<>();
+        namedParameterJdbcTemplate.query(
+                "SELECT id, balance FROM users WHERE id IN (:ids)",
+                Map.of("ids", applied),
+                rs -> {
+                    balances.put(rs.getLong("id"), rs.getInt("balance"));
+                }
+        );
+        return balances;
+    }
+
+    @Override
+    public boolean existsById(Long id) {
+        return userJpaRepository.existsById(id);
+    }
+
     @Override
     public void deleteAll() {
         userJpaRepository.deleteAll();
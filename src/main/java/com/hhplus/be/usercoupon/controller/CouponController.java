@@ -1,16 +1,21 @@
 package com.hhplus.be.usercoupon.controller;
 
+import com.hhplus.be.common.idempotency.IdempotencyExecutor;
+import com.hhplus.be.usercoupon.controller.dto.CouponQueueResponse;
 import com.hhplus.be.usercoupon.controller.dto.GetUserCouponsResponse;
 import com.hhplus.be.usercoupon.controller.dto.IssueCouponResponse;
 import com.hhplus.be.usercoupon.service.UserCouponService;
+import com.hhplus.be.usercoupon.service.UserCouponServiceFacade;
 import com.hhplus.be.usercoupon.service.dto.GetUserCouponsQuery;
 import com.hhplus.be.usercoupon.service.dto.GetUserCouponsResult;
 import com.hhplus.be.usercoupon.service.dto.IssueCouponCommand;
-import com.hhplus.be.usercoupon.service.dto.IssueCouponResult;
+import com.hhplus.be.usercoupon.service.waiting.CouponWaitingRoom;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.net.URI;
+
 /**
  * 쿠폰 API 컨트롤러
  */
@@ -20,20 +25,59 @@ import org.springframework.web.bind.annotation.*;
 public class CouponController {
 
     private final UserCouponService userCouponService;
+    private final UserCouponServiceFacade userCouponServiceFacade;
+    private final CouponWaitingRoom couponWaitingRoom;
+    private final IdempotencyExecutor idempotencyExecutor;
 
     /**
      * 선착순 쿠폰 발급
      *
      * POST /users/{userId}/coupons/{couponId}/issue
+     * Idempotency-Key가 같으면 발급을 다시 시도하지 않고 처음 응답을 반환
+     * 발급 대기열 운영 중에는 409 WAITING_ROOM_REQUIRED (대기열 입장 API 사용)
      */
     @PostMapping("/{couponId}/issue")
     public ResponseEntity<IssueCouponResponse> issueCoupon(
             @PathVariable Long userId,
-            @PathVariable Long couponId
+            @PathVariable Long couponId,
+            @RequestHeader(value = IdempotencyExecutor.HEADER, required = false) String idempotencyKey
     ) {
+        couponWaitingRoom.rejectDirectIssue();
         IssueCouponCommand command = new IssueCouponCommand(userId, couponId);
-        IssueCouponResult result = userCouponService.issueCoupon(command);
-        return ResponseEntity.ok(IssueCouponResponse.from(result));
+        IssueCouponResponse response = idempotencyExecutor.execute(
+                userId, idempotencyKey, "coupon-issue:" + couponId, IssueCouponResponse.class,
+                () -> IssueCouponResponse.from(userCouponServiceFacade.issueCoupon(command)));
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * 쿠폰 발급 대기열 입장
+     *
+     * POST /users/{userId}/coupons/{couponId}/queue
+     * 도착 순서대로 줄을 세우고 202와 표 조회 경로를 반환 (이미 줄을 섰으면 기존 표)
+     */
+    @PostMapping("/{couponId}/queue")
+    public ResponseEntity<CouponQueueResponse> enterQueue(
+            @PathVariable Long userId,
+            @PathVariable Long couponId
+    ) {
+        var ticket = couponWaitingRoom.enter(new IssueCouponCommand(userId, couponId));
+        return ResponseEntity.accepted()
+                .location(URI.create("/api/v1/users/" + userId + "/coupons/" + couponId + "/queue"))
+                .body(CouponQueueResponse.from(ticket));
+    }
+
+    /**
+     * 쿠폰 발급 대기열 표 조회 (순번, 예상 대기 시간, 발급 결과)
+     *
+     * GET /users/{userId}/coupons/{couponId}/queue
+     */
+    @GetMapping("/{couponId}/queue")
+    public ResponseEntity<CouponQueueResponse> getQueueTicket(
+            @PathVariable Long userId,
+            @PathVariable Long couponId
+    ) {
+        return ResponseEntity.ok(CouponQueueResponse.from(couponWaitingRoom.getTicket(userId, couponId)));
     }
 
     /**
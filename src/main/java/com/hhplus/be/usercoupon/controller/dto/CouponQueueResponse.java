@@ -0,0 +1,39 @@
+package com.hhplus.be.usercoupon.controller.dto;
+
+import com.hhplus.be.usercoupon.service.waiting.CouponQueueStatus;
+import com.hhplus.be.usercoupon.service.waiting.CouponQueueTicket;
+
+import java.time.Instant;
+
+/**
+ * 쿠폰 발급 대기열 표 Response
+ * API: POST /users/{userId}/coupons/{couponId}/queue (202)
+ *      GET  /users/{userId}/coupons/{couponId}/queue
+ */
+public record CouponQueueResponse(
+        Long couponId,
+        Long userId,
+        CouponQueueStatus status,
+        long position,               // WAITING일 때만 (1 = 다음 차례)
+        long estimatedWaitSeconds,   // WAITING일 때만
+        IssueCouponResponse coupon,  // ISSUED일 때만
+        String errorCode,            // FAILED일 때만
+        String errorMessage,
+        Instant enteredAt,
+        Instant completedAt
+) {
+    public static CouponQueueResponse from(CouponQueueTicket ticket) {
+        return new CouponQueueResponse(
+                ticket.couponId(),
+                ticket.userId(),
+                ticket.status(),
+                ticket.position(),
+                ticket.estimatedWaitSeconds(),
+                ticket.result() != null ? IssueCouponResponse.from(ticket.result()) : null,
+                ticket.errorCode(),
+                ticket.errorMessage(),
+                ticket.enteredAt(),
+                ticket.completedAt()
+        );
+    }
+}
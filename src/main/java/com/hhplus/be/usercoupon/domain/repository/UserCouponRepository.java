@@ -7,11 +7,15 @@ import java.util.Optional;
 
 public interface UserCouponRepository {
     UserCoupon save(UserCoupon userCoupon);
+    List<UserCoupon> saveAll(List<UserCoupon> userCoupons);
     Optional<UserCoupon> findById(Long id);
     List<UserCoupon> findByUserId(Long userId);
     List<UserCoupon> findByUserIdAndUsed(Long userId, boolean used);
     Optional<UserCoupon> findByUserIdAndCouponId(Long userId, Long couponId);
     List<UserCoupon> findAll();
 
+    // 쿠폰을 발급받은 회원 ID 전체 (발급 엔진 복구용)
+    List<Long> findUserIdsByCouponId(Long couponId);
+
     void deleteAll();
 }
\ No newline at end of file
@@ -1,5 +1,6 @@
 package com.hhplus.be.usercoupon.infrastructure.entity;
 
+import com.hhplus.be.common.id.SnowflakeId;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
@@ -13,7 +14,13 @@ import java.time.Instant;
     name = "user_coupons",
     indexes = {
         // 사용자 쿠폰 조회 최적화: user_id + used + issued_at 복합 인덱스
-        @Index(name = "idx_user_coupon_user_used_issued", columnList = "userId, used, issuedAt")
+        @Index(name = "idx_user_coupon_user_used_issued", columnList = "userId, used, issuedAt"),
+        // 쿠폰별 발급 회원 조회 (발급 엔진 복구)
+        @Index(name = "idx_user_coupon_coupon_user", columnList = "couponId, userId")
+    },
+    uniqueConstraints = {
+        // 1인 1매 - 발급 경로와 무관한 최종 방어선
+        @UniqueConstraint(name = "uk_user_coupon", columnNames = {"userId", "couponId"})
     }
 )
 @Getter
@@ -22,7 +29,7 @@ import java.time.Instant;
 public class UserCoupon {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @SnowflakeId
     private Long id;
 
     @Column(nullable = false)
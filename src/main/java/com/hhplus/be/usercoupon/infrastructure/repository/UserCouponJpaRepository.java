@@ -2,6 +2,8 @@ package com.hhplus.be.usercoupon.infrastructure.repository;
 
 import com.hhplus.be.usercoupon.infrastructure.entity.UserCoupon;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 import java.util.Optional;
@@ -10,4 +12,7 @@ public interface UserCouponJpaRepository extends JpaRepository<UserCoupon, Long>
     List<UserCoupon> findByUserId(Long userId);
     List<UserCoupon> findByUserIdAndUsed(Long userId, boolean used);
     Optional<UserCoupon> findByUserIdAndCouponId(Long userId, Long couponId);
+
+    @Query("SELECT uc.userId FROM UserCoupon uc WHERE uc.couponId = :couponId")
+    List<Long> findUserIdsByCouponId(@Param("couponId") Long couponId);
 }
\ No newline at end of file
@@ -21,6 +21,16 @@ public class UserCouponRepositoryImpl implements com.hhplus.be.usercoupon.domain
         return userCouponMapper.toDomain(savedEntity);
     }
 
+    @Override
+    public List<UserCoupon> saveAll(List<UserCoupon> userCoupons) {
+        var entities = userCoupons.stream()
+                .map(userCouponMapper::toEntity)
+                .toList();
+        return userCouponJpaRepository.saveAll(entities).stream()
+                .map(userCouponMapper::toDomain)
+                .toList();
+    }
+
     @Override
     public Optional<UserCoupon> findById(Long id) {
         return userCouponJpaRepository.findById(id)
@@ -54,6 +64,11 @@ public class UserCouponRepositoryImpl implements com.hhplus.be.usercoupon.domain
                 .toList();
     }
 
+    @Override
+    public List<Long> findUserIdsByCouponId(Long couponId) {
+        return userCouponJpaRepository.findUserIdsByCouponId(couponId);
+    }
+
     @Override
     public void deleteAll() {
         userCouponJpaRepository.deleteAll();
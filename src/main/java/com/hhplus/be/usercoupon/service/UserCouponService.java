@@ -11,6 +11,7 @@ import com.hhplus.be.usercoupon.service.dto.GetUserCouponsQuery;
 import com.hhplus.be.usercoupon.service.dto.GetUserCouponsResult;
 import com.hhplus.be.usercoupon.service.dto.IssueCouponCommand;
 import com.hhplus.be.usercoupon.service.dto.IssueCouponResult;
+import com.hhplus.be.usercoupon.service.issue.IssuedCouponFilter;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -25,6 +26,7 @@ public class UserCouponService {
     private final UserRepository userRepository;
     private final CouponRepository couponRepository;
     private final UserCouponRepository userCouponRepository;
+    private final IssuedCouponFilter issuedCouponFilter;
 
     /**
      * 쿠폰 발급
@@ -33,7 +35,7 @@ public class UserCouponService {
      * 1. 사용자 존재 확인
      * 2. 쿠폰 존재 확인
      * 3. 발급 기간 확인 (issueStartAt ~ issueEndAt)
-     * 4. 중복 발급 확인 (1인 1회 제한)
+     * 4. 중복 발급 확인 (1인 1회 제한, 필터가 켜져 있으면 쿼리 없이 발급 회원 비트맵으로)
      * 5. 발급 수량 확인 (낙관적 락으로 동시성 제어)
      * 6. 쿠폰 발급 수량 증가
      * 7. UserCoupon 생성
@@ -56,11 +58,13 @@ public class UserCouponService {
             throw new BusinessException("쿠폰 발급 기간이 아닙니다", "ISSUE_PERIOD_EXPIRED");
         }
 
-        // 4. 중복 발급 확인
-        userCouponRepository.findByUserIdAndCouponId(command.userId(), command.couponId())
-                .ifPresent(uc -> {
-                    throw new BusinessException("이미 발급받은 쿠폰입니다", "ALREADY_ISSUED");
-                });
+        // 4. 중복 발급 확인 (비트맵에 없더라도 user_coupons 유니크 제약이 최종 방어)
+        boolean alreadyIssued = issuedCouponFilter.isEnabled()
+                ? issuedCouponFilter.isIssued(command.couponId(), command.userId())
+                : userCouponRepository.findByUserIdAndCouponId(command.userId(), command.couponId()).isPresent();
+        if (alreadyIssued) {
+            throw new BusinessException("이미 발급받은 쿠폰입니다", "ALREADY_ISSUED");
+        }
 
         // 5-6. 쿠폰 발급 수량 증가 (낙관적 락으로 동시성 제어)
         // Coupon.increaseIssued()는 발급 가능 여부 확인 후 증가
@@ -70,6 +74,7 @@ public class UserCouponService {
         // 7. UserCoupon 생성
         UserCoupon userCoupon = UserCoupon.create(command.userId(), command.couponId(), now);
         userCouponRepository.save(userCoupon);
+        issuedCouponFilter.recordAfterCommit(command.couponId(), command.userId());
 
         return IssueCouponResult.from(userCoupon, coupon);
     }
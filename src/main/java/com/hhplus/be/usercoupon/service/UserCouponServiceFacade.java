@@ -1,8 +1,12 @@
 package com.hhplus.be.usercoupon.service;
 
+import com.hhplus.be.common.exception.BusinessException;
 import com.hhplus.be.usercoupon.service.dto.IssueCouponCommand;
 import com.hhplus.be.usercoupon.service.dto.IssueCouponResult;
+import com.hhplus.be.usercoupon.service.issue.CouponIssueEngine;
+import com.hhplus.be.usercoupon.service.issue.IssuedCouponFilter;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.retry.annotation.Backoff;
 import org.springframework.retry.annotation.Retryable;
@@ -13,12 +17,17 @@ import org.springframework.stereotype.Component;
  *
  * @Retryable과 @Transactional의 AOP 순서 문제를 해결하기 위해
  * retry 로직을 별도 클래스로 분리
+ *
+ * 같은 회원의 동시 발급은 user_coupons 유니크 제약(uk_user_coupon)에서 걸러지므로 ALREADY_ISSUED로 변환
+ * 발급 엔진(coupon.issue.engine.enabled=true)을 쓰면 쿠폰 행 낙관적 락을 거치지 않으므로 재시도도 일어나지 않음
  */
 @Component
 @RequiredArgsConstructor
 public class UserCouponServiceFacade {
 
     private final UserCouponService userCouponService;
+    private final CouponIssueEngine couponIssueEngine;
+    private final IssuedCouponFilter issuedCouponFilter;
 
     @Retryable(
             retryFor = ObjectOptimisticLockingFailureException.class,
@@ -26,6 +35,14 @@ public class UserCouponServiceFacade {
             backoff = @Backoff(delay = 10, maxDelay = 200)
     )
     public IssueCouponResult issueCoupon(IssueCouponCommand command) {
-        return userCouponService.issueCoupon(command);
+        if (couponIssueEngine.isEnabled()) {
+            return couponIssueEngine.issue(command);
+        }
+        try {
+            return userCouponService.issueCoupon(command);
+        } catch (DataIntegrityViolationException e) {
+            issuedCouponFilter.record(command.couponId(), command.userId());
+            throw new BusinessException("이미 발급받은 쿠폰입니다", "ALREADY_ISSUED");
+        }
     }
 }
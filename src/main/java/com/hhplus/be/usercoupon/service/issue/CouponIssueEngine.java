@@ -0,0 +1,184 @@
+package com.hhplus.be.usercoupon.service.issue;
+
+import com.hhplus.be.common.exception.BusinessException;
+import com.hhplus.be.common.exception.ResourceNotFoundException;
+import com.hhplus.be.common.exception.TooManyRequestsException;
+import com.hhplus.be.coupon.domain.model.Coupon;
+import com.hhplus.be.coupon.domain.repository.CouponRepository;
+import com.hhplus.be.user.domain.repository.UserRepository;
+import com.hhplus.be.usercoupon.domain.model.UserCoupon;
+import com.hhplus.be.usercoupon.domain.repository.UserCouponRepository;
+import com.hhplus.be.usercoupon.service.dto.IssueCouponCommand;
+import com.hhplus.be.usercoupon.service.dto.IssueCouponResult;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 선착순 쿠폰 발급 엔진 (coupon.issue.engine.enabled=true일 때만 사용)
+ *
+ * - 기동 시 발급 종료 전 쿠폰의 남은 수량(total - issued)과 발급 회원을 DB에서 메모리로 적재
+ *   (이후 생성된 쿠폰은 첫 발급 요청 때 적재)
+ * - 당첨은 메모리의 원자 카운터와 발급 회원 비트맵만으로 결정 → 쿠폰 행 낙관적 락 충돌/재시도 없음
+ * - 당첨자는 CouponIssueWriter가 묶어서 issued_quantity 증가 + user_coupons INSERT를 한 트랜잭션으로 저장
+ * - durable=true면 자기 당첨이 저장될 때까지 기다렸다가 응답, false면 당첨 즉시 응답 (userCouponId는 null)
+ *
+ * 메모리 카운터가 수량의 단일 writer라는 전제이므로 한 인스턴스에서만 발급해야 하고,
+ * 적재 이후 쿠폰의 총 수량·기간을 DB에서 바꿔도 재시작 전까지 반영되지 않는다.
+ * durable=false에서 서버가 죽으면 저장 전 당첨은 유실되지만, 수량도 함께 저장되지 않았으므로 재시작 후 다시 발급된다.
+ */
+@Slf4j
+@Component
+public class CouponIssueEngine {
+
+    private final UserRepository userRepository;
+    private final CouponRepository couponRepository;
+    private final UserCouponRepository userCouponRepository;
+    private final Clock clock;
+    private final boolean enabled;
+    private final boolean durable;
+    private final long awaitTimeoutMillis;
+    private final CouponIssueWriter writer;
+    private final Map<Long, CouponStock> stocks = new ConcurrentHashMap<>();
+
+    public CouponIssueEngine(
+            UserRepository userRepository,
+            CouponRepository couponRepository,
+            UserCouponRepository userCouponRepository,
+            PlatformTransactionManager transactionManager,
+            Clock clock,
+            @Value("${coupon.issue.engine.enabled:false}") boolean enabled,
+            @Value("${coupon.issue.engine.durable:true}") boolean durable,
+            @Value("${coupon.issue.engine.queue-capacity:10000}") int queueCapacity,
+            @Value("${coupon.issue.engine.batch-size:500}") int batchSize,
+            @Value("${coupon.issue.engine.flush-millis:20}") long flushMillis,
+            @Value("${coupon.issue.engine.await-timeout-millis:2000}") long awaitTimeoutMillis
+    ) {
+        this.userRepository = userRepository;
+        this.couponRepository = couponRepository;
+        this.userCouponRepository = userCouponRepository;
+        this.clock = clock;
+        this.enabled = enabled;
+        this.durable = durable;
+        this.awaitTimeoutMillis = awaitTimeoutMillis;
+        this.writer = enabled
+                ? new CouponIssueWriter(couponRepository, userCouponRepository,
+                        new TransactionTemplate(transactionManager), clock, queueCapacity, batchSize, flushMillis)
+                : null;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (!enabled) {
+            return;
+        }
+        var coupons = couponRepository.findIssuableAt(Instant.now(clock));
+        coupons.forEach(coupon -> stocks.computeIfAbsent(coupon.getId(), couponId -> load(coupon)));
+        log.info("쿠폰 발급 엔진 적재 완료: 쿠폰 {}개", coupons.size());
+    }
+
+    /**
+     * 쿠폰 발급
+     *
+     * 1. 사용자 존재 확인
+     * 2. 쿠폰 발급 상태 조회 (메모리에 없으면 DB에서 적재)
+     * 3. 발급 기간 확인
+     * 4. 1인 1매 확인 + 수량 선점 (메모리)
+     * 5. 당첨자 저장 요청
+     */
+    public IssueCouponResult issue(IssueCouponCommand command) {
+        // 1. 사용자 존재 확인
+        userRepository.findById(command.userId())
+                .orElseThrow(() -> new ResourceNotFoundException("존재하지 않는 회원입니다"));
+
+        // 2. 쿠폰 발급 상태 조회
+        CouponStock stock = stockOf(command.couponId());
+        Coupon coupon = stock.coupon();
+
+        // 3. 발급 기간 확인
+        Instant now = Instant.now(clock);
+        if (now.isBefore(coupon.getIssueStartAt()) || now.isAfter(coupon.getIssueEndAt())) {
+            throw new BusinessException("쿠폰 발급 기간이 아닙니다", "ISSUE_PERIOD_EXPIRED");
+        }
+
+        // 4. 1인 1매 확인 + 수량 선점
+        stock.reserve(command.userId());
+
+        // 5. 당첨자 저장 요청
+        UserCoupon userCoupon = UserCoupon.create(command.userId(), command.couponId(), now);
+        CompletableFuture<UserCoupon> saved = submit(stock, userCoupon);
+        return durable ? await(saved, coupon) : IssueCouponResult.from(userCoupon, coupon);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (writer != null) {
+            writer.shutdown(TimeUnit.SECONDS.toMillis(5));
+        }
+    }
+
+    private CouponStock stockOf(Long couponId) {
+        CouponStock stock = stocks.computeIfAbsent(couponId, id -> couponRepository.findById(id)
+                .map(this::load)
+                .orElse(null));
+        if (stock == null) {
+            throw new ResourceNotFoundException("쿠폰을 찾을 수 없습니다");
+        }
+        return stock;
+    }
+
+    // 쿠폰 행과 발급 행은 항상 같은 트랜잭션으로 저장되므로 두 값을 따로 읽어도 서로 맞음
+    private CouponStock load(Coupon coupon) {
+        return new CouponStock(coupon, new IssuedUserBitmap(userCouponRepository.findUserIdsByCouponId(coupon.getId())));
+    }
+
+    private CompletableFuture<UserCoupon> submit(CouponStock stock, UserCoupon userCoupon) {
+        CompletableFuture<UserCoupon> saved;
+        try {
+            saved = writer.submit(stock, userCoupon, awaitTimeoutMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            saved = null;
+        }
+        if (saved == null) {
+            stock.release(userCoupon.getUserId());
+            throw new TooManyRequestsException("쿠폰 발급 요청이 많습니다. 잠시 후 다시 시도해 주세요", "COUPON_QUEUE_FULL");
+        }
+        return saved;
+    }
+
+    private IssueCouponResult await(CompletableFuture<UserCoupon> saved, Coupon coupon) {
+        try {
+            return IssueCouponResult.from(saved.get(awaitTimeoutMillis, TimeUnit.MILLISECONDS), coupon);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof BusinessException businessException) {
+                throw businessException;
+            }
+            throw new IllegalStateException("쿠폰 발급 저장에 실패했습니다", e.getCause());
+        } catch (TimeoutException e) {
+            // 당첨은 유지되고 저장도 계속 진행되므로 결과는 보유 쿠폰 조회(대기열은 pending)로 확인
+            throw new CouponIssueTimeoutException(saved.thenApply(userCoupon -> IssueCouponResult.from(userCoupon, coupon)));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("쿠폰 발급 저장 대기가 중단되었습니다");
+        }
+    }
+}
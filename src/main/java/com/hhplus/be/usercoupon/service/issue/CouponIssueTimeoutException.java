@@ -0,0 +1,25 @@
+package com.hhplus.be.usercoupon.service.issue;
+
+import com.hhplus.be.common.exception.BusinessException;
+import com.hhplus.be.usercoupon.service.dto.IssueCouponResult;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 당첨 저장 대기 시간 초과 (409 COUPON_ISSUE_TIMEOUT)
+ *
+ * 당첨은 유지되고 저장도 계속 진행되므로, 응답을 기다릴 수 없는 호출 측(대기열 등)은 pending으로 저장 결과를 이어받는다.
+ */
+public class CouponIssueTimeoutException extends BusinessException {
+
+    private final transient CompletableFuture<IssueCouponResult> pending;
+
+    public CouponIssueTimeoutException(CompletableFuture<IssueCouponResult> pending) {
+        super("쿠폰 발급 처리가 지연되고 있습니다. 보유 쿠폰을 확인해 주세요", "COUPON_ISSUE_TIMEOUT");
+        this.pending = pending;
+    }
+
+    public CompletableFuture<IssueCouponResult> pending() {
+        return pending;
+    }
+}
@@ -0,0 +1,175 @@
+package com.hhplus.be.usercoupon.service.issue;
+
+import com.hhplus.be.common.exception.BusinessException;
+import com.hhplus.be.coupon.domain.repository.CouponRepository;
+import com.hhplus.be.usercoupon.domain.model.UserCoupon;
+import com.hhplus.be.usercoupon.domain.repository.UserCouponRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 쿠폰 당첨자 저장기 (단일 writer 스레드)
+ *
+ * 첫 당첨 도착 후 flush-millis가 지나거나 batch-size만큼 모이면 한 트랜잭션으로
+ *  1) 쿠폰별 당첨 수만큼 issued_quantity 조건부 증가
+ *  2) user_coupons 다건 INSERT
+ * 를 함께 커밋한다. 수량과 발급 행이 항상 같이 커밋되므로 재시작 시 DB만으로 남은 수량을 복구할 수 있다.
+ *
+ * 묶음이 실패하면(수량 초과, 중복 발급 등) 건별 트랜잭션으로 다시 저장하고,
+ * 저장하지 못한 당첨은 인메모리 상태에서 되돌린 뒤 호출 측에 실패를 전달한다.
+ */
+@Slf4j
+class CouponIssueWriter {
+
+    private final CouponRepository couponRepository;
+    private final UserCouponRepository userCouponRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final Clock clock;
+    private final int batchSize;
+    private final long flushNanos;
+    private final BlockingQueue<Pending> queue;
+    private final Thread writer;
+    private volatile boolean running = true;
+
+    CouponIssueWriter(CouponRepository couponRepository, UserCouponRepository userCouponRepository,
+                      TransactionTemplate transactionTemplate, Clock clock,
+                      int queueCapacity, int batchSize, long flushMillis) {
+        this.couponRepository = couponRepository;
+        this.userCouponRepository = userCouponRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.clock = clock;
+        this.batchSize = batchSize;
+        this.flushNanos = TimeUnit.MILLISECONDS.toNanos(flushMillis);
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.writer = new Thread(this::runLoop, "coupon-issue-writer");
+        this.writer.setDaemon(true);
+        this.writer.start();
+    }
+
+    /**
+     * 당첨자 저장 요청, 대기열이 timeout 동안 가득 차 있으면 null
+     */
+    CompletableFuture<UserCoupon> submit(CouponStock stock, UserCoupon userCoupon, long timeoutMillis)
+            throws InterruptedException {
+        Pending pending = new Pending(stock, userCoupon);
+        return queue.offer(pending, timeoutMillis, TimeUnit.MILLISECONDS) ? pending.future : null;
+    }
+
+    /**
+     * 남은 당첨자를 저장하고 종료
+     */
+    void shutdown(long timeoutMillis) {
+        running = false;
+        try {
+            writer.join(timeoutMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (!queue.isEmpty()) {
+            log.warn("쿠폰 발급 저장기 종료 대기 시간 초과 - 미저장 당첨 {}건", queue.size());
+        }
+    }
+
+    private void runLoop() {
+        while (running || !queue.isEmpty()) {
+            try {
+                Pending first = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                flush(collect(first));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+    }
+
+    private List<Pending> collect(Pending first) throws InterruptedException {
+        List<Pending> batch = new ArrayList<>(batchSize);
+        batch.add(first);
+        long deadline = System.nanoTime() + flushNanos;
+        while (batch.size() < batchSize) {
+            queue.drainTo(batch, batchSize - batch.size());
+            long remaining = deadline - System.nanoTime();
+            if (batch.size() >= batchSize || remaining <= 0) {
+                break;
+            }
+            Pending next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                break;
+            }
+            batch.add(next);
+        }
+        return batch;
+    }
+
+    private void flush(List<Pending> batch) {
+        Map<Long, Integer> countByCouponId = new HashMap<>();
+        batch.forEach(pending -> countByCouponId.merge(pending.userCoupon.getCouponId(), 1, Integer::sum));
+        List<UserCoupon> userCoupons = batch.stream().map(pending -> pending.userCoupon).toList();
+        try {
+            List<UserCoupon> saved = transactionTemplate.execute(status -> {
+                List<Long> rejected = couponRepository.increaseIssuedQuantities(countByCouponId, Instant.now(clock));
+                if (!rejected.isEmpty()) {
+                    throw new IllegalStateException("발급 수량이 DB와 어긋난 쿠폰 " + rejected);
+                }
+                return userCouponRepository.saveAll(userCoupons);
+            });
+            for (int i = 0; i < batch.size(); i++) {
+                batch.get(i).future.complete(saved.get(i));
+            }
+        } catch (RuntimeException batchFailure) {
+            log.warn("쿠폰 당첨 일괄 저장 실패, {}건을 건별로 재시도", batch.size(), batchFailure);
+            batch.forEach(this::saveIndividually);
+        }
+    }
+
+    private void saveIndividually(Pending pending) {
+        UserCoupon userCoupon = pending.userCoupon;
+        try {
+            UserCoupon saved = transactionTemplate.execute(status -> {
+                if (!couponRepository.increaseIssuedQuantities(Map.of(userCoupon.getCouponId(), 1), Instant.now(clock)).isEmpty()) {
+                    throw CouponStock.soldOut();
+                }
+                return userCouponRepository.save(userCoupon);
+            });
+            pending.future.complete(saved);
+        } catch (BusinessException e) {
+            // DB 수량이 이미 찼음 → 다른 경로에서 발급된 것이므로 이 쿠폰은 더 이상 메모리에서 발급하지 않음
+            log.error("쿠폰 발급 수량이 DB와 어긋나 발급 중단: couponId={}", userCoupon.getCouponId());
+            pending.stock.exhaust();
+            pending.future.completeExceptionally(e);
+        } catch (DataIntegrityViolationException e) {
+            pending.stock.releaseQuantity();
+            pending.future.completeExceptionally(new BusinessException("이미 발급받은 쿠폰입니다", "ALREADY_ISSUED"));
+        } catch (RuntimeException e) {
+            log.error("쿠폰 당첨 저장 실패: userId={}, couponId={}", userCoupon.getUserId(), userCoupon.getCouponId(), e);
+            pending.stock.release(userCoupon.getUserId());
+            pending.future.completeExceptionally(e);
+        }
+    }
+
+    private static final class Pending {
+        private final CouponStock stock;
+        private final UserCoupon userCoupon;
+        private final CompletableFuture<UserCoupon> future = new CompletableFuture<>();
+
+        private Pending(CouponStock stock, UserCoupon userCoupon) {
+            this.stock = stock;
+            this.userCoupon = userCoupon;
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.hhplus.be.usercoupon.service.issue;
+
+import com.hhplus.be.common.exception.BusinessException;
+import com.hhplus.be.coupon.domain.model.Coupon;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 쿠폰 하나의 인메모리 발급 상태
+ *
+ * - remaining: 남은 수량 (적재 시점 total_quantity - issued_quantity), CAS로만 감소
+ * - issuedUsers: 발급받은 회원 비트맵 (적재 시점 user_coupons + 이후 당첨자)
+ * 당첨은 두 값만 보고 결정하고, DB 반영은 CouponIssueWriter가 나중에 묶어서 한다.
+ */
+final class CouponStock {
+
+    private final Coupon coupon;
+    private final AtomicInteger remaining;
+    private final IssuedUserBitmap issuedUsers;
+
+    CouponStock(Coupon coupon, IssuedUserBitmap issuedUsers) {
+        this.coupon = coupon;
+        this.remaining = new AtomicInteger(Math.max(coupon.getTotalQuantity() - coupon.getIssuedQuantity(), 0));
+        this.issuedUsers = issuedUsers;
+    }
+
+    Coupon coupon() {
+        return coupon;
+    }
+
+    /**
+     * 1인 1매 확인 후 수량 1개 선점
+     */
+    void reserve(Long userId) {
+        if (remaining.get() <= 0) {
+            throw soldOut();
+        }
+        if (!issuedUsers.add(userId)) {
+            throw new BusinessException("이미 발급받은 쿠폰입니다", "ALREADY_ISSUED");
+        }
+        if (remaining.getAndUpdate(left -> left > 0 ? left - 1 : left) <= 0) {
+            issuedUsers.remove(userId);
+            throw soldOut();
+        }
+    }
+
+    /**
+     * 저장하지 못한 당첨을 되돌림 (수량 반환, 회원 제거)
+     */
+    void release(Long userId) {
+        issuedUsers.remove(userId);
+        remaining.incrementAndGet();
+    }
+
+    /**
+     * 다른 경로에서 이미 발급된 회원 - 회원은 그대로 두고 선점한 수량만 반환
+     */
+    void releaseQuantity() {
+        remaining.incrementAndGet();
+    }
+
+    /**
+     * DB 수량과 어긋났을 때 더 이상 발급하지 않음 (초과 발급보다 미발급이 안전)
+     */
+    void exhaust() {
+        remaining.set(0);
+    }
+
+    static BusinessException soldOut() {
+        return new BusinessException("쿠폰이 모두 소진되었습니다", "SOLD_OUT");
+    }
+}
@@ -0,0 +1,94 @@
+package com.hhplus.be.usercoupon.service.issue;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.hhplus.be.usercoupon.domain.repository.UserCouponRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+
+/**
+ * 쿠폰 중복 발급 필터 (coupon.issue.issued-filter.enabled=true일 때만 사용)
+ *
+ * 쿠폰별 발급 회원 비트맵을 메모리에 두고 "이미 발급받았는지"를 쿼리 없이 답한다.
+ * - 쿠폰의 첫 발급 요청 때 user_coupons에서 비트맵 적재, idle-minutes 동안 발급 요청이 없으면 내려놓음
+ * - 발급 트랜잭션이 커밋된 뒤에만 회원을 추가 → 롤백된 발급 때문에 "이미 발급"으로 잘못 거절하지 않음
+ *
+ * 다른 인스턴스의 발급이나 적재 중 커밋된 발급은 비트맵에 없을 수 있다 (false negative).
+ * 이 경우 INSERT가 user_coupons 유니크 제약(uk_user_coupon)에 걸리고, 그때 비트맵에도 추가한다.
+ */
+@Slf4j
+@Component
+public class IssuedCouponFilter {
+
+    private final UserCouponRepository userCouponRepository;
+    private final boolean enabled;
+    private final Cache<Long, IssuedUserBitmap> bitmaps;
+
+    public IssuedCouponFilter(
+            UserCouponRepository userCouponRepository,
+            @Value("${coupon.issue.issued-filter.enabled:false}") boolean enabled,
+            @Value("${coupon.issue.issued-filter.max-coupons:1000}") long maxCoupons,
+            @Value("${coupon.issue.issued-filter.idle-minutes:60}") long idleMinutes
+    ) {
+        this.userCouponRepository = userCouponRepository;
+        this.enabled = enabled;
+        this.bitmaps = Caffeine.newBuilder()
+                .maximumSize(maxCoupons)
+                .expireAfterAccess(Duration.ofMinutes(idleMinutes))
+                .build();
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 이미 발급받은 회원인지 (비트맵이 없으면 적재)
+     */
+    public boolean isIssued(Long couponId, Long userId) {
+        return bitmaps.get(couponId, this::load).contains(userId);
+    }
+
+    /**
+     * 발급 기록 - 호출 측 트랜잭션이 있으면 커밋된 뒤에 반영
+     */
+    public void recordAfterCommit(Long couponId, Long userId) {
+        if (!enabled) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    record(couponId, userId);
+                }
+            });
+            return;
+        }
+        record(couponId, userId);
+    }
+
+    /**
+     * 발급 기록 (적재된 비트맵에만 반영, 없으면 다음 적재 때 DB에서 읽힘)
+     */
+    public void record(Long couponId, Long userId) {
+        if (!enabled) {
+            return;
+        }
+        IssuedUserBitmap bitmap = bitmaps.getIfPresent(couponId);
+        if (bitmap != null) {
+            bitmap.add(userId);
+        }
+    }
+
+    private IssuedUserBitmap load(Long couponId) {
+        IssuedUserBitmap bitmap = new IssuedUserBitmap(userCouponRepository.findUserIdsByCouponId(couponId));
+        log.info("쿠폰 발급 회원 비트맵 적재: couponId={}, 회원 {}명", couponId, bitmap.size());
+        return bitmap;
+    }
+}
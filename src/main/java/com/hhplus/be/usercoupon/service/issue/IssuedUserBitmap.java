@@ -0,0 +1,43 @@
+package com.hhplus.be.usercoupon.service.issue;
+
+import org.roaringbitmap.longlong.Roaring64Bitmap;
+
+/**
+ * 쿠폰 하나를 발급받은 회원 ID 집합 (Roaring 압축 비트맵)
+ *
+ * 회원 ID는 AUTO_INCREMENT라 구간별로 촘촘하므로, 해시 집합(회원당 수십 바이트) 대신
+ * 65536개 단위 컨테이너(배열/비트맵/런)로 회원당 수 비트~2바이트에 담는다.
+ *
+ * Roaring64Bitmap은 스레드 안전하지 않아 모든 접근을 이 객체 모니터로 직렬화한다 (임계 구역은 비트 연산 몇 번).
+ */
+public final class IssuedUserBitmap {
+
+    private final Roaring64Bitmap bitmap = new Roaring64Bitmap();
+
+    public IssuedUserBitmap(Iterable<Long> userIds) {
+        userIds.forEach(bitmap::addLong);
+    }
+
+    public synchronized boolean contains(long userId) {
+        return bitmap.contains(userId);
+    }
+
+    /**
+     * @return 새로 추가했는지 (이미 있으면 false)
+     */
+    public synchronized boolean add(long userId) {
+        if (bitmap.contains(userId)) {
+            return false;
+        }
+        bitmap.addLong(userId);
+        return true;
+    }
+
+    public synchronized void remove(long userId) {
+        bitmap.removeLong(userId);
+    }
+
+    public synchronized long size() {
+        return bitmap.getLongCardinality();
+    }
+}
@@ -0,0 +1,168 @@
+package com.hhplus.be.usercoupon.service.waiting;
+
+import com.hhplus.be.common.exception.BusinessException;
+import com.hhplus.be.coupon.domain.model.Coupon;
+import com.hhplus.be.usercoupon.service.dto.IssueCouponResult;
+
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 쿠폰 하나의 대기열
+ *
+ * - 도착 순서대로 seq를 붙여 줄을 세우고, 내보낸 인원(releasedSeq)과의 차이로 순번을 계산
+ * - 대기·발급 중·발급 완료 인원(claimed)이 적재 시점 남은 수량(capacity)에 닿으면 새 입장은 바로 SOLD_OUT
+ * - 발급 결과가 SOLD_OUT이거나 발급 완료가 capacity에 닿으면 남은 대기자도 발급 시도 없이 실패 처리
+ * - 일시적인 사유로 실패한 표(FINAL_ERROR_CODES 외)는 다시 입장하면 새 순번으로 줄 끝에 섬
+ * - 발급 엔진 저장 지연(COUPON_ISSUE_TIMEOUT)은 발급이 계속 진행 중이므로 ADMITTED로 두고, 저장 결과가 나오면 issued/failed로 확정
+ *
+ * 줄(waiting)과 카운터는 이 객체 모니터로 보호하고, 표 조회는 잠금 없이 tickets에서 읽는다.
+ */
+final class CouponQueue {
+
+    // 다시 줄을 서도 결과가 같은 실패 (그 외 실패는 재입장 허용)
+    private static final Set<String> FINAL_ERROR_CODES = Set.of("SOLD_OUT", "ALREADY_ISSUED", "ISSUE_PERIOD_EXPIRED", "NOT_FOUND");
+
+    private final Coupon coupon;
+    private final int capacity;
+    private final Map<Long, CouponQueueTicket> tickets = new ConcurrentHashMap<>();
+    private final Queue<Long> waiting = new ArrayDeque<>();
+    private long lastSeq;
+    private volatile long releasedSeq;
+    private int claimed;
+    private int admitted;
+    private int issued;
+    private volatile boolean soldOut;
+    private boolean retired;
+    private Instant lastActivityAt;
+
+    CouponQueue(Coupon coupon, Instant now) {
+        this.coupon = coupon;
+        this.capacity = Math.max(coupon.getTotalQuantity() - coupon.getIssuedQuantity(), 0);
+        this.lastActivityAt = now;
+    }
+
+    Coupon coupon() {
+        return coupon;
+    }
+
+    /**
+     * 입장 (이미 표가 있으면 그 표를 반환, 메모리에서 내려간 대기열이면 null)
+     * 일시적인 사유로 실패한 표는 새 순번의 표로 교체
+     */
+    synchronized CouponQueueTicket enter(Long userId, Instant now) {
+        if (retired) {
+            return null;
+        }
+        CouponQueueTicket existing = tickets.get(userId);
+        if (existing != null && !isRetryable(existing)) {
+            return existing;
+        }
+        if (soldOut || claimed >= capacity) {
+            throw soldOutException();
+        }
+        CouponQueueTicket ticket = CouponQueueTicket.waiting(coupon.getId(), userId, ++lastSeq, now);
+        tickets.put(userId, ticket);
+        waiting.add(userId);
+        claimed++;
+        lastActivityAt = now;
+        return ticket;
+    }
+
+    /**
+     * 다음 대기자를 발급 슬롯으로 내보냄 (대기자가 없으면 null)
+     */
+    synchronized CouponQueueTicket admitNext() {
+        if (soldOut) {
+            return null;
+        }
+        Long userId = waiting.poll();
+        if (userId == null) {
+            return null;
+        }
+        releasedSeq++;
+        admitted++;
+        CouponQueueTicket ticket = tickets.get(userId).admitted();
+        tickets.put(userId, ticket);
+        return ticket;
+    }
+
+    synchronized void issued(CouponQueueTicket ticket, IssueCouponResult result, Instant now) {
+        tickets.put(ticket.userId(), ticket.issued(result, now));
+        admitted--;
+        issued++;
+        if (issued >= capacity) {
+            soldOut = true;
+        }
+        lastActivityAt = now;
+    }
+
+    synchronized void failed(CouponQueueTicket ticket, String errorCode, String errorMessage, Instant now) {
+        tickets.put(ticket.userId(), ticket.failed(errorCode, errorMessage, now));
+        admitted--;
+        claimed--;
+        if ("SOLD_OUT".equals(errorCode)) {
+            soldOut = true;
+        }
+        lastActivityAt = now;
+    }
+
+    /**
+     * 발급 엔진 저장 지연 - 저장이 계속 진행되므로 ADMITTED(발급 중 인원)로 남겨 두고 지연 사유만 표시
+     * 저장 결과가 나오면 호출 측이 issued/failed로 확정한다 (그때까지 대기열도 내려가지 않음)
+     */
+    synchronized void delayed(CouponQueueTicket ticket, String errorCode, String errorMessage, Instant now) {
+        tickets.put(ticket.userId(), ticket.delayed(errorCode, errorMessage));
+        lastActivityAt = now;
+    }
+
+    /**
+     * 소진됐으면 남은 대기자를 발급 시도 없이 SOLD_OUT으로 실패 처리
+     */
+    synchronized void rejectWaitingIfSoldOut(Instant now) {
+        if (!soldOut) {
+            return;
+        }
+        BusinessException soldOut = soldOutException();
+        Long userId;
+        while ((userId = waiting.poll()) != null) {
+            releasedSeq++;
+            claimed--;
+            tickets.put(userId, tickets.get(userId).failed(soldOut.getErrorCode(), soldOut.getMessage(), now));
+        }
+    }
+
+    /**
+     * 조회 시점 순번을 채운 표 (없으면 null)
+     */
+    CouponQueueTicket view(Long userId, int slotsPerSecond) {
+        CouponQueueTicket ticket = tickets.get(userId);
+        if (ticket == null || ticket.status() != CouponQueueStatus.WAITING) {
+            return ticket;
+        }
+        long position = Math.max(ticket.seq() - releasedSeq, 1);
+        return ticket.at(position, (position + slotsPerSecond - 1) / slotsPerSecond);
+    }
+
+    /**
+     * 대기/발급 중인 인원 없이 threshold 이전부터 조용한 대기열이면 내려놓음 (이후 입장은 새 대기열로)
+     */
+    synchronized boolean retireIfIdleSince(Instant threshold) {
+        if (waiting.isEmpty() && admitted == 0 && lastActivityAt.isBefore(threshold)) {
+            retired = true;
+        }
+        return retired;
+    }
+
+    private static boolean isRetryable(CouponQueueTicket ticket) {
+        return ticket.status() == CouponQueueStatus.FAILED && !FINAL_ERROR_CODES.contains(ticket.errorCode());
+    }
+
+    private static BusinessException soldOutException() {
+        return new BusinessException("쿠폰이 모두 소진되었습니다", "SOLD_OUT");
+    }
+}
@@ -0,0 +1,8 @@
+package com.hhplus.be.usercoupon.service.waiting;
+
+public enum CouponQueueStatus {
+    WAITING,   // 대기열에서 순서 대기
+    ADMITTED,  // 발급 슬롯을 받아 발급 실행 중
+    ISSUED,    // 발급 완료
+    FAILED     // 발급 실패 (errorCode 참고)
+}
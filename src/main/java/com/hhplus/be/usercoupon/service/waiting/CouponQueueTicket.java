@@ -0,0 +1,49 @@
+package com.hhplus.be.usercoupon.service.waiting;
+
+import com.hhplus.be.usercoupon.service.dto.IssueCouponResult;
+
+import java.time.Instant;
+
+/**
+ * 쿠폰 대기열 표 (불변 스냅샷, 상태가 바뀔 때마다 새 인스턴스로 교체)
+ *
+ * position/estimatedWaitSeconds는 조회 시점에 계산해 채운다 (WAITING이 아니면 0).
+ */
+public record CouponQueueTicket(
+        Long couponId,
+        Long userId,
+        long seq,                  // 쿠폰별 도착 순번 (1부터)
+        CouponQueueStatus status,
+        long position,             // 내 앞 대기 인원 + 1
+        long estimatedWaitSeconds,
+        IssueCouponResult result,  // ISSUED일 때만
+        String errorCode,          // FAILED 또는 저장 지연(ADMITTED)일 때만
+        String errorMessage,
+        Instant enteredAt,
+        Instant completedAt
+) {
+    static CouponQueueTicket waiting(Long couponId, Long userId, long seq, Instant now) {
+        return new CouponQueueTicket(couponId, userId, seq, CouponQueueStatus.WAITING, 0, 0, null, null, null, now, null);
+    }
+
+    CouponQueueTicket admitted() {
+        return new CouponQueueTicket(couponId, userId, seq, CouponQueueStatus.ADMITTED, 0, 0, null, null, null, enteredAt, null);
+    }
+
+    CouponQueueTicket delayed(String errorCode, String errorMessage) {
+        return new CouponQueueTicket(couponId, userId, seq, CouponQueueStatus.ADMITTED, 0, 0, null, errorCode, errorMessage, enteredAt, null);
+    }
+
+    CouponQueueTicket issued(IssueCouponResult result, Instant now) {
+        return new CouponQueueTicket(couponId, userId, seq, CouponQueueStatus.ISSUED, 0, 0, result, null, null, enteredAt, now);
+    }
+
+    CouponQueueTicket failed(String errorCode, String errorMessage, Instant now) {
+        return new CouponQueueTicket(couponId, userId, seq, CouponQueueStatus.FAILED, 0, 0, null, errorCode, errorMessage, enteredAt, now);
+    }
+
+    CouponQueueTicket at(long position, long estimatedWaitSeconds) {
+        return new CouponQueueTicket(couponId, userId, seq, status, position, estimatedWaitSeconds,
+                result, errorCode, errorMessage, enteredAt, completedAt);
+    }
+}
@@ -0,0 +1,249 @@
+package com.hhplus.be.usercoupon.service.waiting;
+
+import com.hhplus.be.common.exception.BaseException;
+import com.hhplus.be.common.exception.BusinessException;
+import com.hhplus.be.common.exception.ResourceNotFoundException;
+import com.hhplus.be.coupon.domain.model.Coupon;
+import com.hhplus.be.coupon.domain.repository.CouponRepository;
+import com.hhplus.be.usercoupon.service.UserCouponServiceFacade;
+import com.hhplus.be.usercoupon.service.dto.IssueCouponCommand;
+import com.hhplus.be.usercoupon.service.issue.CouponIssueTimeoutException;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 쿠폰 발급 대기열 (coupon.waiting-room.enabled=true일 때만 사용)
+ *
+ * - 발급 요청은 쿠폰별 대기열에 도착 순서대로 줄을 서고 바로 반환 (DB를 건드리지 않음)
+ * - release()가 초당 slots-per-second개(토큰 버킷, 1초치까지 누적)씩 앞에서부터 내보내
+ *   워커 스레드가 UserCouponServiceFacade로 발급 → DB에 도달하는 발급 수가 설정값으로 제한됨
+ * - 배분은 전용 스레드(coupon-waiting-room-release)에서 tick-millis마다 실행
+ *   (스프링 기본 스케줄러는 한 스레드를 다른 @Scheduled 작업과 나눠 쓰므로, 밀리면 1초치까지만 쌓이는 슬롯이 버려져 배분 속도가 떨어짐)
+ * - 클라이언트는 표 조회로 순번/예상 대기 시간/발급 결과를 확인
+ * - 대기 인원이 남은 수량에 닿았거나 소진이 확인되면 새 입장과 남은 대기자는 바로 SOLD_OUT
+ *
+ * 대기열은 인메모리이므로 한 인스턴스에서만 받아야 하고, 재시작하면 대기 중인 표는 사라진다 (발급된 쿠폰은 DB에 남음).
+ */
+@Slf4j
+@Component
+public class CouponWaitingRoom {
+
+    private final CouponRepository couponRepository;
+    private final UserCouponServiceFacade userCouponServiceFacade;
+    private final Clock clock;
+    private final boolean enabled;
+    private final int slotsPerSecond;
+    private final int maxInFlight;
+    private final Duration retention;
+    private final ExecutorService workers;
+    private final ScheduledExecutorService releaser;
+    private final Map<Long, CouponQueue> queues = new ConcurrentHashMap<>();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private double slots;
+    private long lastRefillNanos = System.nanoTime();
+
+    public CouponWaitingRoom(
+            CouponRepository couponRepository,
+            UserCouponServiceFacade userCouponServiceFacade,
+            Clock clock,
+            @Value("${coupon.waiting-room.enabled:false}") boolean enabled,
+            @Value("${coupon.waiting-room.slots-per-second:100}") int slotsPerSecond,
+            @Value("${coupon.waiting-room.workers:8}") int workerCount,
+            @Value("${coupon.waiting-room.tick-millis:100}") long tickMillis,
+            @Value("${coupon.waiting-room.retention-seconds:3600}") long retentionSeconds
+    ) {
+        this.couponRepository = couponRepository;
+        this.userCouponServiceFacade = userCouponServiceFacade;
+        this.clock = clock;
+        this.enabled = enabled;
+        this.slotsPerSecond = slotsPerSecond;
+        this.maxInFlight = workerCount;
+        this.retention = Duration.ofSeconds(retentionSeconds);
+        AtomicInteger workerNo = new AtomicInteger();
+        this.workers = enabled
+                ? Executors.newFixedThreadPool(workerCount, runnable -> {
+                    Thread thread = new Thread(runnable, "coupon-waiting-room-" + workerNo.getAndIncrement());
+                    thread.setDaemon(true);
+                    return thread;
+                })
+                : null;
+        this.releaser = enabled
+                ? Executors.newSingleThreadScheduledExecutor(runnable -> {
+                    Thread thread = new Thread(runnable, "coupon-waiting-room-release");
+                    thread.setDaemon(true);
+                    return thread;
+                })
+                : null;
+        if (releaser != null) {
+            releaser.scheduleWithFixedDelay(this::releaseQuietly, tickMillis, tickMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 대기열 운영 중에는 대기열을 거치지 않는 직접 발급을 막음
+     */
+    public void rejectDirectIssue() {
+        if (enabled) {
+            throw new BusinessException("대기열로 발급을 요청해 주세요", "WAITING_ROOM_REQUIRED");
+        }
+    }
+
+    /**
+     * 대기열 입장 (이미 줄을 섰으면 기존 표, 일시적인 사유로 실패했으면 새 표)
+     */
+    public CouponQueueTicket enter(IssueCouponCommand command) {
+        if (!enabled) {
+            throw new BusinessException("쿠폰 발급 대기열을 운영하지 않습니다", "WAITING_ROOM_DISABLED");
+        }
+        Instant now = Instant.now(clock);
+        while (true) {
+            CouponQueue queue = queueOf(command.couponId(), now);
+            Coupon coupon = queue.coupon();
+            if (now.isBefore(coupon.getIssueStartAt()) || now.isAfter(coupon.getIssueEndAt())) {
+                throw new BusinessException("쿠폰 발급 기간이 아닙니다", "ISSUE_PERIOD_EXPIRED");
+            }
+            if (queue.enter(command.userId(), now) != null) {
+                return queue.view(command.userId(), slotsPerSecond);
+            }
+            // 방금 내려간 대기열 → 맵에서 빠진 뒤 새 대기열로 다시 입장
+            queues.remove(command.couponId(), queue);
+        }
+    }
+
+    /**
+     * 표 조회 (줄을 선 적이 없거나 보관 시간이 지났으면 404)
+     */
+    public CouponQueueTicket getTicket(Long userId, Long couponId) {
+        CouponQueue queue = queues.get(couponId);
+        CouponQueueTicket ticket = queue != null ? queue.view(userId, slotsPerSecond) : null;
+        if (ticket == null) {
+            throw new ResourceNotFoundException("대기열 표를 찾을 수 없습니다");
+        }
+        return ticket;
+    }
+
+    /**
+     * 발급 슬롯 배분 - 쌓인 슬롯만큼 쿠폰별 대기열을 돌아가며 한 명씩 내보냄
+     * (발급 중인 요청이 workers 수만큼 있으면 DB가 밀린 것이므로 더 내보내지 않음)
+     */
+    public synchronized void release() {
+        if (!enabled) {
+            return;
+        }
+        Instant now = Instant.now(clock);
+        queues.values().forEach(queue -> queue.rejectWaitingIfSoldOut(now));
+        refill();
+
+        boolean admittedAny = true;
+        while (admittedAny && slots >= 1 && inFlight.get() < maxInFlight) {
+            admittedAny = false;
+            for (CouponQueue queue : queues.values()) {
+                if (slots < 1 || inFlight.get() >= maxInFlight) {
+                    break;
+                }
+                CouponQueueTicket ticket = queue.admitNext();
+                if (ticket == null) {
+                    continue;
+                }
+                admittedAny = true;
+                slots--;
+                inFlight.incrementAndGet();
+                workers.execute(() -> issue(queue, ticket));
+            }
+        }
+
+        Instant idleThreshold = now.minus(retention);
+        queues.values().removeIf(queue -> queue.retireIfIdleSince(idleThreshold));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (workers == null) {
+            return;
+        }
+        releaser.shutdownNow();
+        workers.shutdown();
+        try {
+            if (!workers.awaitTermination(5, TimeUnit.SECONDS)) {
+                log.warn("쿠폰 대기열 워커 종료 대기 초과, 발급 중 {}건", inFlight.get());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void issue(CouponQueue queue, CouponQueueTicket ticket) {
+        try {
+            var result = userCouponServiceFacade.issueCoupon(new IssueCouponCommand(ticket.userId(), ticket.couponId()));
+            queue.issued(ticket, result, Instant.now(clock));
+        } catch (CouponIssueTimeoutException e) {
+            // 저장이 계속 진행 중 → 자리를 유지하고 저장 결과가 나오면 표를 확정
+            queue.delayed(ticket, e.getErrorCode(), e.getMessage(), Instant.now(clock));
+            e.pending().whenComplete((result, error) -> {
+                if (error == null) {
+                    queue.issued(ticket, result, Instant.now(clock));
+                } else {
+                    fail(queue, ticket, error instanceof CompletionException && error.getCause() != null ? error.getCause() : error);
+                }
+            });
+        } catch (RuntimeException e) {
+            fail(queue, ticket, e);
+        } finally {
+            inFlight.decrementAndGet();
+        }
+    }
+
+    private void fail(CouponQueue queue, CouponQueueTicket ticket, Throwable error) {
+        if (error instanceof BaseException e) {
+            queue.failed(ticket, e.getErrorCode(), e.getMessage(), Instant.now(clock));
+            return;
+        }
+        log.error("대기열 쿠폰 발급 실패: userId={}, couponId={}", ticket.userId(), ticket.couponId(), error);
+        queue.failed(ticket, "INTERNAL_SERVER_ERROR", "서버 내부 오류가 발생했습니다", Instant.now(clock));
+    }
+
+    // 예외가 나도 다음 배분은 계속되도록 (scheduleWithFixedDelay는 예외가 나면 이후 실행을 멈춤)
+    private void releaseQuietly() {
+        try {
+            release();
+        } catch (RuntimeException e) {
+            log.error("쿠폰 대기열 배분 실패", e);
+        }
+    }
+
+    // 마지막 배분 이후 흐른 시간만큼 슬롯 적립 (최대 1초치 → 한동안 비어 있어도 한 번에 몰아서 내보내지 않음)
+    private void refill() {
+        long nowNanos = System.nanoTime();
+        double elapsedSeconds = (nowNanos - lastRefillNanos) / 1_000_000_000.0;
+        lastRefillNanos = nowNanos;
+        slots = Math.min(slots + elapsedSeconds * slotsPerSecond, slotsPerSecond);
+    }
+
+    private CouponQueue queueOf(Long couponId, Instant now) {
+        CouponQueue queue = queues.computeIfAbsent(couponId, id -> couponRepository.findById(id)
+                .map(coupon -> new CouponQueue(coupon, now))
+                .orElse(null));
+        if (queue == null) {
+            throw new ResourceNotFoundException("쿠폰을 찾을 수 없습니다");
+        }
+        return queue;
+    }
+}
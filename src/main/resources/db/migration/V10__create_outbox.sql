@@ -0,0 +1,17 @@
+-- ========================================
+-- Outbox
+-- Version: 10.0
+-- 주문 확정/환불 이벤트를 상태 변경과 같은 트랜잭션에 기록, 인프로세스 릴레이가 전달
+-- ========================================
+
+CREATE TABLE outbox (
+    outbox_id BIGINT NOT NULL PRIMARY KEY,
+    order_id BIGINT NOT NULL,
+    event_type VARCHAR(50) NOT NULL,
+    payload TEXT NOT NULL,
+    status VARCHAR(20) NOT NULL,
+    created_at DATETIME(6) NOT NULL,
+    sent_at DATETIME(6),
+    INDEX idx_outbox_status_id (status, outbox_id),
+    INDEX idx_outbox_order (order_id)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_general_ci;
@@ -0,0 +1,9 @@
+-- ========================================
+-- Point history cursor index
+-- Version: 11.0
+-- 포인트 내역 커서 페이징 (created_at DESC, id DESC) seek용 - 같은 시각 내역도 id로 순서 확정
+-- ========================================
+
+-- fk_point_user가 user_id 선두 인덱스를 요구하므로 새 인덱스를 먼저 만든 뒤 기존 인덱스 제거
+CREATE INDEX idx_point_user_created_id ON point(user_id, created_at DESC, id DESC);
+DROP INDEX idx_point_user_created ON point;
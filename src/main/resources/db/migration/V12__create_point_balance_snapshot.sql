@@ -0,0 +1,18 @@
+-- ========================================
+-- Point ledger balance snapshot
+-- Version: 12.0
+-- 원장 모드: 잔액 = 스냅샷 + 이후 포인트 내역 증감 합
+-- ========================================
+
+CREATE TABLE point_balance_snapshot (
+    user_id BIGINT NOT NULL PRIMARY KEY,
+    balance INT NOT NULL,
+    last_point_id BIGINT NOT NULL,
+    snapshot_at DATETIME(6) NOT NULL
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_general_ci;
+
+-- 스냅샷 이후 내역을 id 범위로 합산
+CREATE INDEX idx_point_user_id ON point(user_id, id);
+
+-- 기존 회원의 스냅샷은 원장 모드에서 처음 접근할 때 (users.balance, 그 시점 마지막 내역 ID)로 저장 (PointLedger)
+-- 미리 일괄 생성하면 원장 모드를 켜기 전까지 쌓인 내역이 users.balance와 중복 합산되므로 만들지 않음
@@ -0,0 +1,29 @@
+-- ========================================
+-- Point bulk grant
+-- Version: 13.0
+-- 프로모션/캐시백 일괄 지급 요청과 적재된 대상 (청크 단위 지급, 재시작 시 이어서 처리)
+-- ========================================
+
+CREATE TABLE point_grant (
+    id BIGINT NOT NULL PRIMARY KEY,
+    grant_key VARCHAR(100) NOT NULL,
+    reason VARCHAR(200),
+    status VARCHAR(20) NOT NULL,
+    total_count BIGINT NOT NULL,
+    processed_count BIGINT NOT NULL,
+    granted_count BIGINT NOT NULL,
+    skipped_count BIGINT NOT NULL,
+    created_at DATETIME(6) NOT NULL,
+    completed_at DATETIME(6),
+    UNIQUE KEY uk_point_grant_key (grant_key),
+    INDEX idx_point_grant_status_id (status, id)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_general_ci;
+
+CREATE TABLE point_grant_item (
+    id BIGINT NOT NULL AUTO_INCREMENT PRIMARY KEY,
+    grant_id BIGINT NOT NULL,
+    seq BIGINT NOT NULL,
+    user_id BIGINT NOT NULL,
+    amount INT NOT NULL,
+    UNIQUE KEY uk_point_grant_item (grant_id, seq)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_general_ci;
@@ -0,0 +1,8 @@
+-- ========================================
+-- User coupon by coupon index
+-- Version: 14.0
+-- 쿠폰 발급 엔진이 적재/복구 시 쿠폰별 발급 회원을 읽기 위한 (coupon_id, user_id) 인덱스
+-- ========================================
+
+-- uk_user_coupon(user_id, coupon_id)는 user_id 선두라 쿠폰별 조회에 쓸 수 없음
+CREATE INDEX idx_user_coupon_coupon_user ON user_coupons(coupon_id, user_id);
@@ -0,0 +1,27 @@
+-- ========================================
+-- Product Sales Daily Rollup
+-- Version: 4.0
+-- 인기 상품 조회용 상품별 일 판매량 롤업
+-- ========================================
+
+-- 1. 상품별 일 판매량 (스케줄러가 워터마크 이후 결제/환불분만 증분 반영)
+CREATE TABLE product_sales_daily (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    product_id BIGINT NOT NULL,
+    sales_date DATE NOT NULL,
+    quantity INT NOT NULL DEFAULT 0,
+    UNIQUE KEY uk_product_sales_daily (product_id, sales_date)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_general_ci;
+
+-- 기간 합계 조회 커버링 인덱스
+CREATE INDEX idx_product_sales_daily_date ON product_sales_daily (sales_date, product_id, quantity);
+
+-- 2. 롤업 진행 상태 (단일 행)
+CREATE TABLE product_sales_rollup_watermark (
+    id BIGINT PRIMARY KEY,
+    covered_from TIMESTAMP(6) NOT NULL,
+    processed_until TIMESTAMP(6) NOT NULL
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_general_ci;
+
+-- 3. 환불 차감 조회용 인덱스
+CREATE INDEX idx_order_status_refunded ON orders (status, refunded_at);
@@ -0,0 +1,17 @@
+-- ========================================
+-- Product Stock Shard
+-- Version: 5.0
+-- 핫 상품 재고를 여러 행으로 분산해 결제 시 단일 행 잠금 경합 완화
+-- ========================================
+
+-- 1. 분산 행 수 (0이면 product.stock이 실제 재고)
+ALTER TABLE product ADD COLUMN stock_shard_count INT NOT NULL DEFAULT 0;
+
+-- 2. 재고 분산 행 (stock_shard_count >= 1인 상품만, 합계가 실제 재고)
+CREATE TABLE product_stock_shard (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    product_id BIGINT NOT NULL,
+    shard_no INT NOT NULL,
+    stock INT NOT NULL DEFAULT 0,
+    UNIQUE KEY uk_product_stock_shard (product_id, shard_no)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_general_ci;
@@ -0,0 +1,7 @@
+-- ========================================
+-- Order Stock Reservation
+-- Version: 6.0
+-- 주문 생성 시 재고 예약 여부 (결제 시 차감 생략, 취소/만료 시 복원)
+-- ========================================
+
+ALTER TABLE orders ADD COLUMN stock_reserved BOOLEAN NOT NULL DEFAULT FALSE;
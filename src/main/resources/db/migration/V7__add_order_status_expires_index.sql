@@ -0,0 +1,7 @@
+-- ========================================
+-- Order Expiry Sweep Index
+-- Version: 7.0
+-- 만료된 결제 대기 주문 일괄 정리 (status = 'PENDING' AND expires_at <= ?)
+-- ========================================
+
+CREATE INDEX idx_order_status_expires ON orders (status, expires_at);
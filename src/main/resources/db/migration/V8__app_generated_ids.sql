@@ -0,0 +1,14 @@
+-- ========================================
+-- Application Generated IDs
+-- Version: 8.0
+-- 주문/주문 항목/포인트/사용자 쿠폰/장바구니/주문 할인 ID를 애플리케이션(Snowflake)에서 발급
+-- AUTO_INCREMENT 제거 → Hibernate INSERT 배치 + rewriteBatchedStatements로 다건 INSERT 1회 전송
+-- 기존 ID는 모두 Snowflake ID보다 작으므로 그대로 둔다 (시간 순 정렬 유지)
+-- ========================================
+
+ALTER TABLE orders MODIFY id BIGINT NOT NULL;
+ALTER TABLE order_items MODIFY id BIGINT NOT NULL;
+ALTER TABLE point MODIFY id BIGINT NOT NULL;
+ALTER TABLE user_coupons MODIFY id BIGINT NOT NULL;
+ALTER TABLE cart_items MODIFY id BIGINT NOT NULL;
+ALTER TABLE order_discounts MODIFY id BIGINT NOT NULL;
@@ -0,0 +1,18 @@
+-- ========================================
+-- Idempotency Record
+-- Version: 9.0
+-- 결제/환불/쿠폰 발급의 Idempotency-Key 선점 및 응답 저장
+-- ========================================
+
+CREATE TABLE idempotency_record (
+    id BIGINT NOT NULL PRIMARY KEY,
+    user_id BIGINT NOT NULL,
+    idempotency_key VARCHAR(100) NOT NULL,
+    fingerprint VARCHAR(200) NOT NULL,
+    status VARCHAR(20) NOT NULL,
+    response_body TEXT,
+    created_at DATETIME(6) NOT NULL,
+    completed_at DATETIME(6),
+    UNIQUE KEY uk_idempotency_user_key (user_id, idempotency_key),
+    INDEX idx_idempotency_created (created_at)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_general_ci;
@@ -55,6 +55,7 @@ class CartServiceTest {
         given(cartRepository.findByUserIdAndProductId(userId, productId)).willReturn(Optional.empty());
         given(cartRepository.save(any(CartItem.class))).willReturn(savedItem);
         given(cartRepository.findByUserId(userId)).willReturn(List.of(savedItem));
+        given(productRepository.findAllByIds(List.of(productId))).willReturn(List.of(product));
 
         // when
         var result = cartService.addCartItem(command);
@@ -87,6 +88,7 @@ class CartServiceTest {
         given(cartRepository.findByUserIdAndProductId(userId, productId)).willReturn(Optional.of(existingItem));
         given(cartRepository.save(existingItem)).willReturn(existingItem);
         given(cartRepository.findByUserId(userId)).willReturn(List.of(existingItem));
+        given(productRepository.findAllByIds(List.of(productId))).willReturn(List.of(product));
 
         // when
         var result = cartService.addCartItem(command);
@@ -128,8 +130,7 @@ class CartServiceTest {
         assignCartItemId(item2, 12L);
 
         given(cartRepository.findByUserId(userId)).willReturn(List.of(item1, item2));
-        given(productRepository.findById(1L)).willReturn(Optional.of(product1));
-        given(productRepository.findById(2L)).willReturn(Optional.of(product2));
+        given(productRepository.findAllByIds(List.of(1L, 2L))).willReturn(List.of(product1, product2));
 
         // when
         var result = cartService.getCart(query);
@@ -178,7 +179,7 @@ class CartServiceTest {
         given(cartRepository.findById(cartItemId)).willReturn(Optional.of(cartItem));
         given(cartRepository.save(cartItem)).willReturn(cartItem);
         given(cartRepository.findByUserId(userId)).willReturn(List.of(cartItem));
-        given(productRepository.findById(1L)).willReturn(Optional.of(product));
+        given(productRepository.findAllByIds(List.of(1L))).willReturn(List.of(product));
 
         // when
         var result = cartService.updateCartItemQuantity(command);
@@ -279,7 +280,7 @@ class CartServiceTest {
         assignCartItemId(cartItem, 11L);
 
         given(cartRepository.findByUserId(userId)).willReturn(List.of(cartItem));
-        given(productRepository.findById(1L)).willReturn(Optional.of(product));
+        given(productRepository.findAllByIds(List.of(1L))).willReturn(List.of(product));
 
         // when
         var result = cartService.getCart(new GetCartQuery(userId));
@@ -301,7 +302,7 @@ class CartServiceTest {
         assignCartItemId(cartItem, 11L);
 
         given(cartRepository.findByUserId(userId)).willReturn(List.of(cartItem));
-        given(productRepository.findById(1L)).willReturn(Optional.of(product));
+        given(productRepository.findAllByIds(List.of(1L))).willReturn(List.of(product));
 
         // when
         var result = cartService.getCart(new GetCartQuery(userId));
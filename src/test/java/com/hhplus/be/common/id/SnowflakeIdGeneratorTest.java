@@ -0,0 +1,117 @@
+package com.hhplus.be.common.id;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("SnowflakeIdGenerator 단위 테스트")
+class SnowflakeIdGeneratorTest {
+
+    private static final long NOW = SnowflakeIdGenerator.EPOCH_MILLIS + 1_000_000L;
+
+    @Test
+    @DisplayName("ID에 발급 시각과 노드 ID가 담기고, 같은 ms 안에서는 시퀀스로 증가한다")
+    void nextId_encodesTimestampAndNode() {
+        var generator = new SnowflakeIdGenerator(7, () -> NOW);
+
+        long first = generator.nextId();
+        long second = generator.nextId();
+
+        assertThat(SnowflakeIdGenerator.timestampOf(first)).isEqualTo(NOW);
+        assertThat(SnowflakeIdGenerator.nodeIdOf(first)).isEqualTo(7);
+        assertThat(second).isEqualTo(first + 1);
+    }
+
+    @Test
+    @DisplayName("한 ms의 시퀀스를 다 쓰면 다음 ms를 당겨 써서 계속 증가한다")
+    void nextId_sequenceOverflow_borrowsNextMillis() {
+        var generator = new SnowflakeIdGenerator(1, () -> NOW);
+
+        long last = 0;
+        for (int i = 0; i < 4096; i++) {
+            last = generator.nextId();
+        }
+        long overflow = generator.nextId();
+
+        assertThat(overflow).isGreaterThan(last);
+        assertThat(SnowflakeIdGenerator.timestampOf(last)).isEqualTo(NOW);
+        assertThat(SnowflakeIdGenerator.timestampOf(overflow)).isEqualTo(NOW + 1);
+        assertThat(SnowflakeIdGenerator.nodeIdOf(overflow)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("시계가 뒤로 가도 ID는 줄어들지 않는다")
+    void nextId_clockMovesBackwards_staysMonotonic() {
+        AtomicLong clock = new AtomicLong(NOW);
+        var generator = new SnowflakeIdGenerator(0, clock::get);
+
+        long before = generator.nextId();
+        clock.set(NOW - 5_000);
+        long after = generator.nextId();
+        clock.set(NOW + 10);
+        long recovered = generator.nextId();
+
+        assertThat(after).isGreaterThan(before);
+        assertThat(recovered).isGreaterThan(after);
+        assertThat(SnowflakeIdGenerator.timestampOf(recovered)).isEqualTo(NOW + 10);
+    }
+
+    @Test
+    @DisplayName("노드 ID 범위를 벗어나면 생성 실패")
+    void constructor_invalidNodeId() {
+        assertThatThrownBy(() -> new SnowflakeIdGenerator(-1))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new SnowflakeIdGenerator(SnowflakeIdGenerator.MAX_NODE_ID + 1))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("여러 스레드가 동시에 발급해도 중복이 없고 스레드별로는 단조 증가한다")
+    void nextId_concurrent_uniqueAndMonotonicPerThread() throws InterruptedException {
+        var generator = new SnowflakeIdGenerator(3);
+        int threads = 8;
+        int perThread = 20_000;
+        Set<Long> ids = ConcurrentHashMap.newKeySet();
+        List<Boolean> monotonic = new ArrayList<>();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+
+        for (int t = 0; t < threads; t++) {
+            executor.submit(() -> {
+                start.await();
+                long prev = Long.MIN_VALUE;
+                boolean ok = true;
+                Set<Long> local = new HashSet<>(perThread * 2);
+                for (int i = 0; i < perThread; i++) {
+                    long id = generator.nextId();
+                    ok &= id > prev;
+                    prev = id;
+                    local.add(id);
+                }
+                ids.addAll(local);
+                synchronized (monotonic) {
+                    monotonic.add(ok);
+                }
+                return null;
+            });
+        }
+        start.countDown();
+        executor.shutdown();
+        assertThat(executor.awaitTermination(30, TimeUnit.SECONDS)).isTrue();
+
+        assertThat(ids).hasSize(threads * perThread);
+        assertThat(monotonic).hasSize(threads).containsOnly(true);
+    }
+}
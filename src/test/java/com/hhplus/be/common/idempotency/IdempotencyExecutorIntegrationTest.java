@@ -0,0 +1,177 @@
+package com.hhplus.be.common.idempotency;
+
+import com.hhplus.be.common.exception.BusinessException;
+import com.hhplus.be.testsupport.IntegrationTestSupport;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("IdempotencyExecutor 통합 테스트")
+class IdempotencyExecutorIntegrationTest extends IntegrationTestSupport {
+
+    @Autowired
+    private IdempotencyExecutor idempotencyExecutor;
+
+    @Autowired
+    private IdempotencyRecordJpaRepository recordRepository;
+
+    @Autowired
+    private Clock clock;
+
+    private final AtomicInteger executions = new AtomicInteger();
+    private String key;
+
+    @BeforeEach
+    void setUp() {
+        recordRepository.deleteAllInBatch();
+        idempotencyExecutor.clearLocalCache();
+        key = "pay-" + UUID.randomUUID();
+    }
+
+    private Receipt run(String fingerprint) {
+        return idempotencyExecutor.execute(1L, key, fingerprint, Receipt.class,
+                () -> new Receipt(fingerprint, executions.incrementAndGet(), Instant.now(clock)));
+    }
+
+    @Test
+    @DisplayName("같은 키로 다시 요청하면 작업을 다시 실행하지 않고 처음 응답을 반환")
+    void duplicate_returnsStoredResponse() {
+        Receipt first = run("payment:10:null");
+        Receipt second = run("payment:10:null");
+
+        assertThat(executions.get()).isEqualTo(1);
+        assertThat(second).isEqualTo(first);
+        assertThat(recordRepository.findByUserIdAndIdempotencyKey(1L, key))
+                .get()
+                .extracting(IdempotencyRecord::getStatus)
+                .isEqualTo(IdempotencyStatus.COMPLETED);
+    }
+
+    @Test
+    @DisplayName("인메모리 캐시가 비어도 DB에 저장된 응답을 반환")
+    void duplicate_afterLocalCacheLoss_servedFromDatabase() {
+        Receipt first = run("payment:10:null");
+        idempotencyExecutor.clearLocalCache();
+
+        Receipt second = run("payment:10:null");
+
+        assertThat(executions.get()).isEqualTo(1);
+        assertThat(second).isEqualTo(first);
+    }
+
+    @Test
+    @DisplayName("동시에 들어온 중복 요청은 실행 중인 작업 하나에 합류")
+    void concurrentDuplicates_coalesceOntoInFlight() throws Exception {
+        int threads = 10;
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        List<Future<Receipt>> futures = new ArrayList<>();
+
+        for (int i = 0; i < threads; i++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                return idempotencyExecutor.execute(1L, key, "refund:7", Receipt.class, () -> {
+                    sleep(200);
+                    return new Receipt("refund:7", executions.incrementAndGet(), Instant.now(clock));
+                });
+            }));
+        }
+        start.countDown();
+
+        List<Receipt> results = new ArrayList<>();
+        for (Future<Receipt> future : futures) {
+            results.add(future.get());
+        }
+        executor.shutdown();
+
+        assertThat(executions.get()).isEqualTo(1);
+        assertThat(results).hasSize(threads).containsOnly(results.get(0));
+    }
+
+    @Test
+    @DisplayName("작업이 실패하면 선점을 해제해 같은 키로 재시도할 수 있다")
+    void failure_releasesClaim() {
+        assertThatThrownBy(() -> idempotencyExecutor.execute(1L, key, "payment:10:null", Receipt.class, () -> {
+            executions.incrementAndGet();
+            throw new BusinessException("재고 부족", "OUT_OF_STOCK");
+        })).isInstanceOf(BusinessException.class);
+        assertThat(recordRepository.findByUserIdAndIdempotencyKey(1L, key)).isEmpty();
+
+        Receipt retried = run("payment:10:null");
+
+        assertThat(executions.get()).isEqualTo(2);
+        assertThat(retried.sequence()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("같은 키를 다른 요청에 쓰면 IDEMPOTENCY_KEY_REUSED")
+    void sameKey_differentRequest_rejected() {
+        run("payment:10:null");
+        idempotencyExecutor.clearLocalCache();
+
+        assertThatThrownBy(() -> run("payment:11:null"))
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode")
+                .isEqualTo("IDEMPOTENCY_KEY_REUSED");
+        assertThat(executions.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스가 처리 중이면 IDEMPOTENCY_IN_PROGRESS, 임대 시간이 지났으면 이어받아 실행")
+    void inProgressElsewhere_rejectedUntilLeaseExpires() {
+        Instant now = Instant.now(clock);
+        recordRepository.saveAndFlush(IdempotencyRecord.inProgress(1L, key, "payment:10:null", now));
+
+        assertThatThrownBy(() -> run("payment:10:null"))
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode")
+                .isEqualTo("IDEMPOTENCY_IN_PROGRESS");
+
+        recordRepository.deleteAllInBatch();
+        recordRepository.saveAndFlush(IdempotencyRecord.inProgress(1L, key, "payment:10:null", now.minusSeconds(600)));
+
+        Receipt taken = run("payment:10:null");
+
+        assertThat(taken.sequence()).isEqualTo(1);
+        assertThat(recordRepository.findByUserIdAndIdempotencyKey(1L, key))
+                .get()
+                .extracting(IdempotencyRecord::getStatus)
+                .isEqualTo(IdempotencyStatus.COMPLETED);
+    }
+
+    @Test
+    @DisplayName("키가 없으면 매번 실행")
+    void noKey_executesEveryTime() {
+        idempotencyExecutor.execute(1L, null, "payment:10:null", Receipt.class,
+                () -> new Receipt("a", executions.incrementAndGet(), Instant.now(clock)));
+        idempotencyExecutor.execute(1L, null, "payment:10:null", Receipt.class,
+                () -> new Receipt("a", executions.incrementAndGet(), Instant.now(clock)));
+
+        assertThat(executions.get()).isEqualTo(2);
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    record Receipt(String request, int sequence, Instant issuedAt) {
+    }
+}
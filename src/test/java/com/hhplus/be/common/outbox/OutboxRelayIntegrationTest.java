@@ -0,0 +1,148 @@
+package com.hhplus.be.common.outbox;
+
+import com.hhplus.be.testsupport.IntegrationTestSupport;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.transaction.IllegalTransactionStateException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("Outbox 기록/릴레이 통합 테스트")
+class OutboxRelayIntegrationTest extends IntegrationTestSupport {
+    private static final String TEST_EVENT = "TEST_EVENT";
+    private static final String FAILING_EVENT = "TEST_FAILING_EVENT";
+
+    @Autowired
+    private OutboxAppender outboxAppender;
+
+    @Autowired
+    private OutboxRelay outboxRelay;
+
+    @Autowired
+    private OutboxEventJpaRepository outboxRepository;
+
+    @Autowired
+    private RecordingListener recordingListener;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate tx;
+
+    @BeforeEach
+    void setUp() {
+        outboxRepository.deleteAllInBatch();
+        recordingListener.received.clear();
+        tx = new TransactionTemplate(transactionManager);
+    }
+
+    @Test
+    @DisplayName("커밋된 이벤트는 리스너에 한 번씩 전달되고 SENT로 일괄 반영")
+    void committedEvents_dispatchedOnceAndMarkedSent() throws Exception {
+        int count = 450;  // batch-size(200)를 넘겨 여러 배치로 나뉘도록
+        tx.executeWithoutResult(status -> {
+            for (long orderId = 1; orderId <= count; orderId++) {
+                outboxAppender.append(orderId, TEST_EVENT, Map.of("orderId", orderId));
+            }
+        });
+
+        relayUntilDrained();
+
+        // 스케줄러가 동시에 폴링해도 SKIP LOCKED로 나눠 가지므로 중복 전달 없음
+        assertThat(recordingListener.received)
+                .extracting(OutboxMessage::orderId)
+                .hasSize(count)
+                .doesNotHaveDuplicates();
+        assertThat(outboxRepository.findAll())
+                .allSatisfy(event -> {
+                    assertThat(event.getStatus()).isEqualTo(OutboxStatus.SENT);
+                    assertThat(event.getSentAt()).isNotNull();
+                });
+    }
+
+    @Test
+    @DisplayName("트랜잭션이 롤백되면 Outbox 기록도 남지 않는다")
+    void rolledBack_leavesNoEvent() {
+        tx.executeWithoutResult(status -> {
+            outboxAppender.append(1L, TEST_EVENT, Map.of("orderId", 1L));
+            status.setRollbackOnly();
+        });
+
+        assertThat(outboxRepository.count()).isZero();
+    }
+
+    @Test
+    @DisplayName("트랜잭션 밖에서 기록하면 거부")
+    void appendWithoutTransaction_rejected() {
+        assertThatThrownBy(() -> outboxAppender.append(1L, TEST_EVENT, Map.of("orderId", 1L)))
+                .isInstanceOf(IllegalTransactionStateException.class);
+    }
+
+    @Test
+    @DisplayName("리스너가 실패한 이벤트만 FAILED로 남고 나머지는 전달된다")
+    void failingListener_marksOnlyThatEventFailed() throws Exception {
+        tx.executeWithoutResult(status -> {
+            outboxAppender.append(1L, TEST_EVENT, Map.of("orderId", 1L));
+            outboxAppender.append(2L, FAILING_EVENT, Map.of("orderId", 2L));
+            outboxAppender.append(3L, TEST_EVENT, Map.of("orderId", 3L));
+        });
+
+        relayUntilDrained();
+
+        assertThat(recordingListener.received)
+                .extracting(OutboxMessage::orderId)
+                .containsExactlyInAnyOrder(1L, 3L);
+        assertThat(outboxRepository.findAll())
+                .extracting(OutboxEvent::getOrderId, OutboxEvent::getStatus)
+                .containsExactlyInAnyOrder(
+                        tuple(1L, OutboxStatus.SENT),
+                        tuple(2L, OutboxStatus.FAILED),
+                        tuple(3L, OutboxStatus.SENT));
+    }
+
+    // 스케줄러가 선점한 배치는 커밋 전까지 PENDING으로 보이므로 빌 때까지 반복
+    private void relayUntilDrained() throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (outboxRepository.findAll().stream().anyMatch(e -> e.getStatus() == OutboxStatus.PENDING)) {
+            assertThat(System.currentTimeMillis()).isLessThan(deadline);
+            outboxRelay.relay();
+            Thread.sleep(50);
+        }
+    }
+
+    static class RecordingListener implements OutboxEventListener {
+        private final List<OutboxMessage> received = new CopyOnWriteArrayList<>();
+
+        @Override
+        public Set<String> eventTypes() {
+            return Set.of(TEST_EVENT, FAILING_EVENT);
+        }
+
+        @Override
+        public void onEvent(OutboxMessage message) {
+            if (FAILING_EVENT.equals(message.eventType())) {
+                throw new IllegalStateException("리스너 실패");
+            }
+            received.add(message);
+        }
+    }
+
+    @TestConfiguration
+    static class ListenerConfig {
+        @Bean
+        RecordingListener recordingListener() {
+            return new RecordingListener();
+        }
+    }
+}
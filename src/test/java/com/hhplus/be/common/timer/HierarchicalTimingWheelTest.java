@@ -0,0 +1,64 @@
+package com.hhplus.be.common.timer;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("HierarchicalTimingWheel 단위 테스트")
+class HierarchicalTimingWheelTest {
+
+    @Test
+    @DisplayName("마감 tick에 도달해야 꺼내지고, 이미 지난 마감은 등록되지 않는다")
+    void advanceTo_expiresAtDeadline() {
+        var wheel = new HierarchicalTimingWheel<Long>(1000, 8, 3, 0);
+
+        assertThat(wheel.schedule(1L, 5_000)).isTrue();
+        assertThat(wheel.schedule(2L, 0)).isFalse();
+
+        assertThat(wheel.advanceTo(4_999)).isEmpty();
+        assertThat(wheel.advanceTo(5_000)).containsExactly(1L);
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("상위 레벨에 둔 항목도 하위 레벨로 내려와 정확한 tick에 만료된다")
+    void advanceTo_cascadesAcrossLevels() {
+        // wheelSize 4, 레벨 3 → 레벨0: 4 tick, 레벨1: 16 tick, 레벨2: 64 tick 범위
+        var wheel = new HierarchicalTimingWheel<Long>(1, 4, 3, 3);
+        Map<Long, Long> expiredAt = new HashMap<>();
+        long[] deadlines = {4, 7, 9, 19, 20, 50, 66, 67, 200};
+        for (long deadline : deadlines) {
+            wheel.schedule(deadline, deadline);
+        }
+
+        for (long now = 4; now <= 200; now++) {
+            for (Long key : wheel.advanceTo(now)) {
+                expiredAt.put(key, now);
+            }
+        }
+
+        for (long deadline : deadlines) {
+            assertThat(expiredAt).containsEntry(deadline, deadline);
+        }
+    }
+
+    @Test
+    @DisplayName("취소한 항목은 만료되지 않고, 재등록하면 새 마감 시각이 적용된다")
+    void cancelAndReschedule() {
+        var wheel = new HierarchicalTimingWheel<Long>(1000, 8, 3, 0);
+        wheel.schedule(1L, 3_000);
+        wheel.schedule(2L, 3_000);
+        wheel.cancel(1L);
+        wheel.schedule(2L, 100_000);
+
+        List<Long> expired = new ArrayList<>(wheel.advanceTo(99_000));
+        assertThat(expired).isEmpty();
+        assertThat(wheel.advanceTo(100_000)).containsExactly(2L);
+    }
+}
@@ -0,0 +1,160 @@
+package com.hhplus.be.order.service;
+
+import com.hhplus.be.cart.domain.model.CartItem;
+import com.hhplus.be.cart.domain.repository.CartRepository;
+import com.hhplus.be.common.exception.ResourceNotFoundException;
+import com.hhplus.be.order.domain.repository.OrderRepository;
+import com.hhplus.be.order.service.dto.OrderDetailQuery;
+import com.hhplus.be.order.service.dto.OrderDetailResult;
+import com.hhplus.be.orderitem.domain.repository.OrderItemRepository;
+import com.hhplus.be.product.domain.model.Product;
+import com.hhplus.be.product.domain.repository.ProductRepository;
+import com.hhplus.be.testsupport.IntegrationTestSupport;
+import com.hhplus.be.user.domain.model.User;
+import com.hhplus.be.user.domain.repository.UserRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 주문 상세 조회 쿼리 수 벤치마크
+ *
+ * 기존: 회원 존재 확인 → 주문 조회 → 주문 항목 조회 (요청당 3쿼리, 엔티티 → 도메인 → DTO 2단 매핑)
+ * 개선: orders ⋈ order_items DTO 프로젝션 1쿼리, 소유권은 WHERE 조건
+ */
+class OrderDetailQueryCountTest extends IntegrationTestSupport {
+
+    private static final int ITERATIONS = 200;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private CartRepository cartRepository;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private OrderItemRepository orderItemRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private User testUser;
+    private Long orderId;
+
+    @BeforeEach
+    void setUp() {
+        cartRepository.deleteAll();
+        orderItemRepository.deleteAll();
+        orderRepository.deleteAll();
+
+        testUser = userRepository.save(User.create(
+                "상세조회유저", "detail_" + System.currentTimeMillis() + "@test.com", 1000000));
+
+        for (int i = 1; i <= 3; i++) {
+            Product product = productRepository.save(Product.create("상품" + i, "설명" + i, 1000 * i, 100));
+            cartRepository.save(CartItem.create(testUser.getId(), product.getId(), i));
+        }
+        orderId = orderService.createFromCart(testUser.getId()).orderId();
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        statistics.setStatisticsEnabled(false);
+    }
+
+    @Test
+    @DisplayName("기존 방식(회원 → 주문 → 항목)은 요청당 3쿼리")
+    void before_threeQueriesPerRequest() {
+        // When: 기존 getOrderDetail과 같은 순서로 조회
+        userRepository.findById(testUser.getId()).orElseThrow();
+        orderRepository.findById(orderId).orElseThrow();
+        orderItemRepository.findByOrderId(orderId);
+
+        // Then
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("프로젝션 조회는 요청당 1쿼리, 엔티티 로딩 없음")
+    void after_singleQueryPerRequest() {
+        // When
+        OrderDetailResult result = orderService.getOrderDetail(new OrderDetailQuery(testUser.getId(), orderId));
+
+        // Then
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+        assertThat(result.orderId()).isEqualTo(orderId);
+        assertThat(result.userId()).isEqualTo(testUser.getId());
+        assertThat(result.items()).hasSize(3);
+        assertThat(result.totalAmount())
+                .isEqualTo(result.items().stream().mapToInt(i -> i.unitPrice() * i.quantity()).sum());
+    }
+
+    @Test
+    @DisplayName("다른 회원의 주문이면 1쿼리 후 404")
+    void after_otherUsersOrder_NotFound() {
+        assertThatThrownBy(() -> orderService.getOrderDetail(new OrderDetailQuery(testUser.getId() + 1, orderId)))
+                .isInstanceOf(ResourceNotFoundException.class);
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("벤치마크: 기존 3쿼리 경로 vs 프로젝션 1쿼리 경로")
+    void benchmark_beforeVsAfter() {
+        OrderDetailQuery query = new OrderDetailQuery(testUser.getId(), orderId);
+
+        // 워밍업
+        for (int i = 0; i < 20; i++) {
+            orderService.getOrderDetail(query);
+        }
+        statistics.clear();
+
+        long beforeStart = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            userRepository.findById(testUser.getId()).orElseThrow();
+            orderRepository.findById(orderId).orElseThrow();
+            orderItemRepository.findByOrderId(orderId);
+        }
+        long beforeNanos = System.nanoTime() - beforeStart;
+        long beforeQueries = statistics.getPrepareStatementCount();
+
+        statistics.clear();
+        long afterStart = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            orderService.getOrderDetail(query);
+        }
+        long afterNanos = System.nanoTime() - afterStart;
+        long afterQueries = statistics.getPrepareStatementCount();
+
+        assertThat(beforeQueries).isEqualTo(3L * ITERATIONS);
+        assertThat(afterQueries).isEqualTo(ITERATIONS);
+
+        System.out.printf("주문 상세 조회 %d회%n", ITERATIONS);
+        System.out.printf("  기존: 요청당 %.1f쿼리, 평균 %.1fµs%n",
+                (double) beforeQueries / ITERATIONS, beforeNanos / 1000.0 / ITERATIONS);
+        System.out.printf("  개선: 요청당 %.1f쿼리, 평균 %.1fµs%n",
+                (double) afterQueries / ITERATIONS, afterNanos / 1000.0 / ITERATIONS);
+    }
+}
@@ -2,6 +2,7 @@ package com.hhplus.be.order.service;
 
 import com.hhplus.be.cart.domain.model.CartItem;
 import com.hhplus.be.cart.domain.repository.CartRepository;
+import com.hhplus.be.common.exception.InvalidInputException;
 import com.hhplus.be.order.domain.repository.OrderRepository;
 import com.hhplus.be.order.service.dto.OrderListQuery;
 import com.hhplus.be.order.service.dto.OrderListResult;
@@ -113,7 +114,7 @@ class OrderServiceIntegrationTest extends IntegrationTestSupport {
         }
 
         // When: 주문 목록 조회
-        OrderListQuery query = new OrderListQuery(testUser.getId());
+        OrderListQuery query = new OrderListQuery(testUser.getId(), null, 100);
         OrderListResult result = orderService.getOrderList(query);
 
         // Then: 10개 주문, 각 3개 항목
@@ -146,7 +147,7 @@ class OrderServiceIntegrationTest extends IntegrationTestSupport {
 
         // When: 주문 목록 조회 (시간 측정)
         long startTime = System.currentTimeMillis();
-        OrderListQuery query = new OrderListQuery(testUser.getId());
+        OrderListQuery query = new OrderListQuery(testUser.getId(), null, 100);
         OrderListResult result = orderService.getOrderList(query);
         long elapsedTime = System.currentTimeMillis() - startTime;
 
@@ -177,7 +178,7 @@ class OrderServiceIntegrationTest extends IntegrationTestSupport {
 
         // When: 주문 목록 조회 (시간 측정)
         long startTime = System.currentTimeMillis();
-        OrderListQuery query = new OrderListQuery(testUser.getId());
+        OrderListQuery query = new OrderListQuery(testUser.getId(), null, 100);
         OrderListResult result = orderService.getOrderList(query);
         long elapsedTime = System.currentTimeMillis() - startTime;
 
@@ -190,8 +191,8 @@ class OrderServiceIntegrationTest extends IntegrationTestSupport {
 
     @Test
     @Transactional
-    @DisplayName("성능 테스트: 500개 주문 목록 조회 - IN 절 성능 한계 확인")
-    void performance_getOrderList_500Orders_INClauseLimit() {
+    @DisplayName("성능 테스트: 500개 주문 목록 조회 - 커서로 50건씩 끝까지 순회")
+    void performance_getOrderList_500Orders_KeysetPaging() {
         // Given: 500개 주문 생성
         for (int i = 0; i < 500; i++) {
             CartItem cartItem = CartItem.create(
@@ -205,19 +206,65 @@ class OrderServiceIntegrationTest extends IntegrationTestSupport {
             cartRepository.deleteAllByUserId(testUser.getId());
         }
 
-        // When: 주문 목록 조회 (시간 측정)
+        // When: nextCursor를 따라 끝까지 조회 (시간 측정)
+        List<Long> seenOrderIds = new ArrayList<>();
+        String cursor = null;
+        int pages = 0;
         long startTime = System.currentTimeMillis();
-        OrderListQuery query = new OrderListQuery(testUser.getId());
-        OrderListResult result = orderService.getOrderList(query);
+        do {
+            OrderListResult page = orderService.getOrderList(new OrderListQuery(testUser.getId(), cursor, 50));
+            assertThat(page.orders()).hasSizeLessThanOrEqualTo(50);
+            page.orders().forEach(o -> seenOrderIds.add(o.orderId()));
+            cursor = page.nextCursor();
+            pages++;
+        } while (cursor != null);
         long elapsedTime = System.currentTimeMillis() - startTime;
 
-        // Then: 500개 주문 조회
-        assertThat(result.orders()).hasSize(500);
+        // Then: 500개 주문이 중복/누락 없이 10페이지에 나뉘어 조회
+        assertThat(pages).isEqualTo(10);
+        assertThat(seenOrderIds).hasSize(500).doesNotHaveDuplicates();
 
-        System.out.println("500개 주문 목록 조회 소요 시간: " + elapsedTime + "ms");
-        System.out.println("IN 절에 500개 ID 포함 - 성능 저하 가능");
-        System.out.println("개선안 1: 페이징 적용 (한 번에 20~50개씩 조회)");
-        System.out.println("개선안 2: JOIN 쿼리로 변경");
+        System.out.println("500개 주문 커서 순회(50건 x 10페이지) 소요 시간: " + elapsedTime + "ms");
+    }
+
+    @Test
+    @Transactional
+    @DisplayName("주문 목록 조회 - 같은 시각에 생성된 주문도 커서 경계에서 누락되지 않음")
+    void getOrderList_Cursor_NoGapOnSameCreatedAt() {
+        // Given: 7개 주문 (시각 정밀도상 같은 created_at이 섞일 수 있음)
+        List<Long> orderIds = new ArrayList<>();
+        for (int i = 0; i < 7; i++) {
+            cartRepository.save(CartItem.create(testUser.getId(), testProducts.get(i).getId(), 1));
+            orderIds.add(orderService.createFromCart(testUser.getId()).orderId());
+            cartRepository.deleteAllByUserId(testUser.getId());
+        }
+
+        // When: 3건씩 조회
+        OrderListResult first = orderService.getOrderList(new OrderListQuery(testUser.getId(), null, 3));
+        OrderListResult second = orderService.getOrderList(new OrderListQuery(testUser.getId(), first.nextCursor(), 3));
+        OrderListResult third = orderService.getOrderList(new OrderListQuery(testUser.getId(), second.nextCursor(), 3));
+
+        // Then
+        assertThat(first.hasNext()).isTrue();
+        assertThat(second.hasNext()).isTrue();
+        assertThat(third.hasNext()).isFalse();
+        assertThat(third.nextCursor()).isNull();
+
+        List<Long> seen = new ArrayList<>();
+        for (OrderListResult page : List.of(first, second, third)) {
+            page.orders().forEach(o -> seen.add(o.orderId()));
+        }
+        assertThat(seen).containsExactlyInAnyOrderElementsOf(orderIds);
+    }
+
+    @Test
+    @Transactional
+    @DisplayName("주문 목록 조회 - 페이지 크기 범위 밖이면 예외")
+    void getOrderList_InvalidSize_ThrowsException() {
+        assertThatThrownBy(() -> orderService.getOrderList(new OrderListQuery(testUser.getId(), null, 0)))
+                .isInstanceOf(InvalidInputException.class);
+        assertThatThrownBy(() -> orderService.getOrderList(new OrderListQuery(testUser.getId(), null, 101)))
+                .isInstanceOf(InvalidInputException.class);
     }
 
     @Test
@@ -251,7 +298,7 @@ class OrderServiceIntegrationTest extends IntegrationTestSupport {
         }
 
         // When: 주문 목록 조회
-        OrderListQuery query = new OrderListQuery(testUser.getId());
+        OrderListQuery query = new OrderListQuery(testUser.getId(), null, 100);
         OrderListResult result = orderService.getOrderList(query);
 
         // Then: 5개 주문 조회
@@ -324,7 +371,7 @@ class OrderServiceIntegrationTest extends IntegrationTestSupport {
         cartRepository.deleteAllByUserId(testUser.getId());
 
         // When: 주문 목록 조회
-        OrderListQuery query = new OrderListQuery(testUser.getId());
+        OrderListQuery query = new OrderListQuery(testUser.getId(), null, 100);
         OrderListResult result = orderService.getOrderList(query);
 
         // Then: 각 주문별 항목 개수 확인
@@ -352,7 +399,7 @@ class OrderServiceIntegrationTest extends IntegrationTestSupport {
         // Given: 주문 없음
 
         // When: 주문 목록 조회
-        OrderListQuery query = new OrderListQuery(testUser.getId());
+        OrderListQuery query = new OrderListQuery(testUser.getId(), null, 100);
         OrderListResult result = orderService.getOrderList(query);
 
         // Then: 빈 리스트
@@ -381,7 +428,7 @@ class OrderServiceIntegrationTest extends IntegrationTestSupport {
         }
 
         // When & Then: 목록 조회
-        OrderListQuery listQuery = new OrderListQuery(testUser.getId());
+        OrderListQuery listQuery = new OrderListQuery(testUser.getId(), null, 100);
         OrderListResult listResult = orderService.getOrderList(listQuery);
 
         assertThat(listResult.orders()).hasSize(3);
@@ -0,0 +1,97 @@
+package com.hhplus.be.order.service.expiry;
+
+import com.hhplus.be.order.domain.model.Order;
+import com.hhplus.be.order.domain.repository.OrderRepository;
+import com.hhplus.be.orderitem.domain.model.OrderItem;
+import com.hhplus.be.orderitem.domain.repository.OrderItemRepository;
+import com.hhplus.be.product.service.ProductService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OrderExpiryService 단위 테스트")
+class OrderExpiryServiceTest {
+
+    @Mock private OrderRepository orderRepository;
+    @Mock private OrderItemRepository orderItemRepository;
+    @Mock private ProductService productService;
+    @Mock private Clock clock;
+
+    @InjectMocks
+    private OrderExpiryService orderExpiryService;
+
+    private final Instant fixedNow = Instant.parse("2025-11-06T10:00:00Z");
+
+    @BeforeEach
+    void setUp() {
+        // 대상이 없으면 clock을 읽지 않으므로 lenient
+        lenient().when(clock.instant()).thenReturn(fixedNow);
+    }
+
+    @Test
+    @DisplayName("만료 전이에 성공하면 예약 재고를 복원한다")
+    void expire_releasesReservedStock() {
+        Order order = Order.create(1L, 20000, fixedNow.minusSeconds(60));
+        order.markStockReserved();
+        List<OrderItem> items = List.of(OrderItem.create(100L, 1L, "상품", 10000, 2));
+        when(orderRepository.findById(100L)).thenReturn(Optional.of(order));
+        when(orderRepository.expireIfPending(100L, fixedNow)).thenReturn(true);
+        when(orderItemRepository.findByOrderId(100L)).thenReturn(items);
+
+        assertThat(orderExpiryService.expire(100L)).isTrue();
+        verify(productService).increaseStocks(items);
+    }
+
+    @Test
+    @DisplayName("이미 결제/취소되어 전이하지 못하면 재고를 건드리지 않는다")
+    void expire_alreadyTransitioned_noop() {
+        Order order = Order.create(1L, 20000, fixedNow.minusSeconds(60));
+        order.markStockReserved();
+        when(orderRepository.findById(100L)).thenReturn(Optional.of(order));
+        when(orderRepository.expireIfPending(100L, fixedNow)).thenReturn(false);
+
+        assertThat(orderExpiryService.expire(100L)).isFalse();
+        verifyNoInteractions(productService, orderItemRepository);
+    }
+
+    @Test
+    @DisplayName("일괄 만료 - 잠근 주문을 한 번에 전이하고 예약 재고는 예약 주문의 항목만 모아 복원")
+    void expireOverdue_bulkTransitionAndRelease() {
+        Instant cutoff = fixedNow.minusSeconds(30);
+        List<OrderItem> items = List.of(
+                OrderItem.create(1L, 10L, "상품", 1000, 1),
+                OrderItem.create(3L, 10L, "상품", 1000, 2)
+        );
+        when(orderRepository.lockOverduePendingIds(cutoff, 100)).thenReturn(List.of(1L, 2L, 3L));
+        when(orderRepository.expireAll(List.of(1L, 2L, 3L), fixedNow)).thenReturn(3);
+        when(orderRepository.findStockReservedIdsIn(List.of(1L, 2L, 3L))).thenReturn(List.of(1L, 3L));
+        when(orderItemRepository.findByOrderIdIn(List.of(1L, 3L))).thenReturn(items);
+
+        assertThat(orderExpiryService.expireOverdue(cutoff, 100)).isEqualTo(3);
+        verify(productService).increaseStocks(items);
+        verify(orderRepository, never()).findById(any());
+    }
+
+    @Test
+    @DisplayName("일괄 만료 - 대상이 없으면 UPDATE 없이 0")
+    void expireOverdue_nothingToDo() {
+        when(orderRepository.lockOverduePendingIds(any(), anyInt())).thenReturn(List.of());
+
+        assertThat(orderExpiryService.expireOverdue(fixedNow, 100)).isZero();
+        verify(orderRepository, never()).expireAll(any(), any());
+    }
+}
@@ -0,0 +1,52 @@
+package com.hhplus.be.order.service.expiry;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@DisplayName("OrderExpirySweeper 단위 테스트")
+class OrderExpirySweeperTest {
+
+    private final Instant now = Instant.parse("2025-11-06T10:00:00Z");
+    private OrderExpiryService orderExpiryService;
+    private SimpleMeterRegistry meterRegistry;
+    private OrderExpirySweeper sweeper;
+
+    @BeforeEach
+    void setUp() {
+        orderExpiryService = mock(OrderExpiryService.class);
+        meterRegistry = new SimpleMeterRegistry();
+        sweeper = new OrderExpirySweeper(orderExpiryService, Clock.fixed(now, ZoneOffset.UTC), meterRegistry,
+                100, 5, 30);
+    }
+
+    @Test
+    @DisplayName("청크가 가득 차면 이어서 처리하고, 덜 찬 청크에서 멈춘 뒤 지표를 기록한다")
+    void sweep_untilPartialChunk() {
+        Instant cutoff = now.minusSeconds(30);
+        when(orderExpiryService.expireOverdue(cutoff, 100)).thenReturn(100, 100, 42);
+
+        assertThat(sweeper.sweep()).isEqualTo(242);
+
+        verify(orderExpiryService, times(3)).expireOverdue(cutoff, 100);
+        assertThat(meterRegistry.get("order.expiry.sweep.rows").summary().totalAmount()).isEqualTo(242);
+        assertThat(meterRegistry.get("order.expiry.sweep.duration").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("한 회차는 max-chunks까지만 처리한다")
+    void sweep_boundedByMaxChunks() {
+        when(orderExpiryService.expireOverdue(any(), eq(100))).thenReturn(100);
+
+        assertThat(sweeper.sweep()).isEqualTo(500);
+        verify(orderExpiryService, times(5)).expireOverdue(any(), eq(100));
+    }
+}
@@ -2,20 +2,20 @@ package com.hhplus.be.order.service.service;
 
 import com.hhplus.be.common.exception.BusinessException;
 import com.hhplus.be.common.exception.ResourceNotFoundException;
+import com.hhplus.be.common.outbox.OutboxAppender;
+import com.hhplus.be.order.domain.event.OrderRefundedEvent;
 import com.hhplus.be.order.domain.model.Order;
 import com.hhplus.be.order.domain.model.OrderStatus;
 import com.hhplus.be.order.domain.repository.OrderRepository;
 import com.hhplus.be.order.service.OrderService;
 import com.hhplus.be.order.service.dto.RefundCommand;
 import com.hhplus.be.order.service.dto.RefundResult;
+import com.hhplus.be.order.service.expiry.OrderExpiryTimer;
 import com.hhplus.be.orderitem.domain.model.OrderItem;
 import com.hhplus.be.orderitem.domain.repository.OrderItemRepository;
-import com.hhplus.be.point.domain.model.Point;
-import com.hhplus.be.point.domain.model.PointType;
-import com.hhplus.be.point.domain.repository.PointRepository;
-import com.hhplus.be.product.domain.model.Product;
+import com.hhplus.be.point.service.PointService;
 import com.hhplus.be.product.domain.repository.ProductRepository;
-import com.hhplus.be.user.domain.model.User;
+import com.hhplus.be.product.service.ProductService;
 import com.hhplus.be.user.domain.repository.UserRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -41,7 +41,10 @@ class OrderServiceRefundCancelTest {
     @Mock private UserRepository userRepository;
     @Mock private ProductRepository productRepository;
     @Mock private OrderItemRepository orderItemRepository;
-    @Mock private PointRepository pointRepository;
+    @Mock private PointService pointService;
+    @Mock private ProductService productService;
+    @Mock private OrderExpiryTimer orderExpiryTimer;
+    @Mock private OutboxAppender outboxAppender;
     @Mock private Clock clock;
 
     @InjectMocks
@@ -68,6 +71,7 @@ class OrderServiceRefundCancelTest {
         assignOrderId(confirmedOrder, orderId);
         confirmedOrder.confirm(finalAmount, fixedNow.minusSeconds(600)); // 10분 전 결제됨
         when(orderRepository.findById(orderId)).thenReturn(Optional.of(confirmedOrder));
+        when(orderRepository.refundIfConfirmed(orderId, fixedNow)).thenReturn(true);
 
         // 주문 항목들
         List<OrderItem> orderItems = List.of(
@@ -76,44 +80,36 @@ class OrderServiceRefundCancelTest {
         );
         when(orderItemRepository.findByOrderId(orderId)).thenReturn(orderItems);
 
-        // 사용자 (현재 잔액 50000원)
-        User user = User.create(userId, "홍길동", "hong@test.com", 50000);
-        when(userRepository.findById(userId)).thenReturn(Optional.of(user));
-
-        // 상품들 (재고 복구용)
-        Product product1 = Product.create("상품A", "설명A", 10000, 10);
-        when(productRepository.findById(1L)).thenReturn(Optional.of(product1));
-
-        Product product2 = Product.create("상품B", "설명B", 10000, 5);
-        when(productRepository.findById(2L)).thenReturn(Optional.of(product2));
-
-        // 포인트 히스토리 저장
-        when(pointRepository.save(any(Point.class))).thenAnswer(inv -> inv.getArgument(0));
+        // 포인트 환불 (현재 잔액 50000원 → 80000원)
+        when(pointService.refundPoints(userId, finalAmount)).thenReturn(80000);
 
         // When
         RefundCommand command = new RefundCommand(userId, orderId);
         RefundResult result = orderService.processRefund(command);
 
         // Then
-        // 1. 주문 상태가 REFUNDED로 변경
+        // 1. 주문 상태가 REFUNDED로 변경 (조건부 UPDATE)
         assertThat(confirmedOrder.getStatus()).isEqualTo(OrderStatus.REFUNDED);
         assertThat(confirmedOrder.getRefundedAt()).isEqualTo(fixedNow);
+        verify(orderRepository).refundIfConfirmed(orderId, fixedNow);
 
         // 2. 포인트 환불 (50000 + 30000 = 80000)
-        assertThat(user.getBalance()).isEqualTo(80000);
+        verify(pointService).refundPoints(userId, 30000);
 
-        // 3. 재고 복구 (10 + 2 = 12, 5 + 1 = 6)
-        assertThat(product1.getStock()).isEqualTo(12);
-        assertThat(product2.getStock()).isEqualTo(6);
+        // 3. 재고 복구
+        verify(productService).increaseStocks(orderItems);
 
         // 4. 포인트 히스토리 기록
-        verify(pointRepository).save(argThat(point ->
-                point.getPointType() == PointType.REFUND &&
-                point.getAmount() == 30000 &&
-                point.getBalanceAfter() == 80000
-        ));
+        verify(pointService).recordRefundHistory(userId, 30000, 80000);
 
-        // 5. 결과 검증
+        // 5. 환불 이벤트 Outbox 기록 (원 결제 시점 기준)
+        verify(outboxAppender).append(eq(orderId), eq(OrderRefundedEvent.TYPE), argThat((Object event) ->
+                event instanceof OrderRefundedEvent refunded
+                        && refunded.orderId().equals(orderId)
+                        && refunded.paidAt().equals(fixedNow.minusSeconds(600))
+                        && refunded.items().size() == 2));
+
+        // 6. 결과 검증
         assertThat(result.orderId()).isEqualTo(orderId);
         assertThat(result.userId()).isEqualTo(userId);
         assertThat(result.status()).isEqualTo(OrderStatus.REFUNDED);
@@ -170,22 +166,33 @@ class OrderServiceRefundCancelTest {
         refundedOrder.refund(fixedNow.minusSeconds(600)); // 환불 완료
         when(orderRepository.findById(orderId)).thenReturn(Optional.of(refundedOrder));
 
-        List<OrderItem> orderItems = List.of(
-                createOrderItem(1L, orderId, 1L, "상품", 30000, 1)
-        );
-        when(orderItemRepository.findByOrderId(orderId)).thenReturn(orderItems);
+        // When & Then
+        RefundCommand command = new RefundCommand(userId, orderId);
+        assertThatThrownBy(() -> orderService.processRefund(command))
+                .isInstanceOf(BusinessException.class)
+                .hasMessageContaining("환불할 수 없는 주문 상태");
+        verifyNoInteractions(pointService, productService, outboxAppender);
+    }
 
-        User user = User.create(userId, "홍길동", "hong@test.com", 50000);
-        when(userRepository.findById(userId)).thenReturn(Optional.of(user));
+    @Test
+    @DisplayName("환불 실패 - 조회 이후 다른 환불이 먼저 전이했으면 포인트/재고를 반영하지 않음")
+    void processRefund_lostRace_noCredit() {
+        // Given: 조회 시점엔 CONFIRMED지만 동시 환불이 먼저 커밋됨
+        Long userId = 1L;
+        Long orderId = 100L;
 
-        Product product = Product.create("상품", "설명", 30000, 10);
-        when(productRepository.findById(1L)).thenReturn(Optional.of(product));
+        Order confirmedOrder = Order.create(userId, 30000, fixedNow.plusSeconds(1800));
+        assignOrderId(confirmedOrder, orderId);
+        confirmedOrder.confirm(30000, fixedNow.minusSeconds(600));
+        when(orderRepository.findById(orderId)).thenReturn(Optional.of(confirmedOrder));
+        when(orderRepository.refundIfConfirmed(orderId, fixedNow)).thenReturn(false);
 
         // When & Then
         RefundCommand command = new RefundCommand(userId, orderId);
         assertThatThrownBy(() -> orderService.processRefund(command))
                 .isInstanceOf(BusinessException.class)
                 .hasMessageContaining("환불할 수 없는 주문 상태");
+        verifyNoInteractions(pointService, productService, outboxAppender);
     }
 
     @Test
@@ -199,12 +206,61 @@ class OrderServiceRefundCancelTest {
         Order pendingOrder = Order.create(userId, 30000, fixedNow.plusSeconds(1800));
         assignOrderId(pendingOrder, orderId);
         when(orderRepository.findById(orderId)).thenReturn(Optional.of(pendingOrder));
+        when(orderRepository.cancelIfPending(orderId, fixedNow)).thenReturn(true);
 
         // When
         orderService.cancelOrder(userId, orderId);
 
         // Then
         assertThat(pendingOrder.getStatus()).isEqualTo(OrderStatus.CANCELLED);
+        verify(orderRepository).cancelIfPending(orderId, fixedNow);
+        verify(orderExpiryTimer).cancelAfterCommit(orderId);
+        verifyNoInteractions(productService);
+    }
+
+    @Test
+    @DisplayName("주문 취소 - 재고를 예약한 주문이면 예약 재고를 복원")
+    void cancelOrder_reservedOrder_releasesStock() {
+        // Given
+        Long userId = 1L;
+        Long orderId = 100L;
+
+        Order reservedOrder = Order.create(userId, 30000, fixedNow.plusSeconds(1800));
+        reservedOrder.markStockReserved();
+        assignOrderId(reservedOrder, orderId);
+        when(orderRepository.findById(orderId)).thenReturn(Optional.of(reservedOrder));
+        when(orderRepository.cancelIfPending(orderId, fixedNow)).thenReturn(true);
+
+        List<OrderItem> items = List.of(createOrderItem(1L, orderId, 10L, "상품", 10000, 3));
+        when(orderItemRepository.findByOrderId(orderId)).thenReturn(items);
+
+        // When
+        orderService.cancelOrder(userId, orderId);
+
+        // Then
+        assertThat(reservedOrder.getStatus()).isEqualTo(OrderStatus.CANCELLED);
+        verify(productService).increaseStocks(items);
+        verify(orderExpiryTimer).cancelAfterCommit(orderId);
+    }
+
+    @Test
+    @DisplayName("주문 취소 실패 - 조회 이후 다른 트랜잭션이 먼저 전이했으면 예약 재고를 복원하지 않음")
+    void cancelOrder_lostRace_doesNotReleaseStock() {
+        // Given: 조회 시점엔 PENDING이지만 만료/결제가 먼저 커밋됨
+        Long userId = 1L;
+        Long orderId = 100L;
+
+        Order reservedOrder = Order.create(userId, 30000, fixedNow.plusSeconds(1800));
+        reservedOrder.markStockReserved();
+        assignOrderId(reservedOrder, orderId);
+        when(orderRepository.findById(orderId)).thenReturn(Optional.of(reservedOrder));
+        when(orderRepository.cancelIfPending(orderId, fixedNow)).thenReturn(false);
+
+        // When & Then
+        assertThatThrownBy(() -> orderService.cancelOrder(userId, orderId))
+                .isInstanceOf(BusinessException.class)
+                .hasMessageContaining("취소할 수 없는 주문 상태");
+        verifyNoInteractions(productService, orderExpiryTimer);
     }
 
     @Test
@@ -5,12 +5,15 @@ import com.hhplus.be.cart.domain.repository.CartRepository;
 import com.hhplus.be.common.exception.BusinessException;
 import com.hhplus.be.common.exception.InvalidInputException;
 import com.hhplus.be.common.exception.ResourceNotFoundException;
+import com.hhplus.be.common.outbox.OutboxAppender;
 import com.hhplus.be.order.domain.model.Order;
 import com.hhplus.be.order.domain.model.OrderStatus;
 import com.hhplus.be.order.domain.repository.OrderRepository;
+import com.hhplus.be.order.service.expiry.OrderExpiryTimer;
 import com.hhplus.be.orderitem.domain.repository.OrderItemRepository;
 import com.hhplus.be.product.domain.model.Product;
 import com.hhplus.be.product.domain.repository.ProductRepository;
+import com.hhplus.be.product.service.ProductService;
 import com.hhplus.be.user.domain.model.User;
 import com.hhplus.be.user.domain.repository.UserRepository;
 import com.hhplus.be.order.service.OrderService;
@@ -41,13 +44,16 @@ class OrderServiceTest {
     @Mock private CartRepository cartRepository;
     @Mock private OrderRepository orderRepository;
     @Mock private OrderItemRepository orderItemRepository;
+    @Mock private ProductService productService;
+    @Mock private OrderExpiryTimer orderExpiryTimer;
+    @Mock private OutboxAppender outboxAppender;
     @Mock private Clock clock;
 
     @InjectMocks
     private OrderService orderService;
 
     @Test
-    @DisplayName("장바구니로 주문 생성 성공 - PENDING/총액/만료시간 설정")
+    @DisplayName("장바구니로 주문 생성 성공 - PENDING/총액/만료시간 설정 + 재고 예약")
     void createFromCart_success() {
         // given
         Long userId = 1L;
@@ -62,8 +68,8 @@ class OrderServiceTest {
         );
         when(cartRepository.findByUserId(userId)).thenReturn(cartItems);
 
-        when(productRepository.findById(1L))
-                .thenReturn(Optional.of(Product.create("맥북 PRO", "M3", 3_000_000, 10)));
+        when(productRepository.findAllByIds(List.of(1L)))
+                .thenReturn(List.of(createProductWithId(1L, "맥북 PRO", 3_000_000, 10)));
 
         // save 시 ID 부여
         when(orderRepository.save(any(Order.class))).thenAnswer(inv -> {
@@ -85,7 +91,38 @@ class OrderServiceTest {
         assertThat(result.expiresAt()).isEqualTo(expectedExpiry);
 
         verify(orderItemRepository).saveAll(anyList());
-        verify(orderRepository).save(any(Order.class));
+        verify(orderRepository).save(argThat(Order::isStockReserved));
+
+        // 재고 예약 + 만료 타이머 등록
+        verify(productService).decreaseStocks(argThat(items ->
+                items.size() == 1 && items.get(0).getOrderId().equals(12345L) && items.get(0).getQuantity() == 2));
+        verify(orderExpiryTimer).scheduleAfterCommit(12345L, expectedExpiry);
+    }
+
+    @Test
+    @DisplayName("재고 예약 실패 시 409(OUT_OF_STOCK) - 만료 타이머를 등록하지 않는다")
+    void createFromCart_reservationFails_409() {
+        // given
+        Long userId = 1L;
+        when(clock.instant()).thenReturn(Instant.parse("2025-01-01T10:00:00Z"));
+        when(userRepository.findById(userId))
+                .thenReturn(Optional.of(User.create(userId, "홍길동", "hong@example.com", 10_000)));
+        when(cartRepository.findByUserId(userId)).thenReturn(List.of(CartItem.create(userId, 1L, 5)));
+        when(productRepository.findAllByIds(List.of(1L)))
+                .thenReturn(List.of(createProductWithId(1L, "재고 3개", 5_000, 3)));
+        when(orderRepository.save(any(Order.class))).thenAnswer(inv -> {
+            Order o = inv.getArgument(0);
+            assignOrderId(o, 1L);
+            return o;
+        });
+        doThrow(new BusinessException("재고가 부족합니다", "OUT_OF_STOCK"))
+                .when(productService).decreaseStocks(anyList());
+
+        // when & then
+        assertThatThrownBy(() -> orderService.createFromCart(userId))
+                .isInstanceOf(BusinessException.class)
+                .hasMessage("재고가 부족합니다");
+        verifyNoInteractions(orderExpiryTimer);
     }
 
     @Test
@@ -129,8 +166,8 @@ class OrderServiceTest {
         when(cartRepository.findByUserId(userId))
                 .thenReturn(List.of(CartItem.create(userId, 1L, 1)));
 
-        when(productRepository.findById(1L))
-                .thenReturn(Optional.of(Product.create("품절상품", "N/A", 5_000, 0)));
+        when(productRepository.findAllByIds(List.of(1L)))
+                .thenReturn(List.of(createProductWithId(1L, "품절상품", 5_000, 0)));
 
         // when & then
         assertThatThrownBy(() -> orderService.createFromCart(userId))
@@ -139,6 +176,10 @@ class OrderServiceTest {
         verify(orderItemRepository, never()).saveAll(anyList());
     }
 
+    private Product createProductWithId(Long id, String name, int price, int stock) {
+        return Product.reconstruct(id, name, "설명", price, stock, 0, Instant.now(), Instant.now());
+    }
+
     // Helper method for ID assignment
     private void assignOrderId(Order order, Long id) {
         try {
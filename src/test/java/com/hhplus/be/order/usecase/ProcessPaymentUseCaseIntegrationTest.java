@@ -13,6 +13,7 @@ import com.hhplus.be.order.service.OrderService;
 import com.hhplus.be.order.service.dto.CreateOrderResult;
 import com.hhplus.be.order.service.dto.PaymentCommand;
 import com.hhplus.be.order.service.dto.PaymentResult;
+import com.hhplus.be.order.service.dto.RefundCommand;
 import com.hhplus.be.orderitem.domain.repository.OrderItemRepository;
 import com.hhplus.be.point.domain.repository.PointRepository;
 import com.hhplus.be.product.domain.model.Product;
@@ -33,6 +34,7 @@ import java.time.Clock;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
@@ -48,7 +50,9 @@ import static org.assertj.core.api.Assertions.*;
  * 전체 결제 플로우 검증:
  * - 주문 검증 → 쿠폰 할인 → 재고 차감 → 포인트 차감 → 주문 확정
  * - 트랜잭션 롤백 확인
- * - 동시 결제 처리
+ * - 동시 주문 생성 (재고 예약)
+ * - 같은 주문의 동시 결제/취소 (상태 전이 한 번만 성공)
+ * - 환불 (포인트/재고 복구, 재환불 거부)
  */
 class ProcessPaymentUseCaseIntegrationTest extends IntegrationTestSupport {
 
@@ -221,7 +225,8 @@ class ProcessPaymentUseCaseIntegrationTest extends IntegrationTestSupport {
         CreateOrderResult orderResult = orderService.createFromCart(poorUser.getId());
         Long orderId = orderResult.orderId();
 
-        int initialStock = testProduct.getStock();
+        // 주문 생성 시 예약된 재고 반영 후 기준
+        int initialStock = productRepository.findById(testProduct.getId()).orElseThrow().getStock();
 
         // When & Then: 결제 실패
         PaymentCommand command = new PaymentCommand(poorUser.getId(), orderId, null);
@@ -239,8 +244,8 @@ class ProcessPaymentUseCaseIntegrationTest extends IntegrationTestSupport {
     }
 
     @Test
-    @DisplayName("재고 부족 시 결제 실패 - 트랜잭션 롤백")
-    void processPayment_OutOfStock_RollbackTransaction() {
+    @DisplayName("재고 부족 시 주문 생성 실패 - 재고 예약 불가로 주문이 남지 않음")
+    void createOrder_OutOfStock_RollbackTransaction() {
         // Given: 재고 부족 상품
         Product lowStockProduct = Product.create(
                 "품절임박상품",
@@ -253,29 +258,21 @@ class ProcessPaymentUseCaseIntegrationTest extends IntegrationTestSupport {
         // 2개 주문
         CartItem cartItem = CartItem.create(testUser.getId(), lowStockProduct.getId(), 2);
         cartRepository.save(cartItem);
-        CreateOrderResult orderResult = orderService.createFromCart(testUser.getId());
-        Long orderId = orderResult.orderId();
-
-        int initialBalance = testUser.getBalance();
 
-        // When & Then: 결제 실패
-        PaymentCommand command = new PaymentCommand(testUser.getId(), orderId, null);
-        assertThatThrownBy(() -> processPaymentUseCase.execute(command))
+        // When & Then: 주문 생성 시점에 재고 부족 (결제까지 가지 않음)
+        assertThatThrownBy(() -> orderService.createFromCart(testUser.getId()))
                 .isInstanceOf(BusinessException.class)
                 .hasMessageContaining("재고");
 
-        // 포인트는 차감되지 않아야 함 (트랜잭션 롤백)
-        User unchangedUser = userRepository.findById(testUser.getId()).orElseThrow();
-        assertThat(unchangedUser.getBalance()).isEqualTo(initialBalance);
-
-        // 주문 상태는 PENDING 유지
-        Order unchangedOrder = orderRepository.findById(orderId).orElseThrow();
-        assertThat(unchangedOrder.getStatus()).isEqualTo(OrderStatus.PENDING);
+        // 재고/주문 모두 롤백
+        Product unchangedProduct = productRepository.findById(lowStockProduct.getId()).orElseThrow();
+        assertThat(unchangedProduct.getStock()).isEqualTo(1);
+        assertThat(orderRepository.findByUserIdOrderByCreatedAtDesc(testUser.getId())).isEmpty();
     }
 
     @Test
-    @DisplayName("동시 결제 처리 - 동일 상품에 대한 재고 차감 동시성 제어")
-    void concurrency_ProcessPayment_StockDeduction() throws InterruptedException {
+    @DisplayName("동시 주문 생성 - 동일 상품에 대한 재고 예약 동시성 제어")
+    void concurrency_CreateOrder_StockReservation() throws InterruptedException {
         // Given: 재고 10개 상품
         Product limitedProduct = Product.create(
                 "한정상품",
@@ -285,10 +282,8 @@ class ProcessPaymentUseCaseIntegrationTest extends IntegrationTestSupport {
         );
         limitedProduct = productRepository.save(limitedProduct);
 
-        // 20명의 유저 생성 (각 100만원)
+        // 20명의 유저 생성 (각 100만원) + 장바구니에 1개씩
         List<User> users = new ArrayList<>();
-        List<Long> orderIds = new ArrayList<>();
-
         for (int i = 0; i < 20; i++) {
             User user = User.create(
                     "유저" + i,
@@ -296,32 +291,19 @@ class ProcessPaymentUseCaseIntegrationTest extends IntegrationTestSupport {
                     1000000
             );
             users.add(userRepository.save(user));
-
-            // 각 유저별 주문 생성 (1개씩)
-            CartItem cartItem = CartItem.create(user.getId(), limitedProduct.getId(), 1);
-            cartRepository.save(cartItem);
-            CreateOrderResult orderResult = orderService.createFromCart(user.getId());
-            orderIds.add(orderResult.orderId());
-            cartRepository.deleteAllByUserId(user.getId());
+            cartRepository.save(CartItem.create(user.getId(), limitedProduct.getId(), 1));
         }
 
-        // When: 20명이 동시에 결제 시도
+        // When: 20명이 동시에 주문 생성 (재고 예약)
         ExecutorService executorService = Executors.newFixedThreadPool(20);
         CountDownLatch latch = new CountDownLatch(20);
-        AtomicInteger successCount = new AtomicInteger(0);
+        List<Long> orderIds = Collections.synchronizedList(new ArrayList<>());
         AtomicInteger failCount = new AtomicInteger(0);
 
-        for (int i = 0; i < 20; i++) {
-            int index = i;
+        for (User user : users) {
             executorService.submit(() -> {
                 try {
-                    PaymentCommand command = new PaymentCommand(
-                            users.get(index).getId(),
-                            orderIds.get(index),
-                            null
-                    );
-                    processPaymentUseCase.execute(command);
-                    successCount.incrementAndGet();
+                    orderIds.add(orderService.createFromCart(user.getId()).orderId());
                 } catch (BusinessException e) {
                     if (e.getMessage().contains("재고")) {
                         failCount.incrementAndGet();
@@ -337,15 +319,124 @@ class ProcessPaymentUseCaseIntegrationTest extends IntegrationTestSupport {
         latch.await(30, TimeUnit.SECONDS);
         executorService.shutdown();
 
-        // Then: 10명 성공, 10명 실패
-        assertThat(successCount.get()).isEqualTo(10);
+        // Then: 10명 예약 성공, 10명 실패, 재고 0개
+        assertThat(orderIds).hasSize(10);
         assertThat(failCount.get()).isEqualTo(10);
-
-        // 최종 재고 0개
         Product finalProduct = productRepository.findById(limitedProduct.getId()).orElseThrow();
         assertThat(finalProduct.getStock()).isEqualTo(0);
 
-        System.out.println("성공: " + successCount.get() + ", 실패: " + failCount.get());
+        // 예약에 성공한 주문은 재고 추가 차감 없이 모두 결제 가능
+        for (Long orderId : orderIds) {
+            Order order = orderRepository.findById(orderId).orElseThrow();
+            processPaymentUseCase.execute(new PaymentCommand(order.getUserId(), orderId, null));
+        }
+        assertThat(productRepository.findById(limitedProduct.getId()).orElseThrow().getStock()).isEqualTo(0);
+
+        System.out.println("예약 성공: " + orderIds.size() + ", 실패: " + failCount.get());
+    }
+
+    @Test
+    @DisplayName("환불 - 포인트와 재고가 복구되고, 같은 주문을 다시 환불하면 아무것도 반영하지 않고 거부된다")
+    void refund_Twice_CreditsOnce() {
+        // Given: 2개 주문 → 결제 (재고 98, 잔액 -100,000)
+        cartRepository.save(CartItem.create(testUser.getId(), testProduct.getId(), 2));
+        Long orderId = orderService.createFromCart(testUser.getId()).orderId();
+        processPaymentUseCase.execute(new PaymentCommand(testUser.getId(), orderId, null));
+
+        // When: 환불
+        orderService.processRefund(new RefundCommand(testUser.getId(), orderId));
+
+        // Then: 상태/잔액/재고 복구
+        assertThat(orderRepository.findById(orderId).orElseThrow().getStatus()).isEqualTo(OrderStatus.REFUNDED);
+        assertThat(userRepository.findById(testUser.getId()).orElseThrow().getBalance()).isEqualTo(1000000);
+        assertThat(productRepository.findById(testProduct.getId()).orElseThrow().getStock()).isEqualTo(100);
+
+        // When & Then: 재환불은 거부되고 잔액/재고는 그대로
+        assertThatThrownBy(() -> orderService.processRefund(new RefundCommand(testUser.getId(), orderId)))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("errorCode", "INVALID_ORDER_STATUS");
+        assertThat(orderRepository.findById(orderId).orElseThrow().getStatus()).isEqualTo(OrderStatus.REFUNDED);
+        assertThat(userRepository.findById(testUser.getId()).orElseThrow().getBalance()).isEqualTo(1000000);
+        assertThat(productRepository.findById(testProduct.getId()).orElseThrow().getStock()).isEqualTo(100);
+    }
+
+    @Test
+    @DisplayName("같은 주문을 동시에 여러 번 결제해도 한 번만 확정되고 포인트도 한 번만 차감된다")
+    void concurrency_PaySameOrder_DeductsOnce() throws InterruptedException {
+        // Given
+        cartRepository.save(CartItem.create(testUser.getId(), testProduct.getId(), 1));
+        Long orderId = orderService.createFromCart(testUser.getId()).orderId();
+
+        // When: 5건 동시 결제
+        int attempts = 5;
+        ExecutorService executorService = Executors.newFixedThreadPool(attempts);
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(attempts);
+        AtomicInteger success = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+        for (int i = 0; i < attempts; i++) {
+            executorService.submit(() -> {
+                try {
+                    start.await();
+                    processPaymentUseCase.execute(new PaymentCommand(testUser.getId(), orderId, null));
+                    success.incrementAndGet();
+                } catch (BusinessException e) {
+                    rejected.incrementAndGet();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        start.countDown();
+        done.await(30, TimeUnit.SECONDS);
+        executorService.shutdown();
+
+        // Then
+        assertThat(success.get()).isEqualTo(1);
+        assertThat(rejected.get()).isEqualTo(attempts - 1);
+        assertThat(orderRepository.findById(orderId).orElseThrow().getStatus()).isEqualTo(OrderStatus.CONFIRMED);
+        assertThat(userRepository.findById(testUser.getId()).orElseThrow().getBalance()).isEqualTo(1000000 - 50000);
+        assertThat(pointRepository.findByUserIdOrderByCreatedAtDesc(testUser.getId())).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("같은 주문을 동시에 여러 번 취소해도 예약 재고는 한 번만 복원된다")
+    void concurrency_CancelSameOrder_ReleasesStockOnce() throws InterruptedException {
+        // Given: 3개 예약 → 재고 97
+        cartRepository.save(CartItem.create(testUser.getId(), testProduct.getId(), 3));
+        Long orderId = orderService.createFromCart(testUser.getId()).orderId();
+
+        // When: 5건 동시 취소
+        int attempts = 5;
+        ExecutorService executorService = Executors.newFixedThreadPool(attempts);
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(attempts);
+        AtomicInteger success = new AtomicInteger();
+        for (int i = 0; i < attempts; i++) {
+            executorService.submit(() -> {
+                try {
+                    start.await();
+                    orderService.cancelOrder(testUser.getId(), orderId);
+                    success.incrementAndGet();
+                } catch (BusinessException e) {
+                    // 이미 취소됨
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        start.countDown();
+        done.await(30, TimeUnit.SECONDS);
+        executorService.shutdown();
+
+        // Then
+        assertThat(success.get()).isEqualTo(1);
+        assertThat(orderRepository.findById(orderId).orElseThrow().getStatus()).isEqualTo(OrderStatus.CANCELLED);
+        assertThat(productRepository.findById(testProduct.getId()).orElseThrow().getStock()).isEqualTo(100);
     }
 
     @Test
@@ -10,7 +10,6 @@ import com.hhplus.be.order.service.dto.PaymentResult;
 import com.hhplus.be.orderitem.domain.model.OrderItem;
 import com.hhplus.be.point.service.PointService;
 import com.hhplus.be.product.service.ProductService;
-import com.hhplus.be.user.domain.model.User;
 import com.hhplus.be.coupon.service.CouponService;
 import com.hhplus.be.coupon.service.dto.DiscountCalculationResult;
 import com.hhplus.be.coupon.service.dto.ValidateDiscountCommand;
@@ -76,22 +75,20 @@ class ProcessPaymentUseCaseTest {
                 OrderItem.create(orderId, 2L, "상품B", 30000, 1)
         );
 
-        User user = User.create(userId, "홍길동", "hong@test.com", userBalance);
-
         when(orderService.validateForPayment(userId, orderId, fixedNow)).thenReturn(order);
         when(orderService.getOrderItems(orderId)).thenReturn(items);
         when(couponService.validateAndCalculateDiscount(any(ValidateDiscountCommand.class)))
                 .thenReturn(DiscountCalculationResult.noDiscount());
-        when(pointService.deductPoints(userId, totalAmount)).thenReturn(user);
+        when(pointService.deductPoints(userId, totalAmount)).thenReturn(userBalance - totalAmount);
 
         // confirmOrder 호출 시 실제 Order 객체 변경
         doAnswer(invocation -> {
             Order o = invocation.getArgument(0);
-            int finalAmt = invocation.getArgument(1);
-            Instant paidAt = invocation.getArgument(2);
+            int finalAmt = invocation.getArgument(2);
+            Instant paidAt = invocation.getArgument(3);
             o.confirm(finalAmt, paidAt);
             return null;
-        }).when(orderService).confirmOrder(any(Order.class), anyInt(), any(Instant.class));
+        }).when(orderService).confirmOrder(any(Order.class), anyList(), anyInt(), any(Instant.class));
 
         // When
         PaymentResult result = processPaymentUseCase.execute(command);
@@ -103,6 +100,7 @@ class ProcessPaymentUseCaseTest {
         assertThat(result.status()).isEqualTo(OrderStatus.CONFIRMED);
         assertThat(result.finalAmount()).isEqualTo(totalAmount);
         assertThat(result.discountAmount()).isEqualTo(0);
+        assertThat(result.remainingBalance()).isEqualTo(userBalance - totalAmount);
 
         // Verify service calls
         verify(orderService).validateForPayment(userId, orderId, fixedNow);
@@ -110,9 +108,37 @@ class ProcessPaymentUseCaseTest {
         verify(couponService).validateAndCalculateDiscount(any(ValidateDiscountCommand.class));
         verify(productService).decreaseStocks(items);
         verify(pointService).deductPoints(userId, totalAmount);
-        verify(orderService).confirmOrder(order, totalAmount, fixedNow);
+        verify(orderService).confirmOrder(order, items, totalAmount, fixedNow);
         verify(orderService).saveDiscountInfo(eq(orderId), any(DiscountCalculation.class));
-        verify(pointService).recordUseHistory(userId, totalAmount, user.getBalance());
+        verify(pointService).recordUseHistory(userId, totalAmount, userBalance - totalAmount);
+    }
+
+    @Test
+    @DisplayName("주문 생성 시 재고를 예약한 주문은 결제 시 재고를 다시 차감하지 않는다")
+    void processPayment_reservedOrder_skipsStockDecrease() {
+        // Given
+        Long userId = 1L;
+        Long orderId = 100L;
+        int totalAmount = 20000;
+
+        Order order = Order.create(userId, totalAmount, fixedNow.plusSeconds(1800));
+        order.markStockReserved();
+        assignOrderId(order, orderId);
+
+        List<OrderItem> items = List.of(OrderItem.create(orderId, 1L, "상품A", 10000, 2));
+
+        when(orderService.validateForPayment(userId, orderId, fixedNow)).thenReturn(order);
+        when(orderService.getOrderItems(orderId)).thenReturn(items);
+        when(couponService.validateAndCalculateDiscount(any(ValidateDiscountCommand.class)))
+                .thenReturn(DiscountCalculationResult.noDiscount());
+        when(pointService.deductPoints(userId, totalAmount)).thenReturn(100000 - totalAmount);
+
+        // When
+        processPaymentUseCase.execute(new PaymentCommand(userId, orderId, null));
+
+        // Then
+        verifyNoInteractions(productService);
+        verify(orderService).confirmOrder(order, items, totalAmount, fixedNow);
     }
 
     @Test
@@ -136,23 +162,22 @@ class ProcessPaymentUseCaseTest {
                 OrderItem.create(orderId, 1L, "상품A", 10000, 2)
         );
 
-        User user = User.create(userId, "홍길동", "hong@test.com", userBalance);
         DiscountCalculationResult discountResult = new DiscountCalculationResult(1L, 10L, 5000, discountAmount);
 
         when(orderService.validateForPayment(userId, orderId, fixedNow)).thenReturn(order);
         when(orderService.getOrderItems(orderId)).thenReturn(items);
         when(couponService.validateAndCalculateDiscount(any(ValidateDiscountCommand.class)))
                 .thenReturn(discountResult);
-        when(pointService.deductPoints(userId, finalAmount)).thenReturn(user);
+        when(pointService.deductPoints(userId, finalAmount)).thenReturn(userBalance - finalAmount);
 
         // confirmOrder 호출 시 실제 Order 객체 변경
         doAnswer(invocation -> {
             Order o = invocation.getArgument(0);
-            int finalAmt = invocation.getArgument(1);
-            Instant paidAt = invocation.getArgument(2);
+            int finalAmt = invocation.getArgument(2);
+            Instant paidAt = invocation.getArgument(3);
             o.confirm(finalAmt, paidAt);
             return null;
-        }).when(orderService).confirmOrder(any(Order.class), anyInt(), any(Instant.class));
+        }).when(orderService).confirmOrder(any(Order.class), anyList(), anyInt(), any(Instant.class));
 
         // When
         PaymentResult result = processPaymentUseCase.execute(command);
@@ -248,7 +273,7 @@ class ProcessPaymentUseCaseTest {
 
         verify(productService).decreaseStocks(items);
         verify(pointService).deductPoints(userId, totalAmount);
-        verify(orderService, never()).confirmOrder(any(), anyInt(), any());
+        verify(orderService, never()).confirmOrder(any(), anyList(), anyInt(), any());
     }
 
     @Test
@@ -282,7 +307,7 @@ class ProcessPaymentUseCaseTest {
 
         verify(productService).decreaseStocks(items);
         verifyNoInteractions(pointService);
-        verify(orderService, never()).confirmOrder(any(), anyInt(), any());
+        verify(orderService, never()).confirmOrder(any(), anyList(), anyInt(), any());
     }
 
     // Helper method for ID assignment
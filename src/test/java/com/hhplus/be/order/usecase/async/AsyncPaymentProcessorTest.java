@@ -0,0 +1,158 @@
+package com.hhplus.be.order.usecase.async;
+
+import com.hhplus.be.common.exception.BusinessException;
+import com.hhplus.be.common.exception.ResourceNotFoundException;
+import com.hhplus.be.common.exception.TooManyRequestsException;
+import com.hhplus.be.order.domain.model.OrderStatus;
+import com.hhplus.be.order.service.dto.PaymentCommand;
+import com.hhplus.be.order.service.dto.PaymentResult;
+import com.hhplus.be.order.usecase.groupcommit.PaymentGroupCommitter;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+@DisplayName("AsyncPaymentProcessor 단위 테스트")
+class AsyncPaymentProcessorTest {
+
+    private static final Instant NOW = Instant.parse("2025-10-29T10:00:00Z");
+
+    private PaymentGroupCommitter paymentGroupCommitter;
+    private AsyncPaymentProcessor processor;
+
+    @BeforeEach
+    void setUp() {
+        paymentGroupCommitter = mock(PaymentGroupCommitter.class);
+        processor = new AsyncPaymentProcessor(paymentGroupCommitter, Clock.fixed(NOW, ZoneOffset.UTC), 4, 2, 3600);
+    }
+
+    @AfterEach
+    void tearDown() {
+        processor.shutdown();
+    }
+
+    @Test
+    @DisplayName("작업은 ACCEPTED로 등록되고 워커가 실행하면 SUCCEEDED와 결제 결과를 남긴다")
+    void submit_succeeds() {
+        given(paymentGroupCommitter.execute(any())).willAnswer(invocation -> result(invocation.getArgument(0)));
+
+        PaymentJob accepted = processor.submit(new PaymentCommand(1L, 10L, null));
+
+        assertThat(accepted.status()).isEqualTo(PaymentJobStatus.ACCEPTED);
+        PaymentJob done = awaitDone(1L, 10L, accepted.jobId());
+        assertThat(done.status()).isEqualTo(PaymentJobStatus.SUCCEEDED);
+        assertThat(done.result().orderId()).isEqualTo(10L);
+        assertThat(done.completedAt()).isEqualTo(NOW);
+    }
+
+    @Test
+    @DisplayName("결제가 비즈니스 예외로 끝나면 FAILED와 에러 코드를 남긴다")
+    void submit_businessFailure_recorded() {
+        given(paymentGroupCommitter.execute(any())).willThrow(new BusinessException("재고 부족", "OUT_OF_STOCK"));
+
+        PaymentJob accepted = processor.submit(new PaymentCommand(1L, 10L, null));
+
+        PaymentJob done = awaitDone(1L, 10L, accepted.jobId());
+        assertThat(done.status()).isEqualTo(PaymentJobStatus.FAILED);
+        assertThat(done.errorCode()).isEqualTo("OUT_OF_STOCK");
+        assertThat(done.result()).isNull();
+    }
+
+    @Test
+    @DisplayName("같은 회원의 작업은 동시에 실행되지 않고 등록 순서대로 실행된다")
+    void sameUser_runsSeriallyInOrder() {
+        processor.shutdown();
+        processor = new AsyncPaymentProcessor(paymentGroupCommitter, Clock.fixed(NOW, ZoneOffset.UTC), 4, 100, 3600);
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        List<Long> executedOrderIds = Collections.synchronizedList(new ArrayList<>());
+        given(paymentGroupCommitter.execute(any())).willAnswer(invocation -> {
+            PaymentCommand command = invocation.getArgument(0);
+            maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+            Thread.sleep(5);
+            executedOrderIds.add(command.orderId());
+            running.decrementAndGet();
+            return result(command);
+        });
+
+        List<PaymentJob> submitted = new ArrayList<>();
+        for (long orderId = 1; orderId <= 20; orderId++) {
+            submitted.add(processor.submit(new PaymentCommand(7L, orderId, null)));
+        }
+        submitted.forEach(job -> awaitDone(7L, job.command().orderId(), job.jobId()));
+
+        assertThat(maxRunning.get()).isEqualTo(1);
+        assertThat(executedOrderIds).containsExactly(
+                1L, 2L, 3L, 4L, 5L, 6L, 7L, 8L, 9L, 10L, 11L, 12L, 13L, 14L, 15L, 16L, 17L, 18L, 19L, 20L);
+    }
+
+    @Test
+    @DisplayName("워커 대기열이 가득 차면 429 PAYMENT_QUEUE_FULL")
+    void queueFull_rejected() throws InterruptedException {
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch started = new CountDownLatch(1);
+        given(paymentGroupCommitter.execute(any())).willAnswer(invocation -> {
+            started.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return result(invocation.getArgument(0));
+        });
+
+        // 같은 회원 → 같은 워커: 실행 중 1건 + 대기열 2건까지 수용
+        processor.submit(new PaymentCommand(1L, 1L, null));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        processor.submit(new PaymentCommand(1L, 2L, null));
+        processor.submit(new PaymentCommand(1L, 3L, null));
+
+        assertThatThrownBy(() -> processor.submit(new PaymentCommand(1L, 4L, null)))
+                .isInstanceOf(TooManyRequestsException.class)
+                .extracting("errorCode")
+                .isEqualTo("PAYMENT_QUEUE_FULL");
+        release.countDown();
+    }
+
+    @Test
+    @DisplayName("다른 회원이나 다른 주문으로 작업을 조회하면 404")
+    void getJob_otherOwner_notFound() {
+        given(paymentGroupCommitter.execute(any())).willAnswer(invocation -> result(invocation.getArgument(0)));
+        PaymentJob job = processor.submit(new PaymentCommand(1L, 10L, null));
+
+        assertThatThrownBy(() -> processor.getJob(2L, 10L, job.jobId()))
+                .isInstanceOf(ResourceNotFoundException.class);
+        assertThatThrownBy(() -> processor.getJob(1L, 11L, job.jobId()))
+                .isInstanceOf(ResourceNotFoundException.class);
+        assertThatThrownBy(() -> processor.getJob(1L, 10L, "unknown"))
+                .isInstanceOf(ResourceNotFoundException.class);
+    }
+
+    private PaymentJob awaitDone(Long userId, Long orderId, String jobId) {
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (System.currentTimeMillis() < deadline) {
+            PaymentJob job = processor.getJob(userId, orderId, jobId);
+            if (job.status() == PaymentJobStatus.SUCCEEDED || job.status() == PaymentJobStatus.FAILED) {
+                return job;
+            }
+            Thread.onSpinWait();
+        }
+        throw new AssertionError("결제 작업이 끝나지 않음: " + jobId);
+    }
+
+    private static PaymentResult result(PaymentCommand command) {
+        return new PaymentResult(command.orderId(), command.userId(), OrderStatus.CONFIRMED,
+                10000, 0, 10000, 5000, NOW);
+    }
+}
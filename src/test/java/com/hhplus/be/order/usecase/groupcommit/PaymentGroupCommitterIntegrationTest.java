@@ -0,0 +1,165 @@
+package com.hhplus.be.order.usecase.groupcommit;
+
+import com.hhplus.be.cart.domain.model.CartItem;
+import com.hhplus.be.cart.domain.repository.CartRepository;
+import com.hhplus.be.common.exception.InsufficientBalanceException;
+import com.hhplus.be.order.domain.model.OrderStatus;
+import com.hhplus.be.order.domain.repository.OrderRepository;
+import com.hhplus.be.order.service.OrderService;
+import com.hhplus.be.order.service.dto.PaymentCommand;
+import com.hhplus.be.order.service.dto.PaymentResult;
+import com.hhplus.be.order.usecase.ProcessPaymentUseCase;
+import com.hhplus.be.orderitem.domain.repository.OrderItemRepository;
+import com.hhplus.be.point.domain.repository.PointRepository;
+import com.hhplus.be.point.service.history.PointHistoryWriter;
+import com.hhplus.be.product.domain.model.Product;
+import com.hhplus.be.product.domain.repository.ProductRepository;
+import com.hhplus.be.product.service.stock.StockLaneEngine;
+import com.hhplus.be.testsupport.IntegrationTestSupport;
+import com.hhplus.be.user.domain.model.User;
+import com.hhplus.be.user.domain.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 결제 그룹 커밋 통합 테스트
+ *
+ * - 한 묶음 안에서 실패한 결제만 savepoint로 되돌리고 나머지는 함께 커밋되는지
+ */
+class PaymentGroupCommitterIntegrationTest extends IntegrationTestSupport {
+
+    @Autowired
+    private ProcessPaymentUseCase processPaymentUseCase;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private StockLaneEngine stockLaneEngine;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private CartRepository cartRepository;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private OrderItemRepository orderItemRepository;
+
+    @Autowired
+    private PointRepository pointRepository;
+
+    @Autowired
+    private PointHistoryWriter pointHistoryWriter;
+
+    private PaymentGroupCommitter committer;
+    private Product product;
+
+    @BeforeEach
+    void setUp() {
+        orderItemRepository.deleteAll();
+        orderRepository.deleteAll();
+        cartRepository.deleteAll();
+        pointRepository.deleteAll();
+
+        product = productRepository.save(Product.create("그룹커밋상품", "설명", 10000, 100));
+
+        // 묶음이 확실히 만들어지도록 window를 넉넉히
+        committer = new PaymentGroupCommitter(processPaymentUseCase, entityManager, transactionManager,
+                stockLaneEngine, pointHistoryWriter, true, 200, 64, 100);
+    }
+
+    @AfterEach
+    void tearDown() {
+        committer.shutdown();
+    }
+
+    @Test
+    @DisplayName("포인트 부족 결제 하나만 롤백되고 같은 묶음의 다른 결제는 커밋된다")
+    void failingPayment_rollsBackOnlyItself() throws Exception {
+        // Given: 잔액 충분 2명 + 부족 1명, 각자 주문 1건 (10,000원)
+        List<User> users = List.of(
+                userRepository.save(User.create("충분1", "gc_rich1_" + System.nanoTime() + "@test.com", 50000)),
+                userRepository.save(User.create("부족", "gc_poor_" + System.nanoTime() + "@test.com", 5000)),
+                userRepository.save(User.create("충분2", "gc_rich2_" + System.nanoTime() + "@test.com", 50000))
+        );
+        List<Long> orderIds = new ArrayList<>();
+        for (User user : users) {
+            cartRepository.save(CartItem.create(user.getId(), product.getId(), 1));
+            orderIds.add(orderService.createFromCart(user.getId()).orderId());
+        }
+
+        // When: 동시에 결제 요청 → 한 묶음으로 실행
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(users.size());
+        List<Future<PaymentResult>> futures = new ArrayList<>();
+        for (int i = 0; i < users.size(); i++) {
+            PaymentCommand command = new PaymentCommand(users.get(i).getId(), orderIds.get(i), null);
+            futures.add(executor.submit(() -> {
+                start.await();
+                return committer.execute(command);
+            }));
+        }
+        start.countDown();
+
+        // Then: 충분한 회원은 성공, 부족한 회원만 예외
+        assertThat(futures.get(0).get().status()).isEqualTo(OrderStatus.CONFIRMED);
+        assertThat(futures.get(2).get().status()).isEqualTo(OrderStatus.CONFIRMED);
+        assertThatThrownBy(() -> futures.get(1).get())
+                .hasCauseInstanceOf(InsufficientBalanceException.class);
+        executor.shutdown();
+
+        assertThat(orderRepository.findById(orderIds.get(0)).orElseThrow().getStatus()).isEqualTo(OrderStatus.CONFIRMED);
+        assertThat(orderRepository.findById(orderIds.get(1)).orElseThrow().getStatus()).isEqualTo(OrderStatus.PENDING);
+        assertThat(orderRepository.findById(orderIds.get(2)).orElseThrow().getStatus()).isEqualTo(OrderStatus.CONFIRMED);
+
+        assertThat(userRepository.findById(users.get(0).getId()).orElseThrow().getBalance()).isEqualTo(40000);
+        assertThat(userRepository.findById(users.get(1).getId()).orElseThrow().getBalance()).isEqualTo(5000);
+        assertThat(userRepository.findById(users.get(2).getId()).orElseThrow().getBalance()).isEqualTo(40000);
+        assertThat(pointRepository.findByUserIdOrderByCreatedAtDesc(users.get(1).getId())).isEmpty();
+
+        // 개별 트랜잭션 재실행으로도 같은 결과가 나오므로, 묶음이 savepoint만으로 커밋됐는지 확인
+        assertThat(committer.fallbackCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("비활성화 상태에서는 결제별 트랜잭션으로 바로 실행")
+    void disabled_executesDirectly() {
+        committer.shutdown();
+        committer = new PaymentGroupCommitter(processPaymentUseCase, entityManager, transactionManager,
+                stockLaneEngine, pointHistoryWriter, false, 2, 64, 100);
+        User user = userRepository.save(User.create("단건", "gc_single_" + System.nanoTime() + "@test.com", 50000));
+        cartRepository.save(CartItem.create(user.getId(), product.getId(), 1));
+        Long orderId = orderService.createFromCart(user.getId()).orderId();
+
+        PaymentResult result = committer.execute(new PaymentCommand(user.getId(), orderId, null));
+
+        assertThat(result.status()).isEqualTo(OrderStatus.CONFIRMED);
+    }
+}
@@ -1,11 +1,16 @@
 package com.hhplus.be.point.service;
 
 import com.hhplus.be.point.service.dto.*;
+import com.hhplus.be.common.exception.BusinessException;
+import com.hhplus.be.common.exception.InsufficientBalanceException;
+import com.hhplus.be.common.exception.InvalidInputException;
 import com.hhplus.be.common.exception.ResourceNotFoundException;
 import com.hhplus.be.point.domain.model.Point;
 import com.hhplus.be.point.domain.model.PointType;
 import com.hhplus.be.user.domain.model.User;
 import com.hhplus.be.point.domain.repository.PointRepository;
+import com.hhplus.be.point.service.history.PointHistoryWriter;
+import com.hhplus.be.point.service.ledger.PointLedger;
 import com.hhplus.be.user.domain.repository.UserRepository;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -15,8 +20,10 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
+import java.util.OptionalInt;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -30,15 +37,20 @@ class PointServiceTest {
     @Mock
     private PointRepository pointRepository;
 
+    @Mock
+    private PointHistoryWriter pointHistoryWriter;
+
+    @Mock
+    private PointLedger pointLedger;
+
     @InjectMocks
     private PointService pointService;
 
     @Test
     @DisplayName("포인트 충전 성공 - 잔액과 히스토리 기록이 모두 반영된다")
     void chargePoint() {
-        // given
-        User user = User.create(1L, "홍길동", "hong@example.com", 10000);
-        when(userRepository.findById(1L)).thenReturn(Optional.of(user));
+        // given: DB에서 조건부 증가 후 잔액 15,000
+        when(userRepository.increaseBalance(1L, 5000, User.MAX_BALANCE)).thenReturn(OptionalInt.of(15_000));
 
         // when
         PointChargeCommand command = new PointChargeCommand(1L, 5000);
@@ -46,7 +58,6 @@ class PointServiceTest {
 
         // then: 잔액 검증
         assertThat(result.balanceAfter()).isEqualTo(15_000);
-        assertThat(user.getBalance()).isEqualTo(15_000);
 
         // then: 결과 DTO 검증
         assertThat(result.userId()).isEqualTo(1L);
@@ -54,12 +65,11 @@ class PointServiceTest {
         assertThat(result.pointType()).isEqualTo(PointType.CHARGE);
         assertThat(result.createdAt()).isNotNull();
 
-        // then: 호출 검증
-        verify(userRepository).findById(1L);
-        verify(userRepository).save(user);
+        // then: 호출 검증 (회원을 읽어 와 다시 저장하지 않음)
+        verify(userRepository).increaseBalance(1L, 5000, User.MAX_BALANCE);
 
         ArgumentCaptor<Point> pointCaptor = ArgumentCaptor.forClass(Point.class);
-        verify(pointRepository).save(pointCaptor.capture());
+        verify(pointHistoryWriter).record(pointCaptor.capture());
         Point saved = pointCaptor.getValue();
 
         assertThat(saved.getUserId()).isEqualTo(1L);
@@ -67,24 +77,64 @@ class PointServiceTest {
         assertThat(saved.getPointType()).isEqualTo(PointType.CHARGE);
         assertThat(saved.getBalanceAfter()).isEqualTo(15000);
 
-        verifyNoMoreInteractions(userRepository, pointRepository);
+        verifyNoMoreInteractions(userRepository, pointRepository, pointHistoryWriter);
     }
 
     @Test
     @DisplayName("포인트 충전 실패 - 존재하지 않는 사용자")
     void chargePointFailWhenUserNotFound() {
         // given
-        when(userRepository.findById(999L)).thenReturn(Optional.empty());
+        when(userRepository.increaseBalance(999L, 5000, User.MAX_BALANCE)).thenReturn(OptionalInt.empty());
+        when(userRepository.existsById(999L)).thenReturn(false);
 
         // when & then
         PointChargeCommand command = new PointChargeCommand(999L, 5000);
         assertThatThrownBy(() -> pointService.charge(command))
                 .isInstanceOf(ResourceNotFoundException.class)
                 .hasMessageContaining("사용자를 찾을 수 없습니다");
+        verifyNoInteractions(pointHistoryWriter);
+    }
+
+    @Test
+    @DisplayName("포인트 충전 실패 - 보유 한도를 넘으면 잔액을 바꾸지 않고 거부")
+    void chargePointFailWhenBalanceLimitExceeded() {
+        // given
+        when(userRepository.increaseBalance(1L, 5000, User.MAX_BALANCE)).thenReturn(OptionalInt.empty());
+        when(userRepository.existsById(1L)).thenReturn(true);
+
+        // when & then
+        assertThatThrownBy(() -> pointService.charge(new PointChargeCommand(1L, 5000)))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("errorCode", "BALANCE_LIMIT_EXCEEDED");
+        verifyNoInteractions(pointHistoryWriter);
+    }
+
+    @Test
+    @DisplayName("포인트 충전 실패 - 금액 규칙 위반은 DB에 가기 전에 거부")
+    void chargePointFailWhenAmountInvalid() {
+        assertThatThrownBy(() -> pointService.charge(new PointChargeCommand(1L, 999)))
+                .isInstanceOf(InvalidInputException.class);
+        verifyNoInteractions(userRepository, pointHistoryWriter);
     }
 
     @Test
-    @DisplayName("포인트 내역 조회 성공 - 최신순으로 반환된다")
+    @DisplayName("포인트 차감 - 잔액이 충분하면 차감 후 잔액, 부족하면 402, 회원이 없으면 404")
+    void deductPoints() {
+        when(userRepository.decreaseBalance(1L, 3000)).thenReturn(OptionalInt.of(7000));
+        when(userRepository.decreaseBalance(2L, 3000)).thenReturn(OptionalInt.empty());
+        when(userRepository.existsById(2L)).thenReturn(true);
+        when(userRepository.decreaseBalance(999L, 3000)).thenReturn(OptionalInt.empty());
+        when(userRepository.existsById(999L)).thenReturn(false);
+
+        assertThat(pointService.deductPoints(1L, 3000)).isEqualTo(7000);
+        assertThatThrownBy(() -> pointService.deductPoints(2L, 3000))
+                .isInstanceOf(InsufficientBalanceException.class);
+        assertThatThrownBy(() -> pointService.deductPoints(999L, 3000))
+                .isInstanceOf(ResourceNotFoundException.class);
+    }
+
+    @Test
+    @DisplayName("포인트 내역 조회 성공 - 최신순으로 반환되고, 요청하지 않으면 전체 건수를 세지 않는다")
     void getPointHistory() {
         // given
         Long userId = 1L;
@@ -93,14 +143,15 @@ class PointServiceTest {
         Point point3 = Point.charge(userId, 3000, 18000);
         List<Point> expectedHistory = List.of(point3, point2, point1);
 
-        when(pointRepository.findByUserIdOrderByCreatedAtDesc(userId))
+        when(pointRepository.findPageByUserId(userId, null, null, 21))
                 .thenReturn(expectedHistory);
 
         // when
-        PointHistoryQuery query = new PointHistoryQuery(userId);
-        List<PointHistoryResult> history = pointService.getHistory(query);
+        PointHistoryQuery query = new PointHistoryQuery(userId, null, 20, false);
+        PointHistoryPageResult result = pointService.getHistory(query);
 
         // then
+        List<PointHistoryResult> history = result.history();
         assertThat(history).hasSize(3);
         assertThat(history.get(0).pointType()).isEqualTo(PointType.CHARGE);
         assertThat(history.get(0).amount()).isEqualTo(3000);
@@ -108,8 +159,11 @@ class PointServiceTest {
         assertThat(history.get(1).amount()).isEqualTo(5000);
         assertThat(history.get(2).pointType()).isEqualTo(PointType.CHARGE);
         assertThat(history.get(2).amount()).isEqualTo(10000);
+        assertThat(result.hasNext()).isFalse();
+        assertThat(result.nextCursor()).isNull();
+        assertThat(result.totalCount()).isNull();
 
-        verify(pointRepository).findByUserIdOrderByCreatedAtDesc(userId);
+        verify(pointRepository).findPageByUserId(userId, null, null, 21);
         verifyNoMoreInteractions(pointRepository);
     }
 
@@ -118,19 +172,66 @@ class PointServiceTest {
     void getPointHistoryEmpty() {
         // given
         Long userId = 999L;
-        when(pointRepository.findByUserIdOrderByCreatedAtDesc(userId))
+        when(pointRepository.findPageByUserId(userId, null, null, 21))
                 .thenReturn(List.of());
 
         // when
-        PointHistoryQuery query = new PointHistoryQuery(userId);
-        List<PointHistoryResult> history = pointService.getHistory(query);
+        PointHistoryQuery query = new PointHistoryQuery(userId, null, 20, false);
+        PointHistoryPageResult result = pointService.getHistory(query);
 
         // then
-        assertThat(history).isEmpty();
-        verify(pointRepository).findByUserIdOrderByCreatedAtDesc(userId);
+        assertThat(result.history()).isEmpty();
+        assertThat(result.hasNext()).isFalse();
+        verify(pointRepository).findPageByUserId(userId, null, null, 21);
         verifyNoMoreInteractions(pointRepository);
     }
 
+    @Test
+    @DisplayName("포인트 내역 조회 - 한 건 더 조회되면 다음 커서를 만들고, 커서로 이어서 조회한다")
+    void getPointHistoryWithCursor() {
+        // given
+        Long userId = 1L;
+        Instant base = Instant.parse("2025-10-29T10:00:00Z");
+        List<Point> firstPage = List.of(
+                Point.reconstruct(30L, userId, PointType.CHARGE, 3000, 18000, base.plusSeconds(2)),
+                Point.reconstruct(20L, userId, PointType.USE, 5000, 15000, base.plusSeconds(1)),
+                Point.reconstruct(10L, userId, PointType.CHARGE, 10000, 20000, base)
+        );
+        when(pointRepository.findPageByUserId(userId, null, null, 3)).thenReturn(firstPage);
+        when(pointRepository.countByUserId(userId)).thenReturn(3L);
+
+        // when
+        PointHistoryPageResult first = pointService.getHistory(new PointHistoryQuery(userId, null, 2, true));
+
+        // then
+        assertThat(first.history()).extracting(PointHistoryResult::pointId).containsExactly(30L, 20L);
+        assertThat(first.hasNext()).isTrue();
+        assertThat(first.totalCount()).isEqualTo(3L);
+
+        // when: 다음 페이지는 마지막 항목(createdAt, id) 이후부터
+        when(pointRepository.findPageByUserId(userId, base.plusSeconds(1), 20L, 3))
+                .thenReturn(List.of(firstPage.get(2)));
+        PointHistoryPageResult second = pointService.getHistory(
+                new PointHistoryQuery(userId, first.nextCursor(), 2, false));
+
+        // then
+        assertThat(second.history()).extracting(PointHistoryResult::pointId).containsExactly(10L);
+        assertThat(second.hasNext()).isFalse();
+        assertThat(second.nextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("포인트 내역 조회 - 페이지 크기가 범위를 벗어나거나 커서가 잘못되면 400")
+    void getPointHistoryInvalidRequest() {
+        assertThatThrownBy(() -> pointService.getHistory(new PointHistoryQuery(1L, null, 0, false)))
+                .isInstanceOf(InvalidInputException.class);
+        assertThatThrownBy(() -> pointService.getHistory(new PointHistoryQuery(1L, null, 101, false)))
+                .isInstanceOf(InvalidInputException.class);
+        assertThatThrownBy(() -> pointService.getHistory(new PointHistoryQuery(1L, "not-a-cursor", 20, false)))
+                .isInstanceOf(InvalidInputException.class);
+        verifyNoInteractions(pointRepository);
+    }
+
     @Test
     @DisplayName("포인트 잔액 조회 성공")
     void getBalance() {
@@ -162,4 +263,26 @@ class PointServiceTest {
                 .isInstanceOf(ResourceNotFoundException.class)
                 .hasMessageContaining("사용자를 찾을 수 없습니다");
     }
+
+    @Test
+    @DisplayName("원장 모드 - 충전/차감/조회가 회원 잔액 대신 원장을 쓰고, 별도 히스토리는 남기지 않는다")
+    void ledgerMode() {
+        // given
+        when(pointLedger.isEnabled()).thenReturn(true);
+        when(pointLedger.charge(1L, 5000)).thenReturn(Point.charge(1L, 5000, 15000));
+        when(pointLedger.use(1L, 3000)).thenReturn(Point.use(1L, 3000, 12000));
+        when(pointLedger.balanceOf(1L)).thenReturn(12000);
+
+        // when
+        PointChargeResult charged = pointService.charge(new PointChargeCommand(1L, 5000));
+        int remaining = pointService.deductPoints(1L, 3000);
+        pointService.recordUseHistory(1L, 3000, remaining);
+        PointBalanceResult balance = pointService.getBalance(new PointBalanceQuery(1L));
+
+        // then
+        assertThat(charged.balanceAfter()).isEqualTo(15000);
+        assertThat(remaining).isEqualTo(12000);
+        assertThat(balance.balance()).isEqualTo(12000);
+        verifyNoInteractions(userRepository, pointHistoryWriter);
+    }
 }
@@ -0,0 +1,149 @@
+package com.hhplus.be.point.service.grant;
+
+import com.hhplus.be.common.exception.InvalidInputException;
+import com.hhplus.be.point.domain.model.Point;
+import com.hhplus.be.point.domain.model.PointGrantStatus;
+import com.hhplus.be.point.domain.model.PointType;
+import com.hhplus.be.point.domain.repository.PointGrantRepository;
+import com.hhplus.be.point.domain.repository.PointRepository;
+import com.hhplus.be.point.service.PointGrantService;
+import com.hhplus.be.point.service.dto.PointGrantCommand;
+import com.hhplus.be.point.service.dto.PointGrantResult;
+import com.hhplus.be.testsupport.IntegrationTestSupport;
+import com.hhplus.be.user.domain.model.User;
+import com.hhplus.be.user.domain.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 포인트 일괄 지급 통합 테스트
+ *
+ * - 청크 단위로 지급되고, 중간에 멈췄다가 다시 돌려도 이미 커밋된 청크는 다시 지급하지 않는지
+ */
+@TestPropertySource(properties = {
+        "point.grant.chunk-size=2",
+        "point.grant.interval-millis=3600000"  // 스케줄러 대신 테스트가 청크를 직접 처리
+})
+class PointGrantIntegrationTest extends IntegrationTestSupport {
+
+    @Autowired
+    private PointGrantService pointGrantService;
+
+    @Autowired
+    private PointGrantProcessor pointGrantProcessor;
+
+    @Autowired
+    private PointGrantRepository pointGrantRepository;
+
+    @Autowired
+    private PointRepository pointRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @BeforeEach
+    void setUp() {
+        pointGrantRepository.deleteAll();
+        pointRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("청크별로 지급되고 진행 상황이 함께 커밋되며, 없는 회원/한도 초과 줄은 건너뛴다")
+    void grant_processedInChunksAndResumable() {
+        // given
+        User first = userRepository.save(User.create("지급1", "grant1_" + System.nanoTime() + "@test.com", 1000));
+        User second = userRepository.save(User.create("지급2", "grant2_" + System.nanoTime() + "@test.com", 0));
+        User nearLimit = userRepository.save(User.create("한도", "grant3_" + System.nanoTime() + "@test.com", User.MAX_BALANCE - 500));
+        String csv = String.join("\n",
+                "userId,amount",
+                first.getId() + ",500",
+                second.getId() + ",1000",
+                "",
+                first.getId() + ",300",
+                "999999999,100",
+                nearLimit.getId() + ",1000");
+
+        // when: 적재
+        PointGrantResult received = receive("grant-" + System.nanoTime(), csv);
+
+        // then
+        assertThat(received.status()).isEqualTo(PointGrantStatus.PENDING);
+        assertThat(received.totalCount()).isEqualTo(5);
+
+        // when: 첫 청크만 처리 (여기서 서버가 멈췄다고 가정)
+        assertThat(pointGrantProcessor.processChunk()).isTrue();
+
+        // then: 두 줄만 지급되고 진행 상황에 반영
+        PointGrantResult afterFirstChunk = pointGrantService.getGrant(received.grantId());
+        assertThat(afterFirstChunk.status()).isEqualTo(PointGrantStatus.RUNNING);
+        assertThat(afterFirstChunk.processedCount()).isEqualTo(2);
+        assertThat(balanceOf(first)).isEqualTo(1500);
+        assertThat(balanceOf(second)).isEqualTo(1000);
+
+        // when: 재시작 후 남은 청크 처리
+        while (pointGrantProcessor.processChunk()) {
+        }
+
+        // then: 이미 지급한 청크는 다시 지급하지 않음
+        PointGrantResult completed = pointGrantService.getGrant(received.grantId());
+        assertThat(completed.status()).isEqualTo(PointGrantStatus.COMPLETED);
+        assertThat(completed.processedCount()).isEqualTo(5);
+        assertThat(completed.grantedCount()).isEqualTo(3);
+        assertThat(completed.skippedCount()).isEqualTo(2);
+        assertThat(completed.completedAt()).isNotNull();
+        assertThat(balanceOf(first)).isEqualTo(1800);
+        assertThat(balanceOf(second)).isEqualTo(1000);
+        assertThat(balanceOf(nearLimit)).isEqualTo(User.MAX_BALANCE - 500);
+
+        // GRANT 내역은 줄마다 남고, balanceAfter는 업로드 순서대로 누적
+        List<Point> history = pointRepository.findByUserIdOrderByCreatedAtDesc(first.getId());
+        assertThat(history).hasSize(2)
+                .allSatisfy(point -> assertThat(point.getPointType()).isEqualTo(PointType.GRANT));
+        assertThat(history).extracting(Point::getBalanceAfter).containsExactlyInAnyOrder(1500, 1800);
+        assertThat(pointRepository.findByUserIdOrderByCreatedAtDesc(nearLimit.getId())).isEmpty();
+    }
+
+    @Test
+    @DisplayName("같은 키로 다시 요청하면 기존 요청을 반환하고, 적재 중 실패한 요청은 처음부터 다시 적재한다")
+    void receive_sameKey() {
+        User user = userRepository.save(User.create("재요청", "grant_retry_" + System.nanoTime() + "@test.com", 0));
+        String key = "grant-retry-" + System.nanoTime();
+
+        // 잘못된 줄에서 적재 실패 → RECEIVING으로 남음
+        assertThatThrownBy(() -> receive(key, user.getId() + ",100\n" + user.getId() + ",abc"))
+                .isInstanceOf(InvalidInputException.class)
+                .hasMessageContaining("2번째 줄");
+
+        // 같은 키로 다시 업로드하면 처음부터 다시 적재
+        PointGrantResult retried = receive(key, user.getId() + ",100\n" + user.getId() + ",200");
+        assertThat(retried.status()).isEqualTo(PointGrantStatus.PENDING);
+        assertThat(retried.totalCount()).isEqualTo(2);
+
+        // 적재를 마친 요청은 다시 보내도 그대로
+        PointGrantResult duplicated = receive(key, user.getId() + ",999999");
+        assertThat(duplicated.grantId()).isEqualTo(retried.grantId());
+        assertThat(duplicated.totalCount()).isEqualTo(2);
+
+        while (pointGrantProcessor.processChunk()) {
+        }
+        assertThat(balanceOf(user)).isEqualTo(300);
+    }
+
+    private PointGrantResult receive(String key, String csv) {
+        return pointGrantService.receive(new PointGrantCommand(key, "테스트 지급",
+                new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8))));
+    }
+
+    private int balanceOf(User user) {
+        return userRepository.findById(user.getId()).orElseThrow().getBalance();
+    }
+}
@@ -0,0 +1,123 @@
+package com.hhplus.be.point.service.history;
+
+import com.hhplus.be.point.domain.model.Point;
+import com.hhplus.be.point.domain.repository.PointRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@DisplayName("PointHistoryWriter 단위 테스트")
+class PointHistoryWriterTest {
+
+    private PointRepository pointRepository;
+    private PlatformTransactionManager transactionManager;
+    private final List<List<Point>> batches = new CopyOnWriteArrayList<>();
+    private PointHistoryWriter writer;
+
+    @BeforeEach
+    void setUp() {
+        pointRepository = mock(PointRepository.class);
+        transactionManager = mock(PlatformTransactionManager.class);
+        doAnswer(invocation -> {
+            batches.add(List.copyOf(invocation.<List<Point>>getArgument(0)));
+            return null;
+        }).when(pointRepository).saveAll(anyList());
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (writer != null) {
+            writer.shutdown();
+        }
+    }
+
+    private PointHistoryWriter writer(boolean writeBehind, boolean durable, int batchSize, long flushMillis) {
+        writer = new PointHistoryWriter(pointRepository, transactionManager,
+                writeBehind, durable, 1024, batchSize, flushMillis, 2000);
+        return writer;
+    }
+
+    @Test
+    @DisplayName("write-behind 비활성화면 호출 즉시 건별 저장")
+    void disabled_savesImmediately() {
+        Point point = Point.charge(1L, 1000, 1000);
+
+        writer(false, false, 10, 10).record(point);
+
+        verify(pointRepository).save(point);
+        verify(pointRepository, never()).saveAll(anyList());
+    }
+
+    @Test
+    @DisplayName("durable 모드는 자기 내역이 일괄 저장된 뒤 반환하고, 배치 크기를 넘지 않게 나눠 저장")
+    void durable_returnsAfterFlush() throws Exception {
+        PointHistoryWriter durableWriter = writer(true, true, 4, 50);
+        int threads = 10;
+        AtomicInteger returnedBeforeSaved = new AtomicInteger();
+        Thread[] callers = new Thread[threads];
+        for (int i = 0; i < threads; i++) {
+            long userId = i + 1;
+            callers[i] = new Thread(() -> {
+                Point point = Point.charge(userId, 1000, 1000);
+                durableWriter.record(point);
+                // 반환 시점에는 이미 저장되어 있어야 함
+                if (batches.stream().flatMap(List::stream).noneMatch(saved -> saved == point)) {
+                    returnedBeforeSaved.incrementAndGet();
+                }
+            });
+            callers[i].start();
+        }
+        for (Thread caller : callers) {
+            caller.join();
+        }
+
+        assertThat(returnedBeforeSaved).hasValue(0);
+        assertThat(batches.stream().mapToInt(List::size).sum()).isEqualTo(threads);
+        assertThat(batches).allSatisfy(batch -> assertThat(batch).hasSizeLessThanOrEqualTo(4));
+        verify(pointRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("트랜잭션 안에서 기록하면 커밋된 뒤에만 버퍼에 들어간다")
+    void insideTransaction_enqueuedAfterCommit() {
+        PointHistoryWriter durableWriter = writer(true, true, 10, 10);
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            durableWriter.record(Point.use(1L, 500, 500));
+            assertThat(batches).isEmpty();
+
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertThat(batches).hasSize(1);
+        assertThat(batches.get(0)).extracting(Point::getUserId).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("일괄 저장이 실패하면 건별로 다시 저장")
+    void batchFailure_retriesIndividually() {
+        doThrow(new IllegalStateException("batch insert failed")).when(pointRepository).saveAll(anyList());
+        PointHistoryWriter durableWriter = writer(true, true, 10, 10);
+        Point point = Point.refund(1L, 300, 300);
+
+        durableWriter.record(point);
+
+        verify(pointRepository).save(point);
+    }
+}
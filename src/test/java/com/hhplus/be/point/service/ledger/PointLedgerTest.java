@@ -0,0 +1,171 @@
+package com.hhplus.be.point.service.ledger;
+
+import com.hhplus.be.common.exception.BusinessException;
+import com.hhplus.be.common.exception.InsufficientBalanceException;
+import com.hhplus.be.point.domain.model.Point;
+import com.hhplus.be.point.domain.model.PointBalanceSnapshot;
+import com.hhplus.be.point.domain.model.PointLedgerDelta;
+import com.hhplus.be.point.domain.model.PointType;
+import com.hhplus.be.point.domain.repository.PointRepository;
+import com.hhplus.be.point.service.history.PointHistoryWriter;
+import com.hhplus.be.user.domain.model.User;
+import com.hhplus.be.user.domain.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.OptionalLong;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@DisplayName("PointLedger 단위 테스트")
+class PointLedgerTest {
+
+    private static final Long USER_ID = 1L;
+    private static final Instant NOW = Instant.parse("2026-01-01T00:00:00Z");
+
+    private PointRepository pointRepository;
+    private UserRepository userRepository;
+    private PointLedger ledger;
+
+    @BeforeEach
+    void setUp() {
+        pointRepository = mock(PointRepository.class);
+        userRepository = mock(UserRepository.class);
+        PointHistoryWriter writer = mock(PointHistoryWriter.class);
+        ledger = new PointLedger(pointRepository, userRepository, writer, mock(PlatformTransactionManager.class),
+                Clock.fixed(NOW, ZoneOffset.UTC), true, 3, 10_000, 100, 1000);
+        when(pointRepository.save(any(Point.class))).thenAnswer(invocation -> invocation.getArgument(0));
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.setActualTransactionActive(false);
+    }
+
+    @Test
+    @DisplayName("내역이 없던 회원은 회원 잔액에서 시작해 내역을 더하고, 이후 조회는 캐시된 스냅샷을 쓴다")
+    void balanceOf_baseSnapshotCached() {
+        when(pointRepository.findSnapshot(USER_ID)).thenReturn(Optional.empty());
+        when(pointRepository.findLastPointId(USER_ID)).thenReturn(OptionalLong.empty());
+        when(userRepository.findBalance(USER_ID)).thenReturn(OptionalInt.of(10_000));
+        when(pointRepository.sumLedger(USER_ID, 0L, Long.MAX_VALUE))
+                .thenReturn(new PointLedgerDelta(5_000, 2, 200L));
+
+        assertThat(ledger.balanceOf(USER_ID)).isEqualTo(15_000);
+        assertThat(ledger.balanceOf(USER_ID)).isEqualTo(15_000);
+
+        verify(pointRepository, times(1)).findSnapshot(USER_ID);
+        verify(userRepository, times(1)).findBalance(USER_ID);
+    }
+
+    @Test
+    @DisplayName("원장 모드 전 내역이 있는 회원은 마지막 내역 ID에서 첫 스냅샷을 저장해 이전 내역을 다시 더하지 않는다")
+    void balanceOf_seedsSnapshotAtLastPointId() {
+        when(pointRepository.findSnapshot(USER_ID)).thenReturn(Optional.empty());
+        when(userRepository.findBalance(USER_ID)).thenReturn(OptionalInt.of(10_000));
+        when(pointRepository.findLastPointId(USER_ID)).thenReturn(OptionalLong.of(150L));
+        when(pointRepository.advanceSnapshot(any(), eq(0L))).thenReturn(true);
+        when(pointRepository.sumLedger(USER_ID, 150L, Long.MAX_VALUE)).thenReturn(new PointLedgerDelta(0, 0, 150L));
+
+        assertThat(ledger.balanceOf(USER_ID)).isEqualTo(10_000);
+
+        verify(pointRepository).advanceSnapshot(new PointBalanceSnapshot(USER_ID, 10_000, 150L, NOW), 0L);
+        verify(pointRepository, never()).sumLedger(USER_ID, 0L, Long.MAX_VALUE);
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스가 첫 스냅샷을 먼저 저장했으면 저장된 스냅샷을 쓴다")
+    void balanceOf_usesConcurrentlySeededSnapshot() {
+        PointBalanceSnapshot seeded = new PointBalanceSnapshot(USER_ID, 10_000, 150L, NOW.minusSeconds(1));
+        when(pointRepository.findSnapshot(USER_ID)).thenReturn(Optional.empty(), Optional.of(seeded));
+        when(userRepository.findBalance(USER_ID)).thenReturn(OptionalInt.of(10_000));
+        when(pointRepository.findLastPointId(USER_ID)).thenReturn(OptionalLong.of(160L));
+        when(pointRepository.advanceSnapshot(any(), eq(0L))).thenReturn(false);
+        when(pointRepository.sumLedger(USER_ID, 150L, Long.MAX_VALUE)).thenReturn(new PointLedgerDelta(3_000, 1, 160L));
+
+        assertThat(ledger.balanceOf(USER_ID)).isEqualTo(13_000);
+    }
+
+    @Test
+    @DisplayName("사용은 회원 행을 잠그고 잠금 읽기 합계로 잔액을 검사한 뒤 USE 내역만 추가한다")
+    void use_appendsEntry() {
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        when(userRepository.lockBalance(USER_ID)).thenReturn(OptionalInt.of(0));
+        when(pointRepository.findSnapshot(USER_ID))
+                .thenReturn(Optional.of(new PointBalanceSnapshot(USER_ID, 20_000, 100L, NOW)));
+        when(pointRepository.sumLedgerForShare(USER_ID, 100L)).thenReturn(new PointLedgerDelta(-5_000, 1, 150L));
+
+        Point point = ledger.use(USER_ID, 10_000);
+
+        assertThat(point.getPointType()).isEqualTo(PointType.USE);
+        assertThat(point.getBalanceAfter()).isEqualTo(5_000);
+        verify(userRepository, never()).decreaseBalance(any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("원장 잔액이 부족하면 내역을 추가하지 않는다")
+    void use_insufficientBalance() {
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        when(userRepository.lockBalance(USER_ID)).thenReturn(OptionalInt.of(1_000));
+        when(pointRepository.findSnapshot(USER_ID)).thenReturn(Optional.empty());
+        when(pointRepository.sumLedgerForShare(USER_ID, 0L)).thenReturn(new PointLedgerDelta(0, 0, 0L));
+
+        assertThatThrownBy(() -> ledger.use(USER_ID, 5_000))
+                .isInstanceOf(InsufficientBalanceException.class);
+        verify(pointRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("트랜잭션 밖에서는 사용 내역을 추가할 수 없다")
+    void use_requiresTransaction() {
+        assertThatThrownBy(() -> ledger.use(USER_ID, 5_000))
+                .isInstanceOf(IllegalStateException.class);
+        verifyNoInteractions(userRepository);
+    }
+
+    @Test
+    @DisplayName("충전 후 잔액이 보유 한도를 넘으면 거부한다")
+    void charge_limitExceeded() {
+        when(pointRepository.findSnapshot(USER_ID))
+                .thenReturn(Optional.of(new PointBalanceSnapshot(USER_ID, User.MAX_BALANCE, 100L, NOW)));
+        when(pointRepository.sumLedger(USER_ID, 100L, Long.MAX_VALUE)).thenReturn(new PointLedgerDelta(0, 0, 100L));
+
+        assertThatThrownBy(() -> ledger.charge(USER_ID, 1_000))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("errorCode", "BALANCE_LIMIT_EXCEEDED");
+        verify(pointRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("내역이 쌓인 회원은 압축기가 settle 이전 내역까지 스냅샷을 전진시키고 캐시를 갱신한다")
+    void compact_advancesSnapshot() {
+        PointBalanceSnapshot current = new PointBalanceSnapshot(USER_ID, 10_000, 100L, NOW.minusSeconds(3600));
+        when(pointRepository.findSnapshot(USER_ID)).thenReturn(Optional.of(current));
+        when(pointRepository.sumLedger(USER_ID, 100L, Long.MAX_VALUE)).thenReturn(new PointLedgerDelta(4_000, 4, 400L));
+        assertThat(ledger.balanceOf(USER_ID)).isEqualTo(14_000);
+
+        when(pointRepository.findLastPointIdCreatedBefore(USER_ID, 100L, NOW.minusSeconds(10)))
+                .thenReturn(OptionalLong.of(300L));
+        when(pointRepository.sumLedger(USER_ID, 100L, 300L)).thenReturn(new PointLedgerDelta(3_000, 3, 300L));
+        when(pointRepository.advanceSnapshot(any(), eq(100L))).thenReturn(true);
+
+        ledger.compact();
+
+        verify(pointRepository).advanceSnapshot(new PointBalanceSnapshot(USER_ID, 13_000, 300L, NOW), 100L);
+
+        // 이후 조회는 새 스냅샷 이후 내역만 합산
+        when(pointRepository.sumLedger(USER_ID, 300L, Long.MAX_VALUE)).thenReturn(new PointLedgerDelta(1_000, 1, 400L));
+        assertThat(ledger.balanceOf(USER_ID)).isEqualTo(14_000);
+    }
+}
@@ -0,0 +1,88 @@
+package com.hhplus.be.product.infrastructure.cache;
+
+import com.hhplus.be.product.domain.model.Product;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ProductNearCache 단위 테스트")
+class ProductNearCacheTest {
+
+    private ProductNearCache nearCache;
+
+    @BeforeEach
+    void setUp() {
+        nearCache = new ProductNearCache(100, 30, new SimpleMeterRegistry());
+    }
+
+    @Test
+    @DisplayName("캐시된 상품은 복사본으로 반환되어 호출자의 변경이 캐시에 반영되지 않는다")
+    void get_ReturnsDefensiveCopy() {
+        // given
+        nearCache.put(product(1L, 100, 0), nearCache.generation());
+
+        // when
+        Product first = nearCache.get(1L).orElseThrow();
+        first.decreaseStock(10);
+
+        // then
+        assertThat(nearCache.get(1L).orElseThrow().getStock()).isEqualTo(100);
+    }
+
+    @Test
+    @DisplayName("더 낮은 version의 스냅샷은 최신 스냅샷을 덮어쓰지 못한다")
+    void put_OlderVersionDoesNotOverwrite() {
+        // given
+        nearCache.put(product(1L, 90, 2), nearCache.generation());
+
+        // when: 늦게 도착한 이전 버전 적재 시도
+        nearCache.put(product(1L, 100, 1), nearCache.generation());
+
+        // then
+        Product cached = nearCache.get(1L).orElseThrow();
+        assertThat(cached.getVersion()).isEqualTo(2);
+        assertThat(cached.getStock()).isEqualTo(90);
+    }
+
+    @Test
+    @DisplayName("evict 이후에는 miss로 집계된다")
+    void evict_RemovesEntryAndRecordsMiss() {
+        // given
+        nearCache.put(product(1L, 100, 0), nearCache.generation());
+        nearCache.get(1L);
+
+        // when
+        nearCache.evict(1L);
+
+        // then
+        assertThat(nearCache.get(1L)).isEmpty();
+        assertThat(nearCache.stats().hitCount()).isEqualTo(1);
+        assertThat(nearCache.stats().missCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("키가 비어 있어도 조회 전 세대 이후 무효화된 상품의 스냅샷은 적재되지 않는다")
+    void put_SnapshotLoadedBeforeEvictionIsDropped() {
+        // given: 재고 변경 커밋 전에 DB 조회 시작
+        long loadedAt = nearCache.generation();
+
+        // when: 커밋 후 무효화가 먼저 끝나고 이전 스냅샷 적재가 늦게 도착
+        nearCache.evict(1L);
+        nearCache.put(product(1L, 100, 0), loadedAt);
+
+        // then: 이전 스냅샷은 버려지고, 무효화 이후 조회한 스냅샷은 적재됨
+        assertThat(nearCache.get(1L)).isEmpty();
+        nearCache.put(product(1L, 90, 1), nearCache.generation());
+        assertThat(nearCache.get(1L).orElseThrow().getStock()).isEqualTo(90);
+    }
+
+    private Product product(Long id, int stock, int version) {
+        return Product.reconstruct(id, "상품" + id, "설명", 10000, stock, version,
+                Instant.now(), Instant.now());
+    }
+}
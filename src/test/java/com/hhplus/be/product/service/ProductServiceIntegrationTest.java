@@ -1,13 +1,17 @@
 package com.hhplus.be.product.service;
 
+import com.hhplus.be.common.exception.BusinessException;
 import com.hhplus.be.order.domain.model.Order;
 import com.hhplus.be.order.domain.repository.OrderRepository;
 import com.hhplus.be.orderitem.domain.model.OrderItem;
 import com.hhplus.be.orderitem.domain.repository.OrderItemRepository;
 import com.hhplus.be.product.domain.model.Product;
 import com.hhplus.be.product.domain.repository.ProductRepository;
+import com.hhplus.be.product.service.dto.ChangeStockShardCountCommand;
+import com.hhplus.be.product.service.dto.ProductStockQuery;
 import com.hhplus.be.product.service.dto.TopProductQuery;
 import com.hhplus.be.product.service.dto.TopProductResult;
+import com.hhplus.be.product.service.ranking.SalesRankingBoard;
 import com.hhplus.be.testsupport.IntegrationTestSupport;
 import com.hhplus.be.user.domain.model.User;
 import com.hhplus.be.user.domain.repository.UserRepository;
@@ -30,7 +34,8 @@ import static org.assertj.core.api.Assertions.*;
 /**
  * 상품 Service 통합 테스트
  *
- * - 인기 상품 조회: ORDER_ITEMS와 ORDERS 테이블 JOIN 후 집계 쿼리 성능
+ * - 인기 상품 조회: 인메모리 랭킹 보드 기준
+ *   (주문 데이터를 repository로 직접 저장하므로 조회 전 보드를 DB 기준으로 재구성)
  */
 class ProductServiceIntegrationTest extends IntegrationTestSupport {
 
@@ -48,6 +53,9 @@ class ProductServiceIntegrationTest extends IntegrationTestSupport {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private SalesRankingBoard salesRankingBoard;
+
     @Autowired
     private Clock clock;
 
@@ -106,6 +114,8 @@ class ProductServiceIntegrationTest extends IntegrationTestSupport {
         // 상품5: 1개 판매 (5위)
         createConfirmedOrder(testProducts.get(4), 1, twoDaysAgo);
 
+        salesRankingBoard.rebuild();
+
         // When: 인기 상품 Top 5 조회
         TopProductQuery query = new TopProductQuery("3d", 5);
         TopProductResult result = productService.getTopProducts(query);
@@ -134,6 +144,8 @@ class ProductServiceIntegrationTest extends IntegrationTestSupport {
         // 상품2: 5일 전 100개 판매 (제외되어야 함)
         createConfirmedOrder(testProducts.get(1), 100, fiveDaysAgo);
 
+        salesRankingBoard.rebuild();
+
         // When: 인기 상품 Top 5 조회 (기본 3일)
         TopProductQuery query = new TopProductQuery(null, 5);
         TopProductResult result = productService.getTopProducts(query);
@@ -160,6 +172,8 @@ class ProductServiceIntegrationTest extends IntegrationTestSupport {
         // 상품3: CANCELLED 50개 (제외되어야 함)
         createCancelledOrder(testProducts.get(2), 50, twoDaysAgo);
 
+        salesRankingBoard.rebuild();
+
         // When: 인기 상품 Top 5 조회
         TopProductQuery query = new TopProductQuery("3d", 5);
         TopProductResult result = productService.getTopProducts(query);
@@ -183,6 +197,8 @@ class ProductServiceIntegrationTest extends IntegrationTestSupport {
         createConfirmedOrder(testProducts.get(0), 3, oneDayAgo);
         createConfirmedOrder(testProducts.get(0), 2, now);
 
+        salesRankingBoard.rebuild();
+
         // When: 인기 상품 조회
         TopProductQuery query = new TopProductQuery("3d", 5);
         TopProductResult result = productService.getTopProducts(query);
@@ -203,6 +219,8 @@ class ProductServiceIntegrationTest extends IntegrationTestSupport {
             createConfirmedOrder(testProducts.get(i), 10 - i, twoDaysAgo);
         }
 
+        salesRankingBoard.rebuild();
+
         // When: Top 3 조회
         TopProductQuery query = new TopProductQuery("3d", 3);
         TopProductResult result = productService.getTopProducts(query);
@@ -219,6 +237,8 @@ class ProductServiceIntegrationTest extends IntegrationTestSupport {
     void getTopProducts_NoSales_ReturnsEmptyList() {
         // Given: 판매 이력 없음
 
+        salesRankingBoard.rebuild();
+
         // When: 인기 상품 조회
         TopProductQuery query = new TopProductQuery("3d", 5);
         TopProductResult result = productService.getTopProducts(query);
@@ -239,6 +259,8 @@ class ProductServiceIntegrationTest extends IntegrationTestSupport {
             createConfirmedOrder(product, 1, twoDaysAgo);
         }
 
+        salesRankingBoard.rebuild();
+
         // When: 인기 상품 조회 (시간 측정)
         long startTime = System.currentTimeMillis();
         TopProductQuery query = new TopProductQuery("3d", 5);
@@ -264,6 +286,8 @@ class ProductServiceIntegrationTest extends IntegrationTestSupport {
             createConfirmedOrder(product, 1, twoDaysAgo);
         }
 
+        salesRankingBoard.rebuild();
+
         // When: 인기 상품 조회 (시간 측정)
         long startTime = System.currentTimeMillis();
         TopProductQuery query = new TopProductQuery("3d", 5);
@@ -279,6 +303,29 @@ class ProductServiceIntegrationTest extends IntegrationTestSupport {
 
     // === Helper Methods ===
 
+    @Test
+    @DisplayName("재고 분산 - 분산 행 합계로 차감/조회되고 분산 해제 시 총 재고가 유지된다")
+    void stockShards_DecreaseAcrossShards_AndMergeBack() {
+        // Given: 재고 100개를 4개 행(25개씩)으로 분산
+        Long productId = testProducts.get(0).getId();
+        productService.changeStockShardCount(new ChangeStockShardCountCommand(productId, 4));
+
+        // When: 한 행(25개)으로는 부족한 30개 차감 + 다른 주문에서 5개 차감
+        productService.decreaseStocks(List.of(OrderItem.create(1L, productId, "상품1", 11000, 30)));
+        productService.decreaseStocks(List.of(OrderItem.create(2L, productId, "상품1", 11000, 5)));
+
+        // Then: 합계 기준 재고, 초과 차감은 거절
+        assertThat(productService.getProductStock(new ProductStockQuery(productId)).stock()).isEqualTo(65);
+        assertThatThrownBy(() -> productService.decreaseStocks(
+                List.of(OrderItem.create(3L, productId, "상품1", 11000, 66))))
+                .isInstanceOf(BusinessException.class);
+
+        // 분산 해제 후에도 총 재고 유지
+        var merged = productService.changeStockShardCount(new ChangeStockShardCountCommand(productId, 0));
+        assertThat(merged.stock()).isEqualTo(65);
+        assertThat(productService.getProductStock(new ProductStockQuery(productId)).stock()).isEqualTo(65);
+    }
+
     private void createConfirmedOrder(Product product, int quantity, Instant paidAt) {
         Order order = Order.create(testUser.getId(), product.getPrice() * quantity, paidAt.plus(30, ChronoUnit.MINUTES));
         order.confirm(product.getPrice() * quantity, paidAt);
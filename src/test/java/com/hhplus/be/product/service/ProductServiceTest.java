@@ -1,11 +1,16 @@
 package com.hhplus.be.product.service;
 
+import com.hhplus.be.common.exception.BusinessException;
+import com.hhplus.be.common.exception.InvalidInputException;
 import com.hhplus.be.common.exception.ResourceNotFoundException;
-import com.hhplus.be.orderitem.domain.repository.OrderItemRepository;
+import com.hhplus.be.orderitem.domain.model.OrderItem;
 import com.hhplus.be.product.domain.model.Product;
 import com.hhplus.be.product.domain.model.StockStatus;
 import com.hhplus.be.product.domain.repository.ProductRepository;
 import com.hhplus.be.product.service.dto.*;
+import com.hhplus.be.product.service.ranking.ProductSalesRollupService;
+import com.hhplus.be.product.service.ranking.SalesRankingBoard;
+import com.hhplus.be.product.service.stock.StockLaneEngine;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -14,6 +19,7 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.*;
@@ -25,7 +31,12 @@ class ProductServiceTest {
 
     @Mock
     private ProductRepository productRepository;
-    @Mock OrderItemRepository orderItemRepository;
+    @Mock
+    private SalesRankingBoard salesRankingBoard;
+    @Mock
+    private ProductSalesRollupService productSalesRollupService;
+    @Mock
+    private StockLaneEngine stockLaneEngine;
 
     @InjectMocks
     private ProductService productService;
@@ -34,13 +45,13 @@ class ProductServiceTest {
     @DisplayName("상품 목록 조회 - 성공")
     void getProducts_Success() {
         // given
-        var query = new ProductListQuery();
+        var query = new ProductListQuery(null, 20);
         var product1 = Product.create("무선 이어폰", "고음질 블루투스", 89000, 100);
         assignProductId(product1, 1L);
         var product2 = Product.create("스마트워치", "건강 관리", 250000, 50);
         assignProductId(product2, 2L);
 
-        given(productRepository.findAll()).willReturn(List.of(product1, product2));
+        given(productRepository.findAllAfter(0L, 21)).willReturn(List.of(product1, product2));
 
         // when
         var result = productService.getProducts(query);
@@ -53,14 +64,56 @@ class ProductServiceTest {
         assertThat(result.products().get(0).price()).isEqualTo(89000);
         assertThat(result.products().get(1).productId()).isEqualTo(2L);
         assertThat(result.products().get(1).name()).isEqualTo("스마트워치");
+        assertThat(result.hasNext()).isFalse();
+        assertThat(result.nextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("상품 목록 조회 - size보다 많으면 hasNext=true, 마지막 ID로 다음 커서 생성")
+    void getProducts_HasNext_ReturnsCursorOfLastItem() {
+        // given: size=2 요청 → 3건 조회됨
+        var products = List.of(
+                createProductWithId(1L, "P1", 1000),
+                createProductWithId(2L, "P2", 2000),
+                createProductWithId(3L, "P3", 3000)
+        );
+        given(productRepository.findAllAfter(0L, 3)).willReturn(products);
+
+        // when
+        var firstPage = productService.getProducts(new ProductListQuery(null, 2));
+
+        // then
+        assertThat(firstPage.products())
+                .extracting(ProductListResult.ProductItem::productId)
+                .containsExactly(1L, 2L);
+        assertThat(firstPage.hasNext()).isTrue();
+        assertThat(firstPage.nextCursor()).isNotBlank();
+
+        // 다음 페이지는 커서의 마지막 ID(2) 이후부터 조회
+        given(productRepository.findAllAfter(2L, 3)).willReturn(List.of(createProductWithId(3L, "P3", 3000)));
+        var secondPage = productService.getProducts(new ProductListQuery(firstPage.nextCursor(), 2));
+
+        assertThat(secondPage.products())
+                .extracting(ProductListResult.ProductItem::productId)
+                .containsExactly(3L);
+        assertThat(secondPage.hasNext()).isFalse();
+    }
+
+    @Test
+    @DisplayName("상품 목록 조회 - 잘못된 커서/페이지 크기는 400")
+    void getProducts_InvalidCursorOrSize() {
+        assertThatThrownBy(() -> productService.getProducts(new ProductListQuery("!!not-a-cursor!!", 20)))
+                .isInstanceOf(InvalidInputException.class);
+        assertThatThrownBy(() -> productService.getProducts(new ProductListQuery(null, 0)))
+                .isInstanceOf(InvalidInputException.class);
     }
 
     @Test
     @DisplayName("상품 목록 조회 - 빈 목록")
     void getProducts_EmptyList() {
         // given
-        var query = new ProductListQuery();
-        given(productRepository.findAll()).willReturn(List.of());
+        var query = new ProductListQuery(null, 20);
+        given(productRepository.findAllAfter(0L, 21)).willReturn(List.of());
 
         // when
         var result = productService.getProducts(query);
@@ -187,15 +240,17 @@ class ProductServiceTest {
                 1L, 10, 2L, 20, 3L, 30, 4L, 40, 5L, 50,
                 6L, 60, 7L, 70, 8L, 80, 9L, 90, 10L, 100
         );
-        given(orderItemRepository.countSalesByProductSince(any()))
+        given(productSalesRollupService.sumSalesSince(any()))
                 .willReturn(salesMap);
 
-        // 상위 5개에 대해서만 Product 조회 스텁
-        given(productRepository.findById(10L)).willReturn(Optional.of(createProductWithId(10L, "P10", 10000)));
-        given(productRepository.findById(9L)).willReturn(Optional.of(createProductWithId(9L, "P9", 9000)));
-        given(productRepository.findById(8L)).willReturn(Optional.of(createProductWithId(8L, "P8", 8000)));
-        given(productRepository.findById(7L)).willReturn(Optional.of(createProductWithId(7L, "P7", 7000)));
-        given(productRepository.findById(6L)).willReturn(Optional.of(createProductWithId(6L, "P6", 6000)));
+        // 상위 5개에 대해서만 한 번에 Product 조회 (결과 순서는 섞여 있어도 순위 유지)
+        given(productRepository.findAllByIds(List.of(10L, 9L, 8L, 7L, 6L))).willReturn(List.of(
+                createProductWithId(6L, "P6", 6000),
+                createProductWithId(7L, "P7", 7000),
+                createProductWithId(8L, "P8", 8000),
+                createProductWithId(9L, "P9", 9000),
+                createProductWithId(10L, "P10", 10000)
+        ));
 
         var query = new TopProductQuery("3d", 5);
 
@@ -213,6 +268,113 @@ class ProductServiceTest {
 
     }
 
+    @Test
+    @DisplayName("집계 윈도우가 있는 기간은 인메모리 랭킹으로 응답하고 롤업 집계를 하지 않는다")
+    void getTopProducts_fromRankingBoard() {
+        // given
+        given(salesRankingBoard.supports(3)).willReturn(true);
+        given(salesRankingBoard.top(3, 2)).willReturn(List.of(java.util.Map.entry(7L, 70), java.util.Map.entry(3L, 30)));
+        given(productRepository.findAllByIds(List.of(7L, 3L))).willReturn(List.of(
+                createProductWithId(3L, "P3", 3000),
+                createProductWithId(7L, "P7", 7000)
+        ));
+
+        // when
+        var result = productService.getTopProducts(new TopProductQuery("3d", 2));
+
+        // then
+        assertThat(result.products())
+                .extracting(TopProductResult.ProductItem::productId)
+                .containsExactly(7L, 3L);
+        then(productSalesRollupService).shouldHaveNoInteractions();
+    }
+
+    @Test
+    @DisplayName("재고 일괄 차감 - 같은 상품의 주문 항목은 수량을 합쳐 한 번에 차감한다")
+    void decreaseStocks_mergesLinesPerProduct() {
+        // given
+        var items = List.of(
+                OrderItem.create(100L, 1L, "P1", 1000, 2),
+                OrderItem.create(100L, 2L, "P2", 2000, 1),
+                OrderItem.create(100L, 1L, "P1", 1000, 1)
+        );
+        given(productRepository.decreaseStocks(100L, Map.of(1L, 3, 2L, 1))).willReturn(List.of());
+
+        // when
+        productService.decreaseStocks(items);
+
+        // then
+        then(productRepository).should().decreaseStocks(100L, Map.of(1L, 3, 2L, 1));
+        then(productRepository).should(never()).save(any());
+    }
+
+    @Test
+    @DisplayName("재고 일괄 차감 - 조건부 차감에 실패한 상품이 있으면 OUT_OF_STOCK")
+    void decreaseStocks_outOfStock() {
+        // given
+        var items = List.of(OrderItem.create(100L, 2L, "P2", 2000, 5));
+        given(productRepository.decreaseStocks(100L, Map.of(2L, 5))).willReturn(List.of(2L));
+        given(productRepository.findAllByIds(List.of(2L))).willReturn(List.of(createProductWithId(2L, "P2", 2000)));
+
+        // when & then
+        assertThatThrownBy(() -> productService.decreaseStocks(items))
+                .isInstanceOf(BusinessException.class)
+                .hasMessage("재고가 부족합니다")
+                .extracting("errorCode").isEqualTo("OUT_OF_STOCK");
+    }
+
+    @Test
+    @DisplayName("재고 일괄 차감 - 존재하지 않는 상품이면 404")
+    void decreaseStocks_productNotFound() {
+        // given
+        var items = List.of(OrderItem.create(100L, 999L, "없는 상품", 2000, 1));
+        given(productRepository.decreaseStocks(100L, Map.of(999L, 1))).willReturn(List.of(999L));
+        given(productRepository.findAllByIds(List.of(999L))).willReturn(List.of());
+
+        // when & then
+        assertThatThrownBy(() -> productService.decreaseStocks(items))
+                .isInstanceOf(ResourceNotFoundException.class);
+    }
+
+    @Test
+    @DisplayName("재고 일괄 차감 - 재고 레인이 켜져 있으면 DB 대신 레인에서 차감한다")
+    void decreaseStocks_viaStockLanes() {
+        // given
+        var items = List.of(OrderItem.create(100L, 1L, "P1", 1000, 2));
+        given(stockLaneEngine.isEnabled()).willReturn(true);
+        given(stockLaneEngine.decrease(Map.of(1L, 2))).willReturn(List.of());
+
+        // when
+        productService.decreaseStocks(items);
+
+        // then
+        then(productRepository).shouldHaveNoInteractions();
+    }
+
+    @Test
+    @DisplayName("재고 분산 행 수 변경 - 총 재고는 유지한 채 분산 설정만 바뀐다")
+    void changeStockShardCount_success() {
+        // given
+        given(productRepository.changeStockShardCount(1L, 8))
+                .willReturn(Optional.of(createProductWithId(1L, "핫딜 상품", 1000)));
+
+        // when
+        var result = productService.changeStockShardCount(new ChangeStockShardCountCommand(1L, 8));
+
+        // then
+        assertThat(result.productId()).isEqualTo(1L);
+        assertThat(result.stock()).isEqualTo(100);
+    }
+
+    @Test
+    @DisplayName("재고 분산 행 수 변경 - 허용 범위를 벗어나면 400")
+    void changeStockShardCount_outOfRange() {
+        // when & then
+        assertThatThrownBy(() -> productService.changeStockShardCount(new ChangeStockShardCountCommand(1L, 65)))
+                .isInstanceOf(InvalidInputException.class);
+        then(productRepository).shouldHaveNoInteractions();
+    }
+
     private Product createProductWithId(Long id, String name, int price) {
         return Product.reconstruct(id, name, "설명", price, 100, 0,
                 java.time.Instant.now(), java.time.Instant.now());
@@ -0,0 +1,127 @@
+package com.hhplus.be.product.service.ranking;
+
+import com.hhplus.be.orderitem.domain.model.ProductSale;
+import com.hhplus.be.orderitem.domain.repository.OrderItemRepository;
+import com.hhplus.be.product.domain.model.ProductSalesDaily;
+import com.hhplus.be.product.domain.model.SalesRollupWatermark;
+import com.hhplus.be.product.domain.repository.ProductSalesDailyRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ProductSalesRollupService 단위 테스트")
+class ProductSalesRollupServiceTest {
+
+    @Mock
+    private ProductSalesDailyRepository productSalesDailyRepository;
+    @Mock
+    private OrderItemRepository orderItemRepository;
+
+    private final Instant now = Instant.parse("2025-11-06T10:00:00Z");
+    private ProductSalesRollupService rollupService;
+
+    @BeforeEach
+    void setUp() {
+        Clock clock = Clock.fixed(now, ZoneOffset.UTC);
+        rollupService = new ProductSalesRollupService(
+                productSalesDailyRepository, orderItemRepository, clock, 60, 24, 30);
+    }
+
+    @Test
+    @DisplayName("첫 실행 - backfill 시작일부터 한 청크만 반영하고 결제분에서 환불분을 차감한다")
+    void rollupNextChunk_firstRun_appliesNetDeltas() {
+        // given
+        Instant coveredFrom = Instant.parse("2025-10-07T00:00:00Z");
+        Instant chunkEnd = coveredFrom.plus(Duration.ofHours(24));
+        given(productSalesDailyRepository.findWatermarkForUpdate()).willReturn(Optional.empty());
+        given(orderItemRepository.findPaidSalesBetween(coveredFrom, chunkEnd)).willReturn(List.of(
+                new ProductSale(1L, 3, Instant.parse("2025-10-07T05:00:00Z")),
+                new ProductSale(1L, 2, Instant.parse("2025-10-07T09:00:00Z")),
+                new ProductSale(2L, 1, Instant.parse("2025-10-07T09:00:00Z"))
+        ));
+        given(orderItemRepository.findRefundedSalesBetween(coveredFrom, chunkEnd)).willReturn(List.of(
+                new ProductSale(1L, 2, Instant.parse("2025-10-07T09:00:00Z")),
+                new ProductSale(2L, 1, Instant.parse("2025-10-07T09:00:00Z"))
+        ));
+
+        // when
+        boolean caughtUp = rollupService.rollupNextChunk();
+
+        // then
+        assertThat(caughtUp).isFalse();
+        then(productSalesDailyRepository).should()
+                .addQuantities(List.of(new ProductSalesDaily(1L, LocalDate.of(2025, 10, 7), 3)));
+        then(productSalesDailyRepository).should()
+                .saveWatermark(new SalesRollupWatermark(coveredFrom, chunkEnd));
+    }
+
+    @Test
+    @DisplayName("워터마크가 now - commitLag에 도달했으면 아무것도 반영하지 않는다")
+    void rollupNextChunk_caughtUp() {
+        // given
+        Instant processedUntil = now.minusSeconds(60);
+        given(productSalesDailyRepository.findWatermarkForUpdate())
+                .willReturn(Optional.of(new SalesRollupWatermark(Instant.parse("2025-10-07T00:00:00Z"), processedUntil)));
+
+        // when
+        boolean caughtUp = rollupService.rollupNextChunk();
+
+        // then
+        assertThat(caughtUp).isTrue();
+        then(orderItemRepository).shouldHaveNoInteractions();
+        then(productSalesDailyRepository).should(never()).saveWatermark(any());
+    }
+
+    @Test
+    @DisplayName("기간 합계 - 완전한 일자는 롤업, 시작일 일부와 당일은 주문 테이블에서 집계해 합산한다")
+    void sumSalesSince_combinesRollupAndEdges() {
+        // given
+        Instant since = now.minus(Duration.ofDays(7)); // 2025-10-30T10:00Z
+        given(productSalesDailyRepository.findWatermark()).willReturn(Optional.of(new SalesRollupWatermark(
+                Instant.parse("2025-10-07T00:00:00Z"), Instant.parse("2025-11-06T09:59:00Z"))));
+        given(productSalesDailyRepository.sumQuantityByProduct(LocalDate.of(2025, 10, 31), LocalDate.of(2025, 11, 6)))
+                .willReturn(Map.of(1L, 10, 2L, 5));
+        given(orderItemRepository.countSalesByProductBetween(since, Instant.parse("2025-10-31T00:00:00Z")))
+                .willReturn(Map.of(2L, 1));
+        given(orderItemRepository.countSalesByProductSince(Instant.parse("2025-11-06T00:00:00Z")))
+                .willReturn(Map.of(1L, 2, 3L, 4));
+
+        // when
+        Map<Long, Integer> sales = rollupService.sumSalesSince(since);
+
+        // then
+        assertThat(sales).containsExactlyInAnyOrderEntriesOf(Map.of(1L, 12, 2L, 6, 3L, 4));
+    }
+
+    @Test
+    @DisplayName("롤업이 아직 없으면 주문 테이블 집계로 응답한다")
+    void sumSalesSince_withoutRollup() {
+        // given
+        Instant since = now.minus(Duration.ofDays(3));
+        given(productSalesDailyRepository.findWatermark()).willReturn(Optional.empty());
+        given(orderItemRepository.countSalesByProductSince(since)).willReturn(Map.of(1L, 3));
+
+        // when
+        Map<Long, Integer> sales = rollupService.sumSalesSince(since);
+
+        // then
+        assertThat(sales).containsExactlyEntriesOf(Map.of(1L, 3));
+    }
+}
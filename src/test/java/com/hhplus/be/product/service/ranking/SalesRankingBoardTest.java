@@ -0,0 +1,145 @@
+package com.hhplus.be.product.service.ranking;
+
+import com.hhplus.be.common.outbox.OutboxEventJpaRepository;
+import com.hhplus.be.orderitem.domain.model.ProductSale;
+import com.hhplus.be.orderitem.domain.repository.OrderItemRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+@DisplayName("SalesRankingBoard 단위 테스트")
+class SalesRankingBoardTest {
+
+    private final Instant now = Instant.parse("2025-11-06T10:00:00Z");
+    private MutableClock clock;
+    private OrderItemRepository orderItemRepository;
+    private OutboxEventJpaRepository outboxEventRepository;
+    private SalesRankingBoard board;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock(now);
+        orderItemRepository = mock(OrderItemRepository.class);
+        outboxEventRepository = mock(OutboxEventJpaRepository.class);
+        board = new SalesRankingBoard(orderItemRepository, outboxEventRepository, mock(PlatformTransactionManager.class),
+                clock, new int[]{1, 3, 7, 30});
+    }
+
+    @Test
+    @DisplayName("재구성 전이거나 설정되지 않은 기간은 메모리에서 응답하지 않는다")
+    void supports_onlyAfterRebuildAndConfiguredWindow() {
+        assertThat(board.supports(3)).isFalse();
+
+        given(orderItemRepository.findConfirmedSalesSince(any())).willReturn(List.of());
+        board.rebuild();
+
+        assertThat(board.supports(3)).isTrue();
+        assertThat(board.supports(5)).isFalse();
+    }
+
+    @Test
+    @DisplayName("재구성 - 기간 내 판매량 합계로 내림차순 정렬, 기간 밖 판매는 제외")
+    void rebuild_ranksWithinWindow() {
+        given(orderItemRepository.findConfirmedSalesSince(any())).willReturn(List.of(
+                new ProductSale(1L, 5, now.minus(Duration.ofHours(1))),
+                new ProductSale(2L, 3, now.minus(Duration.ofDays(2))),
+                new ProductSale(2L, 4, now.minus(Duration.ofHours(3))),
+                new ProductSale(3L, 100, now.minus(Duration.ofDays(5)))
+        ));
+
+        board.rebuild();
+
+        assertThat(board.top(3, 5)).containsExactly(Map.entry(2L, 7), Map.entry(1L, 5));
+        assertThat(board.top(7, 1)).containsExactly(Map.entry(3L, 100));
+        assertThat(board.top(1, 5)).containsExactly(Map.entry(1L, 5), Map.entry(2L, 4));
+    }
+
+    @Test
+    @DisplayName("환불은 원 결제 시점의 판매량을 차감하고, 0이 되면 랭킹에서 빠진다")
+    void revoke_removesSales() {
+        given(orderItemRepository.findConfirmedSalesSince(any())).willReturn(List.of());
+        board.rebuild();
+
+        Instant paidAt = now.minus(Duration.ofMinutes(10));
+        board.record(1L, 2, paidAt);
+        board.record(2L, 1, paidAt);
+        board.revoke(1L, 2, paidAt);
+
+        assertThat(board.top(3, 5)).containsExactly(Map.entry(2L, 1));
+    }
+
+    @Test
+    @DisplayName("재구성 시점에 전달 대기 중이던 이벤트는 이미 DB 판매 기록에 반영되어 있으므로 전달되어도 건너뛴다")
+    void applyEvent_skipsEventsPendingAtRebuild() {
+        Instant paidAt = now.minus(Duration.ofMinutes(10));
+        given(orderItemRepository.findConfirmedSalesSince(any())).willReturn(List.of(new ProductSale(1L, 2, paidAt)));
+        given(outboxEventRepository.findIdsByStatusAndEventTypes(any(), anyCollection())).willReturn(List.of(100L));
+        board.rebuild();
+
+        assertThat(board.applyEvent(100L, () -> board.record(1L, 2, paidAt))).isFalse();
+        assertThat(board.applyEvent(101L, () -> board.record(1L, 3, paidAt))).isTrue();
+
+        assertThat(board.top(1, 5)).containsExactly(Map.entry(1L, 5));
+    }
+
+    @Test
+    @DisplayName("시간이 흐르면 윈도우 밖으로 밀려난 판매량이 차감된다")
+    void tick_slidesWindow() {
+        given(orderItemRepository.findConfirmedSalesSince(any())).willReturn(List.of());
+        board.rebuild();
+        board.record(1L, 3, now);
+
+        clock.advance(Duration.ofDays(1).plusMinutes(1));
+        board.tick();
+
+        assertThat(board.top(1, 5)).isEmpty();
+        assertThat(board.top(3, 5)).containsExactly(Map.entry(1L, 3));
+
+        clock.advance(Duration.ofDays(30));
+        board.tick();
+
+        assertThat(board.top(30, 5)).isEmpty();
+    }
+
+    private static class MutableClock extends Clock {
+        private Instant instant;
+
+        MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package com.hhplus.be.product.service.stock;
+
+import com.hhplus.be.product.domain.model.Product;
+import com.hhplus.be.product.domain.repository.ProductRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@DisplayName("StockLaneEngine 단위 테스트")
+class StockLaneEngineTest {
+
+    private ProductRepository productRepository;
+    private StockLaneEngine engine;
+
+    @BeforeEach
+    void setUp() {
+        productRepository = mock(ProductRepository.class);
+        Map<Long, Product> products = Map.of(
+                1L, product(1L, 10),
+                2L, product(2L, 1)
+        );
+        given(productRepository.findAllByIdsFromDb(any())).willAnswer(invocation -> {
+            Collection<Long> ids = invocation.getArgument(0);
+            return ids.stream().filter(products::containsKey).map(products::get).toList();
+        });
+        given(productRepository.decreaseStocks(isNull(), anyMap())).willReturn(List.of());
+        given(productRepository.increaseStocks(isNull(), anyMap())).willReturn(List.of());
+
+        // 주기 반영은 사실상 끄고 종료 시 반영만 검증
+        engine = new StockLaneEngine(productRepository, mock(PlatformTransactionManager.class),
+                true, 2, 60_000, 1_000, 2_000);
+    }
+
+    @AfterEach
+    void tearDown() {
+        engine.shutdown();
+    }
+
+    @Test
+    @DisplayName("차감은 메모리 카운터에서 처리되고, 순 증감이 종료 시 한 번에 DB에 반영된다")
+    void decrease_flushesNetDelta() {
+        assertThat(engine.decrease(Map.of(1L, 3))).isEmpty();
+        assertThat(engine.decrease(Map.of(1L, 4))).isEmpty();
+        assertThat(engine.increase(Map.of(1L, 2))).isEmpty();
+
+        engine.shutdown();
+
+        verify(productRepository).decreaseStocks(null, Map.of(1L, 5));
+        verify(productRepository, times(1)).findAllByIdsFromDb(any());
+    }
+
+    @Test
+    @DisplayName("재고가 부족한 상품이 있으면 주문 전체를 차감하지 않는다")
+    void decrease_allOrNothing() {
+        assertThat(engine.decrease(Map.of(1L, 5, 2L, 2))).containsExactly(2L);
+
+        // 상품1 재고는 그대로 10개
+        assertThat(engine.decrease(Map.of(1L, 10))).isEmpty();
+        assertThat(engine.decrease(Map.of(1L, 1))).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 상품은 실패 ID로 반환된다")
+    void decrease_unknownProduct() {
+        assertThat(engine.decrease(Map.of(999L, 1))).containsExactly(999L);
+        assertThat(engine.increase(Map.of(999L, 1))).containsExactly(999L);
+    }
+
+    @Test
+    @DisplayName("레인 밖에서 DB 재고가 줄어 조건부 차감이 거부되어도 확정된 차감은 조건 없이 반영된다")
+    void flush_forcesDivergedDecrease() {
+        given(productRepository.decreaseStocks(isNull(), anyMap())).willReturn(List.of(1L));
+
+        assertThat(engine.decrease(Map.of(1L, 3))).isEmpty();
+        engine.shutdown();
+
+        verify(productRepository).decreaseStocks(null, Map.of(1L, 3));
+        verify(productRepository).forceDecreaseStocks(Map.of(1L, 3));
+    }
+
+    private Product product(Long id, int stock) {
+        return Product.reconstruct(id, "상품" + id, "설명", 1000, stock, 0, Instant.now(), Instant.now());
+    }
+}
@@ -21,7 +21,8 @@ public abstract class IntegrationTestSupport {
             new MySQLContainer<>("mysql:8.0")
                     .withDatabaseName("hhplus")
                     .withUsername("test")
-                    .withPassword("test");
+                    .withPassword("test")
+                    .withUrlParam("rewriteBatchedStatements", "true");
 
     @DynamicPropertySource
     static void registerDataSourceProperties(DynamicPropertyRegistry registry) {
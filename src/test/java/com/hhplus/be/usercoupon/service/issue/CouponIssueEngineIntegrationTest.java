@@ -0,0 +1,130 @@
+package com.hhplus.be.usercoupon.service.issue;
+
+import com.hhplus.be.common.exception.BusinessException;
+import com.hhplus.be.coupon.domain.model.Coupon;
+import com.hhplus.be.coupon.domain.model.DiscountType;
+import com.hhplus.be.coupon.domain.repository.CouponRepository;
+import com.hhplus.be.testsupport.IntegrationTestSupport;
+import com.hhplus.be.user.domain.model.User;
+import com.hhplus.be.user.domain.repository.UserRepository;
+import com.hhplus.be.usercoupon.domain.model.UserCoupon;
+import com.hhplus.be.usercoupon.domain.repository.UserCouponRepository;
+import com.hhplus.be.usercoupon.service.UserCouponServiceFacade;
+import com.hhplus.be.usercoupon.service.dto.IssueCouponCommand;
+import com.hhplus.be.usercoupon.service.dto.IssueCouponResult;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 쿠폰 발급 엔진 통합 테스트
+ *
+ * - 메모리에서 당첨을 결정해도 DB 수량/발급 행이 정확히 맞는지
+ * - 이미 발급된 수량과 발급 회원을 DB에서 복구하는지
+ */
+@TestPropertySource(properties = "coupon.issue.engine.enabled=true")
+class CouponIssueEngineIntegrationTest extends IntegrationTestSupport {
+
+    @Autowired
+    private UserCouponServiceFacade userCouponServiceFacade;
+
+    @Autowired
+    private CouponRepository couponRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private UserCouponRepository userCouponRepository;
+
+    @Test
+    @DisplayName("100명이 선착순 10장 쿠폰을 동시에 발급받으면 10명만 당첨되고, 수량과 발급 행이 함께 저장된다")
+    void issue_concurrent_exactlyTotalQuantity() throws InterruptedException {
+        // given
+        Coupon coupon = couponRepository.save(coupon("ENGINE_", 10, 0));
+        List<User> users = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            users.add(userRepository.save(User.create("엔진" + i, "engine" + i + "_" + System.nanoTime() + "@test.com", 0)));
+        }
+
+        // when
+        ExecutorService executor = Executors.newFixedThreadPool(32);
+        CountDownLatch latch = new CountDownLatch(users.size());
+        AtomicInteger success = new AtomicInteger();
+        AtomicInteger soldOut = new AtomicInteger();
+        for (User user : users) {
+            executor.submit(() -> {
+                try {
+                    IssueCouponResult result = userCouponServiceFacade.issueCoupon(new IssueCouponCommand(user.getId(), coupon.getId()));
+                    assertThat(result.userCouponId()).isNotNull();
+                    success.incrementAndGet();
+                } catch (BusinessException e) {
+                    if ("SOLD_OUT".equals(e.getErrorCode())) {
+                        soldOut.incrementAndGet();
+                    }
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        latch.await(20, TimeUnit.SECONDS);
+        executor.shutdown();
+
+        // then
+        assertThat(success.get()).isEqualTo(10);
+        assertThat(soldOut.get()).isEqualTo(90);
+        assertThat(couponRepository.findById(coupon.getId()).orElseThrow().getIssuedQuantity()).isEqualTo(10);
+        assertThat(userCouponRepository.findUserIdsByCouponId(coupon.getId())).hasSize(10).doesNotHaveDuplicates();
+    }
+
+    @Test
+    @DisplayName("이미 발급된 수량과 발급 회원을 DB에서 읽어 남은 수량만 발급한다")
+    void issue_recoversFromDatabase() {
+        // given: 총 3장 중 2장이 이미 발급된 쿠폰 (재시작 전 발급분)
+        Coupon coupon = couponRepository.save(coupon("RECOVER_", 3, 2));
+        User issuedBefore = userRepository.save(User.create("기발급", "recover1_" + System.nanoTime() + "@test.com", 0));
+        User other = userRepository.save(User.create("기발급2", "recover2_" + System.nanoTime() + "@test.com", 0));
+        User winner = userRepository.save(User.create("당첨", "recover3_" + System.nanoTime() + "@test.com", 0));
+        User late = userRepository.save(User.create("늦음", "recover4_" + System.nanoTime() + "@test.com", 0));
+        userCouponRepository.save(UserCoupon.create(issuedBefore.getId(), coupon.getId(), Instant.now()));
+        userCouponRepository.save(UserCoupon.create(other.getId(), coupon.getId(), Instant.now()));
+
+        // when & then
+        assertThatThrownBy(() -> issue(issuedBefore, coupon))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("errorCode", "ALREADY_ISSUED");
+
+        assertThat(issue(winner, coupon).userId()).isEqualTo(winner.getId());
+
+        assertThatThrownBy(() -> issue(late, coupon))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("errorCode", "SOLD_OUT");
+
+        assertThat(couponRepository.findById(coupon.getId()).orElseThrow().getIssuedQuantity()).isEqualTo(3);
+        assertThat(userCouponRepository.findByUserIdAndCouponId(winner.getId(), coupon.getId())).isPresent();
+    }
+
+    private IssueCouponResult issue(User user, Coupon coupon) {
+        return userCouponServiceFacade.issueCoupon(new IssueCouponCommand(user.getId(), coupon.getId()));
+    }
+
+    private Coupon coupon(String codePrefix, int totalQuantity, int issuedQuantity) {
+        Instant now = Instant.now();
+        return Coupon.create(codePrefix + System.nanoTime(), "엔진 쿠폰", DiscountType.FIXED, 1000,
+                totalQuantity, issuedQuantity,
+                now.minusSeconds(3600), now.plusSeconds(86400),
+                now.minusSeconds(3600), now.plusSeconds(86400));
+    }
+}
@@ -0,0 +1,82 @@
+package com.hhplus.be.usercoupon.service.issue;
+
+import com.hhplus.be.common.exception.BusinessException;
+import com.hhplus.be.coupon.domain.model.Coupon;
+import com.hhplus.be.coupon.domain.model.DiscountType;
+import com.hhplus.be.coupon.domain.repository.CouponRepository;
+import com.hhplus.be.testsupport.IntegrationTestSupport;
+import com.hhplus.be.user.domain.model.User;
+import com.hhplus.be.user.domain.repository.UserRepository;
+import com.hhplus.be.usercoupon.domain.model.UserCoupon;
+import com.hhplus.be.usercoupon.domain.repository.UserCouponRepository;
+import com.hhplus.be.usercoupon.service.UserCouponServiceFacade;
+import com.hhplus.be.usercoupon.service.dto.IssueCouponCommand;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 쿠폰 중복 발급 필터 통합 테스트
+ *
+ * - 적재한 비트맵과 커밋 후 추가된 회원으로 중복을 거절하는지
+ * - 비트맵이 모르는 발급은 유니크 제약이 막는지
+ */
+@TestPropertySource(properties = "coupon.issue.issued-filter.enabled=true")
+class IssuedCouponFilterIntegrationTest extends IntegrationTestSupport {
+
+    @Autowired
+    private UserCouponServiceFacade userCouponServiceFacade;
+
+    @Autowired
+    private IssuedCouponFilter issuedCouponFilter;
+
+    @Autowired
+    private CouponRepository couponRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private UserCouponRepository userCouponRepository;
+
+    @Test
+    @DisplayName("적재 시점 발급 회원과 이후 발급한 회원은 비트맵으로, 비트맵이 모르는 발급은 유니크 제약으로 거절한다")
+    void issue_duplicateRejected() {
+        // given: 이미 발급받은 회원이 있는 쿠폰
+        Instant now = Instant.now();
+        Coupon coupon = couponRepository.save(Coupon.create("FILTER_" + System.nanoTime(), "필터 쿠폰",
+                DiscountType.FIXED, 1000, 10, 1,
+                now.minusSeconds(3600), now.plusSeconds(86400), now.minusSeconds(3600), now.plusSeconds(86400)));
+        User issuedBefore = userRepository.save(User.create("기발급", "filter1_" + System.nanoTime() + "@test.com", 0));
+        User newcomer = userRepository.save(User.create("신규", "filter2_" + System.nanoTime() + "@test.com", 0));
+        User elsewhere = userRepository.save(User.create("다른경로", "filter3_" + System.nanoTime() + "@test.com", 0));
+        userCouponRepository.save(UserCoupon.create(issuedBefore.getId(), coupon.getId(), now));
+
+        // when & then: 적재된 비트맵으로 거절
+        assertAlreadyIssued(issuedBefore, coupon);
+        assertThat(issuedCouponFilter.isIssued(coupon.getId(), newcomer.getId())).isFalse();
+
+        // 발급 커밋 후 비트맵에 반영
+        userCouponServiceFacade.issueCoupon(new IssueCouponCommand(newcomer.getId(), coupon.getId()));
+        assertThat(issuedCouponFilter.isIssued(coupon.getId(), newcomer.getId())).isTrue();
+        assertAlreadyIssued(newcomer, coupon);
+
+        // 비트맵이 모르는 발급 (다른 인스턴스 등) → 유니크 제약에서 거절되고 발급 수량은 그대로
+        userCouponRepository.save(UserCoupon.create(elsewhere.getId(), coupon.getId(), now));
+        assertThat(issuedCouponFilter.isIssued(coupon.getId(), elsewhere.getId())).isFalse();
+        assertAlreadyIssued(elsewhere, coupon);
+        assertThat(issuedCouponFilter.isIssued(coupon.getId(), elsewhere.getId())).isTrue();
+        assertThat(couponRepository.findById(coupon.getId()).orElseThrow().getIssuedQuantity()).isEqualTo(2);
+    }
+
+    private void assertAlreadyIssued(User user, Coupon coupon) {
+        assertThatThrownBy(() -> userCouponServiceFacade.issueCoupon(new IssueCouponCommand(user.getId(), coupon.getId())))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("errorCode", "ALREADY_ISSUED");
+    }
+}
@@ -0,0 +1,74 @@
+package com.hhplus.be.usercoupon.service.waiting;
+
+import com.hhplus.be.common.exception.BusinessException;
+import com.hhplus.be.coupon.domain.model.Coupon;
+import com.hhplus.be.coupon.domain.model.DiscountType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("CouponQueue 단위 테스트")
+class CouponQueueTest {
+
+    private final Instant now = Instant.parse("2025-10-29T10:00:00Z");
+
+    @Test
+    @DisplayName("일시적인 사유로 실패한 표는 다시 입장하면 새 순번으로 줄을 서고, 소진 같은 확정 실패는 기존 표를 돌려준다")
+    void enter_reentersAfterTransientFailure() {
+        // given: 2장 쿠폰, 2명 입장 후 모두 발급 슬롯으로
+        CouponQueue queue = new CouponQueue(coupon(2), now);
+        queue.enter(1L, now);
+        queue.enter(2L, now);
+        CouponQueueTicket first = queue.admitNext();
+        CouponQueueTicket second = queue.admitNext();
+
+        // when: 1번은 일시 오류, 2번은 이미 발급
+        queue.failed(first, "INTERNAL_SERVER_ERROR", "서버 내부 오류가 발생했습니다", now);
+        queue.failed(second, "ALREADY_ISSUED", "이미 발급받은 쿠폰입니다", now);
+
+        // then: 1번은 새 표, 2번은 기존 실패 표
+        CouponQueueTicket retried = queue.enter(1L, now.plusSeconds(1));
+        assertThat(retried.status()).isEqualTo(CouponQueueStatus.WAITING);
+        assertThat(retried.seq()).isEqualTo(3L);
+        assertThat(queue.view(1L, 2).position()).isEqualTo(1L);
+        assertThat(queue.enter(2L, now.plusSeconds(1)).errorCode()).isEqualTo("ALREADY_ISSUED");
+        assertThat(queue.admitNext().userId()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("발급 저장 지연은 실패로 보지 않아 ADMITTED로 남고, 저장이 실패로 확정되면 그때 자리를 돌려준다")
+    void delayed_keepsClaimedSlotUntilResolved() {
+        // given: 1장 쿠폰, 1명 발급 슬롯으로
+        CouponQueue queue = new CouponQueue(coupon(1), now);
+        queue.enter(1L, now);
+        CouponQueueTicket admitted = queue.admitNext();
+
+        // when
+        queue.delayed(admitted, "COUPON_ISSUE_TIMEOUT", "쿠폰 발급 처리가 지연되고 있습니다", now);
+
+        // then: 재입장해도 같은 표, 남은 자리가 없으므로 다른 회원은 SOLD_OUT
+        CouponQueueTicket ticket = queue.enter(1L, now.plusSeconds(1));
+        assertThat(ticket.status()).isEqualTo(CouponQueueStatus.ADMITTED);
+        assertThat(ticket.errorCode()).isEqualTo("COUPON_ISSUE_TIMEOUT");
+        assertThat(ticket.seq()).isEqualTo(1L);
+        assertThatThrownBy(() -> queue.enter(2L, now))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("errorCode", "SOLD_OUT");
+        assertThat(queue.retireIfIdleSince(now.plusSeconds(3600))).isFalse();
+
+        // when: 저장 실패로 확정
+        queue.failed(admitted, "INTERNAL_SERVER_ERROR", "서버 내부 오류가 발생했습니다", now.plusSeconds(2));
+
+        // then: 자리가 돌아와 다른 회원이 입장
+        assertThat(queue.view(1L, 2).status()).isEqualTo(CouponQueueStatus.FAILED);
+        assertThat(queue.enter(2L, now.plusSeconds(3)).status()).isEqualTo(CouponQueueStatus.WAITING);
+    }
+
+    private Coupon coupon(int totalQuantity) {
+        return Coupon.create("QUEUE", "대기열 쿠폰", DiscountType.FIXED, 1000, totalQuantity, 0,
+                now.minusSeconds(3600), now.plusSeconds(86400), now.minusSeconds(3600), now.plusSeconds(86400));
+    }
+}
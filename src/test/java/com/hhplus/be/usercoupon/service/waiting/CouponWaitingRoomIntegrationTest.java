@@ -0,0 +1,116 @@
+package com.hhplus.be.usercoupon.service.waiting;
+
+import com.hhplus.be.common.exception.BusinessException;
+import com.hhplus.be.coupon.domain.model.Coupon;
+import com.hhplus.be.coupon.domain.model.DiscountType;
+import com.hhplus.be.coupon.domain.repository.CouponRepository;
+import com.hhplus.be.testsupport.IntegrationTestSupport;
+import com.hhplus.be.user.domain.model.User;
+import com.hhplus.be.user.domain.repository.UserRepository;
+import com.hhplus.be.usercoupon.domain.repository.UserCouponRepository;
+import com.hhplus.be.usercoupon.service.dto.IssueCouponCommand;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 쿠폰 발급 대기열 통합 테스트
+ *
+ * - 도착 순서대로 순번이 매겨지고, 초당 슬롯 수만큼만 발급되는지
+ * - 남은 수량을 넘는 입장은 바로 SOLD_OUT인지
+ */
+@TestPropertySource(properties = {
+        "coupon.waiting-room.enabled=true",
+        "coupon.waiting-room.slots-per-second=2",
+        "coupon.waiting-room.tick-millis=3600000"  // 스케줄러 대신 테스트가 슬롯을 직접 배분
+})
+class CouponWaitingRoomIntegrationTest extends IntegrationTestSupport {
+
+    @Autowired
+    private CouponWaitingRoom couponWaitingRoom;
+
+    @Autowired
+    private CouponRepository couponRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private UserCouponRepository userCouponRepository;
+
+    @Test
+    @DisplayName("도착 순서대로 줄을 서고 초당 슬롯 수만큼 발급되며, 남은 수량을 넘는 입장과 소진 후 입장은 바로 거절된다")
+    void waitingRoom_admitsInArrivalOrder() throws InterruptedException {
+        // given: 3장 쿠폰
+        Instant now = Instant.now();
+        Coupon coupon = couponRepository.save(Coupon.create("QUEUE_" + System.nanoTime(), "대기열 쿠폰",
+                DiscountType.FIXED, 1000, 3, 0,
+                now.minusSeconds(3600), now.plusSeconds(86400), now.minusSeconds(3600), now.plusSeconds(86400)));
+        List<User> users = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            users.add(userRepository.save(User.create("대기" + i, "queue" + i + "_" + System.nanoTime() + "@test.com", 0)));
+        }
+
+        // when: 3명 입장
+        List<CouponQueueTicket> tickets = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            tickets.add(enter(users.get(i), coupon));
+        }
+
+        // then: 도착 순서대로 순번, 예상 대기 = 순번 / 초당 2명
+        assertThat(tickets).extracting(CouponQueueTicket::position).containsExactly(1L, 2L, 3L);
+        assertThat(tickets).extracting(CouponQueueTicket::estimatedWaitSeconds).containsExactly(1L, 1L, 2L);
+        assertThat(enter(users.get(0), coupon).position()).isEqualTo(1L);  // 다시 입장해도 같은 표
+
+        // 대기 인원이 남은 수량에 닿으면 줄을 세우지 않고 거절
+        assertThatThrownBy(() -> enter(users.get(3), coupon))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("errorCode", "SOLD_OUT");
+
+        // when: 슬롯이 1초치(2개)까지 쌓인 뒤 배분 → 2명만 발급
+        Thread.sleep(1000);
+        couponWaitingRoom.release();
+        awaitStatus(users.get(1), coupon, CouponQueueStatus.ISSUED);
+
+        // then
+        assertThat(ticketOf(users.get(0), coupon).status()).isEqualTo(CouponQueueStatus.ISSUED);
+        assertThat(ticketOf(users.get(0), coupon).result().userId()).isEqualTo(users.get(0).getId());
+        CouponQueueTicket third = ticketOf(users.get(2), coupon);
+        assertThat(third.status()).isEqualTo(CouponQueueStatus.WAITING);
+        assertThat(third.position()).isEqualTo(1L);
+
+        // when: 슬롯이 다시 쌓인 뒤 배분
+        Thread.sleep(600);
+        couponWaitingRoom.release();
+        awaitStatus(users.get(2), coupon, CouponQueueStatus.ISSUED);
+
+        // then: 모두 발급, 이후 입장은 바로 소진
+        assertThat(couponRepository.findById(coupon.getId()).orElseThrow().getIssuedQuantity()).isEqualTo(3);
+        assertThat(userCouponRepository.findUserIdsByCouponId(coupon.getId())).hasSize(3);
+        assertThatThrownBy(() -> enter(users.get(3), coupon))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("errorCode", "SOLD_OUT");
+    }
+
+    private CouponQueueTicket enter(User user, Coupon coupon) {
+        return couponWaitingRoom.enter(new IssueCouponCommand(user.getId(), coupon.getId()));
+    }
+
+    private CouponQueueTicket ticketOf(User user, Coupon coupon) {
+        return couponWaitingRoom.getTicket(user.getId(), coupon.getId());
+    }
+
+    private void awaitStatus(User user, Coupon coupon, CouponQueueStatus expected) throws InterruptedException {
+        for (int i = 0; i < 100 && ticketOf(user, coupon).status() != expected; i++) {
+            Thread.sleep(50);
+        }
+        assertThat(ticketOf(user, coupon).status()).isEqualTo(expected);
+    }
+}